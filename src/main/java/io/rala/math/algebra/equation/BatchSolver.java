@@ -0,0 +1,288 @@
+package io.rala.math.algebra.equation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * solves many independent {@link AbstractEquationSystem}s concurrently
+ * <p>
+ * each system is solved by a new {@link AbstractSolver} of the solver factory
+ * on the executor.
+ * At most {@link #getCapacity()} systems are pending at the same time -
+ * further submits block until a system is solved (back-pressure).
+ * Results can be cancelled or time out, which interrupts running solvers.
+ * <p>
+ * cancellation is cooperative only: solvers which do not check
+ * {@link Thread#isInterrupted()} run to completion -
+ * they keep their capacity until they return
+ *
+ * @param <E> class of {@link AbstractEquationSystem}
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class BatchSolver<E extends AbstractEquationSystem<E>, T extends Number>
+    implements AutoCloseable {
+    /**
+     * default value of {@link #getCapacity()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_CAPACITY =
+        "capacity has to be greater than 0";
+    protected static final String EXCEPTION_TIMEOUT =
+        "timeout has to be positive";
+    protected static final String EXCEPTION_CLOSED =
+        "batch solver is closed";
+    // endregion
+
+    // region attributes
+
+    private final Function<? super E, ? extends AbstractSolver<E, T>> solverFactory;
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private final int capacity;
+    private final Semaphore permits;
+    private volatile boolean closed;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new batch solver with {@link #DEFAULT_CAPACITY}
+     * using virtual threads if available
+     * or a pool with one thread per processor otherwise
+     * - it is shut down by {@link #close()}
+     *
+     * @param solverFactory creates a solver for each system
+     * @since 1.2.0
+     */
+    public BatchSolver(@NotNull Function<? super E, ? extends AbstractSolver<E, T>> solverFactory) {
+        this(solverFactory, createDefaultExecutor(), DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * creates a new batch solver using given executor
+     * - it is not shut down by {@link #close()}
+     *
+     * @param solverFactory creates a solver for each system
+     * @param executor      executor to solve systems on
+     * @param capacity      max amount of pending systems
+     * @throws IllegalArgumentException if capacity is less than {@code 1}
+     * @since 1.2.0
+     */
+    public BatchSolver(
+        @NotNull Function<? super E, ? extends AbstractSolver<E, T>> solverFactory,
+        @NotNull ExecutorService executor, int capacity
+    ) {
+        this(solverFactory, executor, capacity, false);
+    }
+
+    private BatchSolver(
+        @NotNull Function<? super E, ? extends AbstractSolver<E, T>> solverFactory,
+        @NotNull ExecutorService executor, int capacity, boolean ownExecutor
+    ) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(EXCEPTION_CAPACITY);
+        this.solverFactory = solverFactory;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.ownExecutor = ownExecutor;
+        this.permits = new Semaphore(capacity);
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return max amount of pending systems
+     * @since 1.2.0
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return amount of currently pending systems
+     * @since 1.2.0
+     */
+    public int getPending() {
+        return getCapacity() - permits.availablePermits();
+    }
+
+    /**
+     * @return {@code true} if {@link #close()} was called
+     * @since 1.2.0
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // endregion
+
+    // region submit
+
+    /**
+     * submits a system without timeout
+     *
+     * @param equationSystem system to solve
+     * @return future result which can be cancelled
+     * @throws IllegalStateException if solver is closed
+     * @throws CancellationException if waiting for capacity was interrupted
+     * @see #submit(AbstractEquationSystem, Duration)
+     * @since 1.2.0
+     */
+    @NotNull
+    public CompletableFuture<Solution<E, T>> submit(@NotNull E equationSystem) {
+        return submit(equationSystem, null);
+    }
+
+    /**
+     * submits a system and blocks while {@link #getCapacity()} systems are pending
+     *
+     * @param equationSystem system to solve
+     * @param timeout        max duration of solving or {@code null}
+     *                       - measured from the start of solving
+     * @return future result which can be cancelled and completes with
+     * {@link TimeoutException} if timeout exceeds
+     * @throws IllegalStateException    if solver is closed
+     * @throws IllegalArgumentException if timeout is not positive
+     * @throws CancellationException    if waiting for capacity was interrupted
+     * @since 1.2.0
+     */
+    @NotNull
+    public CompletableFuture<Solution<E, T>> submit(
+        @NotNull E equationSystem, @Nullable Duration timeout
+    ) {
+        if (timeout != null && (timeout.isZero() || timeout.isNegative()))
+            throw new IllegalArgumentException(EXCEPTION_TIMEOUT);
+        if (isClosed()) throw new IllegalStateException(EXCEPTION_CLOSED);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException(e.getMessage());
+        }
+        CompletableFuture<Solution<E, T>> result = new CompletableFuture<>();
+        // the task or a cancellation before start releases the permit
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) return;
+                Solution<E, T> solution = null;
+                Throwable failure = null;
+                try {
+                    if (!result.isDone()) {
+                        if (timeout != null)
+                            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                        solution = solverFactory.apply(equationSystem).solve();
+                    }
+                } catch (Throwable throwable) {
+                    failure = throwable;
+                } finally {
+                    // before completion - so completed results are not pending
+                    permits.release();
+                }
+                if (failure != null) result.completeExceptionally(failure);
+                else if (solution != null) result.complete(solution);
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new IllegalStateException(EXCEPTION_CLOSED, e);
+        }
+        result.whenComplete((solution, throwable) -> {
+            if (throwable == null) return;
+            task.cancel(true);
+            if (claimed.compareAndSet(false, true)) permits.release();
+        });
+        return result;
+    }
+
+    /**
+     * submits all systems in order of the collection
+     *
+     * @param equationSystems systems to solve
+     * @param timeout         max duration of solving per system or {@code null}
+     * @return future results in order of the collection
+     * @see #submit(AbstractEquationSystem, Duration)
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<CompletableFuture<Solution<E, T>>> submitAll(
+        @NotNull Collection<? extends E> equationSystems, @Nullable Duration timeout
+    ) {
+        return submitAll(equationSystems.stream(), timeout);
+    }
+
+    /**
+     * submits all systems of the stream sequentially in encounter order
+     *
+     * @param equationSystems systems to solve
+     * @param timeout         max duration of solving per system or {@code null}
+     * @return future results in encounter order
+     * @see #submit(AbstractEquationSystem, Duration)
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<CompletableFuture<Solution<E, T>>> submitAll(
+        @NotNull Stream<? extends E> equationSystems, @Nullable Duration timeout
+    ) {
+        return equationSystems.sequential()
+            .map(equationSystem -> submit(equationSystem, timeout))
+            .collect(Collectors.toList());
+    }
+
+    // endregion
+
+    /**
+     * rejects further submits and shuts down the executor
+     * if it was created by this instance
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownExecutor) executor.shutdown();
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "BatchSolver{capacity=" + getCapacity() + ", pending=" + getPending() +
+            ", closed=" + isClosed() + "}";
+    }
+
+    // region private
+
+    /**
+     * @return virtual thread executor if available (Java 21+)
+     * or a fixed pool with one thread per processor
+     */
+    @NotNull
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    // endregion
+}
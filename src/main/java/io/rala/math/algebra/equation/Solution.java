@@ -1,6 +1,7 @@
 package io.rala.math.algebra.equation;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Collections;
@@ -29,9 +30,12 @@ public class Solution<E extends AbstractEquationSystem<E>, T extends Number> {
     private final E equationSystem;
     private final List<T> solution;
     private final State state;
+    private final SolverMetrics metrics;
 
     // endregion
 
+    // region constructors
+
     /**
      * creates a new solution with given values
      *
@@ -41,11 +45,30 @@ public class Solution<E extends AbstractEquationSystem<E>, T extends Number> {
      * @since 1.0.0
      */
     public Solution(@NotNull E equationSystem, @NotNull List<T> solution, @NotNull State state) {
+        this(equationSystem, solution, state, null);
+    }
+
+    /**
+     * creates a new solution with given values
+     *
+     * @param equationSystem equation system to store
+     * @param solution       solution values
+     * @param state          state of solution
+     * @param metrics        metrics of solver or {@code null}
+     * @since 1.2.0
+     */
+    public Solution(
+        @NotNull E equationSystem, @NotNull List<T> solution, @NotNull State state,
+        @Nullable SolverMetrics metrics
+    ) {
         this.equationSystem = equationSystem;
         this.solution = solution;
         this.state = state;
+        this.metrics = metrics;
     }
 
+    // endregion
+
     // region getter
 
     /**
@@ -76,10 +99,34 @@ public class Solution<E extends AbstractEquationSystem<E>, T extends Number> {
         return state;
     }
 
+    /**
+     * @return metrics of solver or {@code null} if they were not collected
+     * @since 1.2.0
+     */
+    @Nullable
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @param metrics metrics to attach
+     * @return new solution with same values and given metrics
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<E, T> withMetrics(@Nullable SolverMetrics metrics) {
+        return new Solution<>(getEquationSystem(), solution, getState(), metrics);
+    }
+
     // endregion
 
     // region override
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec {@link #getMetrics()} are ignored
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
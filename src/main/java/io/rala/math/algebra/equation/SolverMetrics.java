@@ -0,0 +1,247 @@
+package io.rala.math.algebra.equation;
+
+import io.rala.math.arithmetic.CountingArithmetic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * class which holds metrics collected while solving an {@link AbstractEquationSystem}
+ * <p>
+ * metrics are collected by the solver and
+ * should be considered immutable once attached to a {@link Solution}
+ *
+ * @since 1.2.0
+ */
+public class SolverMetrics {
+    /**
+     * phases of a solver:
+     * {@link #PREPARE} copies and analyzes the system,
+     * {@link #ELIMINATE} factorizes, eliminates or iterates and
+     * {@link #BACK_SUBSTITUTE} calculates the solution values
+     *
+     * @since 1.2.0
+     */
+    public enum Phase {PREPARE, ELIMINATE, BACK_SUBSTITUTE}
+
+    // region attributes
+
+    private final Map<CountingArithmetic.Operation, Long> operations =
+        new EnumMap<>(CountingArithmetic.Operation.class);
+    private final Map<Phase, Duration> durations = new EnumMap<>(Phase.class);
+    private long rowSwaps;
+    private long colSwaps;
+    private long peakWorkingSetSize;
+    private long fillIn;
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of swapped rows
+     * @since 1.2.0
+     */
+    public long getRowSwaps() {
+        return rowSwaps;
+    }
+
+    /**
+     * @return amount of swapped cols
+     * @since 1.2.0
+     */
+    public long getColSwaps() {
+        return colSwaps;
+    }
+
+    /**
+     * @return amount of arithmetic operations per type
+     * @since 1.2.0
+     */
+    @NotNull
+    @Unmodifiable
+    public Map<CountingArithmetic.Operation, Long> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    /**
+     * @param operation operation to get count of
+     * @return amount of arithmetic operations of given type
+     * @since 1.2.0
+     */
+    public long getOperations(@NotNull CountingArithmetic.Operation operation) {
+        return operations.getOrDefault(operation, 0L);
+    }
+
+    /**
+     * @return amount of all arithmetic operations
+     * @since 1.2.0
+     */
+    public long getTotalOperations() {
+        return operations.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @return max amount of non-zero values stored in the working system
+     * @since 1.2.0
+     */
+    public long getPeakWorkingSetSize() {
+        return peakWorkingSetSize;
+    }
+
+    /**
+     * @return amount of values which were {@code 0}
+     * in the matrix and got non-zero while solving
+     * @since 1.2.0
+     */
+    public long getFillIn() {
+        return fillIn;
+    }
+
+    /**
+     * @return duration per phase
+     * @since 1.2.0
+     */
+    @NotNull
+    @Unmodifiable
+    public Map<Phase, Duration> getDurations() {
+        return Collections.unmodifiableMap(durations);
+    }
+
+    /**
+     * @param phase phase to get duration of
+     * @return duration of phase or {@link Duration#ZERO} if it was not measured
+     * @since 1.2.0
+     */
+    @NotNull
+    public Duration getDuration(@NotNull Phase phase) {
+        return durations.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * @return duration of all phases
+     * @since 1.2.0
+     */
+    @NotNull
+    public Duration getTotalDuration() {
+        return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    // endregion
+
+    // region record
+
+    /**
+     * increments {@link #getRowSwaps()}
+     *
+     * @since 1.2.0
+     */
+    public void recordRowSwap() {
+        rowSwaps++;
+    }
+
+    /**
+     * increments {@link #getColSwaps()}
+     *
+     * @since 1.2.0
+     */
+    public void recordColSwap() {
+        colSwaps++;
+    }
+
+    /**
+     * @param operation operation to add count to
+     * @param count     amount to add
+     * @since 1.2.0
+     */
+    public void recordOperations(@NotNull CountingArithmetic.Operation operation, long count) {
+        operations.merge(operation, count, Long::sum);
+    }
+
+    /**
+     * @param size current amount of non-zero values in the working system
+     * @see #getPeakWorkingSetSize()
+     * @since 1.2.0
+     */
+    public void recordWorkingSetSize(long size) {
+        peakWorkingSetSize = Math.max(peakWorkingSetSize, size);
+    }
+
+    /**
+     * @param fillIn fill-in to store if it is greater than current one
+     * @see #getFillIn()
+     * @since 1.2.0
+     */
+    public void recordFillIn(long fillIn) {
+        this.fillIn = Math.max(this.fillIn, fillIn);
+    }
+
+    /**
+     * @param phase    phase to add duration to
+     * @param duration duration to add
+     * @since 1.2.0
+     */
+    public void recordDuration(@NotNull Phase phase, @NotNull Duration duration) {
+        durations.merge(phase, duration, Duration::plus);
+    }
+
+    /**
+     * adds all counts and durations of given metrics
+     * and keeps the greater peak working set size and fill-in
+     *
+     * @param metrics metrics to merge
+     * @since 1.2.0
+     */
+    public void merge(@NotNull SolverMetrics metrics) {
+        rowSwaps += metrics.getRowSwaps();
+        colSwaps += metrics.getColSwaps();
+        metrics.getOperations().forEach(this::recordOperations);
+        recordWorkingSetSize(metrics.getPeakWorkingSetSize());
+        recordFillIn(metrics.getFillIn());
+        metrics.getDurations().forEach(this::recordDuration);
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SolverMetrics)) return false;
+        SolverMetrics that = (SolverMetrics) o;
+        return getRowSwaps() == that.getRowSwaps() &&
+            getColSwaps() == that.getColSwaps() &&
+            getPeakWorkingSetSize() == that.getPeakWorkingSetSize() &&
+            getFillIn() == that.getFillIn() &&
+            getOperations().equals(that.getOperations()) &&
+            getDurations().equals(that.getDurations());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getRowSwaps(), getColSwaps(), getPeakWorkingSetSize(),
+            getFillIn(), getOperations(), getDurations()
+        );
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "SolverMetrics{" +
+            "rowSwaps=" + getRowSwaps() +
+            ", colSwaps=" + getColSwaps() +
+            ", operations=" + getOperations() +
+            ", peakWorkingSetSize=" + getPeakWorkingSetSize() +
+            ", fillIn=" + getFillIn() +
+            ", durations=" + getDurations() +
+            '}';
+    }
+
+    // endregion
+}
@@ -0,0 +1,21 @@
+package io.rala.math.algebra.equation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * listener which is notified with the {@link SolverMetrics}
+ * of each solved {@link AbstractEquationSystem}
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface SolverMetricsListener {
+    /**
+     * called after a solver has completed a solution
+     *
+     * @param solver  solver which has solved the system
+     * @param metrics metrics of solving
+     * @since 1.2.0
+     */
+    void onSolved(@NotNull AbstractSolver<?, ?> solver, @NotNull SolverMetrics metrics);
+}
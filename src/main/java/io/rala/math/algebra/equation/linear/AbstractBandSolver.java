@@ -0,0 +1,113 @@
+package io.rala.math.algebra.equation.linear;
+
+import io.rala.math.algebra.equation.AbstractSolver;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import org.jetbrains.annotations.MustBeInvokedByOverriders;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * class which defines required methods for {@link BandLinearEquationSystem} solvers
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public abstract class AbstractBandSolver<T extends Number>
+    extends AbstractSolver<BandLinearEquationSystem<T>, T> {
+    /**
+     * creates a new AbstractBandSolver based on a {@link BandLinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    protected AbstractBandSolver(@NotNull BandLinearEquationSystem<T> equationSystem) {
+        super(equationSystem);
+    }
+
+    // region protected getter
+
+    /**
+     * @return {@link AbstractArithmetic} of {@link #getEquationSystem()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final AbstractArithmetic<T> getArithmetic() {
+        return getEquationSystem().getMatrix().getArithmetic();
+    }
+
+    /**
+     * @return {@link BandMatrix} of {@link #getWorking()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected BandMatrix<T> getWorkingMatrix() {
+        return getWorking().getMatrix();
+    }
+
+    /**
+     * @return {@link Vector} of {@link #getWorking()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected Vector<T> getWorkingVector() {
+        return getWorking().getVector();
+    }
+
+    // endregion
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec transposes {@link #getWorking()} equation system
+     * if {@link #getEquationSystem()} has solution {@link Vector.Type#ROW}
+     * @since 1.2.0
+     */
+    @Override
+    @MustBeInvokedByOverriders
+    protected void reset() {
+        if (getEquationSystem().getVector().isRow())
+            setWorking(getEquationSystem().transpose());
+        else super.reset();
+    }
+
+    // region protected utils
+
+    /**
+     * @param solution solution values
+     * @return {@link Solution.State#SINGLE} solution of {@link #getEquationSystem()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected Solution<BandLinearEquationSystem<T>, T> toSingleSolution(@NotNull List<T> solution) {
+        return Solution.single(getEquationSystem(), solution);
+    }
+
+    /**
+     * solves {@link #getEquationSystem()} as full {@link LinearEquationSystem}
+     * which is required to distinguish singular systems
+     *
+     * @return solution of {@link LinearEquationSystem#solveWithGauss()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected Solution<BandLinearEquationSystem<T>, T> solveWithGauss() {
+        Solution<LinearEquationSystem<T>, T> solution =
+            getEquationSystem().toLinearEquationSystem().solveWithGauss();
+        return new Solution<>(getEquationSystem(), solution.getSolution(), solution.getState());
+    }
+
+    /**
+     * @param t value to check
+     * @return {@code true} if value is zero
+     * @since 1.2.0
+     */
+    protected final boolean isZero(@NotNull T t) {
+        return getArithmetic().isZero(t);
+    }
+
+    // endregion
+}
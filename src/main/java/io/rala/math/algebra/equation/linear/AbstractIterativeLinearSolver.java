@@ -0,0 +1,261 @@
+package io.rala.math.algebra.equation.linear;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.stream.Collectors;
+
+/**
+ * class which allows solving {@link LinearEquationSystem}s iteratively
+ * <p>
+ * an optional {@link AbstractPreconditioner} may be used to reduce
+ * the required iterations
+ * <p>
+ * the {@link Solution} contains the last iterate - as the equation system
+ * may be solvable even if the method does not converge.
+ * {@link #getStatus()} reports if the iterate reached {@link #getTolerance()}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public abstract class AbstractIterativeLinearSolver<T extends Number> extends AbstractLinearSolver<T> {
+    /**
+     * convergence status of {@link #solve()}
+     *
+     * @since 1.2.0
+     */
+    public enum Status {CONVERGED, MAX_ITERATIONS, BREAKDOWN}
+
+    /**
+     * default value of {@link #getMaxIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+    /**
+     * default value of {@link #getTolerance()}
+     *
+     * @since 1.2.0
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be a square matrix";
+    protected static final String EXCEPTION_PRECONDITIONER_SIZE =
+        "preconditioner size has to be equal to matrix rows";
+    protected static final String EXCEPTION_MAX_ITERATIONS =
+        "max iterations have to be greater than 0";
+    // endregion
+
+    // region attributes
+
+    private AbstractPreconditioner<T> preconditioner;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private T tolerance;
+    private int iterations;
+    private Status status;
+
+    // endregion
+
+    /**
+     * creates a {@link AbstractIterativeLinearSolver} for given {@link LinearEquationSystem}
+     *
+     * @param equationSystem equationSystem to store
+     * @since 1.2.0
+     */
+    protected AbstractIterativeLinearSolver(@NotNull LinearEquationSystem<T> equationSystem) {
+        this(equationSystem, null);
+    }
+
+    /**
+     * creates a {@link AbstractIterativeLinearSolver} for given {@link LinearEquationSystem}
+     * using given {@link AbstractPreconditioner}
+     *
+     * @param equationSystem equationSystem to store
+     * @param preconditioner preconditioner to use or {@code null}
+     * @throws IllegalArgumentException if preconditioner size does not match
+     * @since 1.2.0
+     */
+    protected AbstractIterativeLinearSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @Nullable AbstractPreconditioner<T> preconditioner
+    ) {
+        super(equationSystem);
+        setPreconditioner(preconditioner);
+        this.tolerance = getArithmetic().fromDouble(DEFAULT_TOLERANCE);
+    }
+
+    // region getter and setter
+
+    /**
+     * @return stored preconditioner or {@code null} if there is none
+     * @since 1.2.0
+     */
+    @Nullable
+    public AbstractPreconditioner<T> getPreconditioner() {
+        return preconditioner;
+    }
+
+    /**
+     * @param preconditioner new preconditioner or {@code null}
+     * @throws IllegalArgumentException if preconditioner size does not match
+     * @since 1.2.0
+     */
+    public void setPreconditioner(@Nullable AbstractPreconditioner<T> preconditioner) {
+        if (preconditioner != null &&
+            preconditioner.getSize() != getEquationSystem().getMatrix().getRows())
+            throw new IllegalArgumentException(EXCEPTION_PRECONDITIONER_SIZE);
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * @return max amount of iterations
+     * @since 1.2.0
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * @param maxIterations new max amount of iterations
+     * @throws IllegalArgumentException if maxIterations is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_ITERATIONS);
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return relative residual tolerance
+     * @since 1.2.0
+     */
+    @NotNull
+    public T getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @param tolerance new relative residual tolerance
+     * @since 1.2.0
+     */
+    public void setTolerance(@NotNull T tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return iterations required by last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param iterations new iterations
+     * @since 1.2.0
+     */
+    protected void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return convergence status of last {@link #solve()}
+     * or {@code null} if not solved yet
+     * @since 1.2.0
+     */
+    @Nullable
+    public Status getStatus() {
+        return status;
+    }
+
+    // endregion
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec resets {@link #getIterations()} to {@code 0}
+     * and {@link #getStatus()} to {@code null}
+     * @throws NotSupportedException if matrix is not square
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        if (!getWorkingMatrix().isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        setIterations(0);
+        status = null;
+    }
+
+    // region protected utils
+
+    /**
+     * @param vector residual to precondition
+     * @return {@link AbstractPreconditioner#apply(Vector)}
+     * or {@code vector} if there is no preconditioner
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final Vector<T> precondition(@NotNull Vector<T> vector) {
+        return getPreconditioner() == null ? vector : getPreconditioner().apply(vector);
+    }
+
+    /**
+     * @param vector vector to multiply
+     * @return new vector {@link #getWorkingMatrix()} {@code * vector}
+     * @see io.rala.math.algebra.matrix.Matrix#multiply(Vector)
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final Vector<T> multiplyWorkingMatrix(@NotNull Vector<T> vector) {
+        return getWorkingMatrix().multiply(vector);
+    }
+
+    /**
+     * @param a first vector
+     * @param b second vector
+     * @return dot product of {@code a} and {@code b}
+     * @see Vector#dotProduct(Vector, Number)
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final T dotProduct(@NotNull Vector<T> a, @NotNull Vector<T> b) {
+        return a.dotProduct(b, getArithmetic().zero());
+    }
+
+    /**
+     * @param squaredResidual squared norm of current residual
+     * @param squaredNorm     squared norm of right-hand side
+     * @return {@code true} if relative residual is at most {@link #getTolerance()}
+     * @since 1.2.0
+     */
+    protected final boolean isConverged(@NotNull T squaredResidual, @NotNull T squaredNorm) {
+        T limit = getArithmetic().product(getTolerance(), getTolerance(), squaredNorm);
+        return getArithmetic().compare(squaredResidual, limit) <= 0;
+    }
+
+    /**
+     * @param vector last iterate
+     * @param status convergence status to store
+     * @return {@link Solution} with state {@link Solution.State#SINGLE}
+     * @see #getStatus()
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final Solution<LinearEquationSystem<T>, T> toSingleSolution(
+        @NotNull Vector<T> vector, @NotNull Status status
+    ) {
+        this.status = status;
+        return complete(Solution.single(getEquationSystem(),
+            vector.stream().map(Vector.Entry::getValue).collect(Collectors.toList())
+        ));
+    }
+
+    // endregion
+}
@@ -2,21 +2,48 @@ package io.rala.math.algebra.equation.linear;
 
 import io.rala.math.algebra.equation.AbstractSolver;
 import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.SolverMetricsListener;
+import io.rala.math.algebra.matrix.Matrix;
 import io.rala.math.algebra.vector.Vector;
 import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.arithmetic.CountingArithmetic;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * class which allows solving {@link LinearEquationSystem}s
+ * <p>
+ * if {@link #isMetricsEnabled()} each {@link #solve()} collects
+ * {@link SolverMetrics} which are attached to the {@link Solution}
+ * and published to {@link #getMetricsListener()}.
+ * Operations are counted by a {@link CountingArithmetic}
+ * which is used by {@link #getArithmetic()} and the working system while solving
  *
  * @param <T> number class
  * @since 1.0.0
  */
 public abstract class AbstractLinearSolver<T extends Number> extends AbstractSolver<LinearEquationSystem<T>, T> {
+    // region attributes
+
+    private boolean metricsEnabled;
+    private SolverMetricsListener metricsListener;
+    private SolverMetrics metrics;
+    private CountingArithmetic<T> countingArithmetic;
+    private SolverMetrics.Phase phase;
+    private long phaseStart;
+    private Set<Long> initialNonZeros;
+    private long uncountedCompares;
+
+    // endregion
+
     /**
      * creates a {@link AbstractLinearSolver} for given {@link LinearEquationSystem}
      *
@@ -27,13 +54,63 @@ public abstract class AbstractLinearSolver<T extends Number> extends AbstractSol
         super(equationSystem);
     }
 
+    // region metrics
+
+    /**
+     * @return {@code true} if {@link SolverMetrics} are collected
+     * @since 1.2.0
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * @param metricsEnabled {@code true} if {@link SolverMetrics} should be collected
+     * @since 1.2.0
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * @return listener to publish {@link SolverMetrics} to or {@code null}
+     * @since 1.2.0
+     */
+    @Nullable
+    public SolverMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * @param metricsListener listener to publish {@link SolverMetrics} to or {@code null}
+     * @see #setMetricsEnabled(boolean)
+     * @since 1.2.0
+     */
+    public void setMetricsListener(@Nullable SolverMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * @return metrics of last {@link #solve()}
+     * or {@code null} if they were not collected
+     * @since 1.2.0
+     */
+    @Nullable
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+
+    // endregion
+
     /**
      * @return {@link AbstractArithmetic} of {@link #getEquationSystem()}
+     * - wrapped in a {@link CountingArithmetic} while collecting metrics
      * @since 1.0.0
      */
     @NotNull
     protected final AbstractArithmetic<T> getArithmetic() {
-        return getEquationSystem().getMatrix().getArithmetic();
+        return countingArithmetic != null ?
+            countingArithmetic : getEquationSystem().getMatrix().getArithmetic();
     }
 
     /**
@@ -85,26 +162,153 @@ public abstract class AbstractLinearSolver<T extends Number> extends AbstractSol
      */
     @NotNull
     protected Solution<LinearEquationSystem<T>, T> toSingleSolution() {
-        return Solution.single(getEquationSystem(),
+        return complete(Solution.single(getEquationSystem(),
             getWorkingVector().stream().map(Vector.Entry::getValue).collect(Collectors.toList())
-        );
+        ));
     }
 
     /**
      * {@inheritDoc}
      *
      * @implSpec transposes {@link #getWorking()} equation system
-     * if {@link #getEquationSystem()} has solution {@link Vector.Type#ROW}
+     * if {@link #getEquationSystem()} has solution {@link Vector.Type#ROW} -
+     * if {@link #isMetricsEnabled()} new {@link SolverMetrics} are started
+     * with phase {@link SolverMetrics.Phase#PREPARE}
+     * and the working system uses a {@link CountingArithmetic}
      * @since 1.0.0
      */
     @Override
     @MustBeInvokedByOverriders
     protected void reset() {
+        countingArithmetic = null;
+        metrics = null;
+        phase = null;
         if (getEquationSystem().getVector().getType().equals(Vector.Type.ROW))
             setWorking(getEquationSystem().transpose());
         else super.reset();
+        if (!isMetricsEnabled()) return;
+        metrics = new SolverMetrics();
+        countingArithmetic = new CountingArithmetic<>(getEquationSystem().getMatrix().getArithmetic());
+        setWorking(toCountingSystem(getWorking()));
+        uncountedCompares = 0;
+        initialNonZeros = getWorkingNonZeroFields().stream()
+            .map(field -> toKey(field.getRow(), field.getCol()))
+            .collect(Collectors.toSet());
+        metrics.recordWorkingSetSize(countWorkingNonZeros());
+        phase = SolverMetrics.Phase.PREPARE;
+        phaseStart = System.nanoTime();
+    }
+
+    // region protected final metrics
+
+    /**
+     * ends the current phase and starts given one
+     * - does nothing if metrics are not collected
+     *
+     * @param phase phase to start
+     * @since 1.2.0
+     */
+    protected final void startPhase(@NotNull SolverMetrics.Phase phase) {
+        if (metrics == null || this.phase == null) return;
+        endPhase();
+        this.phase = phase;
+        phaseStart = System.nanoTime();
+    }
+
+    /**
+     * records a row swap if metrics are collected
+     *
+     * @since 1.2.0
+     */
+    protected final void recordRowSwap() {
+        if (metrics != null && phase != null) metrics.recordRowSwap();
+    }
+
+    /**
+     * records a col swap if metrics are collected
+     *
+     * @since 1.2.0
+     */
+    protected final void recordColSwap() {
+        if (metrics != null && phase != null) metrics.recordColSwap();
+    }
+
+    /**
+     * records fill-in of solvers which do not
+     * store their factors in {@link #getWorkingMatrix()}
+     *
+     * @param fillIn fill-in to record
+     * @see SolverMetrics#recordFillIn(long)
+     * @since 1.2.0
+     */
+    protected final void recordFillIn(long fillIn) {
+        if (metrics != null && phase != null) metrics.recordFillIn(fillIn);
+    }
+
+    /**
+     * records the size of a working set which is not
+     * stored in {@link #getWorkingMatrix()}
+     *
+     * @param size amount of non-zero values
+     * @see SolverMetrics#recordWorkingSetSize(long)
+     * @since 1.2.0
+     */
+    protected final void recordWorkingSetSize(long size) {
+        if (metrics != null && phase != null) metrics.recordWorkingSetSize(size);
+    }
+
+    /**
+     * completes metrics collection of current {@link #solve()}
+     * by attaching the {@link SolverMetrics} to the solution
+     * and publishing them to {@link #getMetricsListener()}
+     *
+     * @param solution solution to complete
+     * @return solution with metrics
+     * or given solution if metrics are not collected or already completed
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final Solution<LinearEquationSystem<T>, T> complete(
+        @NotNull Solution<LinearEquationSystem<T>, T> solution
+    ) {
+        if (metrics == null || phase == null || solution.getMetrics() != null)
+            return solution;
+        endPhase();
+        phase = null;
+        countingArithmetic.getCounts().forEach((operation, count) ->
+            metrics.recordOperations(operation, operation == CountingArithmetic.Operation.COMPARE ?
+                count - uncountedCompares : count
+            )
+        );
+        countingArithmetic = null;
+        if (getMetricsListener() != null)
+            getMetricsListener().onSolved(this, metrics);
+        return solution.withMetrics(metrics);
+    }
+
+    /**
+     * solves {@link #getEquationSystem()} with given solver
+     * and merges its metrics into the current ones
+     *
+     * @param solver solver to delegate to
+     * @return solution of solver
+     * @see #complete(Solution)
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final Solution<LinearEquationSystem<T>, T> solveWith(
+        @NotNull AbstractLinearSolver<T> solver
+    ) {
+        solver.setMetricsEnabled(metrics != null && phase != null);
+        Solution<LinearEquationSystem<T>, T> solution = solver.solve();
+        if (metrics == null || phase == null || solution.getMetrics() == null)
+            return complete(solution);
+        metrics.merge(solution.getMetrics());
+        return complete(solution.withMetrics(null));
     }
 
+    // endregion
+
     // region protected final utils
 
     /**
@@ -139,4 +343,66 @@ public abstract class AbstractLinearSolver<T extends Number> extends AbstractSol
     }
 
     // endregion
+
+    // region private
+
+    private void endPhase() {
+        metrics.recordDuration(phase, Duration.ofNanos(System.nanoTime() - phaseStart));
+        metrics.recordWorkingSetSize(countWorkingNonZeros());
+        metrics.recordFillIn(countWorkingFillIn());
+    }
+
+    /**
+     * @return non-zero values of working matrix and vector
+     * - not counted as operations
+     */
+    private long countWorkingNonZeros() {
+        AbstractArithmetic<T> arithmetic = getEquationSystem().getMatrix().getArithmetic();
+        return getWorkingNonZeroFields().size() +
+            getWorkingVector().stream()
+                .filter(entry -> !arithmetic.isZero(entry.getValue())).count();
+    }
+
+    /**
+     * @return values of working matrix which were {@code 0} initially
+     * - not counted as operations
+     */
+    private long countWorkingFillIn() {
+        return getWorkingNonZeroFields().stream()
+            .filter(field -> !initialNonZeros.contains(toKey(field.getRow(), field.getCol())))
+            .count();
+    }
+
+    /**
+     * @return non-zero fields of working matrix
+     * - its comparisons are not counted as operations
+     */
+    @NotNull
+    private List<Matrix<T>.Field> getWorkingNonZeroFields() {
+        long compares = countingArithmetic.getCount(CountingArithmetic.Operation.COMPARE);
+        List<Matrix<T>.Field> fields = getWorkingMatrix().getNonZeroFields();
+        uncountedCompares +=
+            countingArithmetic.getCount(CountingArithmetic.Operation.COMPARE) - compares;
+        return fields;
+    }
+
+    private static long toKey(int row, int col) {
+        return (long) row << Integer.SIZE | col;
+    }
+
+    @NotNull
+    private LinearEquationSystem<T> toCountingSystem(@NotNull LinearEquationSystem<T> system) {
+        Vector<T> vector = new Vector<>(countingArithmetic,
+            system.getVector().getSize(), system.getVector().getType()
+        );
+        system.getVector().forEach(entry -> vector.setValue(entry.getIndex(), entry.getValue()));
+        Matrix<T> matrix = new Matrix<>(countingArithmetic,
+            system.getMatrix().getRows(), system.getMatrix().getCols()
+        );
+        system.getMatrix().getNonZeroFields()
+            .forEach(field -> matrix.setValue(field.getIndex(), field.getValue()));
+        return new LinearEquationSystem<>(matrix, vector);
+    }
+
+    // endregion
 }
@@ -0,0 +1,130 @@
+package io.rala.math.algebra.equation.linear;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * class which approximates the inverse of a {@link Matrix}
+ * to accelerate iterative solvers
+ *
+ * @param <T> number class
+ * @see AbstractIterativeLinearSolver
+ * @since 1.2.0
+ */
+public abstract class AbstractPreconditioner<T extends Number> {
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be a square matrix";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "sizes have to be equal";
+    protected static final String EXCEPTION_ZERO_PIVOT =
+        "matrix has a zero pivot";
+    // endregion
+
+    // region attributes
+
+    private final AbstractArithmetic<T> arithmetic;
+    private final int size;
+
+    // endregion
+
+    /**
+     * creates a new preconditioner for given matrix
+     *
+     * @param matrix matrix to precondition
+     * @throws NotSupportedException if matrix is not square
+     * @since 1.2.0
+     */
+    protected AbstractPreconditioner(@NotNull Matrix<T> matrix) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        this.arithmetic = matrix.getArithmetic();
+        this.size = matrix.getRows();
+    }
+
+    // region getter
+
+    /**
+     * @return stored arithmetic
+     * @since 1.2.0
+     */
+    @NotNull
+    public AbstractArithmetic<T> getArithmetic() {
+        return arithmetic;
+    }
+
+    /**
+     * @return size of preconditioned matrix
+     * @since 1.2.0
+     */
+    public final int getSize() {
+        return size;
+    }
+
+    // endregion
+
+    /**
+     * solves {@code M*z=r} where {@code M} is the preconditioner
+     *
+     * @param vector residual {@code r}
+     * @return new vector {@code z}
+     * @throws IllegalArgumentException if vector size is not equal to {@link #getSize()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public final Vector<T> apply(@NotNull Vector<T> vector) {
+        if (vector.getSize() != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        return solve(vector);
+    }
+
+    /**
+     * @param vector residual {@code r} with valid size
+     * @return new vector {@code z} with {@code M*z=r}
+     * @see #apply(Vector)
+     * @since 1.2.0
+     */
+    @NotNull
+    protected abstract Vector<T> solve(@NotNull Vector<T> vector);
+
+    // region protected static
+
+    /**
+     * @param matrix square matrix to get pattern of
+     * @param <T>    number class
+     * @return sorted cols of the diagonal and all non-zero values of each row
+     * @see Matrix#getNonZeroFields()
+     * @since 1.2.0
+     */
+    protected static <T extends Number> int @NotNull [] @NotNull [] createRowPatterns(
+        @NotNull Matrix<T> matrix
+    ) {
+        List<List<Integer>> cols = new ArrayList<>(matrix.getRows());
+        for (int i = 0; i < matrix.getRows(); i++)
+            cols.add(new ArrayList<>(List.of(i)));
+        for (Matrix<T>.Field field : matrix.getNonZeroFields())
+            if (field.getRow() != field.getCol())
+                cols.get(field.getRow()).add(field.getCol());
+        return cols.stream()
+            .map(list -> list.stream().mapToInt(Integer::intValue).sorted().toArray())
+            .toArray(int[][]::new);
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getSize();
+    }
+
+    // endregion
+}
@@ -0,0 +1,126 @@
+package io.rala.math.algebra.equation.linear;
+
+import io.rala.math.algebra.equation.AbstractEquationSystem;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.solver.BandLUSolver;
+import io.rala.math.algebra.equation.linear.solver.ThomasSolver;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.vector.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * class which holds a linear equation system with a {@link BandMatrix}
+ *
+ * @param <T> number class of linear equation system
+ * @since 1.2.0
+ */
+public class BandLinearEquationSystem<T extends Number>
+    extends AbstractEquationSystem<BandLinearEquationSystem<T>> {
+    // region protected exception messages
+    protected static final String EXCEPTION_MATRIX_VECTOR_NO_MATCH =
+        "matrix and vector do not match";
+    // endregion
+
+    // region attributes
+
+    private final BandMatrix<T> matrix;
+    private final Vector<T> vector;
+
+    // endregion
+
+    /**
+     * creates a new {@link BandLinearEquationSystem} for given matrix
+     *
+     * @param matrix matrix of linear equation system
+     * @param vector vector of linear equation solution
+     * @throws IllegalArgumentException if matrix and vector do not match
+     * @since 1.2.0
+     */
+    public BandLinearEquationSystem(@NotNull BandMatrix<T> matrix, @NotNull Vector<T> vector) {
+        if (matrix.getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_MATRIX_VECTOR_NO_MATCH);
+        this.matrix = matrix;
+        this.vector = vector;
+    }
+
+    /**
+     * @return stored matrix
+     * @since 1.2.0
+     */
+    @NotNull
+    public BandMatrix<T> getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * @return stored vector
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> getVector() {
+        return vector;
+    }
+
+    /**
+     * @return new {@link LinearEquationSystem} with a full matrix
+     * @since 1.2.0
+     */
+    @NotNull
+    public LinearEquationSystem<T> toLinearEquationSystem() {
+        return new LinearEquationSystem<>(getMatrix().toMatrix(), getVector());
+    }
+
+    /**
+     * solves a tridiagonal {@link BandLinearEquationSystem} with {@link ThomasSolver}
+     *
+     * @return {@link Solution} of {@link ThomasSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<BandLinearEquationSystem<T>, T> solveWithThomas() {
+        return new ThomasSolver<>(this).solve();
+    }
+
+    /**
+     * solves a {@link BandLinearEquationSystem} with {@link BandLUSolver}
+     *
+     * @return {@link Solution} of {@link BandLUSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<BandLinearEquationSystem<T>, T> solveWithBandLU() {
+        return new BandLUSolver<>(this).solve();
+    }
+
+    // region override
+
+    @Override
+    @NotNull
+    protected BandLinearEquationSystem<T> transpose() {
+        return new BandLinearEquationSystem<>(getMatrix().transpose(), getVector().transpose());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BandLinearEquationSystem)) return false;
+        BandLinearEquationSystem<?> that = (BandLinearEquationSystem<?>) o;
+        return Objects.equals(getMatrix(), that.getMatrix()) &&
+            Objects.equals(getVector(), that.getVector());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMatrix(), getVector());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getMatrix() + " - " + getVector();
+    }
+
+    // endregion
+}
@@ -2,9 +2,12 @@ package io.rala.math.algebra.equation.linear;
 
 import io.rala.math.algebra.equation.AbstractEquationSystem;
 import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.solver.BareissSolver;
 import io.rala.math.algebra.equation.linear.solver.GaussSolver;
 import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.numeric.Fraction;
 import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractResultArithmetic;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
@@ -92,6 +95,23 @@ public class LinearEquationSystem<T extends Number> extends AbstractEquationSyst
         return new GaussSolver<>(this).solve();
     }
 
+    /**
+     * solves an integral {@link AbstractEquationSystem} with {@link BareissSolver}
+     *
+     * @param resultArithmetic arithmetic of solution {@link Fraction}s
+     * @param <V>              number class of solution {@link Fraction} values
+     * @return {@link Solution} of {@link BareissSolver#solve()}
+     * @throws IllegalArgumentException if arithmetic of equation system
+     *                                  and {@code resultArithmetic} do not match
+     * @since 1.2.0
+     */
+    @NotNull
+    public <V extends Number> Solution<LinearEquationSystem<T>, Fraction<T, V>> solveWithBareiss(
+        @NotNull AbstractResultArithmetic<T, V> resultArithmetic
+    ) {
+        return new BareissSolver<>(this, resultArithmetic).solve();
+    }
+
     // region modify
 
     /**
@@ -0,0 +1,120 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.equation.linear.AbstractPreconditioner;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * preconditioner based on the incomplete Cholesky factorization {@code IC(0)}
+ * of a symmetric positive definite {@link Matrix}
+ * <p>
+ * the lower factor {@code L} only contains values where the lower triangle
+ * of the matrix is non-zero, so no fill-in is created
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class IncompleteCholeskyPreconditioner<T extends Number> extends AbstractPreconditioner<T> {
+    // region protected exception messages
+    protected static final String EXCEPTION_NOT_POSITIVE_DEFINITE =
+        "matrix has to be positive definite";
+    // endregion
+
+    // region attributes
+
+    private final Matrix<T> factor;
+    private final int[][] rowPattern;
+    private final int[][] colPattern;
+
+    // endregion
+
+    /**
+     * creates a new preconditioner by factorizing the lower triangle of given matrix
+     *
+     * @param matrix symmetric positive definite matrix to precondition
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if matrix is not positive definite
+     * @since 1.2.0
+     */
+    public IncompleteCholeskyPreconditioner(@NotNull Matrix<T> matrix) {
+        super(matrix);
+        factor = new Matrix<>(getArithmetic(), getSize());
+        rowPattern = createRowPatterns(matrix);
+        List<List<Integer>> cols = new ArrayList<>();
+        for (int i = 0; i < getSize(); i++) {
+            cols.add(new ArrayList<>());
+            int row = i;
+            rowPattern[i] = Arrays.stream(rowPattern[i]).filter(col -> col <= row).toArray();
+            for (int col : rowPattern[i])
+                cols.get(col).add(i);
+        }
+        colPattern = cols.stream()
+            .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+            .toArray(int[][]::new);
+        factorize(matrix);
+    }
+
+    /**
+     * @return lower factor {@code L} with {@code L*L^T≈A}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Matrix<T> getFactor() {
+        return factor.copy();
+    }
+
+    @Override
+    @NotNull
+    protected Vector<T> solve(@NotNull Vector<T> vector) {
+        Vector<T> y = new Vector<>(getArithmetic(), getSize());
+        for (int i = 0; i < getSize(); i++) {
+            T sum = vector.getValue(i);
+            for (int j : rowPattern[i])
+                if (j < i) sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), y.getValue(j))
+                );
+            y.setValue(i, getArithmetic().quotient(sum, factor.getValue(i, i)));
+        }
+        Vector<T> z = new Vector<>(getArithmetic(), getSize(), vector.getType());
+        for (int i = getSize() - 1; 0 <= i; i--) {
+            T sum = y.getValue(i);
+            for (int k : colPattern[i])
+                if (i < k) sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(k, i), z.getValue(k))
+                );
+            z.setValue(i, getArithmetic().quotient(sum, factor.getValue(i, i)));
+        }
+        return z;
+    }
+
+    // region private
+
+    private void factorize(@NotNull Matrix<T> matrix) {
+        for (int i = 0; i < getSize(); i++) {
+            for (int k : rowPattern[i]) {
+                T sum = matrix.getValue(i, k);
+                for (int j : rowPattern[i]) {
+                    if (k <= j) break;
+                    sum = getArithmetic().difference(sum,
+                        getArithmetic().product(factor.getValue(i, j), factor.getValue(k, j))
+                    );
+                }
+                if (k < i) {
+                    factor.setValue(i, k, getArithmetic().quotient(sum, factor.getValue(k, k)));
+                } else {
+                    if (getArithmetic().signum(sum) <= 0)
+                        throw new IllegalArgumentException(EXCEPTION_NOT_POSITIVE_DEFINITE);
+                    factor.setValue(i, i, getArithmetic().root2(sum));
+                }
+            }
+        }
+    }
+
+    // endregion
+}
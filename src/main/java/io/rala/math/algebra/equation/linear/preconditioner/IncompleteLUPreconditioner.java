@@ -0,0 +1,103 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.equation.linear.AbstractPreconditioner;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * preconditioner based on the incomplete LU factorization {@code ILU(0)}
+ * of a {@link Matrix}
+ * <p>
+ * both factors only contain values where the matrix is non-zero,
+ * so no fill-in is created
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class IncompleteLUPreconditioner<T extends Number> extends AbstractPreconditioner<T> {
+    // region attributes
+
+    private final Matrix<T> factor;
+    private final int[][] rowPattern;
+
+    // endregion
+
+    /**
+     * creates a new preconditioner by factorizing given matrix
+     *
+     * @param matrix matrix to precondition
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if a pivot is {@code 0}
+     * @since 1.2.0
+     */
+    public IncompleteLUPreconditioner(@NotNull Matrix<T> matrix) {
+        super(matrix);
+        factor = new Matrix<>(getArithmetic(), getSize());
+        rowPattern = createRowPatterns(matrix);
+        for (int i = 0; i < getSize(); i++)
+            for (int col : rowPattern[i])
+                factor.setValue(i, col, matrix.getValue(i, col));
+        factorize();
+    }
+
+    /**
+     * @return combined factors: {@code L} (without its unit diagonal)
+     * below and {@code U} on and above the diagonal
+     * @since 1.2.0
+     */
+    @NotNull
+    public Matrix<T> getFactor() {
+        return factor.copy();
+    }
+
+    @Override
+    @NotNull
+    protected Vector<T> solve(@NotNull Vector<T> vector) {
+        Vector<T> y = new Vector<>(getArithmetic(), getSize());
+        for (int i = 0; i < getSize(); i++) {
+            T sum = vector.getValue(i);
+            for (int j : rowPattern[i]) {
+                if (i <= j) break;
+                sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), y.getValue(j))
+                );
+            }
+            y.setValue(i, sum);
+        }
+        Vector<T> z = new Vector<>(getArithmetic(), getSize(), vector.getType());
+        for (int i = getSize() - 1; 0 <= i; i--) {
+            T sum = y.getValue(i);
+            for (int j : rowPattern[i])
+                if (i < j) sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), z.getValue(j))
+                );
+            z.setValue(i, getArithmetic().quotient(sum, factor.getValue(i, i)));
+        }
+        return z;
+    }
+
+    // region private
+
+    private void factorize() {
+        for (int i = 0; i < getSize(); i++) {
+            for (int k : rowPattern[i]) {
+                if (i <= k) break;
+                T pivot = factor.getValue(k, k);
+                T multiplier = getArithmetic().quotient(factor.getValue(i, k), pivot);
+                factor.setValue(i, k, multiplier);
+                if (getArithmetic().isZero(multiplier)) continue;
+                for (int j : rowPattern[i])
+                    if (k < j) factor.compute(i, j,
+                        getArithmetic().product(multiplier, factor.getValue(k, j)),
+                        getArithmetic()::difference
+                    );
+            }
+            if (getArithmetic().isZero(factor.getValue(i, i)))
+                throw new IllegalArgumentException(EXCEPTION_ZERO_PIVOT);
+        }
+    }
+
+    // endregion
+}
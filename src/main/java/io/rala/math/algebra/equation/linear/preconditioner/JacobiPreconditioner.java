@@ -0,0 +1,55 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.equation.linear.AbstractPreconditioner;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * preconditioner based on the diagonal of a {@link Matrix}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class JacobiPreconditioner<T extends Number> extends AbstractPreconditioner<T> {
+    private final Vector<T> inverseDiagonal;
+
+    /**
+     * creates a new preconditioner using the inverse diagonal of given matrix
+     *
+     * @param matrix matrix to precondition
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if a diagonal value is {@code 0}
+     * @since 1.2.0
+     */
+    public JacobiPreconditioner(@NotNull Matrix<T> matrix) {
+        super(matrix);
+        inverseDiagonal = new Vector<>(getArithmetic(), getSize());
+        for (int i = 0; i < getSize(); i++) {
+            T value = matrix.getValue(i, i);
+            if (getArithmetic().isZero(value))
+                throw new IllegalArgumentException(EXCEPTION_ZERO_PIVOT);
+            inverseDiagonal.setValue(i, getArithmetic().quotient(getArithmetic().one(), value));
+        }
+    }
+
+    /**
+     * @return inverse diagonal values
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> getInverseDiagonal() {
+        return inverseDiagonal.copy();
+    }
+
+    @Override
+    @NotNull
+    protected Vector<T> solve(@NotNull Vector<T> vector) {
+        Vector<T> result = vector.copy();
+        result.computeAll(entry -> getArithmetic().product(
+            entry.getValue(), inverseDiagonal.getValue(entry.getIndex())
+        ));
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.AbstractBandSolver;
+import io.rala.math.algebra.equation.linear.BandLinearEquationSystem;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * solves a {@link BandLinearEquationSystem} based on
+ * a banded LU decomposition with partial pivoting
+ * in {@code O(n*lower*(lower+upper))}
+ * <p>
+ * row swaps widen the upper band of {@code U} to {@code lower+upper}.
+ * Singular systems are solved by {@link GaussSolver}
+ * on the full matrix to distinguish
+ * {@link Solution.State#UNSOLVABLE} and {@link Solution.State#INFINITE}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class BandLUSolver<T extends Number> extends AbstractBandSolver<T> {
+    // region attributes
+
+    private BandMatrix<T> factor;
+    private List<T> values;
+
+    // endregion
+
+    /**
+     * creates a new BandLUSolver based on a {@link BandLinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public BandLUSolver(@NotNull BandLinearEquationSystem<T> equationSystem) {
+        super(equationSystem);
+    }
+
+    @Override
+    @NotNull
+    public Solution<BandLinearEquationSystem<T>, T> solve() {
+        reset();
+        int size = factor.getSize();
+        int lower = getWorkingMatrix().getLower();
+        int upper = factor.getUpper();
+        for (int k = 0; k < size; k++) {
+            int pivotRow = findPivotRow(k, Math.min(size - 1, k + lower));
+            if (pivotRow < 0) return solveWithGauss();
+            swapRows(k, pivotRow, Math.min(size - 1, k + upper));
+            T pivot = factor.getValue(k, k);
+            for (int i = k + 1; i <= Math.min(size - 1, k + lower); i++) {
+                T value = factor.getValue(i, k);
+                if (isZero(value)) continue;
+                T multiplier = getArithmetic().quotient(value, pivot);
+                for (int j = k + 1; j <= Math.min(size - 1, k + upper); j++)
+                    factor.setValue(i, j, getArithmetic().difference(factor.getValue(i, j),
+                        getArithmetic().product(multiplier, factor.getValue(k, j))
+                    ));
+                factor.setValue(i, k, getArithmetic().zero());
+                values.set(i, getArithmetic().difference(values.get(i),
+                    getArithmetic().product(multiplier, values.get(k))
+                ));
+            }
+        }
+        for (int i = size - 1; 0 <= i; i--) {
+            T sum = values.get(i);
+            for (int j = i + 1; j <= Math.min(size - 1, i + upper); j++)
+                sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), values.get(j))
+                );
+            values.set(i, getArithmetic().quotient(sum, factor.getValue(i, i)));
+        }
+        return toSingleSolution(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec copies {@link #getWorkingMatrix()} into a band matrix
+     * with an upper bandwidth of {@code lower+upper}
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        BandMatrix<T> matrix = getWorkingMatrix();
+        int size = matrix.getSize();
+        factor = new BandMatrix<>(getArithmetic(), size,
+            matrix.getLower(), matrix.getLower() + matrix.getUpper()
+        );
+        values = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            for (int col = Math.max(0, row - matrix.getLower());
+                 col <= Math.min(size - 1, row + matrix.getUpper()); col++)
+                factor.setValue(row, col, matrix.getValue(row, col));
+            values.add(getWorkingVector().getValue(row));
+        }
+    }
+
+    // region private
+
+    /**
+     * @return row in {@code [col, last]} with the greatest absolute value
+     * in {@code col} or {@code -1} if all are {@code 0}
+     */
+    private int findPivotRow(int col, int last) {
+        int pivotRow = -1;
+        T pivot = null;
+        for (int row = col; row <= last; row++) {
+            T value = factor.getValue(row, col);
+            if (isZero(value)) continue;
+            T absolute;
+            try {
+                absolute = getArithmetic().absolute(value);
+                if (pivot != null && getArithmetic().compare(absolute, pivot) <= 0)
+                    continue;
+            } catch (NotSupportedException e) {
+                return pivotRow < 0 ? row : pivotRow;
+            }
+            pivotRow = row;
+            pivot = absolute;
+        }
+        return pivotRow;
+    }
+
+    private void swapRows(int row1, int row2, int last) {
+        if (row1 == row2) return;
+        for (int col = row1; col <= last; col++)
+            factor.setValue(row2, col, factor.setValue(row1, col, factor.getValue(row2, col)));
+        values.set(row2, values.set(row1, values.get(row2)));
+    }
+
+    // endregion
+}
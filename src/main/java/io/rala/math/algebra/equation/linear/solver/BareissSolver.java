@@ -0,0 +1,241 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.AbstractSolver;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.numeric.Fraction;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.arithmetic.AbstractResultArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * solves an integral {@link LinearEquationSystem} based on the
+ * fraction-free elimination of Bareiss
+ * <p>
+ * all intermediate values are integral as every value after step {@code k}
+ * is a minor of size {@code k+1} of the augmented matrix -
+ * so they are bounded by the Hadamard bound of the matrix and
+ * each division is exact.
+ * The exact rational solution is created by Cramer's rule after
+ * the elimination: {@code x_i = det_i / det}.
+ * <p>
+ * intended for integral arithmetic like
+ * {@link io.rala.math.arithmetic.core.IntegerArithmetic},
+ * {@link io.rala.math.arithmetic.core.LongArithmetic} and
+ * {@link io.rala.math.arithmetic.core.BigIntegerArithmetic} -
+ * products of two minors have to fit into {@code T}
+ *
+ * @param <T> number class of equation system
+ * @param <V> number class of solution {@link Fraction} values
+ * @since 1.2.0
+ */
+public class BareissSolver<T extends Number, V extends Number>
+    extends AbstractSolver<LinearEquationSystem<T>, Fraction<T, V>> {
+    // region protected exception messages
+    protected static final String EXCEPTION_ARITHMETIC_NO_MATCH =
+        "arithmetic of equation system and fraction do not match";
+    // endregion
+
+    // region attributes
+
+    private final AbstractResultArithmetic<T, V> resultArithmetic;
+    private T[][] augmented;
+    private int rank;
+
+    // endregion
+
+    /**
+     * creates a new BareissSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem   equation system to solve
+     * @param resultArithmetic arithmetic of solution {@link Fraction}s
+     * @throws IllegalArgumentException if arithmetic of equation system
+     *                                  and {@code resultArithmetic} do not match
+     * @since 1.2.0
+     */
+    public BareissSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @NotNull AbstractResultArithmetic<T, V> resultArithmetic
+    ) {
+        super(equationSystem);
+        if (!equationSystem.getMatrix().getArithmetic().equals(resultArithmetic.getTArithmetic()))
+            throw new IllegalArgumentException(EXCEPTION_ARITHMETIC_NO_MATCH);
+        this.resultArithmetic = resultArithmetic;
+    }
+
+    // region getter
+
+    /**
+     * @return {@link AbstractArithmetic} of {@link #getEquationSystem()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected final AbstractArithmetic<T> getArithmetic() {
+        return getEquationSystem().getMatrix().getArithmetic();
+    }
+
+    /**
+     * @return arithmetic of solution {@link Fraction}s
+     * @since 1.2.0
+     */
+    @NotNull
+    public AbstractResultArithmetic<T, V> getResultArithmetic() {
+        return resultArithmetic;
+    }
+
+    /**
+     * @return rank of matrix after {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<T>, Fraction<T, V>> solve() {
+        reset();
+        eliminate();
+        int rows = augmented.length;
+        int cols = getWorking().getMatrix().getCols();
+        for (int i = getRank(); i < rows; i++)
+            if (!isZero(augmented[i][cols]))
+                return Solution.unsolvable(getEquationSystem());
+        if (getRank() < cols)
+            return Solution.infinite(getEquationSystem());
+        return Solution.single(getEquationSystem(), backSubstitute());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec transposes {@link #getWorking()} equation system
+     * if {@link #getEquationSystem()} has a row vector and
+     * copies it into the augmented working array
+     * @since 1.2.0
+     */
+    @Override
+    @SuppressWarnings("unchecked") // only stores T
+    protected void reset() {
+        LinearEquationSystem<T> equationSystem = getEquationSystem();
+        if (equationSystem.getVector().isRow())
+            setWorking(new LinearEquationSystem<>(
+                equationSystem.getMatrix().transpose(),
+                equationSystem.getVector().transpose()
+            ));
+        else super.reset();
+        LinearEquationSystem.LinearEquationMatrix<T> matrix = getWorking().getMatrix();
+        augmented = (T[][]) new Number[matrix.getRows()][matrix.getCols() + 1];
+        for (int r = 0; r < matrix.getRows(); r++) {
+            for (int c = 0; c < matrix.getCols(); c++)
+                augmented[r][c] = matrix.getValue(r, c);
+            augmented[r][matrix.getCols()] = getWorking().getVector().getValue(r);
+        }
+        rank = 0;
+    }
+
+    // region eliminate and backSubstitute
+
+    /**
+     * fraction-free forward elimination which creates a row echelon form
+     * and sets {@link #getRank()}
+     *
+     * @since 1.2.0
+     */
+    protected void eliminate() {
+        int rows = augmented.length;
+        int cols = augmented[0].length - 1;
+        T previous = getArithmetic().one();
+        rank = 0;
+        for (int col = 0; col < cols && rank < rows; col++) {
+            int pivotRow = rank;
+            while (pivotRow < rows && isZero(augmented[pivotRow][col])) pivotRow++;
+            if (pivotRow == rows) continue;
+            swapRows(rank, pivotRow);
+            T pivot = augmented[rank][col];
+            for (int r = rank + 1; r < rows; r++) {
+                T factor = augmented[r][col];
+                for (int c = col + 1; c <= cols; c++)
+                    augmented[r][c] = getArithmetic().quotient(
+                        getArithmetic().difference(
+                            getArithmetic().product(pivot, augmented[r][c]),
+                            getArithmetic().product(factor, augmented[rank][c])
+                        ), previous
+                    );
+                augmented[r][col] = getArithmetic().zero();
+            }
+            previous = pivot;
+            rank++;
+        }
+    }
+
+    /**
+     * fraction-free back substitution which calculates
+     * {@code y_i = det * x_i} and divides by {@code det} only at the end
+     *
+     * @return exact rational solution
+     * @implSpec pre: {@link #eliminate()} with full column rank
+     * @since 1.2.0
+     */
+    @NotNull
+    protected List<Fraction<T, V>> backSubstitute() {
+        int n = getRank();
+        int cols = augmented[0].length - 1;
+        T determinante = augmented[n - 1][n - 1];
+        List<T> numerators = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) numerators.add(getArithmetic().zero());
+        for (int i = n - 1; 0 <= i; i--) {
+            T sum = getArithmetic().product(determinante, augmented[i][cols]);
+            for (int j = i + 1; j < n; j++)
+                sum = getArithmetic().difference(sum,
+                    getArithmetic().product(augmented[i][j], numerators.get(j))
+                );
+            numerators.set(i, getArithmetic().quotient(sum, augmented[i][i]));
+        }
+        List<Fraction<T, V>> solution = new ArrayList<>(n);
+        for (T numerator : numerators)
+            solution.add(new Fraction<>(getResultArithmetic(), numerator, determinante).simplify());
+        return solution;
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BareissSolver)) return false;
+        if (!super.equals(o)) return false;
+        BareissSolver<?, ?> that = (BareissSolver<?, ?>) o;
+        return Objects.equals(getResultArithmetic(), that.getResultArithmetic());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getResultArithmetic());
+    }
+
+    // endregion
+
+    // region private
+
+    private boolean isZero(@NotNull T t) {
+        return getArithmetic().isZero(t);
+    }
+
+    private void swapRows(int row1, int row2) {
+        if (row1 == row2) return;
+        T[] tmp = augmented[row1];
+        augmented[row1] = augmented[row2];
+        augmented[row2] = tmp;
+    }
+
+    // endregion
+}
@@ -0,0 +1,102 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.AbstractIterativeLinearSolver;
+import io.rala.math.algebra.equation.linear.AbstractPreconditioner;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.vector.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * solves a {@link LinearEquationSystem} based on the (preconditioned)
+ * biconjugate gradient stabilized method
+ * <p>
+ * the solution contains the last iterate -
+ * {@link #getStatus()} reports if the method did not converge
+ * within {@link #getMaxIterations()} or broke down
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class BiCGStabSolver<T extends Number> extends AbstractIterativeLinearSolver<T> {
+    /**
+     * creates a new BiCGStabSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public BiCGStabSolver(@NotNull LinearEquationSystem<T> equationSystem) {
+        super(equationSystem);
+    }
+
+    /**
+     * creates a new BiCGStabSolver based on a {@link LinearEquationSystem}
+     * using given {@link AbstractPreconditioner}
+     *
+     * @param equationSystem equation system to solve
+     * @param preconditioner preconditioner or {@code null}
+     * @throws IllegalArgumentException if preconditioner size does not match
+     * @since 1.2.0
+     */
+    public BiCGStabSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @Nullable AbstractPreconditioner<T> preconditioner
+    ) {
+        super(equationSystem, preconditioner);
+    }
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<T>, T> solve() {
+        reset();
+        startPhase(SolverMetrics.Phase.ELIMINATE);
+        Vector<T> r = getWorkingVector().copy();
+        Vector<T> x = new Vector<>(getArithmetic(), r.getSize(), r.getType());
+        T bb = dotProduct(r, r);
+        if (isZero(bb)) return toSingleSolution(x, Status.CONVERGED);
+        Vector<T> shadow = r.copy();
+        Vector<T> p = null;
+        Vector<T> v = null;
+        T rho = getArithmetic().one();
+        T alpha = getArithmetic().one();
+        T omega = getArithmetic().one();
+        while (getIterations() < getMaxIterations()) {
+            setIterations(getIterations() + 1);
+            T rhoNew = dotProduct(shadow, r);
+            if (isZero(rhoNew)) return toSingleSolution(x, Status.BREAKDOWN);
+            if (p == null) p = r.copy();
+            else {
+                T beta = getArithmetic().product(
+                    getArithmetic().quotient(rhoNew, rho),
+                    getArithmetic().quotient(alpha, omega)
+                );
+                p.axpy(getArithmetic().negate(omega), v);
+                p.addScaled(beta, getArithmetic().one(), r);
+            }
+            Vector<T> y = precondition(p);
+            v = multiplyWorkingMatrix(y);
+            T shadowV = dotProduct(shadow, v);
+            if (isZero(shadowV)) return toSingleSolution(x, Status.BREAKDOWN);
+            alpha = getArithmetic().quotient(rhoNew, shadowV);
+            x.axpy(alpha, y);
+            // r becomes s = r - alpha * v
+            r.axpy(getArithmetic().negate(alpha), v);
+            if (isConverged(dotProduct(r, r), bb))
+                return toSingleSolution(x, Status.CONVERGED);
+            Vector<T> z = precondition(r);
+            Vector<T> t = multiplyWorkingMatrix(z);
+            T tt = dotProduct(t, t);
+            if (isZero(tt)) return toSingleSolution(x, Status.BREAKDOWN);
+            omega = getArithmetic().quotient(dotProduct(t, r), tt);
+            x.axpy(omega, z);
+            r.axpy(getArithmetic().negate(omega), t);
+            if (isConverged(dotProduct(r, r), bb))
+                return toSingleSolution(x, Status.CONVERGED);
+            if (isZero(omega)) return toSingleSolution(x, Status.BREAKDOWN);
+            rho = rhoNew;
+        }
+        return toSingleSolution(x, Status.MAX_ITERATIONS);
+    }
+}
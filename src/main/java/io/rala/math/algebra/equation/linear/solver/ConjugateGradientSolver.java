@@ -0,0 +1,79 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.AbstractIterativeLinearSolver;
+import io.rala.math.algebra.equation.linear.AbstractPreconditioner;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.vector.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * solves a symmetric positive definite {@link LinearEquationSystem}
+ * based on the (preconditioned) conjugate gradient method
+ * <p>
+ * the solution contains the last iterate -
+ * {@link #getStatus()} reports if the method did not converge
+ * within {@link #getMaxIterations()} or broke down
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class ConjugateGradientSolver<T extends Number> extends AbstractIterativeLinearSolver<T> {
+    /**
+     * creates a new ConjugateGradientSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public ConjugateGradientSolver(@NotNull LinearEquationSystem<T> equationSystem) {
+        super(equationSystem);
+    }
+
+    /**
+     * creates a new ConjugateGradientSolver based on a {@link LinearEquationSystem}
+     * using given {@link AbstractPreconditioner}
+     *
+     * @param equationSystem equation system to solve
+     * @param preconditioner symmetric positive definite preconditioner or {@code null}
+     * @throws IllegalArgumentException if preconditioner size does not match
+     * @since 1.2.0
+     */
+    public ConjugateGradientSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @Nullable AbstractPreconditioner<T> preconditioner
+    ) {
+        super(equationSystem, preconditioner);
+    }
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<T>, T> solve() {
+        reset();
+        startPhase(SolverMetrics.Phase.ELIMINATE);
+        Vector<T> r = getWorkingVector().copy();
+        Vector<T> x = new Vector<>(getArithmetic(), r.getSize(), r.getType());
+        T bb = dotProduct(r, r);
+        if (isZero(bb)) return toSingleSolution(x, Status.CONVERGED);
+        Vector<T> z = precondition(r);
+        Vector<T> p = z.copy();
+        T rz = dotProduct(r, z);
+        while (getIterations() < getMaxIterations()) {
+            setIterations(getIterations() + 1);
+            Vector<T> ap = multiplyWorkingMatrix(p);
+            T pAp = dotProduct(p, ap);
+            if (isZero(pAp)) return toSingleSolution(x, Status.BREAKDOWN);
+            T alpha = getArithmetic().quotient(rz, pAp);
+            x.axpy(alpha, p);
+            r.axpy(getArithmetic().negate(alpha), ap);
+            if (isConverged(dotProduct(r, r), bb))
+                return toSingleSolution(x, Status.CONVERGED);
+            z = precondition(r);
+            T rzNew = dotProduct(r, z);
+            p.addScaled(getArithmetic().quotient(rzNew, rz), getArithmetic().one(), z);
+            rz = rzNew;
+        }
+        return toSingleSolution(x, Status.MAX_ITERATIONS);
+    }
+}
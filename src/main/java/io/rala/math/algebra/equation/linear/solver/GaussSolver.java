@@ -1,6 +1,7 @@
 package io.rala.math.algebra.equation.linear.solver;
 
 import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
 import io.rala.math.algebra.equation.linear.AbstractLinearSolver;
 import io.rala.math.algebra.equation.linear.LinearEquationSystem;
 import org.jetbrains.annotations.NotNull;
@@ -43,20 +44,22 @@ public class GaussSolver<T extends Number> extends AbstractLinearSolver<T> {
     @NotNull
     public Solution<LinearEquationSystem<T>, T> solve() {
         reset();
+        startPhase(SolverMetrics.Phase.ELIMINATE);
         prepareMatrix();
         if (hasNoSolutions())
-            return Solution.unsolvable(getEquationSystem());
+            return complete(Solution.unsolvable(getEquationSystem()));
         if (getWorkingMatrix().getRows() < getWorkingMatrix().getCols())
-            return Solution.infinite(getEquationSystem());
+            return complete(Solution.infinite(getEquationSystem()));
+        startPhase(SolverMetrics.Phase.BACK_SUBSTITUTE);
         solveBottomUp();
         if (hasInfiniteSolutions())
-            return Solution.infinite(getEquationSystem());
+            return complete(Solution.infinite(getEquationSystem()));
         if (!getSwappedCols().isEmpty()) {
             reSwapCols();
             sortRows();
         }
         if (hasInfiniteSolutions())
-            return Solution.infinite(getEquationSystem());
+            return complete(Solution.infinite(getEquationSystem()));
         return toSingleSolution();
     }
 
@@ -93,6 +96,7 @@ public class GaussSolver<T extends Number> extends AbstractLinearSolver<T> {
             for (int j = i + 1; j < getWorkingMatrix().getRows(); j++)
                 if (!isZeroRow(j)) {
                     setWorkingEquationSystem(getWorking().swapRows(i, j));
+                    recordRowSwap();
                     break;
                 }
         }
@@ -116,12 +120,14 @@ public class GaussSolver<T extends Number> extends AbstractLinearSolver<T> {
         for (int i = rowIndex + 1; i < getWorkingMatrix().getRows(); i++)
             if (!isZero(col.get(i))) {
                 setWorkingEquationSystem(getWorking().swapRows(rowIndex, i));
+                recordRowSwap();
                 return;
             } else if (isZeroRow(i)) break;
         for (int i = rowIndex + 1; i < getWorkingMatrix().getCols(); i++)
             if (!isZero(row.get(i))) {
                 setWorkingEquationSystem(getWorking().swapCols(rowIndex, i));
                 getSwappedCols().add(new ColPair(rowIndex, i));
+                recordColSwap();
                 return;
             }
     }
@@ -192,6 +198,7 @@ public class GaussSolver<T extends Number> extends AbstractLinearSolver<T> {
         while (!getSwappedCols().isEmpty()) {
             ColPair pop = getSwappedCols().pop();
             setWorkingEquationSystem(getWorking().swapCols(pop.getCol1(), pop.getCol2()));
+            recordColSwap();
         }
     }
 
@@ -206,8 +213,10 @@ public class GaussSolver<T extends Number> extends AbstractLinearSolver<T> {
             if (isZeroRow(i) || !isZero(getWorkingMatrix().getRow(i).get(i)))
                 continue;
             for (int j = i + 1; j < getWorkingMatrix().getRows(); j++)
-                if (!isZero(getWorkingMatrix().getRow(j).get(i)))
+                if (!isZero(getWorkingMatrix().getRow(j).get(i))) {
                     setWorkingEquationSystem(getWorking().swapRows(i, j));
+                    recordRowSwap();
+                }
         }
     }
 
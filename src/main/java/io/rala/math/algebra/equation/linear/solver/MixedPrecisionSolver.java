@@ -0,0 +1,223 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.AbstractLinearSolver;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.decomposition.DoubleLUDecomposition;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.arithmetic.core.BigDecimalArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * solves a {@link BigDecimal} {@link LinearEquationSystem}
+ * based on mixed-precision iterative refinement
+ * <p>
+ * the matrix is decomposed once by a {@link DoubleLUDecomposition}.
+ * Each iteration calculates the residual {@code r=b-A*x}
+ * with the {@link MathContext} of the {@link BigDecimalArithmetic}
+ * and corrects {@code x} by the solution of {@code A*d=r}
+ * using the {@code double} decomposition.
+ * The refinement stops as soon as the correction only affects
+ * the last digit of the precision of the {@link MathContext}.
+ * <p>
+ * if the system is not square, the decomposition is singular,
+ * the precision is unlimited or the refinement does not converge
+ * it is solved by {@link GaussSolver} using {@link BigDecimal}
+ *
+ * @since 1.2.0
+ */
+public class MixedPrecisionSolver extends AbstractLinearSolver<BigDecimal> {
+    /**
+     * default value of {@link #getMaxIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 30;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_MAX_ITERATIONS =
+        "max iterations have to be greater than 0";
+    // endregion
+
+    // region attributes
+
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private int iterations;
+    private boolean fallbackUsed;
+
+    // endregion
+
+    /**
+     * creates a new MixedPrecisionSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public MixedPrecisionSolver(@NotNull LinearEquationSystem<BigDecimal> equationSystem) {
+        super(equationSystem);
+    }
+
+    // region getter and setter
+
+    /**
+     * @return {@link BigDecimalArithmetic#getMathContext()}
+     * or {@link MathContext#DECIMAL64} if arithmetic has none
+     * @since 1.2.0
+     */
+    @NotNull
+    public MathContext getMathContext() {
+        AbstractArithmetic<BigDecimal> arithmetic = getEquationSystem().getMatrix().getArithmetic();
+        return arithmetic instanceof BigDecimalArithmetic ?
+            ((BigDecimalArithmetic) arithmetic).getMathContext() :
+            MathContext.DECIMAL64;
+    }
+
+    /**
+     * @return max amount of refinement iterations
+     * @since 1.2.0
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * @param maxIterations new max amount of refinement iterations
+     * @throws IllegalArgumentException if maxIterations is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_ITERATIONS);
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return refinement iterations of last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return {@code true} if last {@link #solve()} used {@link GaussSolver}
+     * @since 1.2.0
+     */
+    public boolean isFallbackUsed() {
+        return fallbackUsed;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<BigDecimal>, BigDecimal> solve() {
+        reset();
+        MathContext context = getMathContext();
+        if (!getWorkingMatrix().isSquare() || context.getPrecision() == 0)
+            return solveWithGauss();
+        DoubleLUDecomposition decomposition = new DoubleLUDecomposition(getWorkingMatrix());
+        if (decomposition.isSingular()) return solveWithGauss();
+        startPhase(SolverMetrics.Phase.ELIMINATE);
+        int size = decomposition.getSize();
+        BigDecimal[] x = new BigDecimal[size];
+        for (int i = 0; i < size; i++) x[i] = BigDecimal.ZERO;
+        BigDecimal epsilon = BigDecimal.ONE.scaleByPowerOfTen(1 - context.getPrecision());
+        double previous = Double.POSITIVE_INFINITY;
+        while (iterations < getMaxIterations()) {
+            iterations++;
+            double[] residual = calculateResidual(x, context);
+            double[] correction = decomposition.solve(residual);
+            double norm = maxNorm(correction);
+            if (norm == 0) return toSolution(x);
+            if (!Double.isFinite(norm)) break;
+            if (new BigDecimal(norm).compareTo(maxNorm(x).multiply(epsilon, context)) <= 0)
+                return toSolution(x);
+            if (previous <= norm) break;
+            for (int i = 0; i < size; i++)
+                x[i] = x[i].add(new BigDecimal(correction[i]), context);
+            previous = norm;
+        }
+        return solveWithGauss();
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        iterations = 0;
+        fallbackUsed = false;
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MixedPrecisionSolver)) return false;
+        if (!super.equals(o)) return false;
+        MixedPrecisionSolver that = (MixedPrecisionSolver) o;
+        return getMaxIterations() == that.getMaxIterations();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getMaxIterations());
+    }
+
+    // endregion
+
+    // region private
+
+    /**
+     * @return {@code b-A*x} - products are exact,
+     * the sum is rounded once by {@code context}
+     */
+    private double @NotNull [] calculateResidual(BigDecimal @NotNull [] x, @NotNull MathContext context) {
+        double[] residual = new double[x.length];
+        for (int r = 0; r < x.length; r++) {
+            BigDecimal sum = getWorkingVector().getValue(r);
+            for (int c = 0; c < x.length; c++) {
+                BigDecimal value = getWorkingMatrix().getValue(r, c);
+                if (value.signum() != 0 && x[c].signum() != 0)
+                    sum = sum.subtract(value.multiply(x[c]));
+            }
+            residual[r] = sum.round(context).doubleValue();
+        }
+        return residual;
+    }
+
+    @NotNull
+    private Solution<LinearEquationSystem<BigDecimal>, BigDecimal> toSolution(BigDecimal @NotNull [] x) {
+        List<BigDecimal> solution = new ArrayList<>(x.length);
+        for (BigDecimal value : x) solution.add(value.round(getMathContext()));
+        return complete(Solution.single(getEquationSystem(), solution));
+    }
+
+    @NotNull
+    private Solution<LinearEquationSystem<BigDecimal>, BigDecimal> solveWithGauss() {
+        fallbackUsed = true;
+        return solveWith(new GaussSolver<>(getEquationSystem()));
+    }
+
+    private static double maxNorm(double @NotNull [] values) {
+        double max = 0;
+        for (double value : values) max = Math.max(max, Math.abs(value));
+        return max;
+    }
+
+    @NotNull
+    private static BigDecimal maxNorm(BigDecimal @NotNull [] values) {
+        BigDecimal max = BigDecimal.ZERO;
+        for (BigDecimal value : values) max = max.max(value.abs());
+        return max;
+    }
+
+    // endregion
+}
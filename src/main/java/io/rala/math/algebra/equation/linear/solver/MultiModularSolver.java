@@ -0,0 +1,142 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.AbstractSolver;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.MultiModularEngine;
+import io.rala.math.algebra.numeric.Fraction;
+import io.rala.math.arithmetic.result.BigIntegerBigDecimalResultArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * solves a {@link BigInteger} {@link LinearEquationSystem}
+ * based on a {@link MultiModularEngine}
+ * <p>
+ * square non-singular systems are solved modulo many primes
+ * which results in {@code det(A)*x} - so the exact solution is
+ * {@code x_i = y_i / det(A)}.
+ * All other systems are delegated to the {@link BareissSolver}
+ *
+ * @since 1.2.0
+ */
+public class MultiModularSolver
+    extends AbstractSolver<LinearEquationSystem<BigInteger>, Fraction<BigInteger, BigDecimal>> {
+    // region attributes
+
+    private final MultiModularEngine engine;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new MultiModularSolver based on a {@link LinearEquationSystem}
+     * using a sequential {@link MultiModularEngine}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public MultiModularSolver(@NotNull LinearEquationSystem<BigInteger> equationSystem) {
+        this(equationSystem, new MultiModularEngine());
+    }
+
+    /**
+     * creates a new MultiModularSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @param engine         engine to use
+     * @since 1.2.0
+     */
+    public MultiModularSolver(
+        @NotNull LinearEquationSystem<BigInteger> equationSystem,
+        @NotNull MultiModularEngine engine
+    ) {
+        super(equationSystem);
+        this.engine = engine;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return engine of solver
+     * @since 1.2.0
+     */
+    @NotNull
+    public MultiModularEngine getEngine() {
+        return engine;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<BigInteger>, Fraction<BigInteger, BigDecimal>> solve() {
+        reset();
+        Matrix<BigInteger> matrix = getWorking().getMatrix();
+        if (!matrix.isSquare()) return solveWithBareiss();
+        BigInteger determinante = getEngine().determinante(matrix);
+        if (determinante.signum() == 0) return solveWithBareiss();
+        List<BigInteger> scaled = getEngine()
+            .solveScaled(matrix, getWorking().getVector(), determinante);
+        return Solution.single(getEquationSystem(), scaled.stream()
+            .map(value -> new Fraction<>(
+                BigIntegerBigDecimalResultArithmetic.getInstance(), value, determinante
+            ).simplify())
+            .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec transposes {@link #getWorking()} equation system
+     * if {@link #getEquationSystem()} has a row vector
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        LinearEquationSystem<BigInteger> equationSystem = getEquationSystem();
+        if (equationSystem.getVector().isRow())
+            setWorking(new LinearEquationSystem<>(
+                equationSystem.getMatrix().transpose(),
+                equationSystem.getVector().transpose()
+            ));
+        else super.reset();
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MultiModularSolver)) return false;
+        if (!super.equals(o)) return false;
+        MultiModularSolver that = (MultiModularSolver) o;
+        return Objects.equals(getEngine(), that.getEngine());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getEngine());
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private Solution<LinearEquationSystem<BigInteger>, Fraction<BigInteger, BigDecimal>> solveWithBareiss() {
+        return getEquationSystem().solveWithBareiss(BigIntegerBigDecimalResultArithmetic.getInstance());
+    }
+
+    // endregion
+}
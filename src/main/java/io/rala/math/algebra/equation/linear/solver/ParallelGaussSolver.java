@@ -0,0 +1,335 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * solves a {@link LinearEquationSystem} based on Gauss
+ * using a {@link ForkJoinPool} for the elimination
+ * <p>
+ * pivot selection stays serial, while the updates of all rows below
+ * the pivot row are split across the pool.
+ * Systems with less than {@link #getSequentialCutoff()} rows
+ * and non-square systems are solved by {@link GaussSolver}.
+ * If a column has no pivot (singular system) the partially eliminated system
+ * is solved by {@link GaussSolver} - keeping the work and metrics done so far
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class ParallelGaussSolver<T extends Number> extends GaussSolver<T> {
+    // region protected exception messages
+    protected static final String EXCEPTION_CUTOFF_NEGATIVE =
+        "sequential cutoff has to be greater or equal to 0";
+    // endregion
+
+    /**
+     * default value of {@link #getSequentialCutoff()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 64;
+
+    // region attributes
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+    private T[][] augmented;
+    private boolean[][] zeroPattern;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new ParallelGaussSolver based on a {@link LinearEquationSystem}
+     * using {@link ForkJoinPool#commonPool()}
+     * and {@link #DEFAULT_SEQUENTIAL_CUTOFF}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public ParallelGaussSolver(@NotNull LinearEquationSystem<T> equationSystem) {
+        this(equationSystem, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * creates a new ParallelGaussSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem   equation system to solve
+     * @param pool             pool to use for elimination
+     * @param sequentialCutoff rows below which {@link GaussSolver} is used
+     * @throws IllegalArgumentException if sequentialCutoff is negative
+     * @since 1.2.0
+     */
+    public ParallelGaussSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @NotNull ForkJoinPool pool, int sequentialCutoff
+    ) {
+        super(equationSystem);
+        if (sequentialCutoff < 0)
+            throw new IllegalArgumentException(EXCEPTION_CUTOFF_NEGATIVE);
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return pool used for elimination
+     * @since 1.2.0
+     */
+    @NotNull
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return rows below which {@link GaussSolver} is used
+     * @since 1.2.0
+     */
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<T>, T> solve() {
+        reset();
+        int size = getWorkingMatrix().getRows();
+        if (size < getSequentialCutoff() || !getWorkingMatrix().isSquare())
+            return super.solve();
+        copyToAugmented();
+        startPhase(SolverMetrics.Phase.ELIMINATE);
+        for (int k = 0; k < size; k++) {
+            int pivotRow = findPivotRow(k);
+            if (pivotRow < 0) return solveRemaining();
+            swapRows(k, pivotRow);
+            eliminateBelow(k);
+        }
+        if (zeroPattern != null) recordAugmentedMetrics();
+        startPhase(SolverMetrics.Phase.BACK_SUBSTITUTE);
+        return complete(Solution.single(getEquationSystem(), substituteBackwards()));
+    }
+
+    // region eliminate
+
+    /**
+     * @param col current column
+     * @return row with the greatest absolute value in {@code col}
+     * starting at {@code col} or {@code -1} if all are {@code 0}
+     * @implSpec uses first non-zero value if values are not comparable
+     * @since 1.2.0
+     */
+    protected int findPivotRow(int col) {
+        int pivotRow = -1;
+        T pivot = null;
+        for (int row = col; row < augmented.length; row++) {
+            T value = augmented[row][col];
+            if (isZero(value)) continue;
+            T absolute;
+            try {
+                absolute = getArithmetic().absolute(value);
+                if (pivot != null && getArithmetic().compare(absolute, pivot) <= 0)
+                    continue;
+            } catch (NotSupportedException e) {
+                return pivotRow < 0 ? row : pivotRow;
+            }
+            pivotRow = row;
+            pivot = absolute;
+        }
+        return pivotRow;
+    }
+
+    /**
+     * eliminates all values below pivot of {@code col}
+     * by splitting the rows across {@link #getPool()}
+     *
+     * @param col current column
+     * @since 1.2.0
+     */
+    protected void eliminateBelow(int col) {
+        int rows = augmented.length - col - 1;
+        if (rows <= 0) return;
+        int threshold = Math.max(1, rows / (getPool().getParallelism() * 4));
+        getPool().invoke(new EliminationTask(col, col + 1, augmented.length, threshold));
+    }
+
+    // endregion
+
+    @Override
+    protected void reset() {
+        super.reset();
+        augmented = null;
+        zeroPattern = null;
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ParallelGaussSolver)) return false;
+        if (!super.equals(o)) return false;
+        ParallelGaussSolver<?> that = (ParallelGaussSolver<?>) o;
+        return getSequentialCutoff() == that.getSequentialCutoff() &&
+            getPool().equals(that.getPool());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getPool(), getSequentialCutoff());
+    }
+
+    // endregion
+
+    // region private
+
+    @SuppressWarnings("unchecked") // only stores T
+    private void copyToAugmented() {
+        int size = getWorkingMatrix().getRows();
+        augmented = (T[][]) new Number[size][size + 1];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++)
+                augmented[r][c] = getWorkingMatrix().getValue(r, c);
+            augmented[r][size] = getWorkingVector().getValue(r);
+        }
+        if (!isMetricsEnabled()) return;
+        AbstractArithmetic<T> arithmetic = getEquationSystem().getMatrix().getArithmetic();
+        zeroPattern = new boolean[size][size + 1];
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++)
+                zeroPattern[r][c] = arithmetic.isZero(augmented[r][c]);
+    }
+
+    private void swapRows(int row1, int row2) {
+        if (row1 == row2) return;
+        recordRowSwap();
+        T[] tmp = augmented[row1];
+        augmented[row1] = augmented[row2];
+        augmented[row2] = tmp;
+        if (zeroPattern == null) return;
+        boolean[] zeros = zeroPattern[row1];
+        zeroPattern[row1] = zeroPattern[row2];
+        zeroPattern[row2] = zeros;
+    }
+
+    /**
+     * records non-zero values and fill-in of {@link #augmented}
+     * - not counted as operations
+     */
+    private void recordAugmentedMetrics() {
+        AbstractArithmetic<T> arithmetic = getEquationSystem().getMatrix().getArithmetic();
+        long nonZeros = 0;
+        long fillIn = 0;
+        for (int r = 0; r < augmented.length; r++)
+            for (int c = 0; c < augmented[r].length; c++) {
+                if (arithmetic.isZero(augmented[r][c])) continue;
+                nonZeros++;
+                if (zeroPattern[r][c]) fillIn++;
+            }
+        recordWorkingSetSize(nonZeros);
+        recordFillIn(fillIn);
+    }
+
+    private void eliminateRow(int col, int row) {
+        T[] pivotRow = augmented[col];
+        T[] current = augmented[row];
+        if (isZero(current[col])) return;
+        T factor = getArithmetic().quotient(current[col], pivotRow[col]);
+        for (int c = col + 1; c < current.length; c++)
+            current[c] = getArithmetic().difference(current[c],
+                getArithmetic().product(factor, pivotRow[c])
+            );
+        current[col] = getArithmetic().zero();
+    }
+
+    /**
+     * solves the partially eliminated {@link #augmented} system -
+     * which has the same solutions as the original one - by {@link GaussSolver}
+     */
+    @NotNull
+    private Solution<LinearEquationSystem<T>, T> solveRemaining() {
+        if (zeroPattern != null) recordAugmentedMetrics();
+        AbstractArithmetic<T> arithmetic = getEquationSystem().getMatrix().getArithmetic();
+        int size = augmented.length;
+        Matrix<T> matrix = new Matrix<>(arithmetic, size);
+        Vector<T> vector = new Vector<>(arithmetic, size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) matrix.setValue(r, c, augmented[r][c]);
+            vector.setValue(r, augmented[r][size]);
+        }
+        Solution<LinearEquationSystem<T>, T> solution =
+            solveWith(new GaussSolver<>(new LinearEquationSystem<>(matrix, vector)));
+        return new Solution<>(getEquationSystem(),
+            solution.getSolution(), solution.getState(), solution.getMetrics()
+        );
+    }
+
+    @NotNull
+    private List<T> substituteBackwards() {
+        int size = augmented.length;
+        List<T> solution = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) solution.add(getArithmetic().zero());
+        for (int i = size - 1; 0 <= i; i--) {
+            T sum = augmented[i][size];
+            for (int j = i + 1; j < size; j++)
+                sum = getArithmetic().difference(sum,
+                    getArithmetic().product(augmented[i][j], solution.get(j))
+                );
+            solution.set(i, getArithmetic().quotient(sum, augmented[i][i]));
+        }
+        return solution;
+    }
+
+    /**
+     * eliminates rows {@code [from, to)} and splits them while
+     * they are more than {@code threshold}
+     */
+    private class EliminationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int col;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private EliminationTask(int col, int from, int to, int threshold) {
+            this.col = col;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int row = from; row < to; row++) eliminateRow(col, row);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new EliminationTask(col, from, middle, threshold),
+                new EliminationTask(col, middle, to, threshold)
+            );
+        }
+    }
+
+    // endregion
+}
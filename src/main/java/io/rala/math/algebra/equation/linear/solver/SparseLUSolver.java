@@ -0,0 +1,362 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.AbstractLinearSolver;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.Matrix;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * solves a sparse square {@link LinearEquationSystem} based on
+ * a sparse LU decomposition with a fill-reducing {@link Ordering}
+ * <p>
+ * the solver runs in three phases:
+ * <ol>
+ *     <li>ordering: symmetric permutation of the pattern of {@code A+A^T}</li>
+ *     <li>symbolic analysis: elimination of the graph to get
+ *     the pattern of {@code L+U} including its fill-in</li>
+ *     <li>numeric factorization: LU decomposition restricted to this pattern</li>
+ * </ol>
+ * the numeric factorization does not pivot -
+ * if a pivot is {@code 0} or the system is not square
+ * it is solved by {@link GaussSolver}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class SparseLUSolver<T extends Number> extends AbstractLinearSolver<T> {
+    // region attributes
+
+    private final Ordering ordering;
+    private int[] permutation;
+    private int[][] rowPattern;
+    private Matrix<T> factor;
+    private long nonZeros;
+    private long fillIn;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new SparseLUSolver based on a {@link LinearEquationSystem}
+     * using {@link Ordering#MINIMUM_DEGREE}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public SparseLUSolver(@NotNull LinearEquationSystem<T> equationSystem) {
+        this(equationSystem, Ordering.MINIMUM_DEGREE);
+    }
+
+    /**
+     * creates a new SparseLUSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @param ordering       fill-reducing ordering to use
+     * @since 1.2.0
+     */
+    public SparseLUSolver(
+        @NotNull LinearEquationSystem<T> equationSystem,
+        @NotNull Ordering ordering
+    ) {
+        super(equationSystem);
+        this.ordering = ordering;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return ordering of solver
+     * @since 1.2.0
+     */
+    @NotNull
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * @return permutation of last {@link #solve()}:
+     * {@code permutation[i]} is the original index of row and col {@code i}
+     * or an empty array if the system was not factorized
+     * @since 1.2.0
+     */
+    public int @NotNull [] getPermutation() {
+        return permutation == null ? new int[0] : permutation.clone();
+    }
+
+    /**
+     * @return non-zero values of {@code A} of last {@link #solve()}
+     * @since 1.2.0
+     */
+    public long getNonZeros() {
+        return nonZeros;
+    }
+
+    /**
+     * @return values of {@code L+U} of last {@link #solve()}
+     * which are {@code 0} in {@code A}
+     * @since 1.2.0
+     */
+    public long getFillIn() {
+        return fillIn;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<T>, T> solve() {
+        reset();
+        if (!getWorkingMatrix().isSquare())
+            return solveWith(new GaussSolver<>(getEquationSystem()));
+        List<Set<Integer>> graph = createGraph();
+        permutation = getOrdering().order(graph);
+        analyzeSymbolic(graph);
+        recordFillIn(getFillIn());
+        recordWorkingSetSize(getNonZeros() + getFillIn());
+        startPhase(SolverMetrics.Phase.ELIMINATE);
+        if (!factorizeNumeric())
+            return solveWith(new GaussSolver<>(getEquationSystem()));
+        startPhase(SolverMetrics.Phase.BACK_SUBSTITUTE);
+        return complete(Solution.single(getEquationSystem(), substitute()));
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        permutation = null;
+        rowPattern = null;
+        factor = null;
+        nonZeros = 0;
+        fillIn = 0;
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SparseLUSolver)) return false;
+        if (!super.equals(o)) return false;
+        SparseLUSolver<?> that = (SparseLUSolver<?>) o;
+        return getOrdering() == that.getOrdering();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getOrdering());
+    }
+
+    // endregion
+
+    // region phases
+
+    /**
+     * @return adjacency of the pattern of {@code A+A^T} without diagonal
+     * - only non-zero fields are visited
+     */
+    @NotNull
+    private List<Set<Integer>> createGraph() {
+        int size = getWorkingMatrix().getRows();
+        List<Set<Integer>> graph = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) graph.add(new TreeSet<>());
+        for (Matrix<T>.Field field : getWorkingMatrix().getNonZeroFields()) {
+            nonZeros++;
+            if (field.getRow() == field.getCol()) continue;
+            graph.get(field.getRow()).add(field.getCol());
+            graph.get(field.getCol()).add(field.getRow());
+        }
+        return graph;
+    }
+
+    /**
+     * eliminates the permuted graph to get the pattern of {@code L+U}
+     */
+    private void analyzeSymbolic(@NotNull List<Set<Integer>> graph) {
+        int size = permutation.length;
+        int[] inverse = new int[size];
+        for (int i = 0; i < size; i++) inverse[permutation[i]] = i;
+        List<NavigableSet<Integer>> filled = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            NavigableSet<Integer> set = new TreeSet<>();
+            for (int neighbour : graph.get(permutation[i])) set.add(inverse[neighbour]);
+            set.add(i);
+            filled.add(set);
+        }
+        for (int k = 0; k < size; k++) {
+            NavigableSet<Integer> higher = filled.get(k).tailSet(k, false);
+            for (int neighbour : higher) filled.get(neighbour).addAll(higher);
+        }
+        rowPattern = filled.stream()
+            .map(set -> set.stream().mapToInt(Integer::intValue).toArray())
+            .toArray(int[][]::new);
+        fillIn = Arrays.stream(rowPattern).mapToLong(pattern -> pattern.length).sum() - nonZeros;
+    }
+
+    /**
+     * @return {@code false} if a pivot is {@code 0}
+     */
+    private boolean factorizeNumeric() {
+        int size = permutation.length;
+        factor = new Matrix<>(getArithmetic(), size);
+        for (int i = 0; i < size; i++)
+            for (int j : rowPattern[i])
+                factor.setValue(i, j, getWorkingMatrix().getValue(permutation[i], permutation[j]));
+        for (int i = 0; i < size; i++) {
+            for (int k : rowPattern[i]) {
+                if (i <= k) break;
+                T multiplier = getArithmetic().quotient(factor.getValue(i, k), factor.getValue(k, k));
+                factor.setValue(i, k, multiplier);
+                if (isZero(multiplier)) continue;
+                for (int j : rowPattern[k])
+                    if (k < j) factor.compute(i, j,
+                        getArithmetic().product(multiplier, factor.getValue(k, j)),
+                        getArithmetic()::difference
+                    );
+            }
+            if (isZero(factor.getValue(i, i))) return false;
+        }
+        return true;
+    }
+
+    @NotNull
+    private List<T> substitute() {
+        int size = permutation.length;
+        List<T> y = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            T sum = getWorkingVector().getValue(permutation[i]);
+            for (int j : rowPattern[i]) {
+                if (i <= j) break;
+                sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), y.get(j))
+                );
+            }
+            y.add(sum);
+        }
+        List<T> solution = new ArrayList<>(Collections.nCopies(size, getArithmetic().zero()));
+        for (int i = size - 1; 0 <= i; i--) {
+            T sum = y.get(i);
+            for (int j : rowPattern[i])
+                if (i < j) sum = getArithmetic().difference(sum,
+                    getArithmetic().product(factor.getValue(i, j), y.get(j))
+                );
+            y.set(i, getArithmetic().quotient(sum, factor.getValue(i, i)));
+            solution.set(permutation[i], y.get(i));
+        }
+        return solution;
+    }
+
+    // endregion
+
+    /**
+     * fill-reducing symmetric orderings
+     *
+     * @since 1.2.0
+     */
+    public enum Ordering {
+        /**
+         * keeps the original order
+         *
+         * @since 1.2.0
+         */
+        NATURAL {
+            @Override
+            protected int @NotNull [] order(@NotNull List<? extends Set<Integer>> graph) {
+                return IntStream.range(0, graph.size()).toArray();
+            }
+        },
+        /**
+         * reverse Cuthill-McKee: breadth-first search starting at a node
+         * of minimum degree, visiting neighbours by increasing degree -
+         * reduces the bandwidth and so the profile of the factors
+         *
+         * @since 1.2.0
+         */
+        REVERSE_CUTHILL_MCKEE {
+            @Override
+            protected int @NotNull [] order(@NotNull List<? extends Set<Integer>> graph) {
+                int size = graph.size();
+                Comparator<Integer> byDegree = Comparator
+                    .<Integer>comparingInt(node -> graph.get(node).size())
+                    .thenComparingInt(Integer::intValue);
+                Integer[] nodes = IntStream.range(0, size).boxed()
+                    .sorted(byDegree).toArray(Integer[]::new);
+                boolean[] visited = new boolean[size];
+                int[] order = new int[size];
+                int count = 0;
+                for (int start : nodes) {
+                    if (visited[start]) continue;
+                    visited[start] = true;
+                    int head = count;
+                    order[count++] = start;
+                    while (head < count) {
+                        int node = order[head++];
+                        List<Integer> neighbours = new ArrayList<>();
+                        for (int neighbour : graph.get(node))
+                            if (!visited[neighbour]) neighbours.add(neighbour);
+                        neighbours.sort(byDegree);
+                        for (int neighbour : neighbours) {
+                            visited[neighbour] = true;
+                            order[count++] = neighbour;
+                        }
+                    }
+                }
+                for (int i = 0; i < size / 2; i++) {
+                    int tmp = order[i];
+                    order[i] = order[size - 1 - i];
+                    order[size - 1 - i] = tmp;
+                }
+                return order;
+            }
+        },
+        /**
+         * minimum degree: eliminates the node with the least neighbours
+         * in the current elimination graph next
+         *
+         * @since 1.2.0
+         */
+        MINIMUM_DEGREE {
+            @Override
+            protected int @NotNull [] order(@NotNull List<? extends Set<Integer>> graph) {
+                int size = graph.size();
+                List<Set<Integer>> elimination = new ArrayList<>(size);
+                for (Set<Integer> neighbours : graph) elimination.add(new HashSet<>(neighbours));
+                TreeSet<int[]> queue = new TreeSet<>(
+                    Comparator.<int[]>comparingInt(entry -> entry[0]).thenComparingInt(entry -> entry[1])
+                );
+                for (int node = 0; node < size; node++)
+                    queue.add(new int[]{elimination.get(node).size(), node});
+                int[] order = new int[size];
+                for (int i = 0; i < size; i++) {
+                    int node = Objects.requireNonNull(queue.pollFirst())[1];
+                    order[i] = node;
+                    Set<Integer> neighbours = elimination.get(node);
+                    for (int neighbour : neighbours) {
+                        Set<Integer> set = elimination.get(neighbour);
+                        queue.remove(new int[]{set.size(), neighbour});
+                        set.remove(node);
+                        for (int other : neighbours)
+                            if (other != neighbour) set.add(other);
+                        queue.add(new int[]{set.size(), neighbour});
+                    }
+                    elimination.set(node, Collections.emptySet());
+                }
+                return order;
+            }
+        };
+
+        /**
+         * @param graph symmetric adjacency without diagonal
+         * @return permutation: {@code order[i]} is the node at position {@code i}
+         * @since 1.2.0
+         */
+        protected abstract int @NotNull [] order(@NotNull List<? extends Set<Integer>> graph);
+    }
+}
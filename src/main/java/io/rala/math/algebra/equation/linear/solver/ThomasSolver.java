@@ -0,0 +1,83 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.AbstractBandSolver;
+import io.rala.math.algebra.equation.linear.BandLinearEquationSystem;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * solves a tridiagonal {@link BandLinearEquationSystem}
+ * based on the Thomas algorithm in {@code O(n)}
+ * <p>
+ * the algorithm does not pivot -
+ * if a pivot is {@code 0} the system is solved by {@link BandLUSolver}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class ThomasSolver<T extends Number> extends AbstractBandSolver<T> {
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_TRIDIAGONAL =
+        "matrix has to be tridiagonal";
+    // endregion
+
+    /**
+     * creates a new ThomasSolver based on a {@link BandLinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public ThomasSolver(@NotNull BandLinearEquationSystem<T> equationSystem) {
+        super(equationSystem);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NotSupportedException if matrix is not tridiagonal
+     * @since 1.2.0
+     */
+    @Override
+    @NotNull
+    public Solution<BandLinearEquationSystem<T>, T> solve() {
+        reset();
+        BandMatrix<T> matrix = getWorkingMatrix();
+        if (1 < matrix.getLower() || 1 < matrix.getUpper())
+            throw new NotSupportedException(EXCEPTION_NO_TRIDIAGONAL);
+        int size = matrix.getSize();
+        T[] upper = newArray(size);
+        T[] values = newArray(size);
+        for (int i = 0; i < size; i++) {
+            T pivot = matrix.getValue(i, i);
+            T value = getWorkingVector().getValue(i);
+            if (0 < i) {
+                T lower = matrix.getValue(i, i - 1);
+                pivot = getArithmetic().difference(pivot, getArithmetic().product(lower, upper[i - 1]));
+                value = getArithmetic().difference(value, getArithmetic().product(lower, values[i - 1]));
+            }
+            if (isZero(pivot)) return new BandLUSolver<>(getEquationSystem()).solve();
+            if (i + 1 < size)
+                upper[i] = getArithmetic().quotient(matrix.getValue(i, i + 1), pivot);
+            values[i] = getArithmetic().quotient(value, pivot);
+        }
+        for (int i = size - 2; 0 <= i; i--)
+            values[i] = getArithmetic().difference(values[i],
+                getArithmetic().product(upper[i], values[i + 1])
+            );
+        return toSingleSolution(new ArrayList<>(Arrays.asList(values)));
+    }
+
+    // region private
+
+    @SuppressWarnings("unchecked") // only stores T
+    private T @NotNull [] newArray(int size) {
+        return (T[]) new Number[size];
+    }
+
+    // endregion
+}
@@ -0,0 +1,217 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.AbstractLinearSolver;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.decomposition.UpdatableLUDecomposition;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * solves a square {@link Double} {@link LinearEquationSystem} repeatedly
+ * while single values or equations of it change
+ * <p>
+ * the matrix is decomposed once by an {@link UpdatableLUDecomposition}.
+ * Changes made by {@link #setValue(int, int, double)}, {@link #setEquation(int, double...)}
+ * and {@link #setSolutionValue(int, double)} are applied to
+ * {@link #getEquationSystem()} and to the decomposition as rank-1 updates -
+ * so solving again costs {@code O(n^2)} instead of {@code O(n^3)}.
+ * Other changes of the equation system require {@link #decompose()}
+ * <p>
+ * if the system is not square or singular
+ * it is solved by {@link GaussSolver}
+ *
+ * @since 1.2.0
+ */
+public class UpdatableLUSolver extends AbstractLinearSolver<Double> {
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of values has to match size of matrix";
+    protected static final String EXCEPTION_MAX_UPDATES =
+        "max updates have to be greater or equal to 0";
+    // endregion
+
+    // region attributes
+
+    private final int maxUpdates;
+    private UpdatableLUDecomposition decomposition;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new UpdatableLUSolver based on a {@link LinearEquationSystem}
+     * using {@link UpdatableLUDecomposition#DEFAULT_MAX_UPDATES}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public UpdatableLUSolver(@NotNull LinearEquationSystem<Double> equationSystem) {
+        this(equationSystem, UpdatableLUDecomposition.DEFAULT_MAX_UPDATES);
+    }
+
+    /**
+     * creates a new UpdatableLUSolver based on a {@link LinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @param maxUpdates     max pending updates before decomposing again
+     * @throws IllegalArgumentException if maxUpdates is negative
+     * @since 1.2.0
+     */
+    public UpdatableLUSolver(@NotNull LinearEquationSystem<Double> equationSystem, int maxUpdates) {
+        super(equationSystem);
+        if (maxUpdates < 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_UPDATES);
+        this.maxUpdates = maxUpdates;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return max pending updates before decomposing again
+     * @since 1.2.0
+     */
+    public int getMaxUpdates() {
+        return maxUpdates;
+    }
+
+    /**
+     * @return amount of full {@code O(n^3)} decompositions
+     * @since 1.2.0
+     */
+    public int getDecompositions() {
+        return decomposition == null ? 0 : decomposition.getDecompositions();
+    }
+
+    // endregion
+
+    // region update
+
+    /**
+     * sets a coefficient of the equation system
+     *
+     * @param equation index of equation
+     * @param unknown  index of unknown
+     * @param value    new coefficient
+     * @return old coefficient
+     * @throws IndexOutOfBoundsException if equation or unknown is invalid
+     * @throws NotSupportedException     if the equation system is not square
+     * @since 1.2.0
+     */
+    public double setValue(int equation, int unknown, double value) {
+        validateSquare();
+        double old = isRowSystem() ?
+            getEquationSystem().getMatrix().setValue(unknown, equation, value) :
+            getEquationSystem().getMatrix().setValue(equation, unknown, value);
+        if (decomposition != null) decomposition.setValue(equation, unknown, value);
+        return old;
+    }
+
+    /**
+     * replaces all coefficients of an equation
+     *
+     * @param equation index of equation
+     * @param values   new coefficients
+     * @throws IndexOutOfBoundsException if equation is invalid
+     * @throws IllegalArgumentException  if size does not match
+     * @throws NotSupportedException     if the equation system is not square
+     * @since 1.2.0
+     */
+    public void setEquation(int equation, double @NotNull ... values) {
+        validateSquare();
+        if (values.length != getEquationSystem().getMatrix().getCols())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        for (int unknown = 0; unknown < values.length; unknown++)
+            if (isRowSystem())
+                getEquationSystem().getMatrix().setValue(unknown, equation, values[unknown]);
+            else getEquationSystem().getMatrix().setValue(equation, unknown, values[unknown]);
+        if (decomposition != null) decomposition.setRow(equation, values);
+    }
+
+    /**
+     * sets a value of the solution vector - requires no update of the decomposition
+     *
+     * @param equation index of equation
+     * @param value    new value
+     * @return old value
+     * @throws IndexOutOfBoundsException if equation is invalid
+     * @since 1.2.0
+     */
+    public double setSolutionValue(int equation, double value) {
+        return getEquationSystem().getVector().setValue(equation, value);
+    }
+
+    /**
+     * decomposes {@link #getEquationSystem()} again on next {@link #solve()}
+     * - required if it was changed without this solver
+     *
+     * @since 1.2.0
+     */
+    public void decompose() {
+        decomposition = null;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearEquationSystem<Double>, Double> solve() {
+        reset();
+        if (!getWorkingMatrix().isSquare())
+            return solveWith(new GaussSolver<>(getEquationSystem()));
+        if (decomposition == null)
+            decomposition = new UpdatableLUDecomposition(getWorkingMatrix(), getMaxUpdates());
+        if (decomposition.isSingular())
+            return solveWith(new GaussSolver<>(getEquationSystem()));
+        startPhase(SolverMetrics.Phase.BACK_SUBSTITUTE);
+        double[] vector = new double[decomposition.getSize()];
+        for (int i = 0; i < vector.length; i++)
+            vector[i] = getWorkingVector().getValue(i);
+        double[] x = decomposition.solve(vector);
+        List<Double> solution = new ArrayList<>(x.length);
+        for (double value : x) solution.add(value);
+        return complete(Solution.single(getEquationSystem(), solution));
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UpdatableLUSolver)) return false;
+        if (!super.equals(o)) return false;
+        UpdatableLUSolver that = (UpdatableLUSolver) o;
+        return getMaxUpdates() == that.getMaxUpdates();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getMaxUpdates());
+    }
+
+    // endregion
+
+    // region private
+
+    private boolean isRowSystem() {
+        return getEquationSystem().getVector().getType() == Vector.Type.ROW;
+    }
+
+    private void validateSquare() {
+        if (!getEquationSystem().getMatrix().isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+    }
+
+    // endregion
+}
@@ -0,0 +1,144 @@
+package io.rala.math.algebra.equation.nonlinear;
+
+import io.rala.math.algebra.equation.AbstractEquationSystem;
+import io.rala.math.algebra.equation.AbstractSolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * class which allows solving nonlinear equation systems
+ * iteratively using primitive {@code double} values
+ *
+ * @param <E> class of {@link AbstractEquationSystem}
+ * @since 1.2.0
+ */
+public abstract class AbstractNonlinearSolver<E extends AbstractEquationSystem<E>>
+    extends AbstractSolver<E, Double> {
+    /**
+     * default value of {@link #getMaxIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    /**
+     * default value of {@link #getTolerance()}
+     *
+     * @since 1.2.0
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_MAX_ITERATIONS =
+        "max iterations have to be greater than 0";
+    protected static final String EXCEPTION_TOLERANCE =
+        "tolerance has to be greater than 0";
+    // endregion
+
+    // region attributes
+
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int iterations;
+
+    // endregion
+
+    /**
+     * creates a {@link AbstractNonlinearSolver} for given {@link AbstractEquationSystem}
+     *
+     * @param equationSystem equationSystem to store
+     * @since 1.2.0
+     */
+    protected AbstractNonlinearSolver(@NotNull E equationSystem) {
+        super(equationSystem);
+    }
+
+    // region getter and setter
+
+    /**
+     * @return max amount of iterations
+     * @since 1.2.0
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * @param maxIterations new max amount of iterations
+     * @throws IllegalArgumentException if maxIterations is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_ITERATIONS);
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return tolerance of convergence - its meaning depends on the solver
+     * @since 1.2.0
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @param tolerance new tolerance
+     * @throws IllegalArgumentException if tolerance is not positive
+     * @since 1.2.0
+     */
+    public void setTolerance(double tolerance) {
+        if (!(0 < tolerance))
+            throw new IllegalArgumentException(EXCEPTION_TOLERANCE);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return iterations required by last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param iterations new iterations
+     * @since 1.2.0
+     */
+    protected void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    // endregion
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec resets {@link #getIterations()} to {@code 0}
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        setIterations(0);
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AbstractNonlinearSolver)) return false;
+        if (!super.equals(o)) return false;
+        AbstractNonlinearSolver<?> that = (AbstractNonlinearSolver<?>) o;
+        return getMaxIterations() == that.getMaxIterations() &&
+            Double.compare(getTolerance(), that.getTolerance()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getMaxIterations(), getTolerance());
+    }
+
+    // endregion
+}
@@ -0,0 +1,240 @@
+package io.rala.math.algebra.equation.nonlinear;
+
+import io.rala.math.algebra.equation.AbstractEquationSystem;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.solver.BrentSolver;
+import io.rala.math.algebra.equation.nonlinear.solver.NewtonSolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * class which holds a scalar nonlinear equation {@code f(x)=0}
+ * <p>
+ * the equation has an initial value and an interval {@code [lower, upper]}
+ * which brackets a root if {@code f(lower)} and {@code f(upper)}
+ * have different signs
+ *
+ * @since 1.2.0
+ */
+public class NonlinearEquation extends AbstractEquationSystem<NonlinearEquation> {
+    // region protected exception messages
+    protected static final String EXCEPTION_INVALID_INTERVAL =
+        "lower has to be less or equal to initial and upper";
+    // endregion
+
+    private static final double STEP = Math.cbrt(Math.ulp(1d));
+
+    // region attributes
+
+    private final DoubleUnaryOperator function;
+    private final DoubleUnaryOperator derivative;
+    private final double initial;
+    private final double lower;
+    private final double upper;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new equation in given interval
+     * starting at its midpoint
+     *
+     * @param function function {@code f}
+     * @param lower    lower bound of interval
+     * @param upper    upper bound of interval
+     * @throws IllegalArgumentException if interval is invalid
+     * @since 1.2.0
+     */
+    public NonlinearEquation(@NotNull DoubleUnaryOperator function, double lower, double upper) {
+        this(function, null, lower + (upper - lower) / 2, lower, upper);
+    }
+
+    /**
+     * creates a new equation without interval
+     *
+     * @param function   function {@code f}
+     * @param derivative derivative {@code f'} or {@code null}
+     *                   to use finite differences
+     * @param initial    initial value
+     * @throws IllegalArgumentException if initial is not finite
+     * @since 1.2.0
+     */
+    public NonlinearEquation(
+        @NotNull DoubleUnaryOperator function, @Nullable DoubleUnaryOperator derivative,
+        double initial
+    ) {
+        this(function, derivative, initial, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * creates a new equation
+     *
+     * @param function   function {@code f}
+     * @param derivative derivative {@code f'} or {@code null}
+     *                   to use finite differences
+     * @param initial    initial value
+     * @param lower      lower bound of interval
+     * @param upper      upper bound of interval
+     * @throws IllegalArgumentException if initial is not finite or
+     *                                  not inside of interval
+     * @since 1.2.0
+     */
+    public NonlinearEquation(
+        @NotNull DoubleUnaryOperator function, @Nullable DoubleUnaryOperator derivative,
+        double initial, double lower, double upper
+    ) {
+        if (!Double.isFinite(initial) || !(lower <= initial && initial <= upper))
+            throw new IllegalArgumentException(EXCEPTION_INVALID_INTERVAL);
+        this.function = function;
+        this.derivative = derivative;
+        this.initial = initial;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return function {@code f}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleUnaryOperator getFunction() {
+        return function;
+    }
+
+    /**
+     * @return derivative {@code f'} or {@code null} if there is none
+     * @since 1.2.0
+     */
+    @Nullable
+    public DoubleUnaryOperator getDerivative() {
+        return derivative;
+    }
+
+    /**
+     * @return initial value
+     * @since 1.2.0
+     */
+    public double getInitial() {
+        return initial;
+    }
+
+    /**
+     * @return lower bound of interval
+     * @since 1.2.0
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * @return upper bound of interval
+     * @since 1.2.0
+     */
+    public double getUpper() {
+        return upper;
+    }
+
+    /**
+     * @return {@code true} if lower and upper bound are finite
+     * @since 1.2.0
+     */
+    public boolean isBounded() {
+        return Double.isFinite(getLower()) && Double.isFinite(getUpper());
+    }
+
+    // endregion
+
+    // region evaluate
+
+    /**
+     * @param x value to evaluate
+     * @return {@code f(x)}
+     * @since 1.2.0
+     */
+    public double evaluate(double x) {
+        return getFunction().applyAsDouble(x);
+    }
+
+    /**
+     * @param x value to evaluate
+     * @return {@code f'(x)} - using central differences if there is no derivative
+     * @since 1.2.0
+     */
+    public double evaluateDerivative(double x) {
+        if (getDerivative() != null) return getDerivative().applyAsDouble(x);
+        double h = STEP * Math.max(1, Math.abs(x));
+        return (evaluate(x + h) - evaluate(x - h)) / (2 * h);
+    }
+
+    // endregion
+
+    // region solve
+
+    /**
+     * solves equation with {@link BrentSolver}
+     *
+     * @return {@link Solution} of {@link BrentSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<NonlinearEquation, Double> solveWithBrent() {
+        return new BrentSolver(this).solve();
+    }
+
+    /**
+     * solves equation with {@link NewtonSolver}
+     *
+     * @return {@link Solution} of {@link NewtonSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<NonlinearEquation, Double> solveWithNewton() {
+        return new NewtonSolver(this).solve();
+    }
+
+    // endregion
+
+    // region override
+
+    /**
+     * @return this instance - a scalar equation has nothing to transpose
+     */
+    @Override
+    @NotNull
+    protected NonlinearEquation transpose() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NonlinearEquation)) return false;
+        NonlinearEquation that = (NonlinearEquation) o;
+        return Double.compare(getInitial(), that.getInitial()) == 0 &&
+            Double.compare(getLower(), that.getLower()) == 0 &&
+            Double.compare(getUpper(), that.getUpper()) == 0 &&
+            getFunction().equals(that.getFunction()) &&
+            Objects.equals(getDerivative(), that.getDerivative());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFunction(), getDerivative(), getInitial(), getLower(), getUpper());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "f(x)=0: x0=" + getInitial() + " in [" + getLower() + ", " + getUpper() + "]";
+    }
+
+    // endregion
+}
@@ -0,0 +1,214 @@
+package io.rala.math.algebra.equation.nonlinear;
+
+import io.rala.math.algebra.equation.AbstractEquationSystem;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.solver.NewtonRaphsonSolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * class which holds a system of {@code n} nonlinear equations
+ * {@code F(x)=0} in {@code n} unknowns
+ *
+ * @since 1.2.0
+ */
+public class NonlinearEquationSystem extends AbstractEquationSystem<NonlinearEquationSystem> {
+    // region protected exception messages
+    protected static final String EXCEPTION_SIZE_LESS_ONE =
+        "size has to be greater than 0";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of values has to match size of system";
+    // endregion
+
+    private static final double STEP = Math.sqrt(Math.ulp(1d));
+
+    // region attributes
+
+    private final UnaryOperator<double[]> function;
+    private final Function<double[], double[][]> jacobian;
+    private final double[] initial;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new system using finite differences for the jacobian
+     *
+     * @param function function {@code F}
+     * @param initial  initial values - they are copied
+     * @throws IllegalArgumentException if initial is empty
+     * @since 1.2.0
+     */
+    public NonlinearEquationSystem(
+        @NotNull UnaryOperator<double[]> function, double @NotNull ... initial
+    ) {
+        this(function, null, initial);
+    }
+
+    /**
+     * creates a new system
+     *
+     * @param function function {@code F}
+     * @param jacobian row based jacobian {@code J_ij=dF_i/dx_j}
+     *                 or {@code null} to use finite differences
+     * @param initial  initial values - they are copied
+     * @throws IllegalArgumentException if initial is empty
+     * @since 1.2.0
+     */
+    public NonlinearEquationSystem(
+        @NotNull UnaryOperator<double[]> function,
+        @Nullable Function<double[], double[][]> jacobian,
+        double @NotNull ... initial
+    ) {
+        if (initial.length == 0)
+            throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_ONE);
+        this.function = function;
+        this.jacobian = jacobian;
+        this.initial = initial.clone();
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of equations and unknowns
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return initial.length;
+    }
+
+    /**
+     * @return function {@code F}
+     * @since 1.2.0
+     */
+    @NotNull
+    public UnaryOperator<double[]> getFunction() {
+        return function;
+    }
+
+    /**
+     * @return jacobian or {@code null} if there is none
+     * @since 1.2.0
+     */
+    @Nullable
+    public Function<double[], double[][]> getJacobian() {
+        return jacobian;
+    }
+
+    /**
+     * @return new array containing initial values
+     * @since 1.2.0
+     */
+    public double @NotNull [] getInitial() {
+        return initial.clone();
+    }
+
+    // endregion
+
+    // region evaluate
+
+    /**
+     * @param x values to evaluate - they are not modified
+     * @return new array containing {@code F(x)}
+     * @throws IllegalArgumentException if a size does not match
+     * @since 1.2.0
+     */
+    public double @NotNull [] evaluate(double @NotNull [] x) {
+        validateSize(x.length);
+        double[] result = getFunction().apply(x.clone());
+        validateSize(result.length);
+        return result;
+    }
+
+    /**
+     * @param x values to evaluate - they are not modified
+     * @return new row based jacobian at {@code x} -
+     * using forward differences if there is no jacobian
+     * @throws IllegalArgumentException if a size does not match
+     * @since 1.2.0
+     */
+    public double @NotNull [] @NotNull [] evaluateJacobian(double @NotNull [] x) {
+        validateSize(x.length);
+        if (getJacobian() != null) {
+            double[][] result = getJacobian().apply(x.clone());
+            validateSize(result.length);
+            for (double[] row : result) validateSize(row.length);
+            return result;
+        }
+        double[] fx = evaluate(x);
+        double[][] result = new double[getSize()][getSize()];
+        double[] shifted = x.clone();
+        for (int c = 0; c < getSize(); c++) {
+            double h = STEP * Math.max(1, Math.abs(x[c]));
+            shifted[c] = x[c] + h;
+            double[] fh = evaluate(shifted);
+            for (int r = 0; r < getSize(); r++) result[r][c] = (fh[r] - fx[r]) / h;
+            shifted[c] = x[c];
+        }
+        return result;
+    }
+
+    // endregion
+
+    /**
+     * solves system with {@link NewtonRaphsonSolver}
+     *
+     * @return {@link Solution} of {@link NewtonRaphsonSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<NonlinearEquationSystem, Double> solveWithNewtonRaphson() {
+        return new NewtonRaphsonSolver(this).solve();
+    }
+
+    // region override
+
+    /**
+     * @return this instance - equations are not stored as matrix
+     */
+    @Override
+    @NotNull
+    protected NonlinearEquationSystem transpose() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NonlinearEquationSystem)) return false;
+        NonlinearEquationSystem that = (NonlinearEquationSystem) o;
+        return getFunction().equals(that.getFunction()) &&
+            Objects.equals(getJacobian(), that.getJacobian()) &&
+            Arrays.equals(initial, that.initial);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(getFunction(), getJacobian()) + Arrays.hashCode(initial);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "F(x)=0: x0=" + Arrays.toString(initial);
+    }
+
+    // endregion
+
+    // region private
+
+    private void validateSize(int size) {
+        if (size != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+    }
+
+    // endregion
+}
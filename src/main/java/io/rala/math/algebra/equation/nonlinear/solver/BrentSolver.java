@@ -0,0 +1,116 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.AbstractNonlinearSolver;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+
+/**
+ * solves a {@link NonlinearEquation} based on Brent's method
+ * combining bisection, secant and inverse quadratic interpolation
+ * <p>
+ * the interval of the equation has to bracket a root -
+ * otherwise the solution is {@link Solution.State#UNSOLVABLE}.
+ * The method converges if the bracket is smaller than
+ * {@link #getTolerance()} (absolute)
+ *
+ * @since 1.2.0
+ */
+public class BrentSolver extends AbstractNonlinearSolver<NonlinearEquation> {
+    private static final double EPSILON = Math.ulp(1d);
+
+    /**
+     * creates a new BrentSolver based on a {@link NonlinearEquation}
+     *
+     * @param equation equation to solve
+     * @since 1.2.0
+     */
+    public BrentSolver(@NotNull NonlinearEquation equation) {
+        super(equation);
+    }
+
+    @Override
+    @NotNull
+    public Solution<NonlinearEquation, Double> solve() {
+        reset();
+        NonlinearEquation equation = getWorking();
+        if (!equation.isBounded()) return Solution.unsolvable(getEquationSystem());
+        double a = equation.getLower();
+        double b = equation.getUpper();
+        double fa = equation.evaluate(a);
+        double fb = equation.evaluate(b);
+        if (fa == 0) return toSolution(a);
+        if (fb == 0) return toSolution(b);
+        if (!(Math.signum(fa) * Math.signum(fb) < 0))
+            return Solution.unsolvable(getEquationSystem());
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+        while (getIterations() < getMaxIterations()) {
+            setIterations(getIterations() + 1);
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+            double tolerance = 2 * EPSILON * Math.abs(b) + getTolerance() / 2;
+            double m = (c - b) / 2;
+            if (Math.abs(m) <= tolerance || fb == 0) return toSolution(b);
+            if (Math.abs(e) < tolerance || Math.abs(fa) <= Math.abs(fb)) {
+                // bisection
+                d = m;
+                e = m;
+            } else {
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    // secant
+                    p = 2 * m * s;
+                    q = 1 - s;
+                } else {
+                    // inverse quadratic interpolation
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2 * m * q * (q - r) - (b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (0 < p) q = -q;
+                else p = -p;
+                if (2 * p < Math.min(3 * m * q - Math.abs(tolerance * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = m;
+                    e = m;
+                }
+            }
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tolerance ? d : Math.copySign(tolerance, m);
+            fb = equation.evaluate(b);
+            if (Math.signum(fb) == Math.signum(fc)) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+        }
+        return Solution.unsolvable(getEquationSystem());
+    }
+
+    // region private
+
+    @NotNull
+    private Solution<NonlinearEquation, Double> toSolution(double root) {
+        return Solution.single(getEquationSystem(), Collections.singletonList(root));
+    }
+
+    // endregion
+}
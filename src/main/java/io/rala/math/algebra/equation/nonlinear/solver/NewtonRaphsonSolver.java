@@ -0,0 +1,257 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.AbstractNonlinearSolver;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquationSystem;
+import io.rala.math.algebra.matrix.decomposition.UpdatableLUDecomposition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * solves a {@link NonlinearEquationSystem} based on the Newton-Raphson method
+ * with Broyden updates of the jacobian
+ * <p>
+ * the jacobian is only evaluated and decomposed at the start
+ * and if a step does not reduce {@code |F(x)|} by a backtracking line search.
+ * All other iterations apply the rank-1 Broyden update
+ * {@code J+(ΔF-J*Δx)*Δx^T/(Δx^T*Δx)} to the {@link UpdatableLUDecomposition}
+ * which costs {@code O(n^2)} instead of a new {@code O(n^3)} elimination.
+ * <p>
+ * the method converges if {@code max|F_i(x)|} or a step relative
+ * to {@code max(1,|x|)} is at most {@link #getTolerance()} -
+ * the solution is {@link Solution.State#UNSOLVABLE}
+ * if the jacobian is singular or no step reduces {@code |F(x)|}
+ *
+ * @since 1.2.0
+ */
+public class NewtonRaphsonSolver extends AbstractNonlinearSolver<NonlinearEquationSystem> {
+    /**
+     * max amount of halving a step in the line search
+     */
+    private static final int MAX_HALVINGS = 30;
+    /**
+     * required relative decrease of {@code |F(x)|} per step length
+     */
+    private static final double SUFFICIENT_DECREASE = 1e-4;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_MAX_UPDATES =
+        "max updates have to be greater or equal to 0";
+    // endregion
+
+    // region attributes
+
+    private int maxUpdates = UpdatableLUDecomposition.DEFAULT_MAX_UPDATES;
+    private int jacobianEvaluations;
+    private int decompositions;
+
+    // endregion
+
+    /**
+     * creates a new NewtonRaphsonSolver based on a {@link NonlinearEquationSystem}
+     *
+     * @param equationSystem equation system to solve
+     * @since 1.2.0
+     */
+    public NewtonRaphsonSolver(@NotNull NonlinearEquationSystem equationSystem) {
+        super(equationSystem);
+    }
+
+    // region getter and setter
+
+    /**
+     * @return max amount of Broyden updates before the
+     * approximated jacobian is decomposed again
+     * @see UpdatableLUDecomposition#getMaxUpdates()
+     * @since 1.2.0
+     */
+    public int getMaxUpdates() {
+        return maxUpdates;
+    }
+
+    /**
+     * @param maxUpdates new max amount of Broyden updates -
+     *                   {@code 0} decomposes each iteration
+     * @throws IllegalArgumentException if maxUpdates is negative
+     * @since 1.2.0
+     */
+    public void setMaxUpdates(int maxUpdates) {
+        if (maxUpdates < 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_UPDATES);
+        this.maxUpdates = maxUpdates;
+    }
+
+    /**
+     * @return evaluations of the jacobian required by last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getJacobianEvaluations() {
+        return jacobianEvaluations;
+    }
+
+    /**
+     * @return LU decompositions required by last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getDecompositions() {
+        return decompositions;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<NonlinearEquationSystem, Double> solve() {
+        reset();
+        NonlinearEquationSystem system = getWorking();
+        int size = system.getSize();
+        double[] x = system.getInitial();
+        double[] fx = system.evaluate(x);
+        double norm = norm(fx);
+        UpdatableLUDecomposition jacobian = null;
+        boolean fresh = false;
+        while (!isConverged(fx)) {
+            if (getMaxIterations() <= getIterations()) return unsolvable(jacobian);
+            setIterations(getIterations() + 1);
+            if (jacobian == null || jacobian.isSingular()) {
+                if (fresh) return unsolvable(jacobian);
+                decompositions += jacobian == null ? 0 : jacobian.getDecompositions();
+                jacobian = createJacobian(x);
+                fresh = true;
+                if (jacobian.isSingular()) return unsolvable(jacobian);
+            }
+            double[] step = jacobian.solve(fx);
+            for (int i = 0; i < size; i++) step[i] = -step[i];
+            double[] next = new double[size];
+            double[] fNext = null;
+            double nextNorm = Double.NaN;
+            double length = 1;
+            for (int i = 0; i <= MAX_HALVINGS; i++, length /= 2) {
+                for (int j = 0; j < size; j++) next[j] = x[j] + length * step[j];
+                fNext = system.evaluate(next);
+                nextNorm = norm(fNext);
+                if (nextNorm <= (1 - SUFFICIENT_DECREASE * length) * norm) break;
+            }
+            if (!(nextNorm <= (1 - SUFFICIENT_DECREASE * length) * norm)) {
+                if (fresh) return unsolvable(jacobian);
+                // approximation is not good enough - use exact jacobian
+                decompositions += jacobian.getDecompositions();
+                jacobian = null;
+                continue;
+            }
+            double[] s = new double[size];
+            double[] y = new double[size];
+            for (int j = 0; j < size; j++) {
+                s[j] = next[j] - x[j];
+                y[j] = fNext[j] - fx[j];
+            }
+            boolean converged = isConverged(s, next);
+            update(jacobian, s, y);
+            fresh = false;
+            x = next;
+            fx = fNext;
+            norm = nextNorm;
+            if (converged) break;
+        }
+        if (jacobian != null) decompositions += jacobian.getDecompositions();
+        List<Double> solution = new ArrayList<>(size);
+        for (double value : x) solution.add(value);
+        return Solution.single(getEquationSystem(), solution);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec resets {@link #getJacobianEvaluations()}
+     * and {@link #getDecompositions()} to {@code 0}
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        jacobianEvaluations = 0;
+        decompositions = 0;
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NewtonRaphsonSolver)) return false;
+        if (!super.equals(o)) return false;
+        NewtonRaphsonSolver that = (NewtonRaphsonSolver) o;
+        return getMaxUpdates() == that.getMaxUpdates();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getMaxUpdates());
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private UpdatableLUDecomposition createJacobian(double @NotNull [] x) {
+        jacobianEvaluations++;
+        return new UpdatableLUDecomposition(getWorking().evaluateJacobian(x), getMaxUpdates());
+    }
+
+    /**
+     * applies the Broyden update {@code J+(y-J*s)*s^T/(s^T*s)}
+     */
+    private static void update(
+        @NotNull UpdatableLUDecomposition jacobian, double @NotNull [] s, double @NotNull [] y
+    ) {
+        int size = s.length;
+        double ss = 0;
+        for (double value : s) ss += value * value;
+        if (ss == 0) return;
+        double[] u = new double[size];
+        boolean changed = false;
+        for (int r = 0; r < size; r++) {
+            double js = 0;
+            for (int c = 0; c < size; c++) js += jacobian.getValue(r, c) * s[c];
+            u[r] = (y[r] - js) / ss;
+            changed |= u[r] != 0;
+        }
+        if (changed) jacobian.update(u, s);
+    }
+
+    private boolean isConverged(double @NotNull [] fx) {
+        for (double value : fx)
+            if (!(Math.abs(value) <= getTolerance())) return false;
+        return true;
+    }
+
+    private boolean isConverged(double @NotNull [] step, double @NotNull [] x) {
+        double max = 0;
+        double stepMax = 0;
+        for (int i = 0; i < x.length; i++) {
+            max = Math.max(max, Math.abs(x[i]));
+            stepMax = Math.max(stepMax, Math.abs(step[i]));
+        }
+        return stepMax <= getTolerance() * Math.max(1, max);
+    }
+
+    @NotNull
+    private Solution<NonlinearEquationSystem, Double> unsolvable(
+        UpdatableLUDecomposition jacobian
+    ) {
+        if (jacobian != null) decompositions += jacobian.getDecompositions();
+        return Solution.unsolvable(getEquationSystem());
+    }
+
+    private static double norm(double @NotNull [] vector) {
+        double sum = 0;
+        for (double value : vector) sum += value * value;
+        return Math.sqrt(sum);
+    }
+
+    // endregion
+}
@@ -0,0 +1,110 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.AbstractNonlinearSolver;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+
+/**
+ * solves a {@link NonlinearEquation} based on a safeguarded Newton method
+ * <p>
+ * if the interval of the equation brackets a root,
+ * the bracket is shrunk each iteration and a bisection step is used
+ * whenever the Newton step leaves it or the derivative vanishes.
+ * Otherwise the Newton step is halved until {@code |f(x)|} decreases
+ * and kept inside of the interval.
+ * The method converges if a step is at most
+ * {@link #getTolerance()} relative to {@code max(1,|x|)}
+ *
+ * @since 1.2.0
+ */
+public class NewtonSolver extends AbstractNonlinearSolver<NonlinearEquation> {
+    /**
+     * max amount of halving a Newton step without bracket
+     */
+    private static final int MAX_HALVINGS = 30;
+
+    /**
+     * creates a new NewtonSolver based on a {@link NonlinearEquation}
+     *
+     * @param equation equation to solve
+     * @since 1.2.0
+     */
+    public NewtonSolver(@NotNull NonlinearEquation equation) {
+        super(equation);
+    }
+
+    @Override
+    @NotNull
+    public Solution<NonlinearEquation, Double> solve() {
+        reset();
+        NonlinearEquation equation = getWorking();
+        double lower = equation.getLower();
+        double upper = equation.getUpper();
+        boolean bracketed = false;
+        double fLower = Double.NaN;
+        if (equation.isBounded()) {
+            fLower = equation.evaluate(lower);
+            double fUpper = equation.evaluate(upper);
+            if (fLower == 0) return toSolution(lower);
+            if (fUpper == 0) return toSolution(upper);
+            bracketed = Math.signum(fLower) * Math.signum(fUpper) < 0;
+        }
+        double x = equation.getInitial();
+        double fx = equation.evaluate(x);
+        while (getIterations() < getMaxIterations()) {
+            setIterations(getIterations() + 1);
+            if (fx == 0) return toSolution(x);
+            if (bracketed) {
+                if (Math.signum(fx) == Math.signum(fLower)) {
+                    lower = x;
+                    fLower = fx;
+                } else upper = x;
+            }
+            double step = -fx / equation.evaluateDerivative(x);
+            double next;
+            double fNext;
+            if (bracketed) {
+                next = x + step;
+                if (!Double.isFinite(step) || next <= lower || upper <= next)
+                    next = lower + (upper - lower) / 2;
+                fNext = equation.evaluate(next);
+            } else {
+                if (!Double.isFinite(step)) break;
+                // |f(x)| may not decrease anymore because of rounding
+                if (isConverged(step, x))
+                    return toSolution(Math.min(upper, Math.max(lower, x + step)));
+                next = x;
+                fNext = fx;
+                for (int i = 0; i <= MAX_HALVINGS; i++) {
+                    next = Math.min(upper, Math.max(lower, x + step));
+                    fNext = equation.evaluate(next);
+                    if (Math.abs(fNext) < Math.abs(fx)) break;
+                    step /= 2;
+                }
+                if (!(Math.abs(fNext) < Math.abs(fx))) break;
+            }
+            step = next - x;
+            x = next;
+            fx = fNext;
+            if (isConverged(step, x) || bracketed && isConverged(upper - lower, x))
+                return toSolution(x);
+        }
+        return Solution.unsolvable(getEquationSystem());
+    }
+
+    // region private
+
+    private boolean isConverged(double step, double x) {
+        return Math.abs(step) <= getTolerance() * Math.max(1, Math.abs(x));
+    }
+
+    @NotNull
+    private Solution<NonlinearEquation, Double> toSolution(double root) {
+        return Solution.single(getEquationSystem(), Collections.singletonList(root));
+    }
+
+    // endregion
+}
@@ -0,0 +1,431 @@
+package io.rala.math.algebra.equation.program;
+
+import io.rala.math.algebra.equation.AbstractEquationSystem;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.program.solver.RevisedSimplexSolver;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * class which holds a linear program
+ * {@code min (or max) c^T*x} subject to {@code A*x (<=, =, >=) b}
+ * and {@code lower <= x <= upper}
+ * <p>
+ * by default all constraints are {@link Relation#LESS_EQUAL},
+ * the goal is {@link Goal#MINIMIZE} and all variables are non-negative.
+ * The values are stored as primitive {@code double}s and
+ * all modifications return a new instance
+ *
+ * @since 1.2.0
+ */
+public class LinearProgram extends AbstractEquationSystem<LinearProgram> {
+    /**
+     * relation of a constraint row
+     *
+     * @since 1.2.0
+     */
+    public enum Relation {LESS_EQUAL, EQUAL, GREATER_EQUAL}
+
+    /**
+     * goal of objective function
+     *
+     * @since 1.2.0
+     */
+    public enum Goal {MINIMIZE, MAXIMIZE}
+
+    // region protected exception messages
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "sizes of matrix, vector and objective do not match";
+    protected static final String EXCEPTION_NOT_FINITE =
+        "values have to be finite";
+    protected static final String EXCEPTION_INVALID_BOUNDS =
+        "lower has to be less or equal to upper and bounds must not be NaN";
+    protected static final String EXCEPTION_ROW_PREFIX = "row: ";
+    protected static final String EXCEPTION_COL_PREFIX = "col: ";
+    // endregion
+
+    // region attributes
+
+    private final double[][] matrix;
+    private final double[] vector;
+    private final double[] objective;
+    private final Relation[] relations;
+    private final double[] lower;
+    private final double[] upper;
+    private final Goal goal;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new linear program {@code min c^T*x}
+     * subject to {@code A*x<=b} and {@code x>=0}
+     *
+     * @param matrix    constraint matrix {@code A}
+     * @param vector    right-hand side {@code b} of size {@code A.rows}
+     * @param objective objective {@code c} of size {@code A.cols}
+     * @throws IllegalArgumentException if sizes do not match
+     *                                  or a value is not finite
+     * @since 1.2.0
+     */
+    public LinearProgram(
+        @NotNull Matrix<? extends Number> matrix,
+        @NotNull Vector<? extends Number> vector,
+        @NotNull Vector<? extends Number> objective
+    ) {
+        this(toArray(matrix), toArray(vector), toArray(objective));
+    }
+
+    /**
+     * creates a new linear program {@code min c^T*x}
+     * subject to {@code A*x<=b} and {@code x>=0}
+     *
+     * @param matrix    row based constraint matrix {@code A} - it is copied
+     * @param vector    right-hand side {@code b} - it is copied
+     * @param objective objective {@code c} - it is copied
+     * @throws IllegalArgumentException if sizes do not match
+     *                                  or a value is not finite
+     * @since 1.2.0
+     */
+    public LinearProgram(
+        double @NotNull [] @NotNull [] matrix,
+        double @NotNull [] vector, double @NotNull [] objective
+    ) {
+        if (matrix.length == 0 || matrix.length != vector.length || objective.length == 0)
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        this.matrix = new double[matrix.length][];
+        for (int r = 0; r < matrix.length; r++) {
+            if (matrix[r].length != objective.length)
+                throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+            this.matrix[r] = matrix[r].clone();
+            validateFinite(this.matrix[r]);
+        }
+        this.vector = vector.clone();
+        this.objective = objective.clone();
+        validateFinite(this.vector);
+        validateFinite(this.objective);
+        this.relations = new Relation[vector.length];
+        Arrays.fill(this.relations, Relation.LESS_EQUAL);
+        this.lower = new double[objective.length];
+        this.upper = new double[objective.length];
+        Arrays.fill(this.upper, Double.POSITIVE_INFINITY);
+        this.goal = Goal.MINIMIZE;
+    }
+
+    private LinearProgram(
+        @NotNull LinearProgram program, Relation @NotNull [] relations,
+        double @NotNull [] lower, double @NotNull [] upper, @NotNull Goal goal
+    ) {
+        this.matrix = program.matrix;
+        this.vector = program.vector;
+        this.objective = program.objective;
+        this.relations = relations;
+        this.lower = lower;
+        this.upper = upper;
+        this.goal = goal;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of constraints
+     * @since 1.2.0
+     */
+    public int getRows() {
+        return vector.length;
+    }
+
+    /**
+     * @return amount of variables
+     * @since 1.2.0
+     */
+    public int getCols() {
+        return objective.length;
+    }
+
+    /**
+     * @param row row of constraint
+     * @param col col of variable
+     * @return value of constraint matrix
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @since 1.2.0
+     */
+    public double getValue(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * @param row row of constraint
+     * @return right-hand side of constraint
+     * @throws IndexOutOfBoundsException if row is invalid
+     * @since 1.2.0
+     */
+    public double getRightHandSide(int row) {
+        return vector[row];
+    }
+
+    /**
+     * @param row row of constraint
+     * @return relation of constraint
+     * @throws IndexOutOfBoundsException if row is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public Relation getRelation(int row) {
+        return relations[row];
+    }
+
+    /**
+     * @param col col of variable
+     * @return objective coefficient of variable
+     * @throws IndexOutOfBoundsException if col is invalid
+     * @since 1.2.0
+     */
+    public double getCost(int col) {
+        return objective[col];
+    }
+
+    /**
+     * @param col col of variable
+     * @return lower bound of variable - may be {@link Double#NEGATIVE_INFINITY}
+     * @throws IndexOutOfBoundsException if col is invalid
+     * @since 1.2.0
+     */
+    public double getLower(int col) {
+        return lower[col];
+    }
+
+    /**
+     * @param col col of variable
+     * @return upper bound of variable - may be {@link Double#POSITIVE_INFINITY}
+     * @throws IndexOutOfBoundsException if col is invalid
+     * @since 1.2.0
+     */
+    public double getUpper(int col) {
+        return upper[col];
+    }
+
+    /**
+     * @return goal of objective function
+     * @since 1.2.0
+     */
+    @NotNull
+    public Goal getGoal() {
+        return goal;
+    }
+
+    /**
+     * @return new matrix containing constraint matrix {@code A}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getMatrix() {
+        DoubleMatrix result = new DoubleMatrix(getRows(), getCols());
+        for (int r = 0; r < getRows(); r++)
+            for (int c = 0; c < getCols(); c++)
+                if (matrix[r][c] != 0) result.setValue(r, c, matrix[r][c]);
+        return result;
+    }
+
+    /**
+     * @return new column vector containing right-hand side {@code b}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getVector() {
+        return DoubleVector.ofValues(vector);
+    }
+
+    /**
+     * @return new column vector containing objective {@code c}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getObjective() {
+        return DoubleVector.ofValues(objective);
+    }
+
+    // endregion
+
+    // region modify
+
+    /**
+     * @param row      row of constraint
+     * @param relation new relation of constraint
+     * @return new linear program with changed relation
+     * @throws IndexOutOfBoundsException if row is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public LinearProgram withRelation(int row, @NotNull Relation relation) {
+        if (row < 0 || getRows() <= row)
+            throw new IndexOutOfBoundsException(EXCEPTION_ROW_PREFIX + row);
+        Relation[] copy = relations.clone();
+        copy[row] = relation;
+        return new LinearProgram(this, copy, lower, upper, getGoal());
+    }
+
+    /**
+     * @param col   col of variable
+     * @param lower new lower bound - may be {@link Double#NEGATIVE_INFINITY}
+     * @param upper new upper bound - may be {@link Double#POSITIVE_INFINITY}
+     * @return new linear program with changed bounds
+     * @throws IndexOutOfBoundsException if col is invalid
+     * @throws IllegalArgumentException  if bounds are invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public LinearProgram withBounds(int col, double lower, double upper) {
+        if (col < 0 || getCols() <= col)
+            throw new IndexOutOfBoundsException(EXCEPTION_COL_PREFIX + col);
+        if (!(lower <= upper) || lower == Double.POSITIVE_INFINITY ||
+            upper == Double.NEGATIVE_INFINITY)
+            throw new IllegalArgumentException(EXCEPTION_INVALID_BOUNDS);
+        double[] lowerCopy = this.lower.clone();
+        double[] upperCopy = this.upper.clone();
+        lowerCopy[col] = lower;
+        upperCopy[col] = upper;
+        return new LinearProgram(this, relations, lowerCopy, upperCopy, getGoal());
+    }
+
+    /**
+     * @param goal new goal of objective function
+     * @return new linear program with changed goal
+     * @since 1.2.0
+     */
+    @NotNull
+    public LinearProgram withGoal(@NotNull Goal goal) {
+        return new LinearProgram(this, relations, lower, upper, goal);
+    }
+
+    // endregion
+
+    // region evaluate
+
+    /**
+     * @param x values of variables
+     * @return {@code c^T*x}
+     * @throws IllegalArgumentException if size does not match
+     * @since 1.2.0
+     */
+    public double evaluate(double @NotNull [] x) {
+        if (x.length != getCols())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double sum = 0;
+        for (int c = 0; c < getCols(); c++) sum += objective[c] * x[c];
+        return sum;
+    }
+
+    /**
+     * @param x         values of variables
+     * @param tolerance absolute tolerance of constraints and bounds
+     * @return {@code true} if all constraints and bounds are satisfied
+     * @throws IllegalArgumentException if size does not match
+     * @since 1.2.0
+     */
+    public boolean isFeasible(double @NotNull [] x, double tolerance) {
+        if (x.length != getCols())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        for (int c = 0; c < getCols(); c++)
+            if (x[c] < lower[c] - tolerance || upper[c] + tolerance < x[c]) return false;
+        for (int r = 0; r < getRows(); r++) {
+            double sum = 0;
+            for (int c = 0; c < getCols(); c++) sum += matrix[r][c] * x[c];
+            double difference = sum - vector[r];
+            if (relations[r] != Relation.GREATER_EQUAL && tolerance < difference ||
+                relations[r] != Relation.LESS_EQUAL && difference < -tolerance)
+                return false;
+        }
+        return true;
+    }
+
+    // endregion
+
+    /**
+     * solves linear program with {@link RevisedSimplexSolver}
+     *
+     * @return {@link Solution} of {@link RevisedSimplexSolver#solve()}
+     * @since 1.2.0
+     */
+    @NotNull
+    public Solution<LinearProgram, Double> solveWithSimplex() {
+        return new RevisedSimplexSolver(this).solve();
+    }
+
+    // region override
+
+    /**
+     * @return this instance - constraints are not transposed
+     */
+    @Override
+    @NotNull
+    protected LinearProgram transpose() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LinearProgram)) return false;
+        LinearProgram that = (LinearProgram) o;
+        return Arrays.deepEquals(matrix, that.matrix) &&
+            Arrays.equals(vector, that.vector) &&
+            Arrays.equals(objective, that.objective) &&
+            Arrays.equals(relations, that.relations) &&
+            Arrays.equals(lower, that.lower) &&
+            Arrays.equals(upper, that.upper) &&
+            getGoal() == that.getGoal();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.deepHashCode(matrix);
+        result = 31 * result + Arrays.hashCode(vector);
+        result = 31 * result + Arrays.hashCode(objective);
+        result = 31 * result + Arrays.hashCode(relations);
+        result = 31 * result + Arrays.hashCode(lower);
+        result = 31 * result + Arrays.hashCode(upper);
+        return 31 * result + getGoal().hashCode();
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getGoal() + " " + Arrays.toString(objective) + ": " +
+            getRows() + " x " + getCols() + " constraints";
+    }
+
+    // endregion
+
+    // region private
+
+    private static void validateFinite(double @NotNull [] values) {
+        for (double value : values)
+            if (!Double.isFinite(value))
+                throw new IllegalArgumentException(EXCEPTION_NOT_FINITE);
+    }
+
+    private static double @NotNull [] @NotNull [] toArray(@NotNull Matrix<? extends Number> matrix) {
+        double[][] values = new double[matrix.getRows()][matrix.getCols()];
+        for (int r = 0; r < matrix.getRows(); r++)
+            for (int c = 0; c < matrix.getCols(); c++)
+                values[r][c] = matrix.getValue(r, c).doubleValue();
+        return values;
+    }
+
+    private static double @NotNull [] toArray(@NotNull Vector<? extends Number> vector) {
+        double[] values = new double[vector.getSize()];
+        for (int i = 0; i < values.length; i++) values[i] = vector.getValue(i).doubleValue();
+        return values;
+    }
+
+    // endregion
+}
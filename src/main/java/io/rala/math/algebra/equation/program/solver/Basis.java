@@ -0,0 +1,116 @@
+package io.rala.math.algebra.equation.program.solver;
+
+import io.rala.math.algebra.equation.program.LinearProgram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * class which holds a simplex basis of a {@link LinearProgram}
+ * with {@code m} constraints and {@code n} variables
+ * <p>
+ * indices {@code 0..n-1} are variables and
+ * indices {@code n..n+m-1} are slacks of the constraints
+ * ({@code A_i*x+s_i=b_i}).
+ * Non-basic indices are at their lower bound
+ * unless they are marked to be at their upper bound
+ *
+ * @see RevisedSimplexSolver#setInitialBasis(Basis)
+ * @since 1.2.0
+ */
+public class Basis {
+    // region protected exception messages
+    protected static final String EXCEPTION_INVALID_BASIS =
+        "basic indices have to be distinct and less than size";
+    // endregion
+
+    // region attributes
+
+    private final int[] basicIndices;
+    private final boolean[] atUpper;
+
+    // endregion
+
+    /**
+     * creates a new basis
+     *
+     * @param basicIndices index of basic variable of each constraint - it is copied
+     * @param atUpper      {@code true} if non-basic index is at upper bound -
+     *                     size {@code n+m} - it is copied
+     * @throws IllegalArgumentException if indices are not distinct or invalid
+     * @since 1.2.0
+     */
+    public Basis(int @NotNull [] basicIndices, boolean @NotNull [] atUpper) {
+        boolean[] used = new boolean[atUpper.length];
+        for (int index : basicIndices) {
+            if (index < 0 || atUpper.length <= index || used[index])
+                throw new IllegalArgumentException(EXCEPTION_INVALID_BASIS);
+            used[index] = true;
+        }
+        this.basicIndices = basicIndices.clone();
+        this.atUpper = atUpper.clone();
+        for (int index : basicIndices) this.atUpper[index] = false;
+    }
+
+    // region getter
+
+    /**
+     * @return amount {@code m} of constraints
+     * @since 1.2.0
+     */
+    public int getRows() {
+        return basicIndices.length;
+    }
+
+    /**
+     * @return amount {@code n+m} of variables and slacks
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return atUpper.length;
+    }
+
+    /**
+     * @return new array containing basic index of each constraint
+     * @since 1.2.0
+     */
+    public int @NotNull [] getBasicIndices() {
+        return basicIndices.clone();
+    }
+
+    /**
+     * @param index index of variable or slack
+     * @return {@code true} if index is non-basic at its upper bound
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    public boolean isAtUpper(int index) {
+        return atUpper[index];
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Basis)) return false;
+        Basis basis = (Basis) o;
+        return Arrays.equals(basicIndices, basis.basicIndices) &&
+            Arrays.equals(atUpper, basis.atUpper);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(basicIndices) + Arrays.hashCode(atUpper);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return Arrays.toString(basicIndices);
+    }
+
+    // endregion
+}
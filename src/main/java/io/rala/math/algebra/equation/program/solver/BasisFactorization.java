@@ -0,0 +1,136 @@
+package io.rala.math.algebra.equation.program.solver;
+
+import io.rala.math.algebra.matrix.decomposition.DoubleLUDecomposition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * factorization of a simplex basis {@code B} as LU decomposition
+ * and a product form of elementary eta matrices
+ * <p>
+ * each pivot appends one eta matrix in {@code O(m)} instead of
+ * decomposing {@code B} again in {@code O(m^3)}
+ *
+ * @since 1.2.0
+ */
+final class BasisFactorization {
+    // region attributes
+
+    private final int size;
+    private final int maxUpdates;
+    private final List<Eta> etas = new ArrayList<>();
+    private DoubleLUDecomposition decomposition;
+    private int factorizations;
+
+    // endregion
+
+    /**
+     * @param size       size {@code m} of basis
+     * @param maxUpdates max amount of eta matrices
+     *                   until {@link #isRefactorizationRequired()}
+     */
+    BasisFactorization(int size, int maxUpdates) {
+        this.size = size;
+        this.maxUpdates = maxUpdates;
+    }
+
+    // region getter
+
+    /**
+     * @return amount of LU decompositions
+     */
+    int getFactorizations() {
+        return factorizations;
+    }
+
+    /**
+     * @return amount of eta matrices since last decomposition
+     */
+    int getUpdates() {
+        return etas.size();
+    }
+
+    /**
+     * @return {@code true} if max updates are reached
+     */
+    boolean isRefactorizationRequired() {
+        return maxUpdates <= etas.size();
+    }
+
+    // endregion
+
+    /**
+     * decomposes a new basis and discards all eta matrices
+     *
+     * @param columns {@code columns[i]} is col {@code i} of basis
+     * @return {@code false} if basis is singular
+     */
+    boolean factorize(double @NotNull [] @NotNull [] columns) {
+        double[][] values = new double[size][size];
+        for (int c = 0; c < size; c++)
+            for (int r = 0; r < size; r++) values[r][c] = columns[c][r];
+        etas.clear();
+        decomposition = new DoubleLUDecomposition(values);
+        factorizations++;
+        return !decomposition.isSingular();
+    }
+
+    /**
+     * @param column col {@code a}
+     * @return new array containing {@code B^-1*a}
+     */
+    double @NotNull [] solve(double @NotNull [] column) {
+        double[] x = decomposition.solve(column);
+        for (Eta eta : etas) eta.apply(x);
+        return x;
+    }
+
+    /**
+     * @param row row {@code c}
+     * @return new array containing {@code B^-T*c}
+     */
+    double @NotNull [] solveTranspose(double @NotNull [] row) {
+        double[] w = row.clone();
+        for (int i = etas.size() - 1; 0 <= i; i--) etas.get(i).applyTranspose(w);
+        return decomposition.solveTranspose(w);
+    }
+
+    /**
+     * replaces col {@code row} of basis by the entering col
+     *
+     * @param row    index of leaving col
+     * @param column {@code B^-1*a} of entering col - it is copied
+     */
+    void update(int row, double @NotNull [] column) {
+        etas.add(new Eta(row, column.clone()));
+    }
+
+    /**
+     * elementary matrix {@code E} with {@code E*d=e_row}
+     */
+    private static class Eta {
+        private final int row;
+        private final double[] column;
+
+        private Eta(int row, double @NotNull [] column) {
+            this.row = row;
+            this.column = column;
+        }
+
+        private void apply(double @NotNull [] x) {
+            double value = x[row] / column[row];
+            if (value != 0)
+                for (int i = 0; i < x.length; i++) x[i] -= column[i] * value;
+            x[row] = value;
+        }
+
+        private void applyTranspose(double @NotNull [] w) {
+            double sum = w[row];
+            for (int i = 0; i < w.length; i++)
+                if (i != row) sum -= column[i] * w[i];
+            w[row] = sum / column[row];
+        }
+    }
+}
@@ -0,0 +1,619 @@
+package io.rala.math.algebra.equation.program.solver;
+
+import io.rala.math.algebra.equation.AbstractSolver;
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.program.LinearProgram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * solves a {@link LinearProgram} based on the revised simplex method
+ * with bounded variables
+ * <p>
+ * each constraint gets a slack {@code A_i*x+s_i=b_i} which is bounded
+ * according to its relation. Phase I minimizes the sum of artificial
+ * variables of all constraints whose slack can not absorb the initial residual,
+ * phase II minimizes the objective.
+ * Non-basic variables are at one of their bounds - free variables at {@code 0}.
+ * <p>
+ * the basis is stored as LU decomposition and product of eta matrices:
+ * each pivot only appends an eta matrix and the basis is decomposed again
+ * after {@link #getRefactorizationInterval()} pivots.
+ * Pricing is done by Dantzig's rule which changes to Bland's rule
+ * after many degenerate pivots to prevent cycling.
+ * <p>
+ * a previous {@link #getBasis()} can be used as {@link #setInitialBasis(Basis)}.
+ * If it is singular or not primal feasible, phase I starts from scratch
+ * <p>
+ * the solution is {@link Solution.State#SINGLE} if an optimum is found -
+ * otherwise it is {@link Solution.State#UNSOLVABLE}
+ * and {@link #getStatus()} contains the reason
+ *
+ * @since 1.2.0
+ */
+public class RevisedSimplexSolver extends AbstractSolver<LinearProgram, Double> {
+    /**
+     * result status of {@link #solve()}
+     *
+     * @since 1.2.0
+     */
+    public enum Status {OPTIMAL, INFEASIBLE, UNBOUNDED, MAX_ITERATIONS}
+
+    /**
+     * default value of {@link #getMaxIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 10000;
+    /**
+     * default value of {@link #getTolerance()}
+     *
+     * @since 1.2.0
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-9;
+    /**
+     * default value of {@link #getRefactorizationInterval()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_REFACTORIZATION_INTERVAL = 50;
+    /**
+     * absolute value below which a pivot element is treated as {@code 0}
+     */
+    private static final double PIVOT_TOLERANCE = 1e-11;
+    /**
+     * amount of consecutive degenerate pivots until Bland's rule is used
+     */
+    private static final int DEGENERATE_LIMIT = 50;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_MAX_ITERATIONS =
+        "max iterations have to be greater than 0";
+    protected static final String EXCEPTION_TOLERANCE =
+        "tolerance has to be greater than 0";
+    protected static final String EXCEPTION_REFACTORIZATION_INTERVAL =
+        "refactorization interval has to be greater than 0";
+    protected static final String EXCEPTION_BASIS_SIZE =
+        "basis has to match size of linear program";
+    // endregion
+
+    // region attributes
+
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int refactorizationInterval = DEFAULT_REFACTORIZATION_INTERVAL;
+    private Basis initialBasis;
+    private Status status;
+    private double objectiveValue = Double.NaN;
+    private Basis basis;
+    private int iterations;
+    private int factorizations;
+    private boolean warmStarted;
+
+    // endregion
+
+    /**
+     * creates a new RevisedSimplexSolver based on a {@link LinearProgram}
+     *
+     * @param program linear program to solve
+     * @since 1.2.0
+     */
+    public RevisedSimplexSolver(@NotNull LinearProgram program) {
+        super(program);
+    }
+
+    // region getter and setter
+
+    /**
+     * @return max amount of pivots and bound flips of both phases
+     * @since 1.2.0
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * @param maxIterations new max amount of iterations
+     * @throws IllegalArgumentException if maxIterations is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_ITERATIONS);
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return absolute tolerance of feasibility and reduced costs
+     * @since 1.2.0
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @param tolerance new tolerance
+     * @throws IllegalArgumentException if tolerance is not positive
+     * @since 1.2.0
+     */
+    public void setTolerance(double tolerance) {
+        if (!(0 < tolerance))
+            throw new IllegalArgumentException(EXCEPTION_TOLERANCE);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return amount of pivots after which the basis is decomposed again
+     * @since 1.2.0
+     */
+    public int getRefactorizationInterval() {
+        return refactorizationInterval;
+    }
+
+    /**
+     * @param refactorizationInterval new amount of pivots
+     * @throws IllegalArgumentException if interval is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setRefactorizationInterval(int refactorizationInterval) {
+        if (refactorizationInterval <= 0)
+            throw new IllegalArgumentException(EXCEPTION_REFACTORIZATION_INTERVAL);
+        this.refactorizationInterval = refactorizationInterval;
+    }
+
+    /**
+     * @return basis to start with or {@code null} if there is none
+     * @since 1.2.0
+     */
+    @Nullable
+    public Basis getInitialBasis() {
+        return initialBasis;
+    }
+
+    /**
+     * @param initialBasis basis to start with (warm start) or {@code null}
+     * @throws IllegalArgumentException if basis does not match linear program
+     * @since 1.2.0
+     */
+    public void setInitialBasis(@Nullable Basis initialBasis) {
+        LinearProgram program = getEquationSystem();
+        if (initialBasis != null && (initialBasis.getRows() != program.getRows() ||
+            initialBasis.getSize() != program.getRows() + program.getCols()))
+            throw new IllegalArgumentException(EXCEPTION_BASIS_SIZE);
+        this.initialBasis = initialBasis;
+    }
+
+    /**
+     * @return status of last {@link #solve()} or {@code null} if not solved yet
+     * @since 1.2.0
+     */
+    @Nullable
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return optimal objective value of last {@link #solve()}
+     * or {@link Double#NaN} if there is none
+     * @since 1.2.0
+     */
+    public double getObjectiveValue() {
+        return objectiveValue;
+    }
+
+    /**
+     * @return optimal basis of last {@link #solve()}
+     * or {@code null} if there is none
+     * @since 1.2.0
+     */
+    @Nullable
+    public Basis getBasis() {
+        return basis;
+    }
+
+    /**
+     * @return pivots and bound flips of last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return LU decompositions of the basis of last {@link #solve()}
+     * @since 1.2.0
+     */
+    public int getFactorizations() {
+        return factorizations;
+    }
+
+    /**
+     * @return {@code true} if last {@link #solve()} started
+     * with {@link #getInitialBasis()}
+     * @since 1.2.0
+     */
+    public boolean isWarmStarted() {
+        return warmStarted;
+    }
+
+    // endregion
+
+    @Override
+    @NotNull
+    public Solution<LinearProgram, Double> solve() {
+        reset();
+        LinearProgram program = getWorking();
+        Simplex simplex = new Simplex(program);
+        warmStarted = getInitialBasis() != null && simplex.startWarm(getInitialBasis());
+        if (!warmStarted && simplex.startCold()) {
+            status = simplex.iterate(simplex.createPhaseOneCosts());
+            if (status == Status.OPTIMAL && !simplex.isPhaseOneFeasible())
+                status = Status.INFEASIBLE;
+            if (status == Status.OPTIMAL) simplex.removeArtificials();
+            else return finish(simplex);
+        }
+        status = simplex.iterate(simplex.createPhaseTwoCosts());
+        return finish(simplex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec resets all results of last {@link #solve()}
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        status = null;
+        objectiveValue = Double.NaN;
+        basis = null;
+        iterations = 0;
+        factorizations = 0;
+        warmStarted = false;
+    }
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RevisedSimplexSolver)) return false;
+        if (!super.equals(o)) return false;
+        RevisedSimplexSolver that = (RevisedSimplexSolver) o;
+        return getMaxIterations() == that.getMaxIterations() &&
+            Double.compare(getTolerance(), that.getTolerance()) == 0 &&
+            getRefactorizationInterval() == that.getRefactorizationInterval() &&
+            Objects.equals(getInitialBasis(), that.getInitialBasis());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getMaxIterations(), getTolerance(),
+            getRefactorizationInterval(), getInitialBasis()
+        );
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private Solution<LinearProgram, Double> finish(@NotNull Simplex simplex) {
+        factorizations = simplex.factorization.getFactorizations();
+        if (status != Status.OPTIMAL) return Solution.unsolvable(getEquationSystem());
+        double[] values = Arrays.copyOf(simplex.x, simplex.n);
+        objectiveValue = getWorking().evaluate(values);
+        basis = simplex.toBasis();
+        List<Double> solution = new ArrayList<>(values.length);
+        for (double value : values) solution.add(value);
+        return Solution.single(getEquationSystem(), solution);
+    }
+
+    /**
+     * state of the bounded revised simplex method:
+     * indices {@code 0..n-1} are variables, {@code n..n+m-1} slacks
+     * and {@code n+m..n+2m-1} artificial variables
+     */
+    private class Simplex {
+        private final int m;
+        private final int n;
+        private final int size;
+        private final double[][] columns;
+        private final double[] b;
+        private final double[] lower;
+        private final double[] upper;
+        private final double[] x;
+        private final int[] basis;
+        private final int[] position;
+        private final BasisFactorization factorization;
+
+        private Simplex(@NotNull LinearProgram program) {
+            m = program.getRows();
+            n = program.getCols();
+            size = n + 2 * m;
+            columns = new double[size][m];
+            b = new double[m];
+            lower = new double[size];
+            upper = new double[size];
+            x = new double[size];
+            basis = new int[m];
+            position = new int[size];
+            factorization = new BasisFactorization(m, getRefactorizationInterval());
+            for (int r = 0; r < m; r++) {
+                b[r] = program.getRightHandSide(r);
+                for (int c = 0; c < n; c++) columns[c][r] = program.getValue(r, c);
+                columns[n + r][r] = 1;
+                LinearProgram.Relation relation = program.getRelation(r);
+                lower[n + r] = relation == LinearProgram.Relation.GREATER_EQUAL ?
+                    Double.NEGATIVE_INFINITY : 0;
+                upper[n + r] = relation == LinearProgram.Relation.LESS_EQUAL ?
+                    Double.POSITIVE_INFINITY : 0;
+            }
+            for (int c = 0; c < n; c++) {
+                lower[c] = program.getLower(c);
+                upper[c] = program.getUpper(c);
+            }
+        }
+
+        // region start
+
+        /**
+         * @return {@code true} if phase I is required
+         */
+        private boolean startCold() {
+            Arrays.fill(position, -1);
+            for (int j = 0; j < n + m; j++) x[j] = getInitialValue(j);
+            boolean artificials = false;
+            for (int r = 0; r < m; r++) {
+                int artificial = n + m + r;
+                Arrays.fill(columns[artificial], 0);
+                lower[artificial] = 0;
+                upper[artificial] = 0;
+                x[artificial] = 0;
+                double residual = b[r];
+                for (int c = 0; c < n; c++) residual -= columns[c][r] * x[c];
+                int slack = n + r;
+                if (lower[slack] - getTolerance() <= residual &&
+                    residual <= upper[slack] + getTolerance()) {
+                    setBasic(r, slack);
+                } else {
+                    columns[artificial][r] = 0 <= residual ? 1 : -1;
+                    upper[artificial] = Double.POSITIVE_INFINITY;
+                    setBasic(r, artificial);
+                    artificials = true;
+                }
+            }
+            refactorize();
+            return artificials;
+        }
+
+        /**
+         * @return {@code true} if basis is regular and primal feasible
+         */
+        private boolean startWarm(@NotNull Basis start) {
+            Arrays.fill(position, -1);
+            for (int j = 0; j < n + m; j++)
+                x[j] = start.isAtUpper(j) && Double.isFinite(upper[j]) ?
+                    upper[j] : getInitialValue(j);
+            int[] indices = start.getBasicIndices();
+            for (int r = 0; r < m; r++) setBasic(r, indices[r]);
+            if (!refactorize()) return false;
+            for (int r = 0; r < m; r++) {
+                int k = basis[r];
+                if (x[k] < lower[k] - getTolerance() || upper[k] + getTolerance() < x[k])
+                    return false;
+            }
+            return true;
+        }
+
+        private double getInitialValue(int j) {
+            if (Double.isFinite(lower[j])) return lower[j];
+            return Double.isFinite(upper[j]) ? upper[j] : 0;
+        }
+
+        // endregion
+
+        // region phases
+
+        private double @NotNull [] createPhaseOneCosts() {
+            double[] costs = new double[size];
+            Arrays.fill(costs, n + m, size, 1);
+            return costs;
+        }
+
+        private double @NotNull [] createPhaseTwoCosts() {
+            LinearProgram program = getWorking();
+            double factor = program.getGoal() == LinearProgram.Goal.MAXIMIZE ? -1 : 1;
+            double[] costs = new double[size];
+            for (int c = 0; c < n; c++) costs[c] = factor * program.getCost(c);
+            return costs;
+        }
+
+        private boolean isPhaseOneFeasible() {
+            double sum = 0;
+            double scale = 1;
+            for (int r = 0; r < m; r++) {
+                sum += x[n + m + r];
+                scale = Math.max(scale, Math.abs(b[r]));
+            }
+            return sum <= getTolerance() * scale;
+        }
+
+        /**
+         * fixes all artificial variables at {@code 0}
+         * and replaces basic ones by variables or slacks if possible
+         */
+        private void removeArtificials() {
+            for (int r = 0; r < m; r++) {
+                int artificial = n + m + r;
+                upper[artificial] = 0;
+                x[artificial] = 0;
+            }
+            for (int r = 0; r < m; r++) {
+                if (basis[r] < n + m) continue;
+                double[] unit = new double[m];
+                unit[r] = 1;
+                double[] row = factorization.solveTranspose(unit);
+                int entering = -1;
+                double best = PIVOT_TOLERANCE;
+                for (int j = 0; j < n + m; j++) {
+                    if (0 <= position[j]) continue;
+                    double value = Math.abs(dot(row, columns[j]));
+                    if (best < value) {
+                        best = value;
+                        entering = j;
+                    }
+                }
+                // otherwise constraint is redundant and artificial stays at 0
+                if (0 <= entering) pivot(r, entering, factorization.solve(columns[entering]));
+            }
+            refactorize();
+        }
+
+        /**
+         * @param costs costs of all indices
+         * @return {@link Status#OPTIMAL}, {@link Status#UNBOUNDED}
+         * or {@link Status#MAX_ITERATIONS}
+         */
+        @NotNull
+        private Status iterate(double @NotNull [] costs) {
+            int degenerate = 0;
+            while (true) {
+                boolean bland = DEGENERATE_LIMIT < degenerate;
+                double[] basicCosts = new double[m];
+                for (int r = 0; r < m; r++) basicCosts[r] = costs[basis[r]];
+                double[] y = factorization.solveTranspose(basicCosts);
+                // pricing
+                int entering = -1;
+                int direction = 0;
+                double best = 0;
+                for (int j = 0; j < size; j++) {
+                    if (0 <= position[j] || lower[j] == upper[j]) continue;
+                    double reduced = costs[j] - dot(y, columns[j]);
+                    int sign = 0;
+                    if (reduced < -getTolerance() && x[j] < upper[j]) sign = 1;
+                    else if (getTolerance() < reduced && lower[j] < x[j]) sign = -1;
+                    if (sign == 0 || Math.abs(reduced) <= best) continue;
+                    entering = j;
+                    direction = sign;
+                    best = Math.abs(reduced);
+                    if (bland) break;
+                }
+                if (entering < 0) return Status.OPTIMAL;
+                if (getMaxIterations() <= iterations) return Status.MAX_ITERATIONS;
+                // ratio test
+                double[] alpha = factorization.solve(columns[entering]);
+                double step = upper[entering] - lower[entering];
+                int row = -1;
+                double pivot = 0;
+                for (int r = 0; r < m; r++) {
+                    double rate = direction * alpha[r];
+                    if (Math.abs(rate) <= PIVOT_TOLERANCE) continue;
+                    int k = basis[r];
+                    double limit;
+                    if (0 < rate) {
+                        if (!Double.isFinite(lower[k])) continue;
+                        limit = Math.max(0, (x[k] - lower[k]) / rate);
+                    } else {
+                        if (!Double.isFinite(upper[k])) continue;
+                        limit = Math.max(0, (upper[k] - x[k]) / -rate);
+                    }
+                    if (limit < step || limit == step && 0 <= row &&
+                        (bland ? k < basis[row] : Math.abs(pivot) < Math.abs(rate))) {
+                        step = limit;
+                        row = r;
+                        pivot = rate;
+                    }
+                }
+                if (step == Double.POSITIVE_INFINITY) return Status.UNBOUNDED;
+                iterations++;
+                degenerate = step <= PIVOT_TOLERANCE ? degenerate + 1 : 0;
+                x[entering] += direction * step;
+                for (int r = 0; r < m; r++) x[basis[r]] -= direction * step * alpha[r];
+                if (row < 0) {
+                    // bound flip
+                    x[entering] = 0 < direction ? upper[entering] : lower[entering];
+                    continue;
+                }
+                int leaving = basis[row];
+                x[leaving] = 0 < pivot ? lower[leaving] : upper[leaving];
+                pivot(row, entering, alpha);
+            }
+        }
+
+        // endregion
+
+        // region basis
+
+        private void setBasic(int row, int index) {
+            basis[row] = index;
+            position[index] = row;
+        }
+
+        private void pivot(int row, int entering, double @NotNull [] alpha) {
+            position[basis[row]] = -1;
+            setBasic(row, entering);
+            if (factorization.isRefactorizationRequired()) refactorize();
+            else factorization.update(row, alpha);
+        }
+
+        /**
+         * decomposes basis and calculates values of basic indices
+         *
+         * @return {@code false} if basis is singular
+         */
+        private boolean refactorize() {
+            double[][] basisColumns = new double[m][];
+            for (int r = 0; r < m; r++) basisColumns[r] = columns[basis[r]];
+            if (!factorization.factorize(basisColumns)) return false;
+            double[] rhs = b.clone();
+            for (int j = 0; j < size; j++) {
+                if (0 <= position[j] || x[j] == 0) continue;
+                for (int r = 0; r < m; r++) rhs[r] -= columns[j][r] * x[j];
+            }
+            double[] values = factorization.solve(rhs);
+            for (int r = 0; r < m; r++) x[basis[r]] = values[r];
+            return true;
+        }
+
+        @NotNull
+        private Basis toBasis() {
+            int[] indices = new int[m];
+            boolean[] used = new boolean[n + m];
+            for (int r = 0; r < m; r++)
+                if (basis[r] < n + m) {
+                    indices[r] = basis[r];
+                    used[basis[r]] = true;
+                }
+            for (int r = 0; r < m; r++) {
+                if (basis[r] < n + m) continue;
+                // redundant constraint - replace artificial by unused index
+                int index = used[n + r] ? 0 : n + r;
+                while (used[index]) index++;
+                indices[r] = index;
+                used[index] = true;
+            }
+            boolean[] atUpper = new boolean[n + m];
+            for (int j = 0; j < n + m; j++)
+                atUpper[j] = position[j] < 0 && lower[j] < upper[j] &&
+                    Double.isFinite(upper[j]) && x[j] == upper[j];
+            return new Basis(indices, atUpper);
+        }
+
+        // endregion
+    }
+
+    private static double dot(double @NotNull [] a, double @NotNull [] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    // endregion
+}
@@ -0,0 +1,344 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.utils.Copyable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * class which holds a square band matrix of {@code size}
+ * with {@code lower} bands below and {@code upper} bands above the diagonal
+ * <p>
+ * only the bands are stored - so the memory is {@code O(size*(lower+upper+1))}.
+ * All values outside of the bands are {@code 0}
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class BandMatrix<T extends Number> implements Copyable<BandMatrix<T>>, Serializable {
+    // region protected exception messages
+    protected static final String EXCEPTION_SIZE_LESS_ONE =
+        "size has to be greater than 0";
+    protected static final String EXCEPTION_BANDWIDTH_NEGATIVE =
+        "bandwidth has to be greater or equal to 0";
+    protected static final String EXCEPTION_OUT_OF_BAND =
+        "value outside of band has to be 0";
+    protected static final String EXCEPTION_ROW_PREFIX = "row: ";
+    protected static final String EXCEPTION_COL_PREFIX = "col: ";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of vector has to match size of matrix";
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    // endregion
+
+    // region attributes
+
+    private final AbstractArithmetic<T> arithmetic;
+    private final int size;
+    private final int lower;
+    private final int upper;
+    private final T[] values;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new band matrix with all values {@code 0}
+     *
+     * @param arithmetic arithmetic for calculations
+     * @param size       size of matrix
+     * @param lower      bands below the diagonal
+     * @param upper      bands above the diagonal
+     * @throws IllegalArgumentException if size is less than {@code 1}
+     *                                  or a bandwidth is negative
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked") // only stores T
+    public BandMatrix(@NotNull AbstractArithmetic<T> arithmetic, int size, int lower, int upper) {
+        if (size <= 0)
+            throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_ONE);
+        if (lower < 0 || upper < 0)
+            throw new IllegalArgumentException(EXCEPTION_BANDWIDTH_NEGATIVE);
+        this.arithmetic = arithmetic;
+        this.size = size;
+        this.lower = Math.min(lower, size - 1);
+        this.upper = Math.min(upper, size - 1);
+        this.values = (T[]) new Number[Math.multiplyExact(size, getWidth())];
+        Arrays.fill(this.values, arithmetic.zero());
+    }
+
+    /**
+     * creates a new band matrix based on given one
+     *
+     * @param matrix matrix to copy
+     * @since 1.2.0
+     */
+    protected BandMatrix(@NotNull BandMatrix<T> matrix) {
+        this.arithmetic = matrix.getArithmetic();
+        this.size = matrix.getSize();
+        this.lower = matrix.getLower();
+        this.upper = matrix.getUpper();
+        this.values = matrix.values.clone();
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return stored arithmetic
+     * @since 1.2.0
+     */
+    @NotNull
+    public AbstractArithmetic<T> getArithmetic() {
+        return arithmetic;
+    }
+
+    /**
+     * @return rows and cols of matrix
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return bands below the diagonal
+     * @since 1.2.0
+     */
+    public int getLower() {
+        return lower;
+    }
+
+    /**
+     * @return bands above the diagonal
+     * @since 1.2.0
+     */
+    public int getUpper() {
+        return upper;
+    }
+
+    /**
+     * @return stored values per row: {@code lower+upper+1}
+     * @since 1.2.0
+     */
+    public int getWidth() {
+        return getLower() + getUpper() + 1;
+    }
+
+    /**
+     * @param row row of value
+     * @param col col of value
+     * @return {@code true} if value is inside of the bands
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @since 1.2.0
+     */
+    public boolean isInBand(int row, int col) {
+        if (!isValidIndex(row))
+            throw new IndexOutOfBoundsException(EXCEPTION_ROW_PREFIX + row);
+        if (!isValidIndex(col))
+            throw new IndexOutOfBoundsException(EXCEPTION_COL_PREFIX + col);
+        return row - getLower() <= col && col <= row + getUpper();
+    }
+
+    // endregion
+
+    // region value
+
+    /**
+     * @param row row of value
+     * @param col col of value
+     * @return stored value or {@code 0} if outside of bands
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public T getValue(int row, int col) {
+        return isInBand(row, col) ?
+            values[getIndex(row, col)] :
+            getArithmetic().zero();
+    }
+
+    /**
+     * @param row   row of value
+     * @param col   col of value
+     * @param value new value
+     * @return old value
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @throws IllegalArgumentException  if value is outside of bands and not {@code 0}
+     * @since 1.2.0
+     */
+    @NotNull
+    public T setValue(int row, int col, @NotNull T value) {
+        if (!isInBand(row, col)) {
+            if (!getArithmetic().isZero(value))
+                throw new IllegalArgumentException(EXCEPTION_OUT_OF_BAND);
+            return getArithmetic().zero();
+        }
+        int index = getIndex(row, col);
+        T old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    // endregion
+
+    // region multiply, transpose and toMatrix
+
+    /**
+     * @param vector vector to multiply
+     * @return new vector of {@code A*v} with type of given vector
+     * @throws IllegalArgumentException if sizes do not match
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> multiply(@NotNull Vector<T> vector) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        Vector<T> result = new Vector<>(getArithmetic(), getSize(), vector.getType());
+        for (int row = 0; row < getSize(); row++) {
+            T sum = getArithmetic().zero();
+            for (int col = Math.max(0, row - getLower()); col <= Math.min(getSize() - 1, row + getUpper()); col++)
+                sum = getArithmetic().sum(sum,
+                    getArithmetic().product(values[getIndex(row, col)], vector.getValue(col))
+                );
+            result.setValue(row, sum);
+        }
+        return result;
+    }
+
+    /**
+     * @return new transposed band matrix with swapped bandwidths
+     * @since 1.2.0
+     */
+    @NotNull
+    public BandMatrix<T> transpose() {
+        BandMatrix<T> result = new BandMatrix<>(getArithmetic(), getSize(), getUpper(), getLower());
+        for (int row = 0; row < getSize(); row++)
+            for (int col = Math.max(0, row - getLower()); col <= Math.min(getSize() - 1, row + getUpper()); col++)
+                result.values[result.getIndex(col, row)] = values[getIndex(row, col)];
+        return result;
+    }
+
+    /**
+     * @return new full matrix containing all values
+     * @since 1.2.0
+     */
+    @NotNull
+    public Matrix<T> toMatrix() {
+        Matrix<T> matrix = new Matrix<>(getArithmetic(), getSize());
+        for (int row = 0; row < getSize(); row++)
+            for (int col = Math.max(0, row - getLower()); col <= Math.min(getSize() - 1, row + getUpper()); col++)
+                matrix.setValue(row, col, values[getIndex(row, col)]);
+        return matrix;
+    }
+
+    // endregion
+
+    // region static: of
+
+    /**
+     * creates a new band matrix containing the bands of given matrix
+     *
+     * @param matrix square matrix
+     * @param lower  bands below the diagonal
+     * @param upper  bands above the diagonal
+     * @param <T>    number class
+     * @return new created band matrix
+     * @throws IllegalArgumentException if matrix is not square,
+     *                                  a bandwidth is negative or
+     *                                  a value outside of bands is not {@code 0}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static <T extends Number> BandMatrix<T> ofMatrix(
+        @NotNull Matrix<T> matrix, int lower, int upper
+    ) {
+        if (!matrix.isSquare())
+            throw new IllegalArgumentException(EXCEPTION_NO_SQUARE);
+        BandMatrix<T> result = new BandMatrix<>(matrix.getArithmetic(), matrix.getRows(), lower, upper);
+        matrix.forEach(field -> result.setValue(field.getRow(), field.getCol(), field.getValue()));
+        return result;
+    }
+
+    /**
+     * creates a new tridiagonal matrix
+     *
+     * @param arithmetic arithmetic for calculations
+     * @param lower      values below the diagonal of size {@code n-1}
+     * @param diagonal   values of the diagonal of size {@code n}
+     * @param upper      values above the diagonal of size {@code n-1}
+     * @param <T>        number class
+     * @return new created band matrix
+     * @throws IllegalArgumentException if sizes do not match
+     * @since 1.2.0
+     */
+    @NotNull
+    public static <T extends Number> BandMatrix<T> ofTridiagonal(
+        @NotNull AbstractArithmetic<T> arithmetic,
+        @NotNull T[] lower, @NotNull T[] diagonal, @NotNull T[] upper
+    ) {
+        if (lower.length != diagonal.length - 1 || upper.length != diagonal.length - 1)
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        BandMatrix<T> result = new BandMatrix<>(arithmetic, diagonal.length, 1, 1);
+        for (int i = 0; i < diagonal.length; i++) {
+            result.setValue(i, i, diagonal[i]);
+            if (0 < i) result.setValue(i, i - 1, lower[i - 1]);
+            if (i < upper.length) result.setValue(i, i + 1, upper[i]);
+        }
+        return result;
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public BandMatrix<T> copy() {
+        return new BandMatrix<>(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BandMatrix)) return false;
+        BandMatrix<?> that = (BandMatrix<?>) o;
+        return getSize() == that.getSize() &&
+            getLower() == that.getLower() &&
+            getUpper() == that.getUpper() &&
+            Objects.equals(getArithmetic(), that.getArithmetic()) &&
+            Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSize(), getLower(), getUpper(), Arrays.hashCode(values));
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getSize() + " (" + getLower() + ", " + getUpper() + "): " +
+            Arrays.toString(values);
+    }
+
+    // endregion
+
+    // region private
+
+    private boolean isValidIndex(int index) {
+        return 0 <= index && index < getSize();
+    }
+
+    private int getIndex(int row, int col) {
+        return row * getWidth() + col - row + getLower();
+    }
+
+    // endregion
+}
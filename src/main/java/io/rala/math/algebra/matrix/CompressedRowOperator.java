@@ -0,0 +1,230 @@
+package io.rala.math.algebra.matrix;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link DoubleLinearOperator} storing compressed sparse rows
+ *
+ * @since 1.2.0
+ */
+class CompressedRowOperator implements DoubleLinearOperator {
+    // region protected exception messages
+    protected static final String EXCEPTION_SIZE_LESS_ONE =
+        "rows and cols have to be greater than 0";
+    protected static final String EXCEPTION_INVALID_STRUCTURE =
+        "compressed rows are not consistent";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of vector has to match size of operator";
+    // endregion
+
+    // region attributes
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPointers;
+    private final int[] colIndices;
+    private final double[] values;
+
+    // endregion
+
+    /**
+     * @param rows        rows of operator
+     * @param cols        cols of operator
+     * @param rowPointers start of each row and end of last row
+     * @param colIndices  col of each value
+     * @param values      stored values
+     * @throws IllegalArgumentException if arrays are not consistent
+     * @since 1.2.0
+     */
+    CompressedRowOperator(
+        int rows, int cols,
+        int @NotNull [] rowPointers, int @NotNull [] colIndices, double @NotNull [] values
+    ) {
+        if (rows <= 0 || cols <= 0)
+            throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_ONE);
+        if (rowPointers.length != rows + 1 || rowPointers[0] != 0 ||
+            rowPointers[rows] != values.length || colIndices.length != values.length)
+            throw new IllegalArgumentException(EXCEPTION_INVALID_STRUCTURE);
+        for (int r = 0; r < rows; r++)
+            if (rowPointers[r + 1] < rowPointers[r])
+                throw new IllegalArgumentException(EXCEPTION_INVALID_STRUCTURE);
+        for (int col : colIndices)
+            if (col < 0 || cols <= col)
+                throw new IllegalArgumentException(EXCEPTION_INVALID_STRUCTURE);
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPointers = rowPointers;
+        this.colIndices = colIndices;
+        this.values = values;
+    }
+
+    // region getter
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return amount of stored values
+     * @since 1.2.0
+     */
+    public int getNonZeros() {
+        return values.length;
+    }
+
+    // endregion
+
+    // region multiply
+
+    @Override
+    public double @NotNull [] multiply(double @NotNull [] vector) {
+        if (vector.length != getCols())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double[] result = new double[getRows()];
+        for (int r = 0; r < getRows(); r++) {
+            double sum = 0;
+            for (int i = rowPointers[r]; i < rowPointers[r + 1]; i++)
+                sum += values[i] * vector[colIndices[i]];
+            result[r] = sum;
+        }
+        return result;
+    }
+
+    @Override
+    public double @NotNull [] multiplyTranspose(double @NotNull [] vector) {
+        if (vector.length != getRows())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double[] result = new double[getCols()];
+        for (int r = 0; r < getRows(); r++) {
+            if (vector[r] == 0) continue;
+            for (int i = rowPointers[r]; i < rowPointers[r + 1]; i++)
+                result[colIndices[i]] += values[i] * vector[r];
+        }
+        return result;
+    }
+
+    // endregion
+
+    // region static of
+
+    /**
+     * @param matrix matrix to convert
+     * @param <T>    number class
+     * @return new operator of non-zero values
+     * @implNote uses {@link Matrix#getNonZeroFields()}
+     * - so only stored values are visited if the default value is {@code 0}
+     * @since 1.2.0
+     */
+    @NotNull
+    static <T extends Number> CompressedRowOperator ofMatrix(@NotNull Matrix<T> matrix) {
+        List<Matrix<T>.Field> fields = new ArrayList<>(matrix.getNonZeroFields());
+        fields.sort(Comparator.comparingLong(Matrix.Field::getIndex));
+        Builder builder = new Builder(matrix.getRows(), matrix.getCols());
+        int row = 0;
+        for (Matrix<T>.Field field : fields) {
+            for (; row < field.getRow(); row++) builder.endRow();
+            builder.add(field.getCol(), field.getValue().doubleValue());
+        }
+        for (; row < matrix.getRows(); row++) builder.endRow();
+        return builder.build();
+    }
+
+    /**
+     * @param matrix band matrix to convert
+     * @return new operator of non-zero values
+     * @since 1.2.0
+     */
+    @NotNull
+    static CompressedRowOperator ofBandMatrix(@NotNull BandMatrix<? extends Number> matrix) {
+        int size = matrix.getSize();
+        Builder builder = new Builder(size, size);
+        for (int r = 0; r < size; r++) {
+            for (int c = Math.max(0, r - matrix.getLower()); c <= Math.min(size - 1, r + matrix.getUpper()); c++)
+                builder.add(c, matrix.getValue(r, c).doubleValue());
+            builder.endRow();
+        }
+        return builder.build();
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompressedRowOperator)) return false;
+        CompressedRowOperator that = (CompressedRowOperator) o;
+        return getRows() == that.getRows() && getCols() == that.getCols() &&
+            Arrays.equals(rowPointers, that.rowPointers) &&
+            Arrays.equals(colIndices, that.colIndices) &&
+            Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * getRows() + getCols();
+        result = 31 * result + Arrays.hashCode(rowPointers);
+        result = 31 * result + Arrays.hashCode(colIndices);
+        return 31 * result + Arrays.hashCode(values);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getRows() + " x " + getCols() + ": " + getNonZeros() + " non-zeros";
+    }
+
+    // endregion
+
+    /**
+     * collects non-zero values row by row
+     */
+    private static class Builder {
+        private final int rows;
+        private final int cols;
+        private final int[] rowPointers;
+        private int[] colIndices = new int[16];
+        private double[] values = new double[16];
+        private int size;
+        private int row;
+
+        private Builder(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            this.rowPointers = new int[rows + 1];
+        }
+
+        private void add(int col, double value) {
+            if (value == 0) return;
+            if (size == values.length) {
+                colIndices = Arrays.copyOf(colIndices, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            colIndices[size] = col;
+            values[size++] = value;
+        }
+
+        private void endRow() {
+            rowPointers[++row] = size;
+        }
+
+        @NotNull
+        private CompressedRowOperator build() {
+            return new CompressedRowOperator(rows, cols, rowPointers,
+                Arrays.copyOf(colIndices, size), Arrays.copyOf(values, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * linear operator {@code A} of primitive {@code double} values
+ * which is only accessed by matrix-vector products
+ * <p>
+ * allows algorithms to work on any storage like
+ * {@link Matrix}, {@link BandMatrix} or compressed sparse rows
+ * without converting it to a dense matrix
+ *
+ * @since 1.2.0
+ */
+public interface DoubleLinearOperator {
+    /**
+     * @return rows of operator
+     * @since 1.2.0
+     */
+    int getRows();
+
+    /**
+     * @return cols of operator
+     * @since 1.2.0
+     */
+    int getCols();
+
+    /**
+     * @param vector vector {@code x} of size {@link #getCols()}
+     * @return new array containing {@code A*x}
+     * @throws IllegalArgumentException if size does not match
+     * @since 1.2.0
+     */
+    double @NotNull [] multiply(double @NotNull [] vector);
+
+    /**
+     * @param vector vector {@code x} of size {@link #getRows()}
+     * @return new array containing {@code A^T*x}
+     * @throws IllegalArgumentException if size does not match
+     * @since 1.2.0
+     */
+    double @NotNull [] multiplyTranspose(double @NotNull [] vector);
+
+    /**
+     * @return {@code true} if {@link #getRows()} is equal to {@link #getCols()}
+     * @since 1.2.0
+     */
+    default boolean isSquare() {
+        return getRows() == getCols();
+    }
+
+    /**
+     * @param vector vector {@code x} of size {@link #getCols()}
+     * @return new column vector containing {@code A*x}
+     * @throws IllegalArgumentException if size does not match
+     * @see #multiply(double[])
+     * @since 1.2.0
+     */
+    @NotNull
+    default DoubleVector multiply(@NotNull Vector<? extends Number> vector) {
+        double[] values = new double[vector.getSize()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = vector.getValue(i).doubleValue();
+        return DoubleVector.ofValues(multiply(values));
+    }
+
+    // region static of
+
+    /**
+     * creates a new operator storing the non-zero values
+     * of given matrix as compressed sparse rows
+     *
+     * @param matrix matrix to convert
+     * @return new created operator
+     * @since 1.2.0
+     */
+    @NotNull
+    static DoubleLinearOperator ofMatrix(@NotNull Matrix<? extends Number> matrix) {
+        return CompressedRowOperator.ofMatrix(matrix);
+    }
+
+    /**
+     * creates a new operator storing the non-zero values
+     * of the bands of given matrix as compressed sparse rows
+     *
+     * @param matrix band matrix to convert
+     * @return new created operator
+     * @since 1.2.0
+     */
+    @NotNull
+    static DoubleLinearOperator ofBandMatrix(@NotNull BandMatrix<? extends Number> matrix) {
+        return CompressedRowOperator.ofBandMatrix(matrix);
+    }
+
+    /**
+     * creates a new operator of compressed sparse rows:
+     * the values of row {@code r} are stored in
+     * {@code values[rowPointers[r]..rowPointers[r+1]-1]}
+     * with their cols in {@code colIndices} at the same positions
+     *
+     * @param rows        rows of operator
+     * @param cols        cols of operator
+     * @param rowPointers start of each row and end of last row - size {@code rows+1}
+     * @param colIndices  col of each value
+     * @param values      stored values
+     * @return new created operator - arrays are copied
+     * @throws IllegalArgumentException if arrays are not consistent
+     * @since 1.2.0
+     */
+    @NotNull
+    static DoubleLinearOperator ofCompressedRows(
+        int rows, int cols,
+        int @NotNull [] rowPointers, int @NotNull [] colIndices, double @NotNull [] values
+    ) {
+        return new CompressedRowOperator(rows, cols,
+            rowPointers.clone(), colIndices.clone(), values.clone()
+        );
+    }
+
+    // endregion
+}
@@ -12,9 +12,13 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -28,10 +32,19 @@ import java.util.stream.LongStream;
 public class Matrix<T extends Number>
     implements Copyable<Matrix<T>>, StreamIterable<Matrix<T>.Field>, Serializable {
 
+    /**
+     * amount of columns per block of {@link #gram()} and {@link #covariance()}
+     *
+     * @since 1.2.0
+     */
+    public static final int SYMMETRIC_BLOCK_SIZE = 32;
+
     // region protected exception messages
     protected static final String EXCEPTION_SIZE_PREFIX = "size: ";
     protected static final String EXCEPTION_ROW_PREFIX = "row: ";
     protected static final String EXCEPTION_COL_PREFIX = "col: ";
+    protected static final String EXCEPTION_SIZE_LESS_1 =
+        "rows and cols have to be greater than 0";
     protected static final String EXCEPTION_ROWS_UNEQUAL =
         "rows have to be equal";
     protected static final String EXCEPTION_COLS_UNEQUAL =
@@ -50,6 +63,12 @@ public class Matrix<T extends Number>
         "matrix has to have one row and/or one column";
     protected static final String EXCEPTION_NOT_1X1 =
         "matrix has to contain only one value";
+    protected static final String EXCEPTION_LESS_2_ROWS =
+        "matrix has to have at least two rows";
+    protected static final String EXCEPTION_LESS_2_COLS =
+        "matrix has to have at least two cols";
+    protected static final String EXCEPTION_NOT_POSITIV_P_NORM =
+        "may only calculate positive p-norm";
     // endregion
 
     // region attributes
@@ -128,7 +147,7 @@ public class Matrix<T extends Number>
      */
     protected Matrix(@NotNull AbstractArithmetic<T> arithmetic, int rows, int cols, @NotNull T defaultValue) {
         if (rows <= 0 || cols <= 0)
-            throw new IllegalArgumentException("rows and cols have to be greater than 0");
+            throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_1);
         this.arithmetic = arithmetic;
         this.rows = rows;
         this.cols = cols;
@@ -273,6 +292,26 @@ public class Matrix<T extends Number>
             .collect(Collectors.toUnmodifiableList());
     }
 
+    /**
+     * @return list of fields which are not {@code 0} - in no particular order
+     * @implNote only stored values are visited if the default value is {@code 0}
+     * - so sparse matrices require {@code O(nnz)} instead of {@code O(rows*cols)}
+     * @see AbstractArithmetic#isZero(Number)
+     * @since 1.2.0
+     */
+    @NotNull
+    @Unmodifiable
+    public List<@NotNull Field> getNonZeroFields() {
+        if (!getArithmetic().isZero(getDefaultValue()))
+            return stream().filter(field -> !getArithmetic().isZero(field.getValue()))
+                .collect(Collectors.toUnmodifiableList());
+        return getMatrix().entrySet().stream()
+            .flatMap(row -> row.getValue().entrySet().stream()
+                .filter(col -> !getArithmetic().isZero(col.getValue()))
+                .map(col -> new Field(row.getKey(), col.getKey(), col.getValue()))
+            ).collect(Collectors.toUnmodifiableList());
+    }
+
     // endregion
 
     // region value
@@ -557,16 +596,44 @@ public class Matrix<T extends Number>
         Matrix<T> result = new Matrix<>(getArithmetic(),
             getRows(), matrix.getCols(), getDefaultValue()
         );
-        result.computeAll(field -> {
-            T d = getArithmetic().zero();
-            for (int i = 0; i < getCols(); i++)
-                d = getArithmetic().sum(d,
-                    getArithmetic().product(
-                        getValue(field.getRow(), i),
-                        matrix.getValue(i, field.getCol())
-                    )
+        List<List<T>> rows = IntStream.range(0, getRows())
+            .mapToObj(this::getRow).collect(Collectors.toList());
+        List<List<T>> cols = IntStream.range(0, matrix.getCols())
+            .mapToObj(matrix::getCol).collect(Collectors.toList());
+        result.computeAll(field -> getArithmetic().dotProduct(
+            rows.get(field.getRow()), cols.get(field.getCol())
+        ));
+        return result;
+    }
+
+    /**
+     * @param vector vector to multiply
+     * @return new vector of {@code A*v} with type of given vector
+     * @throws IllegalArgumentException if cols are not equal vector size
+     * @implNote only stored values are multiplied if the default value is {@code 0}
+     * - so sparse matrices require {@code O(nnz)} instead of {@code O(rows*cols)}
+     * @see #multiply(Matrix)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> multiply(@NotNull Vector<T> vector) {
+        if (getCols() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_COLS_EQUALS_PARAM_ROWS);
+        Vector<T> result = new Vector<>(getArithmetic(), getRows(), vector.getType());
+        if (!getArithmetic().isZero(getDefaultValue())) {
+            List<T> values = vector.stream().map(Vector.Entry::getValue)
+                .collect(Collectors.toList());
+            for (int row = 0; row < getRows(); row++)
+                result.setValue(row, getArithmetic().dotProduct(getRow(row), values));
+            return result;
+        }
+        getMatrix().forEach((row, cols) -> {
+            T sum = getArithmetic().zero();
+            for (Map.Entry<Integer, T> entry : cols.entrySet())
+                sum = getArithmetic().sum(sum,
+                    getArithmetic().product(entry.getValue(), vector.getValue(entry.getKey()))
                 );
-            return d;
+            result.setValue(row, sum);
         });
         return result;
     }
@@ -760,6 +827,146 @@ public class Matrix<T extends Number>
 
     // endregion
 
+    // region reductions: sums, means, variances and norms
+
+    /**
+     * @return new row vector containing the sum of each column
+     * @see AbstractArithmetic#sum(Iterable)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> colSums() {
+        return toRowVector(getColLists(), getArithmetic()::sum);
+    }
+
+    /**
+     * @return new column vector containing the sum of each row
+     * @see AbstractArithmetic#sum(Iterable)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> rowSums() {
+        return toColVector(getRowLists(), getArithmetic()::sum);
+    }
+
+    /**
+     * @return new row vector containing the mean of each column
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> colMeans() {
+        return toRowVector(getColLists(), this::mean);
+    }
+
+    /**
+     * @return new column vector containing the mean of each row
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> rowMeans() {
+        return toColVector(getRowLists(), this::mean);
+    }
+
+    /**
+     * calculates the sample variance of each column in two passes
+     *
+     * @return new row vector containing the variance of each column
+     * @throws NotSupportedException if matrix has less than two rows
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> colVariances() {
+        if (getRows() < 2) throw new NotSupportedException(EXCEPTION_LESS_2_ROWS);
+        return toRowVector(getColLists(), this::variance);
+    }
+
+    /**
+     * calculates the sample variance of each row in two passes
+     *
+     * @return new column vector containing the variance of each row
+     * @throws NotSupportedException if matrix has less than two cols
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> rowVariances() {
+        if (getCols() < 2) throw new NotSupportedException(EXCEPTION_LESS_2_COLS);
+        return toColVector(getRowLists(), this::variance);
+    }
+
+    /**
+     * @param p degree of norm
+     * @return new row vector containing the p-norm of each column
+     * @throws IllegalArgumentException if p is less than {@code 1}
+     * @see Vector#pNorm(int)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> colNorms(int p) {
+        if (p <= 0) throw new IllegalArgumentException(EXCEPTION_NOT_POSITIV_P_NORM);
+        return toRowVector(getColLists(), values -> norm(values, p));
+    }
+
+    /**
+     * @param p degree of norm
+     * @return new column vector containing the p-norm of each row
+     * @throws IllegalArgumentException if p is less than {@code 1}
+     * @see Vector#pNorm(int)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Vector<T> rowNorms(int p) {
+        if (p <= 0) throw new IllegalArgumentException(EXCEPTION_NOT_POSITIV_P_NORM);
+        return toColVector(getRowLists(), values -> norm(values, p));
+    }
+
+    // endregion
+
+    // region gram and covariance
+
+    /**
+     * calculates {@code A^T*A} without transposing the matrix
+     * <p>
+     * only the upper triangle is calculated and mirrored -
+     * column pairs are processed in blocks of {@link #SYMMETRIC_BLOCK_SIZE}
+     * columns which are distributed in parallel
+     *
+     * @return new symmetric matrix of size {@link #getCols()}
+     * @see AbstractArithmetic#dotProduct(Iterable, Iterable)
+     * @since 1.2.0
+     */
+    @NotNull
+    public Matrix<T> gram() {
+        return symmetricProducts(getColLists(), UnaryOperator.identity());
+    }
+
+    /**
+     * calculates the sample covariance matrix of the columns
+     * where each row is an observation
+     * <p>
+     * columns are centered first - the products are calculated like in {@link #gram()}
+     *
+     * @return new symmetric matrix of size {@link #getCols()}
+     * @throws NotSupportedException if matrix has less than two rows
+     * @since 1.2.0
+     */
+    @NotNull
+    public Matrix<T> covariance() {
+        if (getRows() < 2) throw new NotSupportedException(EXCEPTION_LESS_2_ROWS);
+        List<List<T>> centered = getColLists().stream()
+            .map(values -> {
+                T mean = mean(values);
+                return values.stream()
+                    .map(value -> getArithmetic().difference(value, mean))
+                    .collect(Collectors.toList());
+            }).collect(Collectors.toList());
+        T divisor = getArithmetic().fromInt(getRows() - 1);
+        return symmetricProducts(centered,
+            value -> getArithmetic().quotient(value, divisor)
+        );
+    }
+
+    // endregion
+
     // region toVector and toParam
 
     /**
@@ -978,6 +1185,85 @@ public class Matrix<T extends Number>
 
     // endregion
 
+    // region static: collector
+
+    /**
+     * creates a collector which collects row based values
+     * in encounter order into a new matrix
+     * <p>
+     * only values unequal to {@link AbstractArithmetic#zero()} are stored
+     * and directly moved into the matrix - so there is no intermediate array
+     *
+     * @param arithmetic arithmetic for calculations
+     * @param cols       cols of matrix
+     * @param <T>        number class
+     * @return new collector supporting parallel streams
+     * @throws IllegalArgumentException if cols is less than {@code 1}
+     * @throws IllegalArgumentException on finish if amount of values
+     *                                  modulo cols is not congruent {@code 0}
+     *                                  or no value was collected
+     * @see #ofValuesByRows(AbstractArithmetic, int, Number[])
+     * @since 1.2.0
+     */
+    @NotNull
+    public static <T extends Number> Collector<T, ?, Matrix<T>> toMatrixByRows(
+        @NotNull AbstractArithmetic<T> arithmetic, int cols
+    ) {
+        if (cols <= 0) throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_1);
+        return Collector.of(
+            () -> new RowCollection<>(arithmetic, cols),
+            RowCollection::add,
+            RowCollection::addAll,
+            RowCollection::toMatrix
+        );
+    }
+
+    /**
+     * creates a collector which stores a value for each element
+     * at its row and col in a new matrix
+     * <p>
+     * values at the same position are summed up
+     * like in the coordinate format of sparse matrices
+     *
+     * @param arithmetic arithmetic for calculations
+     * @param rows       rows of matrix
+     * @param cols       cols of matrix
+     * @param row        function providing row of element
+     * @param col        function providing col of element
+     * @param value      function providing value of element
+     * @param <E>        element class
+     * @param <T>        number class
+     * @return new collector supporting parallel and unordered streams
+     * @throws IllegalArgumentException  if rows or cols is less than {@code 1}
+     * @throws IndexOutOfBoundsException on accumulation if row or col is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public static <E, T extends Number> Collector<E, ?, Matrix<T>> toMatrix(
+        @NotNull AbstractArithmetic<T> arithmetic, int rows, int cols,
+        @NotNull ToIntFunction<E> row, @NotNull ToIntFunction<E> col,
+        @NotNull Function<E, T> value
+    ) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_1);
+        return Collector.of(
+            () -> new Matrix<>(arithmetic, rows, cols),
+            (matrix, element) -> matrix.compute(
+                row.applyAsInt(element), col.applyAsInt(element),
+                value.apply(element), arithmetic::sum
+            ),
+            (matrix, other) -> {
+                other.getMatrix().forEach((r, values) -> values.forEach((c, v) ->
+                    matrix.compute(r, c, v, arithmetic::sum)
+                ));
+                return matrix;
+            },
+            Collector.Characteristics.IDENTITY_FINISH,
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    // endregion
+
     // region map and copy
 
     /**
@@ -1047,6 +1333,18 @@ public class Matrix<T extends Number>
         };
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote spliterator is {@link Spliterator#SIZED}
+     * and {@link Spliterator#SUBSIZED} and splits evenly by rows
+     */
+    @Override
+    @NotNull
+    public Spliterator<Field> spliterator() {
+        return new FieldSpliterator(0, size());
+    }
+
     @Override
     @SuppressWarnings("unchecked") // can only fail in isEqual
     public boolean equals(Object o) {
@@ -1465,6 +1763,86 @@ public class Matrix<T extends Number>
 
     // region private
 
+    @NotNull
+    private List<List<T>> getRowLists() {
+        return IntStream.range(0, getRows()).mapToObj(this::getRow)
+            .collect(Collectors.toList());
+    }
+
+    @NotNull
+    private List<List<T>> getColLists() {
+        return IntStream.range(0, getCols()).mapToObj(this::getCol)
+            .collect(Collectors.toList());
+    }
+
+    @NotNull
+    private Vector<T> toColVector(
+        @NotNull List<List<T>> lists, @NotNull Function<List<T>, T> reduction
+    ) {
+        return Vector.ofList(getArithmetic(),
+            lists.stream().map(reduction).collect(Collectors.toList())
+        );
+    }
+
+    @NotNull
+    private Vector<T> toRowVector(
+        @NotNull List<List<T>> lists, @NotNull Function<List<T>, T> reduction
+    ) {
+        return toColVector(lists, reduction).transpose();
+    }
+
+    @NotNull
+    private T mean(@NotNull List<T> values) {
+        return getArithmetic().quotient(
+            getArithmetic().sum(values), getArithmetic().fromInt(values.size())
+        );
+    }
+
+    @NotNull
+    private T variance(@NotNull List<T> values) {
+        T mean = mean(values);
+        List<T> squares = values.stream().map(value -> {
+            T difference = getArithmetic().difference(value, mean);
+            return getArithmetic().product(difference, difference);
+        }).collect(Collectors.toList());
+        return getArithmetic().quotient(
+            getArithmetic().sum(squares), getArithmetic().fromInt(values.size() - 1)
+        );
+    }
+
+    @NotNull
+    private T norm(@NotNull List<T> values, int p) {
+        return Vector.ofList(getArithmetic(), values).pNorm(p);
+    }
+
+    @NotNull
+    private Matrix<T> symmetricProducts(
+        @NotNull List<List<T>> columns, @NotNull UnaryOperator<T> map
+    ) {
+        int size = columns.size();
+        int blocks = (size + SYMMETRIC_BLOCK_SIZE - 1) / SYMMETRIC_BLOCK_SIZE;
+        AtomicReferenceArray<T> products = new AtomicReferenceArray<>(size * size);
+        IntStream pairs = IntStream.range(0, blocks * blocks)
+            .filter(pair -> pair / blocks <= pair % blocks);
+        if (1 < blocks) pairs = pairs.parallel();
+        pairs.forEach(pair -> {
+            int rowStart = pair / blocks * SYMMETRIC_BLOCK_SIZE;
+            int colStart = pair % blocks * SYMMETRIC_BLOCK_SIZE;
+            for (int i = rowStart; i < Math.min(size, rowStart + SYMMETRIC_BLOCK_SIZE); i++)
+                for (int j = Math.max(i, colStart); j < Math.min(size, colStart + SYMMETRIC_BLOCK_SIZE); j++)
+                    products.set(i * size + j, map.apply(
+                        getArithmetic().dotProduct(columns.get(i), columns.get(j))
+                    ));
+        });
+        Matrix<T> result = new Matrix<>(getArithmetic(), size);
+        for (int i = 0; i < size; i++)
+            for (int j = i; j < size; j++) {
+                result.setValue(i, j, products.get(i * size + j));
+                result.setValue(j, i, products.get(i * size + j));
+            }
+        return result;
+    }
+
     private void removeDefaultValues() {
         getMatrix().entrySet().removeIf(integerMapEntry -> {
             if (integerMapEntry.getValue() == null) return true;
@@ -1589,4 +1967,110 @@ public class Matrix<T extends Number>
             return getIndex() + ": " + getValue();
         }
     }
+
+    /**
+     * spliterator over an index range of all fields
+     * which prefers to split at row boundaries
+     *
+     * @since 1.2.0
+     */
+    private class FieldSpliterator implements Spliterator<Field> {
+        private long index;
+        private final long end;
+
+        private FieldSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super Field> action) {
+            if (end <= index) return false;
+            T value = getValue(index);
+            action.accept(new Field(index++, value));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super Field> action) {
+            while (index < end) {
+                int row = (int) (index / getCols());
+                Map<Integer, T> values = getMatrix().getOrDefault(row, Collections.emptyMap());
+                long rowEnd = Math.min(end, (row + 1L) * getCols());
+                for (; index < rowEnd; index++)
+                    action.accept(new Field(index,
+                        values.getOrDefault((int) (index % getCols()), getDefaultValue())
+                    ));
+            }
+        }
+
+        @Override
+        @Nullable
+        public Spliterator<Field> trySplit() {
+            if (end - index < 2) return null;
+            long middle = (index + end) >>> 1;
+            long rowBoundary = middle / getCols() * getCols();
+            if (rowBoundary <= index) rowBoundary += getCols();
+            if (rowBoundary < end) middle = rowBoundary;
+            FieldSpliterator prefix = new FieldSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * mutable container of {@link #toMatrixByRows(AbstractArithmetic, int)}
+     *
+     * @param <T> number class
+     * @since 1.2.0
+     */
+    private static final class RowCollection<T extends Number> {
+        private final AbstractArithmetic<T> arithmetic;
+        private final int cols;
+        private final Map<Integer, Map<Integer, T>> values = new HashMap<>();
+        private long size;
+
+        private RowCollection(@NotNull AbstractArithmetic<T> arithmetic, int cols) {
+            this.arithmetic = arithmetic;
+            this.cols = cols;
+        }
+
+        private void add(@NotNull T value) {
+            if (!arithmetic.isEqual(value, arithmetic.zero())) put(size, value);
+            size++;
+        }
+
+        @NotNull
+        private RowCollection<T> addAll(@NotNull RowCollection<T> other) {
+            other.values.forEach((row, cols) -> cols.forEach((col, value) ->
+                put(size + (long) row * this.cols + col, value)
+            ));
+            size += other.size;
+            return this;
+        }
+
+        @NotNull
+        private Matrix<T> toMatrix() {
+            if (size % cols != 0)
+                throw new IllegalArgumentException(EXCEPTION_COLS_NOT_CONGRUENT_0);
+            Matrix<T> matrix = new Matrix<>(arithmetic, (int) (size / cols), cols);
+            matrix.getMatrix().putAll(values);
+            return matrix;
+        }
+
+        private void put(long index, @NotNull T value) {
+            values.computeIfAbsent((int) (index / cols), row -> new HashMap<>())
+                .put((int) (index % cols), value);
+        }
+    }
 }
@@ -0,0 +1,376 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * calculates exact results of {@link BigInteger} matrices
+ * by calculating them modulo many word-sized primes
+ * using primitive {@code long} arithmetic
+ * and reconstructing them by the Chinese Remainder Theorem
+ * <p>
+ * the number of primes is chosen by the Hadamard bound of the result,
+ * so the symmetric residue of the reconstruction is the exact result.
+ * The calculations of different primes are independent
+ * and may run in parallel
+ *
+ * @since 1.2.0
+ */
+public class MultiModularEngine {
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of vector has to match rows of matrix";
+    protected static final String EXCEPTION_DETERMINANTE_IS_ZERO =
+        "determinante has to be non-zero";
+    // endregion
+
+    // region static primes
+
+    /**
+     * all primes are below {@code 2^31}
+     * so the product of two residues fits into {@code long}
+     */
+    private static final List<Long> PRIMES = new ArrayList<>();
+
+    // endregion
+
+    // region attributes
+
+    private final boolean parallel;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new sequential engine
+     *
+     * @since 1.2.0
+     */
+    public MultiModularEngine() {
+        this(false);
+    }
+
+    /**
+     * creates a new engine
+     *
+     * @param parallel {@code true} if primes should be processed in parallel
+     * @since 1.2.0
+     */
+    public MultiModularEngine(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return {@code true} if primes are processed in parallel
+     * @since 1.2.0
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    // endregion
+
+    // region determinante and solveScaled
+
+    /**
+     * @param matrix matrix to calculate determinante of
+     * @return exact determinante of matrix
+     * @throws NotSupportedException if matrix is not square
+     * @since 1.2.0
+     */
+    @NotNull
+    public BigInteger determinante(@NotNull Matrix<BigInteger> matrix) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        BigInteger[][] values = toArray(matrix);
+        BigInteger bound = BigInteger.ONE;
+        for (BigInteger[] row : values) {
+            bound = bound.multiply(ceilNorm(Stream.of(row)));
+            if (bound.signum() == 0) return BigInteger.ZERO;
+        }
+        List<Long> primes = new ArrayList<>();
+        BigInteger modulus = BigInteger.ONE;
+        BigInteger limit = bound.shiftLeft(1);
+        for (int i = 0; modulus.compareTo(limit) <= 0; i++) {
+            long prime = getPrime(i);
+            primes.add(prime);
+            modulus = modulus.multiply(BigInteger.valueOf(prime));
+        }
+        long[][] residues = stream(primes.size())
+            .mapToObj(i -> new long[]{
+                determinante(reduce(values, primes.get(i)), primes.get(i))
+            })
+            .toArray(long[][]::new);
+        return reconstruct(primes, residues)[0];
+    }
+
+    /**
+     * solves {@code A*x=b} of a non-singular matrix
+     * and returns the integral values {@code y=det(A)*x}
+     * <p>
+     * primes which divide the determinante are skipped
+     *
+     * @param matrix       non-singular matrix {@code A}
+     * @param vector       vector {@code b}
+     * @param determinante determinante of matrix
+     * @return {@code det(A)*x}
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if sizes do not match or
+     *                                  determinante is {@code 0}
+     * @see #determinante(Matrix)
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<BigInteger> solveScaled(
+        @NotNull Matrix<BigInteger> matrix,
+        @NotNull Vector<BigInteger> vector,
+        @NotNull BigInteger determinante
+    ) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        if (matrix.getRows() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        if (determinante.signum() == 0)
+            throw new IllegalArgumentException(EXCEPTION_DETERMINANTE_IS_ZERO);
+        int size = matrix.getRows();
+        BigInteger[][] values = new BigInteger[size][size + 1];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++)
+                values[r][c] = matrix.getValue(r, c);
+            values[r][size] = vector.getValue(r);
+        }
+        // Cramer: |y_i|=|det(A_i)| is bounded by the product of column norms
+        BigInteger bound = ceilNorm(IntStream.range(0, size).mapToObj(r -> values[r][size]))
+            .max(BigInteger.ONE);
+        for (int c = 0; c < size; c++) {
+            int col = c;
+            bound = bound.multiply(ceilNorm(IntStream.range(0, size).mapToObj(r -> values[r][col])));
+        }
+        List<Long> primes = new ArrayList<>();
+        BigInteger modulus = BigInteger.ONE;
+        BigInteger limit = bound.shiftLeft(1);
+        for (int i = 0; modulus.compareTo(limit) <= 0; i++) {
+            long prime = getPrime(i);
+            if (determinante.mod(BigInteger.valueOf(prime)).signum() == 0) continue;
+            primes.add(prime);
+            modulus = modulus.multiply(BigInteger.valueOf(prime));
+        }
+        long[][] residues = stream(primes.size())
+            .mapToObj(i -> solveScaled(reduce(values, primes.get(i)), primes.get(i)))
+            .toArray(long[][]::new);
+        return List.of(reconstruct(primes, residues));
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MultiModularEngine that = (MultiModularEngine) o;
+        return isParallel() == that.isParallel();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isParallel());
+    }
+
+    @Override
+    public String toString() {
+        return "MultiModularEngine{parallel=" + isParallel() + "}";
+    }
+
+    // endregion
+
+    // region protected static
+
+    /**
+     * @param index index of prime
+     * @return {@code index}-th largest prime below {@code 2^31}
+     * @since 1.2.0
+     */
+    protected static long getPrime(int index) {
+        synchronized (PRIMES) {
+            long candidate = PRIMES.isEmpty() ? Integer.MAX_VALUE : PRIMES.get(PRIMES.size() - 1) - 2;
+            while (PRIMES.size() <= index) {
+                if (BigInteger.valueOf(candidate).isProbablePrime(64))
+                    PRIMES.add(candidate);
+                candidate -= 2;
+            }
+            return PRIMES.get(index);
+        }
+    }
+
+    /**
+     * combines residues of all primes using Garner's algorithm
+     * and maps them to the symmetric range {@code (-M/2, M/2]}
+     *
+     * @param primes   pairwise different primes
+     * @param residues residues of each prime
+     * @return reconstructed values
+     * @since 1.2.0
+     */
+    @NotNull
+    protected static BigInteger[] reconstruct(@NotNull List<Long> primes, long[] @NotNull [] residues) {
+        int size = residues[0].length;
+        BigInteger[] values = new BigInteger[size];
+        for (int k = 0; k < size; k++) {
+            BigInteger value = BigInteger.valueOf(residues[0][k]);
+            BigInteger modulus = BigInteger.valueOf(primes.get(0));
+            for (int i = 1; i < primes.size(); i++) {
+                long prime = primes.get(i);
+                long current = value.mod(BigInteger.valueOf(prime)).longValue();
+                long inverse = inverse(modulus.mod(BigInteger.valueOf(prime)).longValue(), prime);
+                long factor = Math.floorMod(residues[i][k] - current, prime) * inverse % prime;
+                value = value.add(modulus.multiply(BigInteger.valueOf(factor)));
+                modulus = modulus.multiply(BigInteger.valueOf(prime));
+            }
+            values[k] = value.shiftLeft(1).compareTo(modulus) > 0 ? value.subtract(modulus) : value;
+        }
+        return values;
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private IntStream stream(int size) {
+        IntStream stream = IntStream.range(0, size);
+        return isParallel() ? stream.parallel() : stream;
+    }
+
+    @NotNull
+    private static BigInteger[][] toArray(@NotNull Matrix<BigInteger> matrix) {
+        BigInteger[][] values = new BigInteger[matrix.getRows()][matrix.getCols()];
+        for (int r = 0; r < matrix.getRows(); r++)
+            for (int c = 0; c < matrix.getCols(); c++)
+                values[r][c] = matrix.getValue(r, c);
+        return values;
+    }
+
+    @NotNull
+    private static BigInteger ceilNorm(@NotNull Stream<BigInteger> values) {
+        BigInteger squares = values.map(value -> value.multiply(value))
+            .reduce(BigInteger.ZERO, BigInteger::add);
+        BigInteger root = squares.sqrt();
+        return root.multiply(root).equals(squares) ? root : root.add(BigInteger.ONE);
+    }
+
+    private static long[][] reduce(BigInteger[] @NotNull [] values, long prime) {
+        BigInteger modulus = BigInteger.valueOf(prime);
+        long[][] reduced = new long[values.length][];
+        for (int r = 0; r < values.length; r++) {
+            reduced[r] = new long[values[r].length];
+            for (int c = 0; c < values[r].length; c++)
+                reduced[r][c] = values[r][c].mod(modulus).longValue();
+        }
+        return reduced;
+    }
+
+    private static long determinante(long[] @NotNull [] values, long prime) {
+        int size = values.length;
+        long determinante = 1;
+        for (int col = 0; col < size; col++) {
+            int pivot = findPivot(values, col);
+            if (pivot < 0) return 0;
+            if (swapRows(values, pivot, col)) determinante = prime - determinante;
+            determinante = determinante * values[col][col] % prime;
+            eliminate(values, col, prime);
+        }
+        return determinante;
+    }
+
+    /**
+     * @return {@code det*x} modulo prime of augmented matrix
+     */
+    private static long[] solveScaled(long[] @NotNull [] values, long prime) {
+        int size = values.length;
+        long determinante = 1;
+        for (int col = 0; col < size; col++) {
+            if (swapRows(values, findPivot(values, col), col))
+                determinante = prime - determinante;
+            determinante = determinante * values[col][col] % prime;
+            eliminate(values, col, prime);
+        }
+        long[] solution = new long[size];
+        for (int r = size - 1; 0 <= r; r--) {
+            long sum = values[r][size];
+            for (int c = r + 1; c < size; c++)
+                sum = Math.floorMod(sum - values[r][c] * solution[c] % prime, prime);
+            solution[r] = sum * inverse(values[r][r], prime) % prime;
+        }
+        for (int r = 0; r < size; r++)
+            solution[r] = solution[r] * determinante % prime;
+        return solution;
+    }
+
+    /**
+     * @return first row starting at {@code col} with a non-zero value
+     * in {@code col} or {@code -1}
+     */
+    private static int findPivot(long[] @NotNull [] values, int col) {
+        for (int row = col; row < values.length; row++)
+            if (values[row][col] != 0) return row;
+        return -1;
+    }
+
+    /**
+     * @return {@code true} if rows were swapped
+     */
+    private static boolean swapRows(long[] @NotNull [] values, int row1, int row2) {
+        if (row1 == row2) return false;
+        long[] tmp = values[row1];
+        values[row1] = values[row2];
+        values[row2] = tmp;
+        return true;
+    }
+
+    private static void eliminate(long[] @NotNull [] values, int col, long prime) {
+        long inverse = inverse(values[col][col], prime);
+        for (int r = col + 1; r < values.length; r++) {
+            long factor = values[r][col] * inverse % prime;
+            if (factor == 0) continue;
+            for (int c = col; c < values[r].length; c++)
+                values[r][c] = Math.floorMod(values[r][c] - factor * values[col][c] % prime, prime);
+        }
+    }
+
+    /**
+     * @return modular inverse based on the extended euclidean algorithm
+     */
+    private static long inverse(long value, long prime) {
+        long a = value, b = prime;
+        long x = 1, y = 0;
+        while (b != 0) {
+            long q = a / b;
+            long tmp = a - q * b;
+            a = b;
+            b = tmp;
+            tmp = x - q * y;
+            x = y;
+            y = tmp;
+        }
+        return Math.floorMod(x, prime);
+    }
+
+    // endregion
+}
@@ -0,0 +1,225 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * LU decomposition {@code P*A=L*U} of a square matrix
+ * using primitive {@code double} values and partial pivoting
+ * <p>
+ * the decomposition is calculated once and can be used
+ * to solve many systems in {@code O(n^2)}
+ *
+ * @since 1.2.0
+ */
+public class DoubleLUDecomposition {
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    protected static final String EXCEPTION_SINGULAR =
+        "matrix is singular";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of vector has to match size of matrix";
+    // endregion
+
+    // region attributes
+
+    private final double[][] lu;
+    private final int[] pivot;
+    private int pivotSign = 1;
+    private boolean singular;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new decomposition of given matrix
+     * using {@link Number#doubleValue()} of all values
+     *
+     * @param matrix square matrix to decompose
+     * @throws NotSupportedException if matrix is not square
+     * @since 1.2.0
+     */
+    public DoubleLUDecomposition(@NotNull Matrix<? extends Number> matrix) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        int size = matrix.getRows();
+        lu = new double[size][size];
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++)
+                lu[r][c] = matrix.getValue(r, c).doubleValue();
+        pivot = new int[size];
+        decompose();
+    }
+
+    /**
+     * creates a new decomposition of given values
+     *
+     * @param values square row based values to decompose - they are copied
+     * @throws NotSupportedException if values are not square
+     * @since 1.2.0
+     */
+    public DoubleLUDecomposition(double @NotNull [] @NotNull [] values) {
+        int size = values.length;
+        lu = new double[size][];
+        for (int r = 0; r < size; r++) {
+            if (values[r].length != size)
+                throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+            lu[r] = values[r].clone();
+        }
+        pivot = new int[size];
+        decompose();
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return size of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return lu.length;
+    }
+
+    /**
+     * @return {@code true} if a pivot is {@code 0}
+     * @since 1.2.0
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * @return row permutation: row {@code i} of {@code P*A}
+     * is row {@code pivot[i]} of {@code A}
+     * @since 1.2.0
+     */
+    public int @NotNull [] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * @return combined factors: {@code L} (without its unit diagonal)
+     * below and {@code U} on and above the diagonal
+     * @since 1.2.0
+     */
+    public double @NotNull [] @NotNull [] getFactor() {
+        double[][] copy = new double[getSize()][];
+        for (int r = 0; r < getSize(); r++) copy[r] = lu[r].clone();
+        return copy;
+    }
+
+    /**
+     * @return determinante of decomposed matrix
+     * @since 1.2.0
+     */
+    public double determinante() {
+        double determinante = pivotSign;
+        for (int i = 0; i < getSize(); i++) determinante *= lu[i][i];
+        return determinante;
+    }
+
+    // endregion
+
+    // region solve
+
+    /**
+     * solves {@code A*x=b}
+     *
+     * @param vector vector {@code b}
+     * @return new array containing {@code x}
+     * @throws IllegalArgumentException if size does not match
+     * @throws IllegalStateException    if matrix {@link #isSingular()}
+     * @since 1.2.0
+     */
+    public double @NotNull [] solve(double @NotNull [] vector) {
+        validate(vector);
+        int size = getSize();
+        double[] x = new double[size];
+        for (int i = 0; i < size; i++) {
+            double sum = vector[pivot[i]];
+            for (int j = 0; j < i; j++) sum -= lu[i][j] * x[j];
+            x[i] = sum;
+        }
+        for (int i = size - 1; 0 <= i; i--) {
+            double sum = x[i];
+            for (int j = i + 1; j < size; j++) sum -= lu[i][j] * x[j];
+            x[i] = sum / lu[i][i];
+        }
+        return x;
+    }
+
+    /**
+     * solves {@code A^T*x=b}
+     *
+     * @param vector vector {@code b}
+     * @return new array containing {@code x}
+     * @throws IllegalArgumentException if size does not match
+     * @throws IllegalStateException    if matrix {@link #isSingular()}
+     * @since 1.2.0
+     */
+    public double @NotNull [] solveTranspose(double @NotNull [] vector) {
+        validate(vector);
+        int size = getSize();
+        double[] y = vector.clone();
+        for (int i = 0; i < size; i++) {
+            double sum = y[i];
+            for (int j = 0; j < i; j++) sum -= lu[j][i] * y[j];
+            y[i] = sum / lu[i][i];
+        }
+        for (int i = size - 1; 0 <= i; i--) {
+            double sum = y[i];
+            for (int j = i + 1; j < size; j++) sum -= lu[j][i] * y[j];
+            y[i] = sum;
+        }
+        double[] x = new double[size];
+        for (int i = 0; i < size; i++) x[pivot[i]] = y[i];
+        return x;
+    }
+
+    // endregion
+
+    // region private
+
+    private void decompose() {
+        int size = getSize();
+        for (int i = 0; i < size; i++) pivot[i] = i;
+        for (int k = 0; k < size; k++) {
+            int max = k;
+            for (int i = k + 1; i < size; i++)
+                if (Math.abs(lu[max][k]) < Math.abs(lu[i][k])) max = i;
+            if (max != k) {
+                double[] row = lu[max];
+                lu[max] = lu[k];
+                lu[k] = row;
+                int index = pivot[max];
+                pivot[max] = pivot[k];
+                pivot[k] = index;
+                pivotSign = -pivotSign;
+            }
+            if (lu[k][k] == 0 || !Double.isFinite(lu[k][k])) {
+                singular = true;
+                continue;
+            }
+            for (int i = k + 1; i < size; i++) {
+                double factor = lu[i][k] / lu[k][k];
+                lu[i][k] = factor;
+                if (factor == 0) continue;
+                for (int j = k + 1; j < size; j++) lu[i][j] -= factor * lu[k][j];
+            }
+        }
+    }
+
+    private void validate(double @NotNull [] vector) {
+        if (vector.length != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        if (isSingular())
+            throw new IllegalStateException(EXCEPTION_SINGULAR);
+    }
+
+    // endregion
+}
@@ -0,0 +1,99 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * class which holds an eigenvalue {@code λ} and
+ * its normalized eigenvector {@code x} with {@code A*x=λ*x}
+ *
+ * @since 1.2.0
+ */
+public class EigenPair {
+    // region attributes
+
+    private final double eigenvalue;
+    private final double[] eigenvector;
+    private final double residual;
+
+    // endregion
+
+    /**
+     * creates a new eigen pair
+     *
+     * @param eigenvalue  eigenvalue
+     * @param eigenvector normalized eigenvector - it is copied
+     * @param residual    norm of {@code A*x-λ*x}
+     * @since 1.2.0
+     */
+    public EigenPair(double eigenvalue, double @NotNull [] eigenvector, double residual) {
+        this.eigenvalue = eigenvalue;
+        this.eigenvector = eigenvector.clone();
+        this.residual = residual;
+    }
+
+    // region getter
+
+    /**
+     * @return eigenvalue
+     * @since 1.2.0
+     */
+    public double getEigenvalue() {
+        return eigenvalue;
+    }
+
+    /**
+     * @return new column vector containing the normalized eigenvector
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getEigenvector() {
+        return DoubleVector.ofValues(eigenvector);
+    }
+
+    /**
+     * @return new array containing the normalized eigenvector
+     * @since 1.2.0
+     */
+    public double @NotNull [] getEigenvectorValues() {
+        return eigenvector.clone();
+    }
+
+    /**
+     * @return norm of {@code A*x-λ*x} - indicates the accuracy of the pair
+     * @since 1.2.0
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EigenPair)) return false;
+        EigenPair that = (EigenPair) o;
+        return Double.compare(getEigenvalue(), that.getEigenvalue()) == 0 &&
+            Double.compare(getResidual(), that.getResidual()) == 0 &&
+            Arrays.equals(eigenvector, that.eigenvector);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEigenvalue(), getResidual(), Arrays.hashCode(eigenvector));
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getEigenvalue() + ": " + Arrays.toString(eigenvector);
+    }
+
+    // endregion
+}
@@ -0,0 +1,602 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.DoubleLinearOperator;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * calculates a few eigenvalues and eigenvectors of large matrices
+ * only using matrix-vector products of a {@link DoubleLinearOperator}
+ * <ul>
+ *     <li>{@link #powerIteration(DoubleLinearOperator)}:
+ *     eigenvalue with greatest magnitude</li>
+ *     <li>{@link #inverseIteration(DoubleLinearOperator, double)}:
+ *     eigenvalue nearest to a shift</li>
+ *     <li>{@link #lanczos(DoubleLinearOperator, int, Spectrum)}:
+ *     {@code k} eigenvalues of a symmetric matrix</li>
+ * </ul>
+ * the start vectors are random based on {@link #getSeed()} -
+ * so results are reproducible
+ *
+ * @since 1.2.0
+ */
+public class IterativeEigenSolver {
+    /**
+     * default value of {@link #getMaxIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+    /**
+     * default value of {@link #getTolerance()}
+     *
+     * @since 1.2.0
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /**
+     * max size of the Lanczos basis is this factor times {@code k}
+     */
+    private static final int BASIS_FACTOR = 3;
+    /**
+     * min size of the Lanczos basis if the operator is large enough
+     */
+    private static final int MIN_BASIS_SIZE = 20;
+    private static final double EPSILON = 1e-12;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "operator has to be square";
+    protected static final String EXCEPTION_MAX_ITERATIONS =
+        "max iterations have to be greater than 0";
+    protected static final String EXCEPTION_TOLERANCE =
+        "tolerance has to be greater than 0";
+    protected static final String EXCEPTION_K_INVALID =
+        "k has to be between 1 and size of operator";
+    // endregion
+
+    // region attributes
+
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private long seed;
+    private int iterations;
+
+    // endregion
+
+    // region getter and setter
+
+    /**
+     * @return max amount of iterations - for Lanczos max amount of multiplications
+     * @since 1.2.0
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * @param maxIterations new max amount of iterations
+     * @throws IllegalArgumentException if maxIterations is less than {@code 1}
+     * @since 1.2.0
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_ITERATIONS);
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return relative tolerance of residual {@code |A*x-λ*x|/|λ|}
+     * @since 1.2.0
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @param tolerance new relative tolerance
+     * @throws IllegalArgumentException if tolerance is not positive
+     * @since 1.2.0
+     */
+    public void setTolerance(double tolerance) {
+        if (!(0 < tolerance))
+            throw new IllegalArgumentException(EXCEPTION_TOLERANCE);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return seed of random start vectors
+     * @since 1.2.0
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed new seed of random start vectors
+     * @since 1.2.0
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return iterations of last calculation
+     * @since 1.2.0
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    // endregion
+
+    // region power and inverse iteration
+
+    /**
+     * @param matrix square matrix
+     * @return eigen pair with greatest magnitude
+     * @throws NotSupportedException if matrix is not square
+     * @see #powerIteration(DoubleLinearOperator)
+     * @since 1.2.0
+     */
+    @NotNull
+    public EigenPair powerIteration(@NotNull Matrix<? extends Number> matrix) {
+        return powerIteration(DoubleLinearOperator.ofMatrix(matrix));
+    }
+
+    /**
+     * calculates the eigen pair with greatest magnitude
+     * by repeated multiplication
+     * - converges slowly if the two greatest magnitudes are close
+     *
+     * @param operator square operator
+     * @return eigen pair with greatest magnitude
+     * @throws NotSupportedException if operator is not square
+     * @since 1.2.0
+     */
+    @NotNull
+    public EigenPair powerIteration(@NotNull DoubleLinearOperator operator) {
+        validateSquare(operator);
+        iterations = 0;
+        double[] x = createRandomVector(operator.getRows(), new Random(getSeed()));
+        EigenPair pair = null;
+        while (iterations < getMaxIterations()) {
+            iterations++;
+            double[] y = operator.multiply(x);
+            pair = createPair(x, y);
+            if (isConverged(pair)) return pair;
+            double norm = norm(y);
+            for (int i = 0; i < x.length; i++) x[i] = y[i] / norm;
+        }
+        return pair;
+    }
+
+    /**
+     * @param matrix square matrix
+     * @param shift  approximation of eigenvalue
+     * @return eigen pair with eigenvalue nearest to shift
+     * @throws NotSupportedException if matrix is not square
+     * @see #inverseIteration(DoubleLinearOperator, double)
+     * @since 1.2.0
+     */
+    @NotNull
+    public EigenPair inverseIteration(@NotNull Matrix<? extends Number> matrix, double shift) {
+        return inverseIteration(DoubleLinearOperator.ofMatrix(matrix), shift);
+    }
+
+    /**
+     * calculates the eigen pair with eigenvalue nearest to {@code shift}
+     * by repeated solving of {@code (A-shift*I)*y=x}
+     * <p>
+     * each system is solved by MINRES which only requires
+     * multiplications of the operator and {@code O(n)} memory
+     * - so the operator has to be symmetric.
+     * The inner solves are limited by {@link #getTolerance()}
+     * and {@link #getMaxIterations()}
+     *
+     * @param operator symmetric operator
+     * @param shift    approximation of eigenvalue
+     * @return eigen pair with eigenvalue nearest to shift
+     * @throws NotSupportedException if operator is not square
+     * @since 1.2.0
+     */
+    @NotNull
+    public EigenPair inverseIteration(@NotNull DoubleLinearOperator operator, double shift) {
+        validateSquare(operator);
+        iterations = 0;
+        int size = operator.getRows();
+        // a shift equal to an eigenvalue would make the systems singular
+        double perturbedShift = shift + Math.max(Math.abs(shift), 1) * EPSILON;
+        double[] x = createRandomVector(size, new Random(getSeed()));
+        EigenPair pair = null;
+        while (iterations < getMaxIterations()) {
+            iterations++;
+            double[] y = solveShifted(operator, perturbedShift, x);
+            double norm = norm(y);
+            if (norm == 0 || !Double.isFinite(norm)) break;
+            for (int i = 0; i < size; i++) x[i] = y[i] / norm;
+            pair = createPair(x, operator.multiply(x));
+            if (isConverged(pair)) return pair;
+        }
+        return pair != null ? pair : createPair(x, operator.multiply(x));
+    }
+
+    // endregion
+
+    // region lanczos
+
+    /**
+     * @param matrix symmetric matrix
+     * @param k      amount of eigen pairs
+     * @return {@code k} eigen pairs with greatest magnitude
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if k is invalid
+     * @see #lanczos(DoubleLinearOperator, int, Spectrum)
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<EigenPair> lanczos(@NotNull Matrix<? extends Number> matrix, int k) {
+        return lanczos(DoubleLinearOperator.ofMatrix(matrix), k, Spectrum.LARGEST_MAGNITUDE);
+    }
+
+    /**
+     * calculates {@code k} eigen pairs of a symmetric operator
+     * based on thick-restart Lanczos with full reorthogonalization
+     * <p>
+     * the basis is limited to a small multiple of {@code k}:
+     * if it is full, the best Ritz vectors are kept and the Krylov space
+     * is extended again until all {@code k} Ritz pairs satisfy
+     * {@link #getTolerance()} or {@link #getMaxIterations()} is reached -
+     * each iteration requires one multiplication
+     * and {@code O(n*m)} operations for a basis of size {@code m}
+     *
+     * @param operator symmetric operator
+     * @param k        amount of eigen pairs
+     * @param spectrum part of spectrum to calculate
+     * @return {@code k} eigen pairs ordered by spectrum
+     * @throws NotSupportedException    if operator is not square
+     * @throws IllegalArgumentException if k is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<EigenPair> lanczos(
+        @NotNull DoubleLinearOperator operator, int k, @NotNull Spectrum spectrum
+    ) {
+        validateSquare(operator);
+        int size = operator.getRows();
+        if (k <= 0 || size < k)
+            throw new IllegalArgumentException(EXCEPTION_K_INVALID);
+        int maxBasis = Math.min(size, Math.max(BASIS_FACTOR * k, MIN_BASIS_SIZE));
+        Random random = new Random(getSeed());
+        List<double[]> basis = new ArrayList<>(maxBasis);
+        // projection Q^T*A*Q - arrowhead after a restart, tridiagonal otherwise
+        double[][] projected = new double[maxBasis][maxBasis];
+        basis.add(createRandomVector(size, random));
+        iterations = 0;
+        while (true) {
+            int j = basis.size() - 1;
+            double[] w = operator.multiply(basis.get(j));
+            iterations++;
+            orthogonalize(w, basis, projected, j);
+            double beta = norm(w);
+            boolean invariant = basis.size() == size ||
+                beta <= EPSILON * Math.max(Math.abs(projected[j][j]), 1);
+            if (invariant) {
+                if (basis.size() == size)
+                    return createRitzPairs(operator, basis, projected, k, spectrum);
+                w = createRandomVector(size, random);
+                orthogonalize(w, basis);
+                beta = norm(w);
+                if (beta <= EPSILON)
+                    return createRitzPairs(operator, basis, projected, k, spectrum);
+            }
+            for (int i = 0; i < size; i++) w[i] /= beta;
+            if (basis.size() < maxBasis && iterations < getMaxIterations()) {
+                basis.add(w);
+                continue;
+            }
+            double coupling = invariant ? 0 : beta;
+            if (iterations >= getMaxIterations())
+                return createRitzPairs(operator, basis, projected, k, spectrum);
+            SymmetricEigenDecomposition ritz = decomposeProjected(projected, basis.size());
+            int[] order = orderRitzValues(ritz, spectrum);
+            if (areRitzPairsConverged(ritz, order, coupling, k))
+                return createRitzPairs(operator, basis, projected, k, spectrum);
+            restart(basis, projected, ritz, order, Math.min(j, k + (maxBasis - k) / 2));
+            basis.add(w);
+        }
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "IterativeEigenSolver{maxIterations=" + getMaxIterations() +
+            ", tolerance=" + getTolerance() + ", seed=" + getSeed() + "}";
+    }
+
+    // endregion
+
+    /**
+     * part of the spectrum calculated by
+     * {@link #lanczos(DoubleLinearOperator, int, Spectrum)}
+     *
+     * @since 1.2.0
+     */
+    public enum Spectrum {
+        /**
+         * eigenvalues with greatest absolute value first
+         *
+         * @since 1.2.0
+         */
+        LARGEST_MAGNITUDE(Comparator.comparingDouble(value -> -Math.abs(value))),
+        /**
+         * greatest eigenvalues first
+         *
+         * @since 1.2.0
+         */
+        LARGEST(Comparator.comparingDouble(value -> -value)),
+        /**
+         * smallest eigenvalues first
+         *
+         * @since 1.2.0
+         */
+        SMALLEST(Comparator.comparingDouble(value -> value));
+
+        private final Comparator<Double> comparator;
+
+        Spectrum(@NotNull Comparator<Double> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    // region private
+
+    private boolean isConverged(@NotNull EigenPair pair) {
+        return pair.getResidual() <=
+            getTolerance() * Math.max(Math.abs(pair.getEigenvalue()), Double.MIN_NORMAL);
+    }
+
+    /**
+     * @param x normalized vector
+     * @param y {@code A*x}
+     * @return pair of Rayleigh quotient
+     */
+    @NotNull
+    private static EigenPair createPair(double @NotNull [] x, double @NotNull [] y) {
+        double eigenvalue = dot(x, y);
+        double residual = 0;
+        for (int i = 0; i < x.length; i++) {
+            double difference = y[i] - eigenvalue * x[i];
+            residual += difference * difference;
+        }
+        return new EigenPair(eigenvalue, x, Math.sqrt(residual));
+    }
+
+    /**
+     * solves {@code (A-shift*I)*x=b} by MINRES of Paige and Saunders
+     *
+     * @return new solution {@code x}
+     */
+    private double @NotNull [] solveShifted(
+        @NotNull DoubleLinearOperator operator, double shift, double @NotNull [] b
+    ) {
+        int size = b.length;
+        double[] x = new double[size];
+        double beta1 = norm(b);
+        if (beta1 == 0) return x;
+        double[] r1 = b.clone();
+        double[] r2 = b.clone();
+        double[] y = b.clone();
+        double[] w = new double[size];
+        double[] w1 = new double[size];
+        double[] w2 = new double[size];
+        double oldBeta = 0;
+        double beta = beta1;
+        double dBar = 0;
+        double epsilon = 0;
+        double phiBar = beta1;
+        double cs = -1;
+        double sn = 0;
+        for (int iteration = 0; iteration < getMaxIterations(); iteration++) {
+            double[] v = new double[size];
+            for (int i = 0; i < size; i++) v[i] = y[i] / beta;
+            y = operator.multiply(v);
+            for (int i = 0; i < size; i++) {
+                y[i] -= shift * v[i];
+                if (0 < iteration) y[i] -= beta / oldBeta * r1[i];
+            }
+            double alpha = dot(v, y);
+            for (int i = 0; i < size; i++) y[i] -= alpha / beta * r2[i];
+            r1 = r2;
+            r2 = y;
+            oldBeta = beta;
+            beta = norm(y);
+            // apply previous rotation and compute the next one
+            double oldEpsilon = epsilon;
+            double delta = cs * dBar + sn * alpha;
+            double gBar = sn * dBar - cs * alpha;
+            epsilon = sn * beta;
+            dBar = -cs * beta;
+            double gamma = Math.max(Math.hypot(gBar, beta), Double.MIN_NORMAL);
+            cs = gBar / gamma;
+            sn = beta / gamma;
+            double phi = cs * phiBar;
+            phiBar = sn * phiBar;
+            double[] tmp = w1;
+            w1 = w2;
+            w2 = w;
+            w = tmp;
+            for (int i = 0; i < size; i++) {
+                w[i] = (v[i] - oldEpsilon * w1[i] - delta * w2[i]) / gamma;
+                x[i] += phi * w[i];
+            }
+            if (phiBar <= getTolerance() * beta1 || beta == 0) break;
+        }
+        return x;
+    }
+
+    /**
+     * @return eigen decomposition of the projection of given size
+     */
+    @NotNull
+    private static SymmetricEigenDecomposition decomposeProjected(
+        double @NotNull [] @NotNull [] projected, int size
+    ) {
+        double[][] values = new double[size][];
+        for (int i = 0; i < size; i++) values[i] = Arrays.copyOf(projected[i], size);
+        return new SymmetricEigenDecomposition(values);
+    }
+
+    /**
+     * @return indices of Ritz values ordered by spectrum
+     */
+    private static int @NotNull [] orderRitzValues(
+        @NotNull SymmetricEigenDecomposition ritz, @NotNull Spectrum spectrum
+    ) {
+        return IntStream.range(0, ritz.getSize()).boxed()
+            .sorted(Comparator.comparing(ritz::getEigenvalue, spectrum.comparator))
+            .mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * the residual of a Ritz pair is {@code |coupling*y_m|}
+     * where {@code y_m} is the last value of its eigenvector
+     */
+    private boolean areRitzPairsConverged(
+        @NotNull SymmetricEigenDecomposition ritz, int @NotNull [] order,
+        double coupling, int k
+    ) {
+        double[][] vectors = ritz.getEigenvectors();
+        int last = ritz.getSize() - 1;
+        for (int i = 0; i < Math.min(k, order.length); i++) {
+            double residual = Math.abs(coupling * vectors[last][order[i]]);
+            double eigenvalue = ritz.getEigenvalue(order[i]);
+            if (getTolerance() * Math.max(Math.abs(eigenvalue), Double.MIN_NORMAL) < residual)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * replaces the basis by the first {@code keep} Ritz vectors
+     * and the projection by their Ritz values - the coupling
+     * to the next basis vector is added by its orthogonalization
+     */
+    private static void restart(
+        @NotNull List<double[]> basis, double @NotNull [] @NotNull [] projected,
+        @NotNull SymmetricEigenDecomposition ritz, int @NotNull [] order, int keep
+    ) {
+        double[][] vectors = ritz.getEigenvectors();
+        List<double[]> kept = new ArrayList<>(keep);
+        for (double[] row : projected) Arrays.fill(row, 0);
+        for (int i = 0; i < keep; i++) {
+            kept.add(combine(basis, vectors, order[i]));
+            projected[i][i] = ritz.getEigenvalue(order[i]);
+        }
+        basis.clear();
+        basis.addAll(kept);
+    }
+
+    /**
+     * @return Ritz pairs of current basis verified by a multiplication
+     */
+    @NotNull
+    private static List<EigenPair> createRitzPairs(
+        @NotNull DoubleLinearOperator operator, @NotNull List<double[]> basis,
+        double @NotNull [] @NotNull [] projected, int k, @NotNull Spectrum spectrum
+    ) {
+        SymmetricEigenDecomposition ritz = decomposeProjected(projected, basis.size());
+        int[] order = orderRitzValues(ritz, spectrum);
+        double[][] vectors = ritz.getEigenvectors();
+        List<EigenPair> pairs = new ArrayList<>(Math.min(k, order.length));
+        for (int i = 0; i < Math.min(k, order.length); i++) {
+            double[] x = combine(basis, vectors, order[i]);
+            double norm = norm(x);
+            for (int j = 0; j < x.length; j++) x[j] /= norm;
+            pairs.add(createPair(x, operator.multiply(x)));
+        }
+        return pairs;
+    }
+
+    /**
+     * @return new vector {@code Q*y} of col {@code index} of {@code vectors}
+     */
+    private static double @NotNull [] combine(
+        @NotNull List<double[]> basis, double @NotNull [] @NotNull [] vectors, int index
+    ) {
+        double[] x = new double[basis.get(0).length];
+        for (int j = 0; j < basis.size(); j++) {
+            double factor = vectors[j][index];
+            if (factor == 0) continue;
+            double[] q = basis.get(j);
+            for (int i = 0; i < x.length; i++) x[i] += factor * q[i];
+        }
+        return x;
+    }
+
+    /**
+     * orthogonalizes twice against all basis vectors
+     * and adds the coefficients to col of the symmetric projection
+     */
+    private static void orthogonalize(
+        double @NotNull [] w, @NotNull List<double[]> basis,
+        double @NotNull [] @NotNull [] projected, int col
+    ) {
+        for (int i = 0; i <= col; i++) projected[i][col] = 0;
+        for (int pass = 0; pass < 2; pass++)
+            for (int i = 0; i < basis.size(); i++) {
+                double[] q = basis.get(i);
+                double factor = dot(q, w);
+                projected[i][col] += factor;
+                for (int j = 0; j < w.length; j++) w[j] -= factor * q[j];
+            }
+        for (int i = 0; i < col; i++) projected[col][i] = projected[i][col];
+    }
+
+    /**
+     * orthogonalizes twice against all basis vectors
+     */
+    private static void orthogonalize(double @NotNull [] w, @NotNull List<double[]> basis) {
+        for (int pass = 0; pass < 2; pass++)
+            for (double[] q : basis) {
+                double factor = dot(q, w);
+                for (int i = 0; i < w.length; i++) w[i] -= factor * q[i];
+            }
+    }
+
+    private static double @NotNull [] createRandomVector(int size, @NotNull Random random) {
+        double[] vector = new double[size];
+        for (int i = 0; i < size; i++) vector[i] = random.nextDouble() * 2 - 1;
+        double norm = norm(vector);
+        for (int i = 0; i < size; i++) vector[i] /= norm;
+        return vector;
+    }
+
+    private static void validateSquare(@NotNull DoubleLinearOperator operator) {
+        if (!operator.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+    }
+
+    private static double dot(double @NotNull [] a, double @NotNull [] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static double norm(double @NotNull [] vector) {
+        return Math.sqrt(dot(vector, vector));
+    }
+
+    // endregion
+}
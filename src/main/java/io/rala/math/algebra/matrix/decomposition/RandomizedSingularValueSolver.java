@@ -0,0 +1,306 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.DoubleLinearOperator;
+import io.rala.math.algebra.matrix.Matrix;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * randomized truncated singular value decomposition
+ * based on the range finder of Halko, Martinsson and Tropp
+ * <p>
+ * a gaussian sketch {@code Y=A*Ω} with {@code k+oversampling} cols
+ * captures the dominant range of {@code A}.
+ * Power iterations {@code (A*A^T)^q*Y} sharpen a slowly decaying spectrum.
+ * The small matrix {@code B=Q^T*A} of the orthonormal range {@code Q}
+ * is decomposed by {@link SingularValueDecomposition}.
+ * {@code A} is only accessed by matrix-vector products -
+ * the products of all sketch cols are calculated in parallel
+ *
+ * @since 1.2.0
+ */
+public class RandomizedSingularValueSolver {
+    /**
+     * default value of {@link #getOversampling()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+    /**
+     * default value of {@link #getPowerIterations()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+    /**
+     * relative norm below which a sketch col is treated as
+     * linear dependent on the previous ones
+     */
+    private static final double EPSILON = 1e-12;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_OVERSAMPLING =
+        "oversampling has to be greater or equal to 0";
+    protected static final String EXCEPTION_POWER_ITERATIONS =
+        "power iterations have to be greater or equal to 0";
+    protected static final String EXCEPTION_K_INVALID =
+        "k has to be between 1 and min(rows, cols)";
+    // endregion
+
+    // region attributes
+
+    private int oversampling = DEFAULT_OVERSAMPLING;
+    private int powerIterations = DEFAULT_POWER_ITERATIONS;
+    private long seed;
+    private boolean parallel = true;
+
+    // endregion
+
+    // region getter and setter
+
+    /**
+     * @return amount of additional sketch cols
+     * @since 1.2.0
+     */
+    public int getOversampling() {
+        return oversampling;
+    }
+
+    /**
+     * @param oversampling new amount of additional sketch cols
+     * @throws IllegalArgumentException if oversampling is negative
+     * @since 1.2.0
+     */
+    public void setOversampling(int oversampling) {
+        if (oversampling < 0)
+            throw new IllegalArgumentException(EXCEPTION_OVERSAMPLING);
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * @return amount of power iterations {@code q}
+     * @since 1.2.0
+     */
+    public int getPowerIterations() {
+        return powerIterations;
+    }
+
+    /**
+     * @param powerIterations new amount of power iterations
+     * @throws IllegalArgumentException if powerIterations is negative
+     * @since 1.2.0
+     */
+    public void setPowerIterations(int powerIterations) {
+        if (powerIterations < 0)
+            throw new IllegalArgumentException(EXCEPTION_POWER_ITERATIONS);
+        this.powerIterations = powerIterations;
+    }
+
+    /**
+     * @return seed of random sketch
+     * @since 1.2.0
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed new seed of random sketch
+     * @since 1.2.0
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return {@code true} if sketch cols are processed in parallel
+     * @since 1.2.0
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * the result does not depend on this setting
+     *
+     * @param parallel {@code true} if sketch cols should be processed in parallel
+     * @since 1.2.0
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    // endregion
+
+    // region decompose
+
+    /**
+     * @param matrix matrix to decompose
+     * @param k      amount of singular values
+     * @return truncated decomposition of the {@code k} largest singular values
+     * @throws IllegalArgumentException if k is not between {@code 1}
+     *                                  and {@code min(rows, cols)}
+     * @see #decompose(DoubleLinearOperator, int)
+     * @since 1.2.0
+     */
+    @NotNull
+    public TruncatedSingularValueDecomposition decompose(
+        @NotNull Matrix<? extends Number> matrix, int k
+    ) {
+        return decompose(DoubleLinearOperator.ofMatrix(matrix), k);
+    }
+
+    /**
+     * @param operator operator to decompose
+     * @param k        amount of singular values
+     * @return truncated decomposition of the {@code k} largest singular values
+     * @throws IllegalArgumentException if k is not between {@code 1}
+     *                                  and {@code min(rows, cols)}
+     * @since 1.2.0
+     */
+    @NotNull
+    public TruncatedSingularValueDecomposition decompose(
+        @NotNull DoubleLinearOperator operator, int k
+    ) {
+        int rows = operator.getRows();
+        int cols = operator.getCols();
+        if (k <= 0 || Math.min(rows, cols) < k)
+            throw new IllegalArgumentException(EXCEPTION_K_INVALID);
+        int size = Math.min(k + getOversampling(), Math.min(rows, cols));
+
+        double[][] q = new double[size][];
+        stream(size).forEach(j -> q[j] = operator.multiply(createGaussianVector(cols, j)));
+        orthonormalize(q);
+        for (int i = 0; i < getPowerIterations(); i++) {
+            double[][] z = multiplyCols(operator, q, true);
+            orthonormalize(z);
+            double[][] y = multiplyCols(operator, z, false);
+            orthonormalize(y);
+            System.arraycopy(y, 0, q, 0, size);
+        }
+
+        // rows of B = Q^T*A are cols of A^T*Q
+        double[][] b = multiplyCols(operator, q, true);
+        SingularValueDecomposition svd = new SingularValueDecomposition(b);
+        double[] singularValues = svd.getSingularValues();
+        double[][] uB = svd.getU();
+        double[][] v = svd.getV();
+
+        double[] values = new double[k];
+        double[][] leftVectors = new double[k][];
+        double[][] rightVectors = new double[k][cols];
+        for (int c = 0; c < k; c++) {
+            values[c] = singularValues[c];
+            for (int r = 0; r < cols; r++) rightVectors[c][r] = v[r][c];
+        }
+        stream(k).forEach(c -> {
+            double[] u = new double[rows];
+            for (int j = 0; j < size; j++) {
+                double factor = uB[j][c];
+                if (factor == 0) continue;
+                for (int r = 0; r < rows; r++) u[r] += factor * q[j][r];
+            }
+            leftVectors[c] = u;
+        });
+        return new TruncatedSingularValueDecomposition(rows, cols, values, leftVectors, rightVectors);
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RandomizedSingularValueSolver)) return false;
+        RandomizedSingularValueSolver that = (RandomizedSingularValueSolver) o;
+        return getOversampling() == that.getOversampling() &&
+            getPowerIterations() == that.getPowerIterations() &&
+            getSeed() == that.getSeed() &&
+            isParallel() == that.isParallel();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getOversampling(), getPowerIterations(), getSeed(), isParallel());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "RandomizedSingularValueSolver{oversampling=" + getOversampling() +
+            ", powerIterations=" + getPowerIterations() + ", seed=" + getSeed() +
+            ", parallel=" + isParallel() + "}";
+    }
+
+    // endregion
+
+    // region private
+
+    /**
+     * @return new cols {@code A*x} or {@code A^T*x} of each col {@code x}
+     */
+    private double @NotNull [] @NotNull [] multiplyCols(
+        @NotNull DoubleLinearOperator operator,
+        double @NotNull [] @NotNull [] cols, boolean transpose
+    ) {
+        double[][] result = new double[cols.length][];
+        stream(cols.length).forEach(j -> result[j] = transpose ?
+            operator.multiplyTranspose(cols[j]) : operator.multiply(cols[j])
+        );
+        return result;
+    }
+
+    /**
+     * each col has its own generator so the sketch
+     * does not depend on {@link #isParallel()}
+     */
+    private double @NotNull [] createGaussianVector(int size, int col) {
+        Random random = new Random(getSeed() * 31 + col);
+        double[] vector = new double[size];
+        for (int i = 0; i < size; i++) vector[i] = random.nextGaussian();
+        return vector;
+    }
+
+    @NotNull
+    private IntStream stream(int size) {
+        IntStream stream = IntStream.range(0, size);
+        return isParallel() ? stream.parallel() : stream;
+    }
+
+    /**
+     * orthonormalizes cols in place by Gram-Schmidt
+     * with reorthogonalization - dependent cols are set to {@code 0}
+     */
+    private static void orthonormalize(double @NotNull [] @NotNull [] cols) {
+        for (int j = 0; j < cols.length; j++) {
+            double[] col = cols[j];
+            double initial = norm(col);
+            for (int pass = 0; pass < 2; pass++)
+                for (int i = 0; i < j; i++) {
+                    double dot = 0;
+                    for (int r = 0; r < col.length; r++) dot += cols[i][r] * col[r];
+                    if (dot == 0) continue;
+                    for (int r = 0; r < col.length; r++) col[r] -= dot * cols[i][r];
+                }
+            double norm = norm(col);
+            if (norm <= EPSILON * initial || norm == 0) {
+                Arrays.fill(col, 0);
+                continue;
+            }
+            for (int r = 0; r < col.length; r++) col[r] /= norm;
+        }
+    }
+
+    private static double norm(double @NotNull [] vector) {
+        double sum = 0;
+        for (double value : vector) sum += value * value;
+        return Math.sqrt(sum);
+    }
+
+    // endregion
+}
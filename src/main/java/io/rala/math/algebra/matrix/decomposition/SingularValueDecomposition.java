@@ -0,0 +1,573 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * thin singular value decomposition {@code A=U*S*V^T}
+ * of a {@code m x n} matrix using primitive {@code double} values
+ * <p>
+ * the matrix is reduced to bidiagonal form by Householder reflections
+ * and the bidiagonal matrix is diagonalized by implicit shifted QR steps
+ * (Golub-Kahan) - both steps work in place and cost {@code O(m*n^2)}.
+ * {@code U} is {@code m x p}, {@code V} is {@code n x p}
+ * with {@code p=min(m,n)}
+ * <p>
+ * rank, pseudo-inverse and condition number are derived from
+ * the singular values without any further decomposition
+ *
+ * @since 1.2.0
+ */
+public class SingularValueDecomposition {
+    // region protected exception messages
+    protected static final String EXCEPTION_SIZE_LESS_ONE =
+        "rows and cols have to be greater than 0";
+    protected static final String EXCEPTION_NOT_RECTANGULAR =
+        "all rows have to have the same size";
+    protected static final String EXCEPTION_NOT_FINITE =
+        "values have to be finite";
+    protected static final String EXCEPTION_TOLERANCE =
+        "tolerance has to be greater or equal to 0";
+    // endregion
+
+    private static final double EPSILON = Math.ulp(1d);
+    private static final double TINY = Math.pow(2, -966);
+
+    // region attributes
+
+    private final int rows;
+    private final int cols;
+    private final double[][] u;
+    private final double[] singularValues;
+    private final double[][] v;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new decomposition of given matrix
+     * using {@link Number#doubleValue()} of all values
+     *
+     * @param matrix matrix to decompose
+     * @throws IllegalArgumentException if matrix is empty or a value is not finite
+     * @since 1.2.0
+     */
+    public SingularValueDecomposition(@NotNull Matrix<? extends Number> matrix) {
+        this(toArray(matrix), false);
+    }
+
+    /**
+     * creates a new decomposition of given values
+     *
+     * @param values row based values to decompose - they are copied
+     * @throws IllegalArgumentException if values are empty, not rectangular
+     *                                  or a value is not finite
+     * @since 1.2.0
+     */
+    public SingularValueDecomposition(double @NotNull [] @NotNull [] values) {
+        this(values, true);
+    }
+
+    private SingularValueDecomposition(double @NotNull [] @NotNull [] values, boolean copy) {
+        if (values.length == 0 || values[0].length == 0)
+            throw new IllegalArgumentException(EXCEPTION_SIZE_LESS_ONE);
+        rows = values.length;
+        cols = values[0].length;
+        for (double[] row : values) {
+            if (row.length != cols)
+                throw new IllegalArgumentException(EXCEPTION_NOT_RECTANGULAR);
+            for (double value : row)
+                if (!Double.isFinite(value))
+                    throw new IllegalArgumentException(EXCEPTION_NOT_FINITE);
+        }
+        int size = Math.min(rows, cols);
+        singularValues = new double[size];
+        if (cols <= rows) {
+            double[][] a = new double[rows][];
+            for (int r = 0; r < rows; r++) a[r] = copy ? values[r].clone() : values[r];
+            u = new double[rows][size];
+            v = new double[cols][cols];
+            decompose(a, u, singularValues, v);
+        } else {
+            // decompose A^T = V*S*U^T
+            double[][] a = new double[cols][rows];
+            for (int r = 0; r < rows; r++)
+                for (int c = 0; c < cols; c++) a[c][r] = values[r][c];
+            u = new double[rows][rows];
+            v = new double[cols][size];
+            decompose(a, v, singularValues, u);
+        }
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return rows of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return cols of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return new array containing all {@code min(m,n)}
+     * singular values sorted descending
+     * @since 1.2.0
+     */
+    public double @NotNull [] getSingularValues() {
+        return singularValues.clone();
+    }
+
+    /**
+     * @return new row based array containing the {@code m x p}
+     * matrix {@code U} of left singular vectors
+     * @since 1.2.0
+     */
+    public double @NotNull [] @NotNull [] getU() {
+        return copy(u);
+    }
+
+    /**
+     * @return new row based array containing the {@code n x p}
+     * matrix {@code V} of right singular vectors
+     * @since 1.2.0
+     */
+    public double @NotNull [] @NotNull [] getV() {
+        return copy(v);
+    }
+
+    /**
+     * @return new diagonal matrix {@code S} of the singular values
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getSingularValueMatrix() {
+        return DoubleMatrix.diagonal(singularValues);
+    }
+
+    // endregion
+
+    // region norm, condition number and rank
+
+    /**
+     * @return two norm of matrix - the largest singular value
+     * @since 1.2.0
+     */
+    public double norm2() {
+        return singularValues[0];
+    }
+
+    /**
+     * @return two norm condition number {@code σ_max/σ_min} -
+     * {@link Double#POSITIVE_INFINITY} if matrix is rank deficient
+     * and {@link Double#NaN} if matrix is zero
+     * @since 1.2.0
+     */
+    public double conditionNumber() {
+        return singularValues[0] / singularValues[singularValues.length - 1];
+    }
+
+    /**
+     * @return default tolerance {@code max(m,n)*σ_max*ulp(1)}
+     * below which singular values are treated as {@code 0}
+     * @since 1.2.0
+     */
+    public double getDefaultTolerance() {
+        return Math.max(getRows(), getCols()) * singularValues[0] * EPSILON;
+    }
+
+    /**
+     * @return effective numerical rank using {@link #getDefaultTolerance()}
+     * @see #rank(double)
+     * @since 1.2.0
+     */
+    public int rank() {
+        return rank(getDefaultTolerance());
+    }
+
+    /**
+     * @param tolerance singular values less or equal are treated as {@code 0}
+     * @return amount of singular values greater than tolerance
+     * @throws IllegalArgumentException if tolerance is negative
+     * @since 1.2.0
+     */
+    public int rank(double tolerance) {
+        validateTolerance(tolerance);
+        int rank = 0;
+        while (rank < singularValues.length && tolerance < singularValues[rank]) rank++;
+        return rank;
+    }
+
+    // endregion
+
+    // region pseudoInverse
+
+    /**
+     * @return new {@code n x m} Moore-Penrose pseudo-inverse
+     * using {@link #getDefaultTolerance()}
+     * @see #pseudoInverse(double)
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix pseudoInverse() {
+        return pseudoInverse(getDefaultTolerance());
+    }
+
+    /**
+     * calculates {@code V*S^+*U^T} - singular values less or equal
+     * than tolerance are treated as {@code 0}
+     *
+     * @param tolerance singular values less or equal are treated as {@code 0}
+     * @return new {@code n x m} Moore-Penrose pseudo-inverse
+     * @throws IllegalArgumentException if tolerance is negative
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix pseudoInverse(double tolerance) {
+        int rank = rank(tolerance);
+        DoubleMatrix result = new DoubleMatrix(getCols(), getRows());
+        double[] row = new double[rank];
+        for (int r = 0; r < getCols(); r++) {
+            for (int k = 0; k < rank; k++) row[k] = v[r][k] / singularValues[k];
+            for (int c = 0; c < getRows(); c++) {
+                double sum = 0;
+                for (int k = 0; k < rank; k++) sum += row[k] * u[c][k];
+                result.setValue(r, c, sum);
+            }
+        }
+        return result;
+    }
+
+    // endregion
+
+    // region private
+
+    /**
+     * decomposes {@code a} with at least as many rows as cols
+     * (based on the LINPACK routine dsvdc)
+     *
+     * @param a matrix to decompose - it is overwritten
+     * @param u target of {@code m x n} left singular vectors
+     * @param s target of singular values
+     * @param v target of {@code n x n} right singular vectors
+     */
+    private static void decompose(
+        double @NotNull [] @NotNull [] a, double @NotNull [] @NotNull [] u,
+        double @NotNull [] s, double @NotNull [] @NotNull [] v
+    ) {
+        int m = a.length;
+        int n = a[0].length;
+        double[] e = new double[n];
+        double[] work = new double[m];
+        // reduce to bidiagonal form: diagonal in s, super diagonal in e
+        int nct = Math.min(m - 1, n);
+        int nrt = Math.max(0, n - 2);
+        for (int k = 0; k < Math.max(nct, nrt); k++) {
+            if (k < nct) {
+                s[k] = 0;
+                for (int i = k; i < m; i++) s[k] = Math.hypot(s[k], a[i][k]);
+                if (s[k] != 0) {
+                    if (a[k][k] < 0) s[k] = -s[k];
+                    for (int i = k; i < m; i++) a[i][k] /= s[k];
+                    a[k][k] += 1;
+                }
+                s[k] = -s[k];
+            }
+            for (int j = k + 1; j < n; j++) {
+                if (k < nct && s[k] != 0) {
+                    double t = 0;
+                    for (int i = k; i < m; i++) t += a[i][k] * a[i][j];
+                    t = -t / a[k][k];
+                    for (int i = k; i < m; i++) a[i][j] += t * a[i][k];
+                }
+                e[j] = a[k][j];
+            }
+            if (k < nct)
+                for (int i = k; i < m; i++) u[i][k] = a[i][k];
+            if (k < nrt) {
+                e[k] = 0;
+                for (int i = k + 1; i < n; i++) e[k] = Math.hypot(e[k], e[i]);
+                if (e[k] != 0) {
+                    if (e[k + 1] < 0) e[k] = -e[k];
+                    for (int i = k + 1; i < n; i++) e[i] /= e[k];
+                    e[k + 1] += 1;
+                }
+                e[k] = -e[k];
+                if (k + 1 < m && e[k] != 0) {
+                    for (int i = k + 1; i < m; i++) work[i] = 0;
+                    for (int i = k + 1; i < m; i++)
+                        for (int j = k + 1; j < n; j++) work[i] += e[j] * a[i][j];
+                    for (int i = k + 1; i < m; i++)
+                        for (int j = k + 1; j < n; j++) a[i][j] -= e[j] / e[k + 1] * work[i];
+                }
+                for (int i = k + 1; i < n; i++) v[i][k] = e[i];
+            }
+        }
+        int p = n;
+        if (nct < n) s[nct] = a[nct][nct];
+        if (nrt + 1 < p) e[nrt] = a[nrt][p - 1];
+        e[p - 1] = 0;
+        generateU(u, s, nct);
+        generateV(v, e, nrt);
+        iterate(u, s, v, e);
+    }
+
+    private static void generateU(double @NotNull [] @NotNull [] u, double @NotNull [] s, int nct) {
+        int m = u.length;
+        int n = s.length;
+        for (int j = nct; j < n; j++) {
+            for (int i = 0; i < m; i++) u[i][j] = 0;
+            u[j][j] = 1;
+        }
+        for (int k = nct - 1; 0 <= k; k--) {
+            if (s[k] != 0) {
+                for (int j = k + 1; j < n; j++) {
+                    double t = 0;
+                    for (int i = k; i < m; i++) t += u[i][k] * u[i][j];
+                    t = -t / u[k][k];
+                    for (int i = k; i < m; i++) u[i][j] += t * u[i][k];
+                }
+                for (int i = k; i < m; i++) u[i][k] = -u[i][k];
+                u[k][k] += 1;
+                for (int i = 0; i < k; i++) u[i][k] = 0;
+            } else {
+                for (int i = 0; i < m; i++) u[i][k] = 0;
+                u[k][k] = 1;
+            }
+        }
+    }
+
+    private static void generateV(double @NotNull [] @NotNull [] v, double @NotNull [] e, int nrt) {
+        int n = v.length;
+        for (int k = n - 1; 0 <= k; k--) {
+            if (k < nrt && e[k] != 0) {
+                for (int j = k + 1; j < n; j++) {
+                    double t = 0;
+                    for (int i = k + 1; i < n; i++) t += v[i][k] * v[i][j];
+                    t = -t / v[k + 1][k];
+                    for (int i = k + 1; i < n; i++) v[i][j] += t * v[i][k];
+                }
+            }
+            for (int i = 0; i < n; i++) v[i][k] = 0;
+            v[k][k] = 1;
+        }
+    }
+
+    /**
+     * diagonalizes the bidiagonal matrix by implicit shifted QR steps
+     */
+    private static void iterate(
+        double @NotNull [] @NotNull [] u, double @NotNull [] s,
+        double @NotNull [] @NotNull [] v, double @NotNull [] e
+    ) {
+        int n = s.length;
+        int p = n;
+        while (0 < p) {
+            // find largest k with negligible e[k]
+            int k;
+            for (k = p - 2; 0 <= k; k--)
+                if (Math.abs(e[k]) <= TINY + EPSILON * (Math.abs(s[k]) + Math.abs(s[k + 1]))) {
+                    e[k] = 0;
+                    break;
+                }
+            int kase;
+            if (k == p - 2) {
+                kase = 4;
+            } else {
+                int ks;
+                for (ks = p - 1; k < ks; ks--) {
+                    double t = (ks != p ? Math.abs(e[ks]) : 0) +
+                        (ks != k + 1 ? Math.abs(e[ks - 1]) : 0);
+                    if (Math.abs(s[ks]) <= TINY + EPSILON * t) {
+                        s[ks] = 0;
+                        break;
+                    }
+                }
+                if (ks == k) kase = 3;
+                else if (ks == p - 1) kase = 1;
+                else {
+                    kase = 2;
+                    k = ks;
+                }
+            }
+            k++;
+            switch (kase) {
+                case 1:
+                    deflate(s, v, e, k, p);
+                    break;
+                case 2:
+                    split(u, s, e, k, p);
+                    break;
+                case 3:
+                    step(u, s, v, e, k, p);
+                    break;
+                default:
+                    converge(u, s, v, k);
+                    p--;
+            }
+        }
+    }
+
+    /**
+     * deflates negligible {@code s[p-1]}
+     */
+    private static void deflate(
+        double @NotNull [] s, double @NotNull [] @NotNull [] v,
+        double @NotNull [] e, int k, int p
+    ) {
+        double f = e[p - 2];
+        e[p - 2] = 0;
+        for (int j = p - 2; k <= j; j--) {
+            double t = Math.hypot(s[j], f);
+            double cs = s[j] / t;
+            double sn = f / t;
+            s[j] = t;
+            if (j != k) {
+                f = -sn * e[j - 1];
+                e[j - 1] = cs * e[j - 1];
+            }
+            rotate(v, j, p - 1, cs, sn);
+        }
+    }
+
+    /**
+     * splits at negligible {@code s[k-1]}
+     */
+    private static void split(
+        double @NotNull [] @NotNull [] u, double @NotNull [] s,
+        double @NotNull [] e, int k, int p
+    ) {
+        double f = e[k - 1];
+        e[k - 1] = 0;
+        for (int j = k; j < p; j++) {
+            double t = Math.hypot(s[j], f);
+            double cs = s[j] / t;
+            double sn = f / t;
+            s[j] = t;
+            f = -sn * e[j];
+            e[j] = cs * e[j];
+            rotate(u, j, k - 1, cs, sn);
+        }
+    }
+
+    /**
+     * performs one implicit QR step with Wilkinson shift
+     */
+    private static void step(
+        double @NotNull [] @NotNull [] u, double @NotNull [] s,
+        double @NotNull [] @NotNull [] v, double @NotNull [] e, int k, int p
+    ) {
+        double scale = Math.max(Math.max(Math.max(Math.max(
+            Math.abs(s[p - 1]), Math.abs(s[p - 2])), Math.abs(e[p - 2])),
+            Math.abs(s[k])), Math.abs(e[k])
+        );
+        double sp = s[p - 1] / scale;
+        double spm1 = s[p - 2] / scale;
+        double epm1 = e[p - 2] / scale;
+        double sk = s[k] / scale;
+        double ek = e[k] / scale;
+        double b = ((spm1 + sp) * (spm1 - sp) + epm1 * epm1) / 2;
+        double c = (sp * epm1) * (sp * epm1);
+        double shift = 0;
+        if (b != 0 || c != 0) {
+            shift = Math.sqrt(b * b + c);
+            if (b < 0) shift = -shift;
+            shift = c / (b + shift);
+        }
+        double f = (sk + sp) * (sk - sp) + shift;
+        double g = sk * ek;
+        for (int j = k; j < p - 1; j++) {
+            double t = Math.hypot(f, g);
+            double cs = f / t;
+            double sn = g / t;
+            if (j != k) e[j - 1] = t;
+            f = cs * s[j] + sn * e[j];
+            e[j] = cs * e[j] - sn * s[j];
+            g = sn * s[j + 1];
+            s[j + 1] = cs * s[j + 1];
+            rotate(v, j, j + 1, cs, sn);
+            t = Math.hypot(f, g);
+            cs = f / t;
+            sn = g / t;
+            s[j] = t;
+            f = cs * e[j] + sn * s[j + 1];
+            s[j + 1] = -sn * e[j] + cs * s[j + 1];
+            g = sn * e[j + 1];
+            e[j + 1] = cs * e[j + 1];
+            rotate(u, j, j + 1, cs, sn);
+        }
+        e[p - 2] = f;
+    }
+
+    /**
+     * makes {@code s[k]} positive and moves it to its sorted position
+     */
+    private static void converge(
+        double @NotNull [] @NotNull [] u, double @NotNull [] s,
+        double @NotNull [] @NotNull [] v, int k
+    ) {
+        if (s[k] <= 0) {
+            s[k] = s[k] < 0 ? -s[k] : 0;
+            for (double[] row : v) row[k] = -row[k];
+        }
+        while (k < s.length - 1 && s[k] < s[k + 1]) {
+            double t = s[k];
+            s[k] = s[k + 1];
+            s[k + 1] = t;
+            swapCols(v, k, k + 1);
+            swapCols(u, k, k + 1);
+            k++;
+        }
+    }
+
+    private static void rotate(
+        double @NotNull [] @NotNull [] matrix, int j, int l, double cs, double sn
+    ) {
+        for (double[] row : matrix) {
+            double t = cs * row[j] + sn * row[l];
+            row[l] = -sn * row[j] + cs * row[l];
+            row[j] = t;
+        }
+    }
+
+    private static void swapCols(double @NotNull [] @NotNull [] matrix, int a, int b) {
+        for (double[] row : matrix) {
+            double t = row[a];
+            row[a] = row[b];
+            row[b] = t;
+        }
+    }
+
+    private static void validateTolerance(double tolerance) {
+        if (!(0 <= tolerance))
+            throw new IllegalArgumentException(EXCEPTION_TOLERANCE);
+    }
+
+    private static double @NotNull [] @NotNull [] toArray(@NotNull Matrix<? extends Number> matrix) {
+        double[][] values = new double[matrix.getRows()][matrix.getCols()];
+        for (int r = 0; r < matrix.getRows(); r++)
+            for (int c = 0; c < matrix.getCols(); c++)
+                values[r][c] = matrix.getValue(r, c).doubleValue();
+        return values;
+    }
+
+    private static double @NotNull [] @NotNull [] copy(double @NotNull [] @NotNull [] values) {
+        double[][] copy = new double[values.length][];
+        for (int r = 0; r < values.length; r++) copy[r] = values[r].clone();
+        return copy;
+    }
+
+    // endregion
+}
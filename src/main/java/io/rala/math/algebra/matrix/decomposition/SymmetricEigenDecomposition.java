@@ -0,0 +1,296 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * eigendecomposition {@code A=V*D*V^T} of a symmetric matrix
+ * using primitive {@code double} values
+ * <p>
+ * the matrix is reduced to tridiagonal form by Householder reflections
+ * and the tridiagonal matrix is diagonalized by implicit QL iterations
+ * with Wilkinson shifts - both steps work in place on one array
+ * and cost {@code O(n^3)}
+ *
+ * @since 1.2.0
+ */
+public class SymmetricEigenDecomposition {
+    /**
+     * relative tolerance of {@code |a_ij-a_ji|}
+     * compared to the largest absolute value of the matrix
+     *
+     * @since 1.2.0
+     */
+    public static final double SYMMETRY_TOLERANCE = 1e-12;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    protected static final String EXCEPTION_NO_SYMMETRIC =
+        "matrix has to be symmetric";
+    protected static final String EXCEPTION_NOT_FINITE =
+        "values have to be finite";
+    // endregion
+
+    // region attributes
+
+    private final double[] eigenvalues;
+    private final double[][] eigenvectors;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new decomposition of given matrix
+     * using {@link Number#doubleValue()} of all values
+     *
+     * @param matrix symmetric matrix to decompose
+     * @throws NotSupportedException    if matrix is not square or not symmetric
+     * @throws IllegalArgumentException if a value is not finite
+     * @since 1.2.0
+     */
+    public SymmetricEigenDecomposition(@NotNull Matrix<? extends Number> matrix) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        int size = matrix.getRows();
+        eigenvectors = new double[size][size];
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++)
+                eigenvectors[r][c] = matrix.getValue(r, c).doubleValue();
+        eigenvalues = new double[size];
+        decompose();
+    }
+
+    /**
+     * creates a new decomposition of given values
+     *
+     * @param values symmetric row based values to decompose - they are copied
+     * @throws NotSupportedException    if values are not square or not symmetric
+     * @throws IllegalArgumentException if a value is not finite
+     * @since 1.2.0
+     */
+    public SymmetricEigenDecomposition(double @NotNull [] @NotNull [] values) {
+        int size = values.length;
+        eigenvectors = new double[size][];
+        for (int r = 0; r < size; r++) {
+            if (values[r].length != size)
+                throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+            eigenvectors[r] = values[r].clone();
+        }
+        eigenvalues = new double[size];
+        decompose();
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return size of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return eigenvalues.length;
+    }
+
+    /**
+     * @return new array containing all eigenvalues sorted ascending
+     * @since 1.2.0
+     */
+    public double @NotNull [] getEigenvalues() {
+        return eigenvalues.clone();
+    }
+
+    /**
+     * @param index index of eigenvalue
+     * @return eigenvalue at index - sorted ascending
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    public double getEigenvalue(int index) {
+        return eigenvalues[index];
+    }
+
+    /**
+     * @param index index of eigenvalue
+     * @return new column vector containing the normalized eigenvector
+     * of {@link #getEigenvalue(int)}
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getEigenvector(int index) {
+        double[] values = new double[getSize()];
+        for (int i = 0; i < values.length; i++) values[i] = eigenvectors[i][index];
+        return DoubleVector.ofValues(values);
+    }
+
+    /**
+     * @return new row based array containing the orthogonal matrix {@code V}
+     * which holds the eigenvectors as cols
+     * @since 1.2.0
+     */
+    public double @NotNull [] @NotNull [] getEigenvectors() {
+        double[][] copy = new double[getSize()][];
+        for (int r = 0; r < getSize(); r++) copy[r] = eigenvectors[r].clone();
+        return copy;
+    }
+
+    /**
+     * @return new matrix {@code V} which holds the eigenvectors as cols
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getEigenvectorMatrix() {
+        DoubleMatrix matrix = new DoubleMatrix(getSize());
+        for (int r = 0; r < getSize(); r++)
+            for (int c = 0; c < getSize(); c++)
+                matrix.setValue(r, c, eigenvectors[r][c]);
+        return matrix;
+    }
+
+    /**
+     * @return new diagonal matrix {@code D} of the eigenvalues
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getEigenvalueMatrix() {
+        return DoubleMatrix.diagonal(eigenvalues);
+    }
+
+    /**
+     * @return new list of all eigen pairs sorted ascending by eigenvalue -
+     * their residual is {@code 0} as they are not verified
+     * @since 1.2.0
+     */
+    @NotNull
+    public List<EigenPair> getEigenPairs() {
+        List<EigenPair> pairs = new ArrayList<>(getSize());
+        for (int k = 0; k < getSize(); k++) {
+            double[] vector = new double[getSize()];
+            for (int i = 0; i < vector.length; i++) vector[i] = eigenvectors[i][k];
+            pairs.add(new EigenPair(eigenvalues[k], vector, 0));
+        }
+        return pairs;
+    }
+
+    // endregion
+
+    // region private
+
+    private void decompose() {
+        validateSymmetric();
+        if (getSize() == 0) return;
+        double[] offDiagonal = new double[getSize()];
+        tridiagonalize(offDiagonal);
+        // offDiagonal[i] is value of (i, i-1) - TridiagonalEigen expects (i, i+1)
+        System.arraycopy(offDiagonal, 1, offDiagonal, 0, getSize() - 1);
+        offDiagonal[getSize() - 1] = 0;
+        TridiagonalEigen.decompose(eigenvalues, offDiagonal, eigenvectors);
+    }
+
+    /**
+     * Householder reduction to tridiagonal form -
+     * {@link #eigenvectors} contains the accumulated transformation afterwards
+     * (based on the EISPACK routine tred2)
+     */
+    private void tridiagonalize(double @NotNull [] e) {
+        int n = getSize();
+        double[] d = eigenvalues;
+        double[][] v = eigenvectors;
+        System.arraycopy(v[n - 1], 0, d, 0, n);
+        for (int i = n - 1; 0 < i; i--) {
+            double scale = 0;
+            double h = 0;
+            for (int k = 0; k < i; k++) scale += Math.abs(d[k]);
+            if (scale == 0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0;
+                    v[j][i] = 0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (0 < f) g = -g;
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) e[j] = 0;
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    v[j][i] = f;
+                    g = e[j] + v[j][j] * f;
+                    for (int k = j + 1; k < i; k++) {
+                        g += v[k][j] * d[k];
+                        e[k] += v[k][j] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) e[j] -= hh * d[j];
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k < i; k++) v[k][j] -= f * e[k] + g * d[k];
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0;
+                }
+            }
+            d[i] = h;
+        }
+        for (int i = 0; i < n - 1; i++) {
+            v[n - 1][i] = v[i][i];
+            v[i][i] = 1;
+            double h = d[i + 1];
+            if (h != 0) {
+                for (int k = 0; k <= i; k++) d[k] = v[k][i + 1] / h;
+                for (int j = 0; j <= i; j++) {
+                    double g = 0;
+                    for (int k = 0; k <= i; k++) g += v[k][i + 1] * v[k][j];
+                    for (int k = 0; k <= i; k++) v[k][j] -= g * d[k];
+                }
+            }
+            for (int k = 0; k <= i; k++) v[k][i + 1] = 0;
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = v[n - 1][j];
+            v[n - 1][j] = 0;
+        }
+        v[n - 1][n - 1] = 1;
+        e[0] = 0;
+    }
+
+    private void validateSymmetric() {
+        double max = 0;
+        for (double[] row : eigenvectors)
+            for (double value : row) {
+                if (!Double.isFinite(value))
+                    throw new IllegalArgumentException(EXCEPTION_NOT_FINITE);
+                max = Math.max(max, Math.abs(value));
+            }
+        for (int r = 0; r < getSize(); r++)
+            for (int c = r + 1; c < getSize(); c++)
+                if (SYMMETRY_TOLERANCE * max < Math.abs(eigenvectors[r][c] - eigenvectors[c][r]))
+                    throw new NotSupportedException(EXCEPTION_NO_SYMMETRIC);
+    }
+
+    // endregion
+}
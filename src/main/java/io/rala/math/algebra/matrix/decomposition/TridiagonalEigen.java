@@ -0,0 +1,109 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * eigenvalues and eigenvectors of symmetric tridiagonal matrices
+ * based on the implicit QL algorithm with Wilkinson shifts
+ *
+ * @since 1.2.0
+ */
+final class TridiagonalEigen {
+    private static final double EPSILON = Math.ulp(1d);
+    private static final int MAX_ITERATIONS = 100;
+
+    private TridiagonalEigen() {
+    }
+
+    /**
+     * decomposes in place - eigenvalues are sorted ascending
+     *
+     * @param diagonal    diagonal values - contains eigenvalues afterwards
+     * @param offDiagonal {@code offDiagonal[i]} is value of {@code (i, i+1)} -
+     *                    same size as diagonal, is overwritten
+     * @param vectors     row based transformation which is multiplied
+     *                    by the eigenvectors - contains them as cols afterwards
+     * @since 1.2.0
+     */
+    static void decompose(
+        double @NotNull [] diagonal, double @NotNull [] offDiagonal,
+        double @NotNull [] @NotNull [] vectors
+    ) {
+        int size = diagonal.length;
+        if (size == 0) return;
+        offDiagonal[size - 1] = 0;
+        double shift = 0;
+        double norm = 0;
+        for (int l = 0; l < size; l++) {
+            norm = Math.max(norm, Math.abs(diagonal[l]) + Math.abs(offDiagonal[l]));
+            int m = l;
+            while (m < size && EPSILON * norm < Math.abs(offDiagonal[m])) m++;
+            if (l < m) {
+                int iterations = 0;
+                do {
+                    double g = diagonal[l];
+                    double p = (diagonal[l + 1] - g) / (2 * offDiagonal[l]);
+                    double r = Math.copySign(Math.hypot(p, 1), p);
+                    diagonal[l] = offDiagonal[l] / (p + r);
+                    diagonal[l + 1] = offDiagonal[l] * (p + r);
+                    double next = diagonal[l + 1];
+                    double h = g - diagonal[l];
+                    for (int i = l + 2; i < size; i++) diagonal[i] -= h;
+                    shift += h;
+                    p = diagonal[m];
+                    double c = 1;
+                    double c2 = c;
+                    double c3 = c;
+                    double offNext = offDiagonal[l + 1];
+                    double s = 0;
+                    double s2 = 0;
+                    for (int i = m - 1; l <= i; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * offDiagonal[i];
+                        h = c * p;
+                        r = Math.hypot(p, offDiagonal[i]);
+                        offDiagonal[i + 1] = s * r;
+                        s = offDiagonal[i] / r;
+                        c = p / r;
+                        p = c * diagonal[i] - s * g;
+                        diagonal[i + 1] = h + s * (c * g + s * diagonal[i]);
+                        for (double[] row : vectors) {
+                            h = row[i + 1];
+                            row[i + 1] = s * row[i] + c * h;
+                            row[i] = c * row[i] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * offNext * offDiagonal[l] / next;
+                    offDiagonal[l] = s * p;
+                    diagonal[l] = c * p;
+                } while (EPSILON * norm < Math.abs(offDiagonal[l]) &&
+                    ++iterations < MAX_ITERATIONS);
+            }
+            diagonal[l] += shift;
+            offDiagonal[l] = 0;
+        }
+        sort(diagonal, vectors);
+    }
+
+    /**
+     * sorts values ascending and swaps cols of vectors accordingly
+     */
+    private static void sort(double @NotNull [] values, double @NotNull [] @NotNull [] vectors) {
+        for (int i = 0; i < values.length - 1; i++) {
+            int min = i;
+            for (int j = i + 1; j < values.length; j++)
+                if (values[j] < values[min]) min = j;
+            if (min == i) continue;
+            double tmp = values[min];
+            values[min] = values[i];
+            values[i] = tmp;
+            for (double[] row : vectors) {
+                tmp = row[min];
+                row[min] = row[i];
+                row[i] = tmp;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * class which holds the {@code k} largest singular values
+ * and their singular vectors {@code A≈U*S*V^T}
+ * of a {@code m x n} matrix
+ *
+ * @see RandomizedSingularValueSolver
+ * @since 1.2.0
+ */
+public class TruncatedSingularValueDecomposition {
+    // region attributes
+
+    private final int rows;
+    private final int cols;
+    private final double[] singularValues;
+    private final double[][] leftVectors;
+    private final double[][] rightVectors;
+
+    // endregion
+
+    /**
+     * creates a new truncated decomposition - arrays are not copied
+     *
+     * @param rows           rows of decomposed matrix
+     * @param cols           cols of decomposed matrix
+     * @param singularValues singular values sorted descending
+     * @param leftVectors    left singular vectors of size {@code rows}
+     * @param rightVectors   right singular vectors of size {@code cols}
+     */
+    TruncatedSingularValueDecomposition(
+        int rows, int cols, double @NotNull [] singularValues,
+        double @NotNull [] @NotNull [] leftVectors, double @NotNull [] @NotNull [] rightVectors
+    ) {
+        this.rows = rows;
+        this.cols = cols;
+        this.singularValues = singularValues;
+        this.leftVectors = leftVectors;
+        this.rightVectors = rightVectors;
+    }
+
+    // region getter
+
+    /**
+     * @return rows of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return cols of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return amount {@code k} of singular values
+     * @since 1.2.0
+     */
+    public int getRank() {
+        return singularValues.length;
+    }
+
+    /**
+     * @return new column vector containing the singular values sorted descending
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getSingularValues() {
+        return DoubleVector.ofValues(singularValues);
+    }
+
+    /**
+     * @param index index of singular value
+     * @return singular value at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    public double getSingularValue(int index) {
+        return singularValues[index];
+    }
+
+    /**
+     * @param index index of singular value
+     * @return new column vector containing the left singular vector
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getLeftSingularVector(int index) {
+        return DoubleVector.ofValues(leftVectors[index]);
+    }
+
+    /**
+     * @param index index of singular value
+     * @return new column vector containing the right singular vector
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleVector getRightSingularVector(int index) {
+        return DoubleVector.ofValues(rightVectors[index]);
+    }
+
+    /**
+     * @return new {@code m x k} matrix {@code U} of left singular vectors
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getU() {
+        return toMatrix(leftVectors, getRows());
+    }
+
+    /**
+     * @return new {@code k x k} diagonal matrix {@code S}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getS() {
+        return DoubleMatrix.diagonal(singularValues);
+    }
+
+    /**
+     * @return new {@code n x k} matrix {@code V} of right singular vectors
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getV() {
+        return toMatrix(rightVectors, getCols());
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TruncatedSingularValueDecomposition)) return false;
+        TruncatedSingularValueDecomposition that = (TruncatedSingularValueDecomposition) o;
+        return getRows() == that.getRows() && getCols() == that.getCols() &&
+            Arrays.equals(singularValues, that.singularValues) &&
+            Arrays.deepEquals(leftVectors, that.leftVectors) &&
+            Arrays.deepEquals(rightVectors, that.rightVectors);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * getRows() + getCols();
+        result = 31 * result + Arrays.hashCode(singularValues);
+        result = 31 * result + Arrays.deepHashCode(leftVectors);
+        return 31 * result + Arrays.deepHashCode(rightVectors);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getRows() + " x " + getCols() + ": " + Arrays.toString(singularValues);
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private static DoubleMatrix toMatrix(double @NotNull [] @NotNull [] cols, int rows) {
+        DoubleMatrix matrix = new DoubleMatrix(rows, cols.length);
+        for (int c = 0; c < cols.length; c++)
+            for (int r = 0; r < rows; r++)
+                if (cols[c][r] != 0) matrix.setValue(r, c, cols[c][r]);
+        return matrix;
+    }
+
+    // endregion
+}
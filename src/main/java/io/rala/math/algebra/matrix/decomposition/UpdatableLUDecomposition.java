@@ -0,0 +1,361 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LU decomposition of a square matrix using primitive {@code double} values
+ * which supports rank-1 updates {@code A+u*v^T} in {@code O(n^2)}
+ * <p>
+ * updates are stored based on Sherman-Morrison:
+ * {@code (A+u*v^T)^-1*b = A^-1*b - z*(v^T*A^-1*b)/(1+v^T*z)}
+ * with {@code z=A^-1*u}.
+ * A rank-k update (Woodbury) is applied as k sequential rank-1 updates.
+ * Solving costs {@code O(n^2+k*n)} for k pending updates -
+ * so the matrix is decomposed again by a new {@link DoubleLUDecomposition}
+ * if {@link #getMaxUpdates()} are exceeded or an update is ill-conditioned
+ *
+ * @since 1.2.0
+ */
+public class UpdatableLUDecomposition {
+    /**
+     * default value of {@link #getMaxUpdates()}
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_MAX_UPDATES = 64;
+    /**
+     * relative threshold of {@code 1+v^T*z} below
+     * which an update is ill-conditioned
+     *
+     * @since 1.2.0
+     */
+    public static final double UPDATE_THRESHOLD = 1e-8;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_NO_SQUARE =
+        "matrix has to be square";
+    protected static final String EXCEPTION_SINGULAR =
+        "matrix is singular";
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "size of vector has to match size of matrix";
+    protected static final String EXCEPTION_MAX_UPDATES =
+        "max updates have to be greater or equal to 0";
+    protected static final String EXCEPTION_ROW_PREFIX = "row: ";
+    protected static final String EXCEPTION_COL_PREFIX = "col: ";
+    // endregion
+
+    // region attributes
+
+    private final double[][] values;
+    private final int maxUpdates;
+    private final List<Update> updates = new ArrayList<>();
+    private DoubleLUDecomposition decomposition;
+    private int decompositions;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new decomposition of given matrix
+     * using {@link Number#doubleValue()} of all values
+     * and {@link #DEFAULT_MAX_UPDATES}
+     *
+     * @param matrix square matrix to decompose
+     * @throws NotSupportedException if matrix is not square
+     * @since 1.2.0
+     */
+    public UpdatableLUDecomposition(@NotNull Matrix<? extends Number> matrix) {
+        this(matrix, DEFAULT_MAX_UPDATES);
+    }
+
+    /**
+     * creates a new decomposition of given matrix
+     * using {@link Number#doubleValue()} of all values
+     *
+     * @param matrix     square matrix to decompose
+     * @param maxUpdates max pending updates before decomposing again
+     * @throws NotSupportedException    if matrix is not square
+     * @throws IllegalArgumentException if maxUpdates is negative
+     * @since 1.2.0
+     */
+    public UpdatableLUDecomposition(@NotNull Matrix<? extends Number> matrix, int maxUpdates) {
+        if (!matrix.isSquare())
+            throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+        if (maxUpdates < 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_UPDATES);
+        int size = matrix.getRows();
+        this.values = new double[size][size];
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++)
+                values[r][c] = matrix.getValue(r, c).doubleValue();
+        this.maxUpdates = maxUpdates;
+        decompose();
+    }
+
+    /**
+     * creates a new decomposition of given values
+     * using {@link #DEFAULT_MAX_UPDATES}
+     *
+     * @param values square row based values to decompose - they are copied
+     * @throws NotSupportedException if values are not square
+     * @since 1.2.0
+     */
+    public UpdatableLUDecomposition(double @NotNull [] @NotNull [] values) {
+        this(values, DEFAULT_MAX_UPDATES);
+    }
+
+    /**
+     * creates a new decomposition of given values
+     *
+     * @param values     square row based values to decompose - they are copied
+     * @param maxUpdates max pending updates before decomposing again
+     * @throws NotSupportedException    if values are not square
+     * @throws IllegalArgumentException if maxUpdates is negative
+     * @since 1.2.0
+     */
+    public UpdatableLUDecomposition(double @NotNull [] @NotNull [] values, int maxUpdates) {
+        if (maxUpdates < 0)
+            throw new IllegalArgumentException(EXCEPTION_MAX_UPDATES);
+        int size = values.length;
+        this.values = new double[size][];
+        for (int r = 0; r < size; r++) {
+            if (values[r].length != size)
+                throw new NotSupportedException(EXCEPTION_NO_SQUARE);
+            this.values[r] = values[r].clone();
+        }
+        this.maxUpdates = maxUpdates;
+        decompose();
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return size of decomposed matrix
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return values.length;
+    }
+
+    /**
+     * @return max pending updates before decomposing again
+     * @since 1.2.0
+     */
+    public int getMaxUpdates() {
+        return maxUpdates;
+    }
+
+    /**
+     * @return pending updates since last decomposition
+     * @since 1.2.0
+     */
+    public int getUpdates() {
+        return updates.size();
+    }
+
+    /**
+     * @return amount of full {@code O(n^3)} decompositions
+     * @since 1.2.0
+     */
+    public int getDecompositions() {
+        return decompositions;
+    }
+
+    /**
+     * @return {@code true} if current matrix is singular
+     * @since 1.2.0
+     */
+    public boolean isSingular() {
+        return decomposition.isSingular();
+    }
+
+    /**
+     * @param row row of value
+     * @param col col of value
+     * @return current value of matrix
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @since 1.2.0
+     */
+    public double getValue(int row, int col) {
+        validateIndex(row, col);
+        return values[row][col];
+    }
+
+    // endregion
+
+    // region update
+
+    /**
+     * sets a value of the matrix using a rank-1 update
+     *
+     * @param row   row of value
+     * @param col   col of value
+     * @param value new value
+     * @return old value
+     * @throws IndexOutOfBoundsException if row or col is invalid
+     * @since 1.2.0
+     */
+    public double setValue(int row, int col, double value) {
+        validateIndex(row, col);
+        double old = values[row][col];
+        double delta = value - old;
+        if (delta == 0) return old;
+        values[row][col] = value;
+        double[] u = new double[getSize()];
+        u[row] = delta;
+        double[] v = new double[getSize()];
+        v[col] = 1;
+        apply(u, v);
+        return old;
+    }
+
+    /**
+     * replaces a row of the matrix using a rank-1 update
+     *
+     * @param row    row to replace
+     * @param values new values of row
+     * @throws IndexOutOfBoundsException if row is invalid
+     * @throws IllegalArgumentException  if size does not match
+     * @since 1.2.0
+     */
+    public void setRow(int row, double @NotNull [] values) {
+        validateIndex(row, 0);
+        if (values.length != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double[] v = new double[getSize()];
+        boolean changed = false;
+        for (int c = 0; c < getSize(); c++) {
+            v[c] = values[c] - this.values[row][c];
+            changed |= v[c] != 0;
+        }
+        if (!changed) return;
+        this.values[row] = values.clone();
+        double[] u = new double[getSize()];
+        u[row] = 1;
+        apply(u, v);
+    }
+
+    /**
+     * updates the matrix to {@code A+u*v^T}
+     *
+     * @param u column vector of update
+     * @param v row vector of update
+     * @throws IllegalArgumentException if sizes do not match
+     * @since 1.2.0
+     */
+    public void update(double @NotNull [] u, double @NotNull [] v) {
+        if (u.length != getSize() || v.length != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        for (int r = 0; r < getSize(); r++) {
+            if (u[r] == 0) continue;
+            for (int c = 0; c < getSize(); c++)
+                values[r][c] += u[r] * v[c];
+        }
+        apply(u.clone(), v.clone());
+    }
+
+    /**
+     * decomposes current matrix again and discards all pending updates
+     *
+     * @since 1.2.0
+     */
+    public void decompose() {
+        updates.clear();
+        decomposition = new DoubleLUDecomposition(values);
+        decompositions++;
+    }
+
+    // endregion
+
+    // region solve
+
+    /**
+     * solves {@code A*x=b} for current matrix
+     *
+     * @param vector vector {@code b}
+     * @return new array containing {@code x}
+     * @throws IllegalArgumentException if size does not match
+     * @throws IllegalStateException    if matrix {@link #isSingular()}
+     * @since 1.2.0
+     */
+    public double @NotNull [] solve(double @NotNull [] vector) {
+        if (vector.length != getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        if (isSingular())
+            throw new IllegalStateException(EXCEPTION_SINGULAR);
+        double[] x = decomposition.solve(vector);
+        for (Update update : updates) update.apply(x);
+        return x;
+    }
+
+    // endregion
+
+    // region private
+
+    /**
+     * stores update {@code u*v^T} of already updated {@link #values}
+     * or decomposes again if required
+     */
+    private void apply(double @NotNull [] u, double @NotNull [] v) {
+        if (isSingular() || getMaxUpdates() <= getUpdates()) {
+            decompose();
+            return;
+        }
+        double[] z = solve(u);
+        double denominator = 1 + dot(v, z);
+        double scale = 1 + Math.abs(dot(v, v) * dot(z, z));
+        if (!Double.isFinite(denominator) ||
+            Math.abs(denominator) < UPDATE_THRESHOLD * Math.sqrt(scale)) {
+            decompose();
+            return;
+        }
+        updates.add(new Update(v, z, denominator));
+    }
+
+    private void validateIndex(int row, int col) {
+        if (row < 0 || getSize() <= row)
+            throw new IndexOutOfBoundsException(EXCEPTION_ROW_PREFIX + row);
+        if (col < 0 || getSize() <= col)
+            throw new IndexOutOfBoundsException(EXCEPTION_COL_PREFIX + col);
+    }
+
+    private static double dot(double @NotNull [] a, double @NotNull [] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    /**
+     * stored Sherman-Morrison update
+     */
+    private static class Update {
+        private final double[] v;
+        private final double[] z;
+        private final double denominator;
+
+        private Update(double @NotNull [] v, double @NotNull [] z, double denominator) {
+            this.v = v;
+            this.z = z;
+            this.denominator = denominator;
+        }
+
+        /**
+         * @param x {@code A^-1*b} of previous matrix - is modified in place
+         */
+        private void apply(double @NotNull [] x) {
+            double factor = dot(v, x) / denominator;
+            if (factor == 0) return;
+            for (int i = 0; i < x.length; i++) x[i] -= factor * z[i];
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,152 @@
+package io.rala.math.algebra.matrix.typed;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.MultiModularEngine;
+import io.rala.math.arithmetic.AbstractArithmetic;
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * class which holds a matrix with {@code rows} and {@code cols}
+ * storing {@link BigInteger}
+ * <p>
+ * determinantes of matrices greater than {@code 3}
+ * are calculated by a {@link MultiModularEngine}
+ *
+ * @since 1.2.0
+ */
+public class BigIntegerMatrix extends Matrix<BigInteger> {
+    private static final MultiModularEngine ENGINE = new MultiModularEngine();
+
+    // region constructor
+
+    /**
+     * @param size size of matrix
+     * @see Matrix#Matrix(AbstractArithmetic, int)
+     * @since 1.2.0
+     */
+    public BigIntegerMatrix(int size) {
+        super(BigIntegerArithmetic.getInstance(), size);
+    }
+
+    /**
+     * @param rows rows of matrix
+     * @param cols cols of matrix
+     * @see Matrix#Matrix(AbstractArithmetic, int, int)
+     * @since 1.2.0
+     */
+    public BigIntegerMatrix(int rows, int cols) {
+        super(BigIntegerArithmetic.getInstance(), rows, cols);
+    }
+
+    /**
+     * creates a new matrix based on given one
+     *
+     * @param matrix matrix to copy
+     * @since 1.2.0
+     */
+    public BigIntegerMatrix(@NotNull Matrix<BigInteger> matrix) {
+        super(matrix);
+    }
+
+    // endregion
+
+    // region static: identity and diagonal
+
+    /**
+     * @param size size of matrix
+     * @return new created matrix
+     * @see Matrix#identity(AbstractArithmetic, int)
+     * @since 1.2.0
+     */
+    @NotNull
+    public static BigIntegerMatrix identity(int size) {
+        return new BigIntegerMatrix(
+            Matrix.identity(BigIntegerArithmetic.getInstance(), size)
+        );
+    }
+
+    /**
+     * @param values diagonal values of matrix
+     * @return new created matrix
+     * @see Matrix#diagonal(AbstractArithmetic, Number[])
+     * @since 1.2.0
+     */
+    @NotNull
+    public static BigIntegerMatrix diagonal(@NotNull BigInteger... values) {
+        return new BigIntegerMatrix(
+            Matrix.diagonal(BigIntegerArithmetic.getInstance(), values)
+        );
+    }
+
+    // endregion
+
+    // region static: of
+
+    /**
+     * creates a new matrix containing all provided values
+     *
+     * @param rows   rows of matrix
+     * @param values row based values of matrix
+     * @return new created matrix
+     * @throws IllegalArgumentException if rows modulo {@code values.length}
+     *                                  is not congruent {@code 0}
+     * @see Matrix#ofValuesByRows(AbstractArithmetic, int, Number[])
+     * @since 1.2.0
+     */
+    @NotNull
+    public static BigIntegerMatrix ofValuesByRows(int rows, @NotNull BigInteger... values) {
+        return new BigIntegerMatrix(Matrix.ofValuesByRows(
+            BigIntegerArithmetic.getInstance(), rows, values
+        ));
+    }
+
+    /**
+     * creates a new matrix containing all provided values
+     *
+     * @param cols   cols of matrix
+     * @param values column based values of matrix
+     * @return new created matrix
+     * @throws IllegalArgumentException if cols modulo {@code values.length}
+     *                                  is not congruent {@code 0}
+     * @see Matrix#ofValuesByCols(AbstractArithmetic, int, Number[])
+     * @since 1.2.0
+     */
+    @NotNull
+    public static BigIntegerMatrix ofValuesByCols(int cols, @NotNull BigInteger... values) {
+        return new BigIntegerMatrix(Matrix.ofValuesByCols(
+            BigIntegerArithmetic.getInstance(), cols, values
+        ));
+    }
+
+    // endregion
+
+    // region determinante
+
+    /**
+     * @return engine used by {@link #determinanteRecursive()}
+     * @since 1.2.0
+     */
+    @NotNull
+    protected MultiModularEngine getMultiModularEngine() {
+        return ENGINE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec uses {@link #getMultiModularEngine()}
+     * instead of the laplace expansion
+     * @since 1.2.0
+     */
+    @Override
+    @NotNull
+    protected BigInteger determinanteRecursive() {
+        if (!isSquare()) return getArithmetic().zero();
+        return getMultiModularEngine().determinante(this);
+    }
+
+    // endregion
+}
@@ -12,9 +12,10 @@ import org.jetbrains.annotations.Nullable;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.stream.Collector;
 import java.util.stream.IntStream;
 
 /**
@@ -55,6 +56,7 @@ public class Vector<T extends Number>
     private final int size;
     private final Type type;
     private final T defaultValue;
+    private transient T euclideanNormCache;
 
     // endregion
 
@@ -140,7 +142,7 @@ public class Vector<T extends Number>
         this(vector.getArithmetic(), vector.getSize(),
             vector.getType(), vector.getDefaultValue()
         );
-        vector.getVector().forEach((key, value) -> getVector().put(key, value));
+        vector.getNonDefaultValues().forEach((key, value) -> getVector().put(key, value));
     }
 
     // endregion
@@ -165,6 +167,28 @@ public class Vector<T extends Number>
         return vector;
     }
 
+    /**
+     * subclasses with their own storage have to override this method
+     *
+     * @return map of all values unequal to {@link #getDefaultValue()}
+     * using index as key
+     * @since 1.2.0
+     */
+    @NotNull
+    protected Map<Integer, T> getNonDefaultValues() {
+        return getVector();
+    }
+
+    /**
+     * discards cached {@link #euclideanNorm()} -
+     * subclasses with their own storage have to call it on each change
+     *
+     * @since 1.2.0
+     */
+    protected final void invalidateNorm() {
+        euclideanNormCache = null;
+    }
+
     /**
      * @return size of vector
      * @since 1.0.0
@@ -244,6 +268,7 @@ public class Vector<T extends Number>
     @NotNull
     public T setValue(int index, @NotNull T value) {
         if (!isValidIndex(index)) throw new IndexOutOfBoundsException(index + " / " + getSize());
+        invalidateNorm();
         if (getArithmetic().isEqual(value, getDefaultValue()))
             return removeValue(index);
         T old = getVector().put(index, value);
@@ -259,6 +284,7 @@ public class Vector<T extends Number>
     @NotNull
     public T removeValue(int index) {
         if (!isValidIndex(index)) throw new IndexOutOfBoundsException(index + " / " + getSize());
+        invalidateNorm();
         T old = getVector().remove(index);
         return old == null ? getDefaultValue() : old;
     }
@@ -420,6 +446,115 @@ public class Vector<T extends Number>
 
     // endregion
 
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    /**
+     * calculates {@code this+=alpha*vector} in place
+     *
+     * @param alpha  factor of vector
+     * @param vector vector to add
+     * @throws IllegalArgumentException if sizes or types do not match
+     * @since 1.2.0
+     */
+    public void axpy(@NotNull T alpha, @NotNull Vector<T> vector) {
+        validateSizeAndType(vector);
+        if (getArithmetic().isZero(alpha)) return;
+        if (getArithmetic().isZero(vector.getDefaultValue()))
+            new ArrayList<>(vector.getNonDefaultValues().entrySet()).forEach(entry ->
+                compute(entry.getKey(), value -> getArithmetic().sum(
+                    value, getArithmetic().product(alpha, entry.getValue())
+                ))
+            );
+        else computeAll(entry -> getArithmetic().sum(entry.getValue(),
+            getArithmetic().product(alpha, vector.getValue(entry.getIndex()))
+        ));
+    }
+
+    /**
+     * calculates {@code this*=alpha} in place
+     *
+     * @param alpha factor of all values
+     * @since 1.2.0
+     */
+    public void scale(@NotNull T alpha) {
+        if (getArithmetic().isZero(getDefaultValue()))
+            new ArrayList<>(getNonDefaultValues().entrySet()).forEach(entry ->
+                setValue(entry.getKey(), getArithmetic().product(entry.getValue(), alpha))
+            );
+        else computeAll(entry -> getArithmetic().product(entry.getValue(), alpha));
+    }
+
+    /**
+     * calculates {@code this=beta*this+alpha*vector} in place
+     *
+     * @param beta   factor of this vector
+     * @param alpha  factor of vector
+     * @param vector vector to add
+     * @throws IllegalArgumentException if sizes or types do not match
+     * @see #scale(Number)
+     * @see #axpy(Number, Vector)
+     * @since 1.2.0
+     */
+    public void addScaled(@NotNull T beta, @NotNull T alpha, @NotNull Vector<T> vector) {
+        validateSizeAndType(vector);
+        if (vector == this) {
+            scale(getArithmetic().sum(beta, alpha));
+            return;
+        }
+        scale(beta);
+        axpy(alpha, vector);
+    }
+
+    /**
+     * calculates {@code this=a*x+b*y} in place
+     *
+     * @param a factor of x
+     * @param x first vector - may be this vector
+     * @param b factor of y
+     * @param y second vector - may be this vector
+     * @throws IllegalArgumentException if sizes or types do not match
+     * @since 1.2.0
+     */
+    public void linearCombination(
+        @NotNull T a, @NotNull Vector<T> x, @NotNull T b, @NotNull Vector<T> y
+    ) {
+        validateSizeAndType(x);
+        validateSizeAndType(y);
+        if (y == this) addScaled(b, a, x);
+        else if (x == this) addScaled(a, b, y);
+        else computeAll(entry -> getArithmetic().sum(
+            getArithmetic().product(a, x.getValue(entry.getIndex())),
+            getArithmetic().product(b, y.getValue(entry.getIndex()))
+        ));
+    }
+
+    /**
+     * @param vector      vector to compute dot product
+     * @param accumulator value to add dot product to
+     * @return {@code accumulator+this*vector}
+     * @throws IllegalArgumentException if sizes do not match
+     * @see #dotProduct(Vector)
+     * @since 1.2.0
+     */
+    @NotNull
+    public T dotProduct(@NotNull Vector<T> vector, @NotNull T accumulator) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        T sum = accumulator;
+        if (getArithmetic().isZero(getDefaultValue()))
+            for (Map.Entry<Integer, T> entry : getNonDefaultValues().entrySet())
+                sum = getArithmetic().sum(sum, getArithmetic().product(
+                    entry.getValue(), vector.getValue(entry.getKey())
+                ));
+        else for (int i = 0; i < getSize(); i++)
+            sum = getArithmetic().sum(sum, getArithmetic().product(
+                getValue(i), vector.getValue(i)
+            ));
+        return sum;
+    }
+
+    // endregion
+
     // region transpose and invert
 
     /**
@@ -433,7 +568,7 @@ public class Vector<T extends Number>
                 Type.COLUMN.equals(getType()) ? Type.ROW : Type.COLUMN,
                 getDefaultValue()
             );
-        getVector().forEach(flipped::setValue);
+        getNonDefaultValues().forEach(flipped::setValue);
         return flipped;
     }
 
@@ -452,28 +587,40 @@ public class Vector<T extends Number>
     // region norm and normalize
 
     /**
-     * @return max-Norm of the vector, equal to the entry with the highest absolute value
+     * @return max-Norm of the vector, equal to the highest absolute value
      * @since 1.0.0
      */
     @NotNull
     public T maxNorm() {
-        return getVector().values().stream().max(
-            (a, b) -> getArithmetic().difference(
-                getArithmetic().absolute(a),
-                getArithmetic().absolute(b)
-            ).intValue()
-        ).orElse(getArithmetic().zero());
+        T max = getArithmetic().zero();
+        for (T value : getNonDefaultValues().values())
+            max = getArithmetic().max(max, getArithmetic().absolute(value));
+        return max;
+    }
+
+    /**
+     * calls {@link #pNorm(int)} with degree {@code 1}
+     *
+     * @return manhattan norm of the vector, equal to the sum of absolute values
+     * @since 1.2.0
+     */
+    @NotNull
+    public T manhattanNorm() {
+        return pNorm(1);
     }
 
     /**
      * calls {@link #pNorm(int)} with degree {@code 2}
+     * which is cached until a value changes
      *
      * @return euclidean norm of the vector
      * @since 1.0.0
      */
     @NotNull
     public T euclideanNorm() {
-        return pNorm(2);
+        T norm = euclideanNormCache;
+        if (norm == null) euclideanNormCache = norm = pNorm(2);
+        return norm;
     }
 
     /**
@@ -485,17 +632,12 @@ public class Vector<T extends Number>
     @NotNull
     public T pNorm(int p) {
         if (p <= 0) throw new IllegalArgumentException(EXCEPTION_NOT_POSITIV_P_NORM);
-        Map<Integer, T> powers = getVector().entrySet().stream()
-            .map(integerTEntry -> Map.entry(
-                integerTEntry.getKey(),
-                getArithmetic().power(integerTEntry.getValue(), p)
-            )).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        return getArithmetic().root(
-            getArithmetic().absolute(
-                powers.values().stream().reduce(getArithmetic()::sum)
-                    .orElse(getArithmetic().zero())
-            ), p
-        );
+        T sum = getArithmetic().zero();
+        for (T value : getNonDefaultValues().values())
+            sum = getArithmetic().sum(sum,
+                getArithmetic().power(getArithmetic().absolute(value), p)
+            );
+        return getArithmetic().root(sum, p);
     }
 
     /**
@@ -508,13 +650,13 @@ public class Vector<T extends Number>
      */
     @NotNull
     public Vector<T> normalize() {
-        if (isZero())
+        T norm = euclideanNorm();
+        if (getArithmetic().isZero(norm))
             throw new NotSupportedException(EXCEPTION_ZERO_VECTOR_NO_NORMALIZE);
         Vector<T> unit =
             new Vector<>(
                 getArithmetic(), getSize(), getType(), getDefaultValue()
             );
-        T norm = euclideanNorm();
         forEach(entry -> unit.setValue(
             entry.getIndex(),
             getArithmetic().quotient(entry.getValue(), norm)
@@ -534,15 +676,14 @@ public class Vector<T extends Number>
      */
     @NotNull
     public T angle(@NotNull Vector<T> vector) {
-        if (isZero() || vector.isZero())
+        T norm = euclideanNorm();
+        T otherNorm = vector.euclideanNorm();
+        if (getArithmetic().isZero(norm) || getArithmetic().isZero(otherNorm))
             throw new NotSupportedException(EXCEPTION_ZERO_VECTOR_NO_ANGLE);
         return getArithmetic().acos(
             getArithmetic().quotient(
                 dotProduct(vector),
-                getArithmetic().product(
-                    euclideanNorm(),
-                    vector.euclideanNorm()
-                )
+                getArithmetic().product(norm, otherNorm)
             )
         );
     }
@@ -634,6 +775,36 @@ public class Vector<T extends Number>
 
     // endregion
 
+    // region static: collector
+
+    /**
+     * creates a collector which collects values in encounter order
+     * into a new column vector
+     * <p>
+     * only values unequal to {@link AbstractArithmetic#zero()} are stored
+     * and directly moved into the vector - so there is no intermediate list
+     *
+     * @param arithmetic arithmetic for calculations
+     * @param <T>        number class
+     * @return new collector supporting parallel streams
+     * @throws IllegalArgumentException on finish if no value was collected
+     * @see #ofList(AbstractArithmetic, List)
+     * @since 1.2.0
+     */
+    @NotNull
+    public static <T extends Number> Collector<T, ?, Vector<T>> toVector(
+        @NotNull AbstractArithmetic<T> arithmetic
+    ) {
+        return Collector.of(
+            () -> new VectorCollection<>(arithmetic),
+            VectorCollection::add,
+            VectorCollection::addAll,
+            VectorCollection::toVector
+        );
+    }
+
+    // endregion
+
     // region override
 
     @Override
@@ -663,6 +834,18 @@ public class Vector<T extends Number>
         };
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote spliterator is {@link Spliterator#SIZED}
+     * and {@link Spliterator#SUBSIZED} and splits evenly
+     */
+    @Override
+    @NotNull
+    public Spliterator<Entry> spliterator() {
+        return new EntrySpliterator(0, getSize());
+    }
+
     @Override
     @SuppressWarnings("unchecked") // can only fail in isEqual
     public boolean equals(Object o) {
@@ -679,13 +862,13 @@ public class Vector<T extends Number>
 
     @Override
     public int hashCode() {
-        return Objects.hash(getVector(), getSize(), getType(), getDefaultValue());
+        return Objects.hash(getNonDefaultValues(), getSize(), getType(), getDefaultValue());
     }
 
     @Override
     @NotNull
     public String toString() {
-        return getSize() + ": " + getVector().entrySet();
+        return getSize() + ": " + getNonDefaultValues().entrySet();
     }
 
     // endregion
@@ -701,6 +884,18 @@ public class Vector<T extends Number>
         return 0 <= index && index < getSize();
     }
 
+    /**
+     * @param vector vector to be validated
+     * @throws IllegalArgumentException if sizes or types do not match
+     * @since 1.2.0
+     */
+    protected final void validateSizeAndType(@NotNull Vector<T> vector) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        if (getType() != vector.getType())
+            throw new IllegalArgumentException(EXCEPTION_TYPES_UNEQUAL);
+    }
+
     /**
      * @return {@code true} if all values are zero
      * @since 1.0.0
@@ -793,4 +988,87 @@ public class Vector<T extends Number>
             return getIndex() + ": " + getValue();
         }
     }
+
+    /**
+     * spliterator over an index range of all entries
+     *
+     * @since 1.2.0
+     */
+    private class EntrySpliterator implements Spliterator<Entry> {
+        private int index;
+        private final int end;
+
+        private EntrySpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super Entry> action) {
+            if (end <= index) return false;
+            T value = getValue(index);
+            action.accept(new Entry(index++, value));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super Entry> action) {
+            for (; index < end; index++) action.accept(new Entry(index, getValue(index)));
+        }
+
+        @Override
+        @Nullable
+        public Spliterator<Entry> trySplit() {
+            if (end - index < 2) return null;
+            int middle = (index + end) >>> 1;
+            EntrySpliterator prefix = new EntrySpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * mutable container of {@link #toVector(AbstractArithmetic)}
+     *
+     * @param <T> number class
+     * @since 1.2.0
+     */
+    private static final class VectorCollection<T extends Number> {
+        private final AbstractArithmetic<T> arithmetic;
+        private final Map<Integer, T> values = new HashMap<>();
+        private int size;
+
+        private VectorCollection(@NotNull AbstractArithmetic<T> arithmetic) {
+            this.arithmetic = arithmetic;
+        }
+
+        private void add(@NotNull T value) {
+            if (!arithmetic.isEqual(value, arithmetic.zero())) values.put(size, value);
+            size++;
+        }
+
+        @NotNull
+        private VectorCollection<T> addAll(@NotNull VectorCollection<T> other) {
+            other.values.forEach((index, value) -> values.put(size + index, value));
+            size += other.size;
+            return this;
+        }
+
+        @NotNull
+        private Vector<T> toVector() {
+            Vector<T> vector = new Vector<>(arithmetic, size);
+            vector.getVector().putAll(values);
+            return vector;
+        }
+    }
 }
@@ -0,0 +1,354 @@
+package io.rala.math.algebra.vector.typed;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * class which holds a vector of {@code size}
+ * storing {@link Double} in a primitive {@code double[]}
+ * <p>
+ * in contrast to {@link DoubleVector} all values are stored -
+ * arithmetic operations and norms are primitive loops
+ * if both operands are dense and only visit non-zeros
+ * of {@link SparseDoubleVector} operands
+ *
+ * @since 1.2.0
+ */
+public class DenseDoubleVector extends DoubleVector {
+    // region attributes
+
+    private final double[] values;
+
+    // endregion
+
+    // region constructor
+
+    /**
+     * @param size size of vector
+     * @see DoubleVector#DoubleVector(int)
+     * @since 1.2.0
+     */
+    public DenseDoubleVector(int size) {
+        this(size, null);
+    }
+
+    /**
+     * @param size size of vector
+     * @param type type of vector
+     * @see DoubleVector#DoubleVector(int, Type)
+     * @since 1.2.0
+     */
+    public DenseDoubleVector(int size, @Nullable Type type) {
+        super(size, type);
+        this.values = new double[size];
+    }
+
+    /**
+     * creates a new vector based on given one
+     *
+     * @param vector vector to copy
+     * @since 1.2.0
+     */
+    public DenseDoubleVector(@NotNull Vector<Double> vector) {
+        this(vector.getSize(), vector.getType());
+        if (vector instanceof DenseDoubleVector)
+            System.arraycopy(((DenseDoubleVector) vector).values, 0, values, 0, values.length);
+        else vector.forEach(entry -> values[entry.getIndex()] = entry.getValue());
+    }
+
+    // endregion
+
+    // region value
+
+    /**
+     * @param index of requested value
+     * @return primitive value at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @see #getValue(int)
+     * @since 1.2.0
+     */
+    public double getDouble(int index) {
+        if (!isValidIndex(index)) throw new IndexOutOfBoundsException(index + " / " + getSize());
+        return values[index];
+    }
+
+    @Override
+    @NotNull
+    public Double getValue(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    @NotNull
+    public Double setValue(int index, @NotNull Double value) {
+        double old = getDouble(index);
+        invalidateNorm();
+        values[index] = value;
+        return old;
+    }
+
+    @Override
+    @NotNull
+    public Double removeValue(int index) {
+        return setValue(index, 0d);
+    }
+
+    /**
+     * @return new array containing all values
+     * @since 1.2.0
+     */
+    public double @NotNull [] toArray() {
+        return values.clone();
+    }
+
+    // endregion
+
+    // region add, subtract, multiply and dotProduct
+
+    @Override
+    @NotNull
+    public DenseDoubleVector add(@NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        DenseDoubleVector result = copy();
+        if (vector instanceof DenseDoubleVector) {
+            double[] other = ((DenseDoubleVector) vector).values;
+            for (int i = 0; i < values.length; i++) result.values[i] += other[i];
+        } else if (vector instanceof SparseDoubleVector) {
+            SparseDoubleVector sparse = (SparseDoubleVector) vector;
+            for (int i = 0; i < sparse.getNonZeros(); i++)
+                result.values[sparse.getStoredIndex(i)] += sparse.getStoredValue(i);
+        } else vector.forEach(entry -> result.values[entry.getIndex()] += entry.getValue());
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public DenseDoubleVector subtract(@NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        DenseDoubleVector result = copy();
+        if (vector instanceof DenseDoubleVector) {
+            double[] other = ((DenseDoubleVector) vector).values;
+            for (int i = 0; i < values.length; i++) result.values[i] -= other[i];
+        } else if (vector instanceof SparseDoubleVector) {
+            SparseDoubleVector sparse = (SparseDoubleVector) vector;
+            for (int i = 0; i < sparse.getNonZeros(); i++)
+                result.values[sparse.getStoredIndex(i)] -= sparse.getStoredValue(i);
+        } else vector.forEach(entry -> result.values[entry.getIndex()] -= entry.getValue());
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public DenseDoubleVector multiply(@NotNull Double scalar) {
+        DenseDoubleVector result = copy();
+        double factor = scalar;
+        for (int i = 0; i < values.length; i++) result.values[i] *= factor;
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public Double dotProduct(@NotNull Vector<Double> vector) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double sum = 0;
+        if (vector instanceof DenseDoubleVector) {
+            double[] other = ((DenseDoubleVector) vector).values;
+            for (int i = 0; i < values.length; i++) sum += values[i] * other[i];
+        } else if (vector instanceof SparseDoubleVector) {
+            return vector.dotProduct(this);
+        } else
+            for (Entry entry : vector) sum += values[entry.getIndex()] * entry.getValue();
+        return sum;
+    }
+
+    // endregion
+
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link Math#fma(double, double, double)}
+     * if vector is dense or sparse
+     */
+    @Override
+    public void axpy(@NotNull Double alpha, @NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        invalidateNorm();
+        double factor = alpha;
+        if (vector instanceof DenseDoubleVector) {
+            double[] other = ((DenseDoubleVector) vector).values;
+            for (int i = 0; i < values.length; i++)
+                values[i] = Math.fma(factor, other[i], values[i]);
+        } else if (vector instanceof SparseDoubleVector) {
+            SparseDoubleVector sparse = (SparseDoubleVector) vector;
+            for (int i = 0; i < sparse.getNonZeros(); i++) {
+                int index = sparse.getStoredIndex(i);
+                values[index] = Math.fma(factor, sparse.getStoredValue(i), values[index]);
+            }
+        } else super.axpy(alpha, vector);
+    }
+
+    @Override
+    public void scale(@NotNull Double alpha) {
+        invalidateNorm();
+        double factor = alpha;
+        for (int i = 0; i < values.length; i++) values[i] *= factor;
+    }
+
+    @Override
+    public void addScaled(
+        @NotNull Double beta, @NotNull Double alpha, @NotNull Vector<Double> vector
+    ) {
+        validateSizeAndType(vector);
+        if (!(vector instanceof DenseDoubleVector)) {
+            super.addScaled(beta, alpha, vector);
+            return;
+        }
+        invalidateNorm();
+        double[] other = ((DenseDoubleVector) vector).values;
+        double a = alpha;
+        double b = beta;
+        for (int i = 0; i < values.length; i++)
+            values[i] = Math.fma(a, other[i], b * values[i]);
+    }
+
+    @Override
+    public void linearCombination(
+        @NotNull Double a, @NotNull Vector<Double> x,
+        @NotNull Double b, @NotNull Vector<Double> y
+    ) {
+        validateSizeAndType(x);
+        validateSizeAndType(y);
+        if (!(x instanceof DenseDoubleVector) || !(y instanceof DenseDoubleVector)) {
+            super.linearCombination(a, x, b, y);
+            return;
+        }
+        invalidateNorm();
+        double[] first = ((DenseDoubleVector) x).values;
+        double[] second = ((DenseDoubleVector) y).values;
+        double alpha = a;
+        double beta = b;
+        for (int i = 0; i < values.length; i++)
+            values[i] = Math.fma(alpha, first[i], beta * second[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link Math#fma(double, double, double)}
+     * if vector is dense or sparse
+     */
+    @Override
+    @NotNull
+    public Double dotProduct(@NotNull Vector<Double> vector, @NotNull Double accumulator) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        double sum = accumulator;
+        if (vector instanceof DenseDoubleVector) {
+            double[] other = ((DenseDoubleVector) vector).values;
+            for (int i = 0; i < values.length; i++) sum = Math.fma(values[i], other[i], sum);
+        } else if (vector instanceof SparseDoubleVector) {
+            SparseDoubleVector sparse = (SparseDoubleVector) vector;
+            for (int i = 0; i < sparse.getNonZeros(); i++)
+                sum = Math.fma(sparse.getStoredValue(i), values[sparse.getStoredIndex(i)], sum);
+        } else return super.dotProduct(vector, accumulator);
+        return sum;
+    }
+
+    // endregion
+
+    // region transpose and invert
+
+    @Override
+    @NotNull
+    public DenseDoubleVector transpose() {
+        DenseDoubleVector flipped = new DenseDoubleVector(getSize(),
+            isColumn() ? Type.ROW : Type.COLUMN
+        );
+        System.arraycopy(values, 0, flipped.values, 0, values.length);
+        return flipped;
+    }
+
+    @Override
+    @NotNull
+    public DenseDoubleVector invert() {
+        return multiply(-1d);
+    }
+
+    // endregion
+
+    // region norm and normalize
+
+    @Override
+    @NotNull
+    public Double maxNorm() {
+        return DoubleNormAccumulator.accumulate(values, values.length, 1).maxNorm();
+    }
+
+    @Override
+    @NotNull
+    public Double pNorm(int p) {
+        return DoubleNormAccumulator.accumulate(values, values.length, p).pNorm();
+    }
+
+    @Override
+    @NotNull
+    public DenseDoubleVector normalize() {
+        double norm = euclideanNorm();
+        if (norm == 0)
+            throw new NotSupportedException(EXCEPTION_ZERO_VECTOR_NO_NORMALIZE);
+        DenseDoubleVector unit = copy();
+        for (int i = 0; i < values.length; i++) unit.values[i] /= norm;
+        return unit;
+    }
+
+    // endregion
+
+    // region static
+
+    /**
+     * creates a new vector containing all provided values
+     *
+     * @param values values of vector - they are copied
+     * @return new created vector
+     * @throws IllegalArgumentException if size is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static DenseDoubleVector ofValues(double... values) {
+        DenseDoubleVector vector = new DenseDoubleVector(values.length);
+        System.arraycopy(values, 0, vector.values, 0, values.length);
+        return vector;
+    }
+
+    // endregion
+
+    // region override
+
+    /**
+     * @return new sorted map of all values unequal to {@code 0}
+     */
+    @Override
+    @NotNull
+    protected Map<Integer, Double> getNonDefaultValues() {
+        Map<Integer, Double> map = new TreeMap<>();
+        for (int i = 0; i < values.length; i++)
+            if (values[i] != 0) map.put(i, values[i]);
+        return map;
+    }
+
+    @Override
+    @NotNull
+    public DenseDoubleVector copy() {
+        return new DenseDoubleVector(this);
+    }
+
+    // endregion
+}
@@ -0,0 +1,209 @@
+package io.rala.math.algebra.vector.typed;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.DoubleStream;
+
+/**
+ * accumulates L1, Lp and L&infin; norm of {@code double} values in a single pass
+ * <p>
+ * the p-norm keeps a scale (largest absolute value so far) and
+ * a sum of {@code (|x|/scale)^p} like LAPACK {@code dnrm2} -
+ * so it neither overflows nor underflows for huge or tiny values.
+ * Infinite and {@code NaN} values are only flagged and never scaled.
+ * Accumulators are mergeable via {@link #combine(DoubleNormAccumulator)}
+ * which allows parallel streams: the {@code accumulate} methods
+ * process at least {@link #PARALLEL_THRESHOLD} values in parallel
+ *
+ * @since 1.2.0
+ */
+public final class DoubleNormAccumulator {
+    /**
+     * min amount of values which are accumulated in parallel
+     *
+     * @since 1.2.0
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final String EXCEPTION_NOT_POSITIV_P_NORM =
+        "may only calculate positive p-norm";
+    private static final String EXCEPTION_DEGREES_UNEQUAL =
+        "degrees have to be equal";
+
+    // region attributes
+
+    private final int p;
+    private double absoluteSum;
+    private double scale;
+    private double scaledSum = 1;
+    private double max;
+    private boolean infinite;
+    private boolean nan;
+
+    // endregion
+
+    /**
+     * @param p degree of {@link #pNorm()}
+     * @throws IllegalArgumentException if p is less than {@code 1}
+     * @since 1.2.0
+     */
+    public DoubleNormAccumulator(int p) {
+        if (p <= 0) throw new IllegalArgumentException(EXCEPTION_NOT_POSITIV_P_NORM);
+        this.p = p;
+    }
+
+    // region accept and combine
+
+    /**
+     * @param value value to accumulate
+     * @since 1.2.0
+     */
+    public void accept(double value) {
+        double absolute = Math.abs(value);
+        absoluteSum += absolute;
+        max = Math.max(max, absolute);
+        if (absolute == 0) return;
+        if (Double.isNaN(absolute)) {
+            nan = true;
+            return;
+        }
+        if (Double.isInfinite(absolute)) {
+            infinite = true;
+            return;
+        }
+        if (scale < absolute) {
+            scaledSum = 1 + scaledSum * power(scale / absolute);
+            scale = absolute;
+        } else scaledSum += power(absolute / scale);
+    }
+
+    /**
+     * merges other accumulator into this one
+     *
+     * @param other accumulator with same degree
+     * @throws IllegalArgumentException if degrees are unequal
+     * @since 1.2.0
+     */
+    public void combine(@NotNull DoubleNormAccumulator other) {
+        if (p != other.p) throw new IllegalArgumentException(EXCEPTION_DEGREES_UNEQUAL);
+        absoluteSum += other.absoluteSum;
+        max = Math.max(max, other.max);
+        infinite |= other.infinite;
+        nan |= other.nan;
+        if (other.scale == 0) return;
+        if (scale < other.scale) {
+            scaledSum = other.scaledSum + scaledSum * power(scale / other.scale);
+            scale = other.scale;
+        } else scaledSum += other.scaledSum * power(other.scale / scale);
+    }
+
+    // endregion
+
+    // region norms
+
+    /**
+     * @return degree of {@link #pNorm()}
+     * @since 1.2.0
+     */
+    public int getP() {
+        return p;
+    }
+
+    /**
+     * @return sum of absolute values
+     * @since 1.2.0
+     */
+    public double manhattanNorm() {
+        return absoluteSum;
+    }
+
+    /**
+     * @return p-norm of all values - {@link Double#NaN} if a value is {@code NaN}
+     * otherwise {@link Double#POSITIVE_INFINITY} if a value is infinite
+     * @since 1.2.0
+     */
+    public double pNorm() {
+        if (nan) return Double.NaN;
+        if (infinite) return Double.POSITIVE_INFINITY;
+        if (scale == 0) return 0;
+        if (p == 1) return scale * scaledSum;
+        if (p == 2) return scale * Math.sqrt(scaledSum);
+        return scale * Math.pow(scaledSum, 1d / p);
+    }
+
+    /**
+     * @return max absolute value or {@link Double#NaN} if a value is {@code NaN}
+     * @since 1.2.0
+     */
+    public double maxNorm() {
+        return max;
+    }
+
+    // endregion
+
+    // region static
+
+    /**
+     * @param values values to accumulate
+     * @param length amount of values to use from start
+     * @param p      degree of {@link #pNorm()}
+     * @return new accumulator containing values
+     * @throws IllegalArgumentException if p is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static DoubleNormAccumulator accumulate(double @NotNull [] values, int length, int p) {
+        return accumulate(Arrays.stream(values, 0, length), length, p);
+    }
+
+    /**
+     * @param values values to accumulate
+     * @param p      degree of {@link #pNorm()}
+     * @return new accumulator containing values
+     * @throws IllegalArgumentException if p is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static DoubleNormAccumulator accumulate(
+        @NotNull Collection<? extends Number> values, int p
+    ) {
+        return accumulate(
+            values.stream().mapToDouble(Number::doubleValue), values.size(), p
+        );
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public String toString() {
+        return p + ": " + pNorm();
+    }
+
+    // endregion
+
+    // region private
+
+    private double power(double ratio) {
+        if (p == 1) return ratio;
+        if (p == 2) return ratio * ratio;
+        return Math.pow(ratio, p);
+    }
+
+    @NotNull
+    private static DoubleNormAccumulator accumulate(
+        @NotNull DoubleStream stream, int size, int p
+    ) {
+        if (PARALLEL_THRESHOLD <= size) stream = stream.parallel();
+        if (p <= 0) throw new IllegalArgumentException(EXCEPTION_NOT_POSITIV_P_NORM);
+        return stream.collect(() -> new DoubleNormAccumulator(p),
+            DoubleNormAccumulator::accept, DoubleNormAccumulator::combine
+        );
+    }
+
+    // endregion
+}
@@ -49,6 +49,33 @@ public class DoubleVector extends Vector<Double> {
 
     // endregion
 
+    // region norm
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link DoubleNormAccumulator}
+     */
+    @Override
+    @NotNull
+    public Double maxNorm() {
+        return DoubleNormAccumulator.accumulate(getNonDefaultValues().values(), 1).maxNorm();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link DoubleNormAccumulator}
+     * which avoids overflow and underflow
+     */
+    @Override
+    @NotNull
+    public Double pNorm(int p) {
+        return DoubleNormAccumulator.accumulate(getNonDefaultValues().values(), p).pNorm();
+    }
+
+    // endregion
+
     // region static
 
     /**
@@ -0,0 +1,525 @@
+package io.rala.math.algebra.vector.typed;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * class which holds a vector of {@code size}
+ * storing {@link Double} as sorted {@code int[]} indices
+ * and a parallel {@code double[]} of values
+ * <p>
+ * only values unequal to {@code 0} are stored.
+ * Binary operations of two sparse vectors merge both index arrays
+ * and use a galloping (exponential) search to skip ahead
+ * if one vector has {@link #GALLOP_RATIO} times more non-zeros than the other
+ *
+ * @since 1.2.0
+ */
+public class SparseDoubleVector extends DoubleVector {
+    /**
+     * ratio of non-zeros from which the denser side
+     * of a merge is searched by galloping instead of linearly
+     *
+     * @since 1.2.0
+     */
+    public static final int GALLOP_RATIO = 8;
+
+    // region protected exception messages
+    protected static final String EXCEPTION_INDICES_NOT_ASCENDING =
+        "indices have to be strictly ascending and less than size";
+    // endregion
+
+    // region attributes
+
+    private int[] indices;
+    private double[] values;
+    private int nonZeros;
+
+    // endregion
+
+    // region constructor
+
+    /**
+     * @param size size of vector
+     * @see DoubleVector#DoubleVector(int)
+     * @since 1.2.0
+     */
+    public SparseDoubleVector(int size) {
+        this(size, null);
+    }
+
+    /**
+     * @param size size of vector
+     * @param type type of vector
+     * @see DoubleVector#DoubleVector(int, Type)
+     * @since 1.2.0
+     */
+    public SparseDoubleVector(int size, @Nullable Type type) {
+        this(size, type, new int[0], new double[0], 0);
+    }
+
+    /**
+     * creates a new vector based on given one
+     *
+     * @param vector vector to copy
+     * @since 1.2.0
+     */
+    public SparseDoubleVector(@NotNull Vector<Double> vector) {
+        this(vector.getSize(), vector.getType());
+        if (vector instanceof SparseDoubleVector) {
+            SparseDoubleVector sparse = (SparseDoubleVector) vector;
+            indices = Arrays.copyOf(sparse.indices, sparse.nonZeros);
+            values = Arrays.copyOf(sparse.values, sparse.nonZeros);
+            nonZeros = sparse.nonZeros;
+        } else vector.forEach(entry -> {
+            if (entry.getValue() != 0) append(entry.getIndex(), entry.getValue());
+        });
+    }
+
+    private SparseDoubleVector(
+        int size, @Nullable Type type,
+        int @NotNull [] indices, double @NotNull [] values, int nonZeros
+    ) {
+        super(size, type);
+        this.indices = indices;
+        this.values = values;
+        this.nonZeros = nonZeros;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of stored values unequal to {@code 0}
+     * @since 1.2.0
+     */
+    public int getNonZeros() {
+        return nonZeros;
+    }
+
+    /**
+     * @return new array containing ascending indices of non-zeros
+     * @since 1.2.0
+     */
+    public int @NotNull [] getIndices() {
+        return Arrays.copyOf(indices, nonZeros);
+    }
+
+    /**
+     * @return new array containing non-zeros in order of {@link #getIndices()}
+     * @since 1.2.0
+     */
+    public double @NotNull [] getValues() {
+        return Arrays.copyOf(values, nonZeros);
+    }
+
+    /**
+     * @param position position of non-zero
+     * @return index of non-zero without validation
+     */
+    int getStoredIndex(int position) {
+        return indices[position];
+    }
+
+    /**
+     * @param position position of non-zero
+     * @return value of non-zero without validation
+     */
+    double getStoredValue(int position) {
+        return values[position];
+    }
+
+    // endregion
+
+    // region value
+
+    /**
+     * @param index of requested value
+     * @return primitive value at index
+     * @throws IndexOutOfBoundsException if index is invalid
+     * @see #getValue(int)
+     * @since 1.2.0
+     */
+    public double getDouble(int index) {
+        if (!isValidIndex(index)) throw new IndexOutOfBoundsException(index + " / " + getSize());
+        int position = Arrays.binarySearch(indices, 0, nonZeros, index);
+        return position < 0 ? 0 : values[position];
+    }
+
+    @Override
+    @NotNull
+    public Double getValue(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    @NotNull
+    public Double setValue(int index, @NotNull Double value) {
+        if (!isValidIndex(index)) throw new IndexOutOfBoundsException(index + " / " + getSize());
+        invalidateNorm();
+        int position = Arrays.binarySearch(indices, 0, nonZeros, index);
+        if (0 <= position) {
+            double old = values[position];
+            if (value == 0) {
+                System.arraycopy(indices, position + 1, indices, position, nonZeros - position - 1);
+                System.arraycopy(values, position + 1, values, position, nonZeros - position - 1);
+                nonZeros--;
+            } else values[position] = value;
+            return old;
+        }
+        if (value != 0) {
+            int insertion = -position - 1;
+            ensureCapacity(nonZeros + 1);
+            System.arraycopy(indices, insertion, indices, insertion + 1, nonZeros - insertion);
+            System.arraycopy(values, insertion, values, insertion + 1, nonZeros - insertion);
+            indices[insertion] = index;
+            values[insertion] = value;
+            nonZeros++;
+        }
+        return 0d;
+    }
+
+    @Override
+    @NotNull
+    public Double removeValue(int index) {
+        return setValue(index, 0d);
+    }
+
+    // endregion
+
+    // region add, subtract, multiply and dotProduct
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote merges non-zeros if vector is sparse -
+     * otherwise it is converted to a sparse vector first
+     */
+    @Override
+    @NotNull
+    public SparseDoubleVector add(@NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        return merge(this, toSparse(vector), 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote merges non-zeros if vector is sparse -
+     * otherwise it is converted to a sparse vector first
+     */
+    @Override
+    @NotNull
+    public SparseDoubleVector subtract(@NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        return merge(this, toSparse(vector), -1);
+    }
+
+    @Override
+    @NotNull
+    public SparseDoubleVector multiply(@NotNull Double scalar) {
+        if (scalar == 0) return new SparseDoubleVector(getSize(), getType());
+        SparseDoubleVector result = copy();
+        double factor = scalar;
+        for (int i = 0; i < nonZeros; i++) result.values[i] *= factor;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote only non-zeros of this vector are visited
+     */
+    @Override
+    @NotNull
+    public Double dotProduct(@NotNull Vector<Double> vector) {
+        if (getSize() != vector.getSize())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        if (vector instanceof SparseDoubleVector)
+            return dotProduct(this, (SparseDoubleVector) vector);
+        double sum = 0;
+        if (vector instanceof DenseDoubleVector) {
+            DenseDoubleVector dense = (DenseDoubleVector) vector;
+            for (int i = 0; i < nonZeros; i++) sum += values[i] * dense.getDouble(indices[i]);
+        } else
+            for (int i = 0; i < nonZeros; i++) sum += values[i] * vector.getValue(indices[i]);
+        return sum;
+    }
+
+    // endregion
+
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote merges non-zeros if vector is sparse -
+     * otherwise it is converted to a sparse vector first
+     */
+    @Override
+    public void axpy(@NotNull Double alpha, @NotNull Vector<Double> vector) {
+        validateSizeAndType(vector);
+        if (alpha == 0) return;
+        invalidateNorm();
+        SparseDoubleVector sum = merge(this, toSparse(vector), alpha);
+        indices = sum.indices;
+        values = sum.values;
+        nonZeros = sum.nonZeros;
+    }
+
+    @Override
+    public void scale(@NotNull Double alpha) {
+        invalidateNorm();
+        double factor = alpha;
+        if (factor == 0) nonZeros = 0;
+        for (int i = 0; i < nonZeros; i++) values[i] *= factor;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote only non-zeros of this vector are visited
+     */
+    @Override
+    @NotNull
+    public Double dotProduct(@NotNull Vector<Double> vector, @NotNull Double accumulator) {
+        return accumulator + dotProduct(vector);
+    }
+
+    // endregion
+
+    // region transpose and invert
+
+    @Override
+    @NotNull
+    public SparseDoubleVector transpose() {
+        return new SparseDoubleVector(getSize(), isColumn() ? Type.ROW : Type.COLUMN,
+            Arrays.copyOf(indices, nonZeros), Arrays.copyOf(values, nonZeros), nonZeros
+        );
+    }
+
+    @Override
+    @NotNull
+    public SparseDoubleVector invert() {
+        return multiply(-1d);
+    }
+
+    // endregion
+
+    // region norm and normalize
+
+    @Override
+    @NotNull
+    public Double maxNorm() {
+        return DoubleNormAccumulator.accumulate(values, nonZeros, 1).maxNorm();
+    }
+
+    @Override
+    @NotNull
+    public Double pNorm(int p) {
+        return DoubleNormAccumulator.accumulate(values, nonZeros, p).pNorm();
+    }
+
+    @Override
+    @NotNull
+    public SparseDoubleVector normalize() {
+        double norm = euclideanNorm();
+        if (norm == 0)
+            throw new NotSupportedException(EXCEPTION_ZERO_VECTOR_NO_NORMALIZE);
+        SparseDoubleVector unit = copy();
+        for (int i = 0; i < nonZeros; i++) unit.values[i] /= norm;
+        return unit;
+    }
+
+    // endregion
+
+    // region static
+
+    /**
+     * creates a new vector containing provided non-zeros
+     *
+     * @param size    size of vector
+     * @param indices strictly ascending indices of values - they are copied
+     * @param values  values at indices - they are copied
+     * @return new created vector
+     * @throws IllegalArgumentException if size is less than {@code 1},
+     *                                  lengths of arrays are unequal or
+     *                                  indices are not strictly ascending
+     * @since 1.2.0
+     */
+    @NotNull
+    public static SparseDoubleVector ofEntries(
+        int size, int @NotNull [] indices, double @NotNull [] values
+    ) {
+        if (indices.length != values.length)
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        SparseDoubleVector vector = new SparseDoubleVector(size);
+        vector.ensureCapacity(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || size <= indices[i] || 0 < i && indices[i] <= indices[i - 1])
+                throw new IllegalArgumentException(EXCEPTION_INDICES_NOT_ASCENDING);
+            if (values[i] != 0) vector.append(indices[i], values[i]);
+        }
+        return vector;
+    }
+
+    /**
+     * creates a new vector containing all provided values
+     *
+     * @param values values of vector
+     * @return new created vector
+     * @throws IllegalArgumentException if size is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static SparseDoubleVector ofValues(double... values) {
+        SparseDoubleVector vector = new SparseDoubleVector(values.length);
+        for (int i = 0; i < values.length; i++)
+            if (values[i] != 0) vector.append(i, values[i]);
+        return vector;
+    }
+
+    // endregion
+
+    // region override
+
+    /**
+     * @return new sorted map of all non-zeros
+     */
+    @Override
+    @NotNull
+    protected Map<Integer, Double> getNonDefaultValues() {
+        Map<Integer, Double> map = new TreeMap<>();
+        for (int i = 0; i < nonZeros; i++) map.put(indices[i], values[i]);
+        return map;
+    }
+
+    @Override
+    @NotNull
+    public SparseDoubleVector copy() {
+        return new SparseDoubleVector(this);
+    }
+
+    // endregion
+
+    // region private
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= indices.length) return;
+        int length = Math.max(capacity, indices.length + (indices.length >> 1) + 1);
+        indices = Arrays.copyOf(indices, length);
+        values = Arrays.copyOf(values, length);
+    }
+
+    /**
+     * @param index index greater than all stored ones
+     * @param value value unequal to {@code 0}
+     */
+    private void append(int index, double value) {
+        ensureCapacity(nonZeros + 1);
+        indices[nonZeros] = index;
+        values[nonZeros] = value;
+        nonZeros++;
+    }
+
+    @NotNull
+    private static SparseDoubleVector toSparse(@NotNull Vector<Double> vector) {
+        return vector instanceof SparseDoubleVector ?
+            (SparseDoubleVector) vector : new SparseDoubleVector(vector);
+    }
+
+    /**
+     * @return {@code a+factor*b} with type of {@code a}
+     */
+    @NotNull
+    private static SparseDoubleVector merge(
+        @NotNull SparseDoubleVector a, @NotNull SparseDoubleVector b, double factor
+    ) {
+        int[] indices = new int[a.nonZeros + b.nonZeros];
+        double[] values = new double[indices.length];
+        boolean gallopA = (long) GALLOP_RATIO * b.nonZeros < a.nonZeros;
+        boolean gallopB = (long) GALLOP_RATIO * a.nonZeros < b.nonZeros;
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.nonZeros && j < b.nonZeros) {
+            if (a.indices[i] < b.indices[j]) {
+                int end = gallopA ? gallop(a.indices, i, a.nonZeros, b.indices[j]) : i + 1;
+                System.arraycopy(a.indices, i, indices, n, end - i);
+                System.arraycopy(a.values, i, values, n, end - i);
+                n += end - i;
+                i = end;
+            } else if (b.indices[j] < a.indices[i]) {
+                int end = gallopB ? gallop(b.indices, j, b.nonZeros, a.indices[i]) : j + 1;
+                for (; j < end; j++, n++) {
+                    indices[n] = b.indices[j];
+                    values[n] = factor * b.values[j];
+                }
+            } else {
+                double value = a.values[i] + factor * b.values[j];
+                if (value != 0) {
+                    indices[n] = a.indices[i];
+                    values[n++] = value;
+                }
+                i++;
+                j++;
+            }
+        }
+        System.arraycopy(a.indices, i, indices, n, a.nonZeros - i);
+        System.arraycopy(a.values, i, values, n, a.nonZeros - i);
+        n += a.nonZeros - i;
+        for (; j < b.nonZeros; j++, n++) {
+            indices[n] = b.indices[j];
+            values[n] = factor * b.values[j];
+        }
+        return new SparseDoubleVector(a.getSize(), a.getType(), indices, values, n);
+    }
+
+    private static double dotProduct(
+        @NotNull SparseDoubleVector a, @NotNull SparseDoubleVector b
+    ) {
+        SparseDoubleVector sparser = a.nonZeros <= b.nonZeros ? a : b;
+        SparseDoubleVector denser = sparser == a ? b : a;
+        boolean gallop = (long) GALLOP_RATIO * sparser.nonZeros < denser.nonZeros;
+        double sum = 0;
+        int j = 0;
+        for (int i = 0; i < sparser.nonZeros && j < denser.nonZeros; i++) {
+            int index = sparser.indices[i];
+            if (gallop) j = gallop(denser.indices, j, denser.nonZeros, index);
+            else while (j < denser.nonZeros && denser.indices[j] < index) j++;
+            if (j < denser.nonZeros && denser.indices[j] == index)
+                sum += sparser.values[i] * denser.values[j++];
+        }
+        return sum;
+    }
+
+    /**
+     * exponential search followed by a binary search
+     *
+     * @param indices ascending indices
+     * @param from    first position to search (inclusive)
+     * @param to      last position to search (exclusive)
+     * @param target  index to search
+     * @return first position in {@code [from,to]}
+     * whose index is not less than target
+     */
+    private static int gallop(int @NotNull [] indices, int from, int to, int target) {
+        int low = from;
+        int step = 1;
+        while (low + step < to && indices[low + step] < target) {
+            low += step;
+            step <<= 1;
+        }
+        int position = Arrays.binarySearch(indices, low, Math.min(low + step + 1, to), target);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    // endregion
+}
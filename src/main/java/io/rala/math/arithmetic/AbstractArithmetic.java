@@ -5,7 +5,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
@@ -16,6 +18,29 @@ import java.util.stream.StreamSupport;
  * @since 1.0.0
  */
 public abstract class AbstractArithmetic<T extends Number> implements Serializable {
+    /**
+     * min amount of values {@link #sum(Spliterator)}
+     * and {@link #product(Spliterator)} reduce as balanced tree
+     * if the arithmetic {@link #isExact() is exact}
+     *
+     * @since 1.2.0
+     */
+    public static final int TREE_REDUCTION_THRESHOLD = 1 << 6;
+    /**
+     * min amount of values {@link #sum(Spliterator)}
+     * and {@link #product(Spliterator)} reduce in parallel
+     *
+     * @since 1.2.0
+     */
+    public static final int PARALLEL_REDUCTION_THRESHOLD = 1 << 13;
+
+    // region protected exception messages
+
+    protected static final String EXCEPTION_SIZES_UNEQUAL =
+        "sizes have to be equal";
+
+    // endregion
+
     /**
      * creates a new {@link AbstractArithmetic}
      *
@@ -194,16 +219,53 @@ public abstract class AbstractArithmetic<T extends Number> implements Serializab
     /**
      * @param iterable iterable to sum
      * @return sum or {@link #zero()} if empty
-     * @implSpec default implementation iterates over all elements
-     * and starts with {@code 0}
+     * @implSpec default implementation calls {@link #sum(Spliterator)}
      * @since 1.0.0
      */
     @NotNull
     public T sum(@NotNull Iterable<T> iterable) {
-        return StreamSupport.stream(iterable.spliterator(), false)
+        return sum(iterable.spliterator());
+    }
+
+    /**
+     * @param spliterator spliterator to sum
+     * @return sum or {@link #zero()} if empty
+     * @implSpec default implementation reduces as balanced tree
+     * if the arithmetic {@link #isExact() is exact} and the exact size
+     * is known and at least {@link #TREE_REDUCTION_THRESHOLD}
+     * (in parallel from {@link #PARALLEL_REDUCTION_THRESHOLD}) -
+     * otherwise it iterates over all elements and starts with {@code 0}
+     * @since 1.2.0
+     */
+    @NotNull
+    public T sum(@NotNull Spliterator<T> spliterator) {
+        if (isExact() && TREE_REDUCTION_THRESHOLD <= spliterator.getExactSizeIfKnown())
+            return TreeReduction.reduce(spliterator, zero(), this::sum);
+        return StreamSupport.stream(spliterator, false)
             .reduce(zero(), this::sum);
     }
 
+    /**
+     * @param a first values
+     * @param b second values
+     * @return sum of pairwise products or {@link #zero()} if empty
+     * @throws IllegalArgumentException if sizes are not equal
+     * @implSpec default implementation iterates over all elements
+     * and starts with {@code 0}
+     * @since 1.2.0
+     */
+    @NotNull
+    public T dotProduct(@NotNull Iterable<T> a, @NotNull Iterable<T> b) {
+        Iterator<T> first = a.iterator();
+        Iterator<T> second = b.iterator();
+        T sum = zero();
+        while (first.hasNext() && second.hasNext())
+            sum = sum(sum, product(first.next(), second.next()));
+        if (first.hasNext() || second.hasNext())
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        return sum;
+    }
+
     /**
      * @param a first value of difference
      * @param b second value of difference
@@ -239,13 +301,29 @@ public abstract class AbstractArithmetic<T extends Number> implements Serializab
     /**
      * @param iterable iterable to multiply
      * @return product or {@link #one()} if empty
-     * @implSpec default implementation iterates over all elements
-     * and starts with {@code 1}
+     * @implSpec default implementation calls {@link #product(Spliterator)}
      * @since 1.0.0
      */
     @NotNull
     public T product(@NotNull Iterable<T> iterable) {
-        return StreamSupport.stream(iterable.spliterator(), false)
+        return product(iterable.spliterator());
+    }
+
+    /**
+     * @param spliterator spliterator to multiply
+     * @return product or {@link #one()} if empty
+     * @implSpec default implementation reduces as balanced tree
+     * if the arithmetic {@link #isExact() is exact} and the exact size
+     * is known and at least {@link #TREE_REDUCTION_THRESHOLD}
+     * (in parallel from {@link #PARALLEL_REDUCTION_THRESHOLD}) -
+     * otherwise it iterates over all elements and starts with {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public T product(@NotNull Spliterator<T> spliterator) {
+        if (isExact() && TREE_REDUCTION_THRESHOLD <= spliterator.getExactSizeIfKnown())
+            return TreeReduction.reduce(spliterator, one(), this::product);
+        return StreamSupport.stream(spliterator, false)
             .reduce(one(), this::product);
     }
 
@@ -272,6 +350,19 @@ public abstract class AbstractArithmetic<T extends Number> implements Serializab
         return difference(a, product);
     }
 
+    /**
+     * {@link #sum(Spliterator)} and {@link #product(Spliterator)}
+     * reduce as balanced tree only if the arithmetic is exact -
+     * otherwise the order of reduction would change the rounding
+     *
+     * @return {@code true} if sum and product never round
+     * @implSpec default implementation returns {@code false}
+     * @since 1.2.0
+     */
+    public boolean isExact() {
+        return false;
+    }
+
     // endregion
 
     // region power and root
@@ -0,0 +1,320 @@
+package io.rala.math.arithmetic;
+
+import io.rala.math.exception.NotSupportedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * class which delegates to an arithmetic and counts each operation
+ * <p>
+ * counting is thread-safe - composed operations like
+ * {@link #sum(Number, Number, Number)} are counted per basic operation.
+ * Summations and {@link #isExact()} are delegated,
+ * so counting does not change results
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+public class CountingArithmetic<T extends Number> extends AbstractArithmetic<T> {
+    /**
+     * counted operations
+     *
+     * @since 1.2.0
+     */
+    public enum Operation {SUM, DIFFERENCE, PRODUCT, QUOTIENT, NEGATE, COMPARE, POWER, ROOT, OTHER}
+
+    // region attributes
+
+    private final AbstractArithmetic<T> arithmetic;
+    private final Map<Operation, LongAdder> counters = new EnumMap<>(Operation.class);
+
+    // endregion
+
+    /**
+     * creates a new counting arithmetic
+     *
+     * @param arithmetic arithmetic to delegate to
+     * @since 1.2.0
+     */
+    public CountingArithmetic(@NotNull AbstractArithmetic<T> arithmetic) {
+        this.arithmetic = arithmetic;
+        for (Operation operation : Operation.values())
+            counters.put(operation, new LongAdder());
+    }
+
+    // region getter and reset
+
+    /**
+     * @return arithmetic to delegate to
+     * @since 1.2.0
+     */
+    @NotNull
+    public AbstractArithmetic<T> getArithmetic() {
+        return arithmetic;
+    }
+
+    /**
+     * @param operation operation to get count of
+     * @return count of operation
+     * @since 1.2.0
+     */
+    public long getCount(@NotNull Operation operation) {
+        return counters.get(operation).sum();
+    }
+
+    /**
+     * @return new map of all counts
+     * @since 1.2.0
+     */
+    @NotNull
+    public Map<Operation, Long> getCounts() {
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        counters.forEach((operation, adder) -> counts.put(operation, adder.sum()));
+        return counts;
+    }
+
+    /**
+     * resets all counts to {@code 0}
+     *
+     * @since 1.2.0
+     */
+    public void resetCounts() {
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    // endregion
+
+    // region fromInt, fromDouble and signum
+
+    @Override
+    @NotNull
+    public T fromInt(int a) {
+        return getArithmetic().fromInt(a);
+    }
+
+    @Override
+    @NotNull
+    public T fromDouble(double a) {
+        return getArithmetic().fromDouble(a);
+    }
+
+    @Override
+    public double signum(@NotNull T a) {
+        count(Operation.COMPARE);
+        return getArithmetic().signum(a);
+    }
+
+    // endregion
+
+    // region absolute, negate and compare
+
+    @Override
+    @NotNull
+    public T absolute(@NotNull T a) {
+        count(Operation.NEGATE);
+        return getArithmetic().absolute(a);
+    }
+
+    @Override
+    @NotNull
+    public T negate(@NotNull T a) {
+        count(Operation.NEGATE);
+        return getArithmetic().negate(a);
+    }
+
+    @Override
+    public int compare(@NotNull T a, @NotNull T b) {
+        count(Operation.COMPARE);
+        return getArithmetic().compare(a, b);
+    }
+
+    @Override
+    public boolean isZero(@NotNull T a) {
+        count(Operation.COMPARE);
+        return getArithmetic().isZero(a);
+    }
+
+    // endregion
+
+    // region sum, difference, product and quotient
+
+    @Override
+    @NotNull
+    public T sum(@NotNull T a, @NotNull T b) {
+        count(Operation.SUM);
+        return getArithmetic().sum(a, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote delegates to the arithmetic
+     * and counts one sum less than there are values
+     */
+    @Override
+    @NotNull
+    public T sum(@NotNull Spliterator<T> spliterator) {
+        List<T> values = toList(spliterator);
+        count(Operation.SUM, values.size() - 1);
+        return getArithmetic().sum(values.spliterator());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote delegates to the arithmetic and counts one product
+     * per pair and one sum less than there are pairs
+     */
+    @Override
+    @NotNull
+    public T dotProduct(@NotNull Iterable<T> a, @NotNull Iterable<T> b) {
+        List<T> first = toList(a.spliterator());
+        List<T> second = toList(b.spliterator());
+        T dotProduct = getArithmetic().dotProduct(first, second);
+        count(Operation.PRODUCT, first.size());
+        count(Operation.SUM, first.size() - 1);
+        return dotProduct;
+    }
+
+    @Override
+    @NotNull
+    public T difference(@NotNull T a, @NotNull T b) {
+        count(Operation.DIFFERENCE);
+        return getArithmetic().difference(a, b);
+    }
+
+    @Override
+    @NotNull
+    public T product(@NotNull T a, @NotNull T b) {
+        count(Operation.PRODUCT);
+        return getArithmetic().product(a, b);
+    }
+
+    @Override
+    @NotNull
+    public T quotient(@NotNull T a, @NotNull T b) {
+        count(Operation.QUOTIENT);
+        return getArithmetic().quotient(a, b);
+    }
+
+    @Override
+    @NotNull
+    public T modulo(@NotNull T a, @NotNull T b) {
+        count(Operation.OTHER);
+        return getArithmetic().modulo(a, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if the arithmetic is exact
+     */
+    @Override
+    public boolean isExact() {
+        return getArithmetic().isExact();
+    }
+
+    // endregion
+
+    // region power, root and gcd
+
+    @Override
+    @NotNull
+    public T power(@NotNull T a, int b) {
+        count(Operation.POWER);
+        return getArithmetic().power(a, b);
+    }
+
+    @Override
+    @NotNull
+    public T root(@NotNull T a, int b) {
+        count(Operation.ROOT);
+        return getArithmetic().root(a, b);
+    }
+
+    @Override
+    @NotNull
+    public T root2(@NotNull T a) {
+        count(Operation.ROOT);
+        return getArithmetic().root2(a);
+    }
+
+    /**
+     * @throws NotSupportedException if delegate does not support it
+     */
+    @Override
+    @NotNull
+    public T gcd(@NotNull T a, @NotNull T b) {
+        count(Operation.OTHER);
+        return getArithmetic().gcd(a, b);
+    }
+
+    // endregion
+
+    // region isFinite, isInfinite and isNaN
+
+    @Override
+    public boolean isFinite(@NotNull T a) {
+        return getArithmetic().isFinite(a);
+    }
+
+    @Override
+    public boolean isInfinite(@NotNull T a) {
+        return getArithmetic().isInfinite(a);
+    }
+
+    @Override
+    public boolean isNaN(@NotNull T a) {
+        return getArithmetic().isNaN(a);
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CountingArithmetic)) return false;
+        CountingArithmetic<?> that = (CountingArithmetic<?>) o;
+        return getArithmetic().equals(that.getArithmetic());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getArithmetic());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "CountingArithmetic{" + getArithmetic() + ", " + getCounts() + "}";
+    }
+
+    // endregion
+
+    // region private
+
+    private void count(@NotNull Operation operation) {
+        counters.get(operation).increment();
+    }
+
+    private void count(@NotNull Operation operation, long amount) {
+        if (0 < amount) counters.get(operation).add(amount);
+    }
+
+    @NotNull
+    private static <T> List<T> toList(@NotNull Spliterator<T> spliterator) {
+        return StreamSupport.stream(spliterator, false).collect(Collectors.toList());
+    }
+
+    // endregion
+}
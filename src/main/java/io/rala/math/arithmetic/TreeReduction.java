@@ -0,0 +1,84 @@
+package io.rala.math.arithmetic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * reduces values of a sized spliterator as a balanced binary tree
+ * <p>
+ * operands of each step have a similar size which is faster
+ * for big numbers than a left fold. Spliterators with at least
+ * {@link AbstractArithmetic#PARALLEL_REDUCTION_THRESHOLD} values
+ * are split and reduced in the common {@link ForkJoinPool}.
+ * The encounter order is kept, only associativity is assumed
+ *
+ * @param <T> number class
+ * @since 1.2.0
+ */
+final class TreeReduction<T> extends RecursiveTask<T> {
+    private final Spliterator<T> spliterator;
+    private final T identity;
+    private final BinaryOperator<T> operator;
+
+    private TreeReduction(
+        @NotNull Spliterator<T> spliterator,
+        @NotNull T identity, @NotNull BinaryOperator<T> operator
+    ) {
+        this.spliterator = spliterator;
+        this.identity = identity;
+        this.operator = operator;
+    }
+
+    /**
+     * @param spliterator values to reduce
+     * @param identity    result if there are no values
+     * @param operator    associative operator to apply
+     * @param <T>         number class
+     * @return reduced value
+     * @since 1.2.0
+     */
+    @NotNull
+    static <T> T reduce(
+        @NotNull Spliterator<T> spliterator,
+        @NotNull T identity, @NotNull BinaryOperator<T> operator
+    ) {
+        TreeReduction<T> task = new TreeReduction<>(spliterator, identity, operator);
+        return spliterator.estimateSize() < AbstractArithmetic.PARALLEL_REDUCTION_THRESHOLD ?
+            task.compute() : ForkJoinPool.commonPool().invoke(task);
+    }
+
+    @Override
+    @NotNull
+    protected T compute() {
+        if (AbstractArithmetic.PARALLEL_REDUCTION_THRESHOLD <= spliterator.estimateSize()) {
+            Spliterator<T> prefix = spliterator.trySplit();
+            if (prefix != null) {
+                TreeReduction<T> left = new TreeReduction<>(prefix, identity, operator);
+                left.fork();
+                T right = compute();
+                return operator.apply(left.join(), right);
+            }
+        }
+        List<T> values = new ArrayList<>();
+        spliterator.forEachRemaining(values::add);
+        return reduce(values, 0, values.size());
+    }
+
+    // region private
+
+    @NotNull
+    private T reduce(@NotNull List<T> values, int from, int to) {
+        if (to - from == 0) return identity;
+        if (to - from == 1) return values.get(from);
+        int middle = (from + to) >>> 1;
+        return operator.apply(reduce(values, from, middle), reduce(values, middle, to));
+    }
+
+    // endregion
+}
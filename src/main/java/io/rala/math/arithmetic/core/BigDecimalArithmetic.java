@@ -137,6 +137,16 @@ public class BigDecimalArithmetic extends AbstractArithmetic<BigDecimal> {
         return a.remainder(b, getMathContext());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if precision of {@link #getMathContext()} is unlimited
+     */
+    @Override
+    public boolean isExact() {
+        return getMathContext().getPrecision() == 0;
+    }
+
     // endregion
 
     // region power and root
@@ -103,6 +103,16 @@ public class BigIntegerArithmetic extends AbstractArithmetic<BigInteger> {
         return a.mod(b);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
     // endregion
 
     // region power and root
@@ -5,6 +5,9 @@ import io.rala.math.arithmetic.AbstractArithmetic;
 import io.rala.math.exception.NotSupportedException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
 /**
  * class which handles {@link Double} arithmetic
  *
@@ -27,6 +30,48 @@ public class DoubleArithmetic extends AbstractArithmetic<Double> {
 
     // endregion
 
+    // region attributes
+
+    private final SummationMode summationMode;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new instance using {@link SummationMode#NAIVE}
+     *
+     * @since 1.0.0
+     */
+    public DoubleArithmetic() {
+        this(SummationMode.NAIVE);
+    }
+
+    /**
+     * @param summationMode mode used by {@link #sum(Spliterator)}
+     *                      and {@link #dotProduct(Iterable, Iterable)}
+     * @since 1.2.0
+     */
+    public DoubleArithmetic(@NotNull SummationMode summationMode) {
+        this.summationMode = summationMode;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return mode used by {@link #sum(Spliterator)}
+     * and {@link #dotProduct(Iterable, Iterable)}
+     * @since 1.2.0
+     */
+    @NotNull
+    public SummationMode getSummationMode() {
+        return summationMode;
+    }
+
+    // endregion
+
     // region fromInt, fromDouble and signum
 
     @Override
@@ -56,6 +101,39 @@ public class DoubleArithmetic extends AbstractArithmetic<Double> {
         return a + b;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link #getSummationMode()}
+     */
+    @Override
+    @NotNull
+    public Double sum(@NotNull Spliterator<Double> spliterator) {
+        if (summationMode == SummationMode.NAIVE) {
+            double[] sum = {0};
+            spliterator.forEachRemaining(value -> sum[0] += value);
+            return sum[0];
+        }
+        double[] values = toArray(spliterator);
+        return summationMode.sum(values, values.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link #getSummationMode()}
+     */
+    @Override
+    @NotNull
+    public Double dotProduct(@NotNull Iterable<Double> a, @NotNull Iterable<Double> b) {
+        if (summationMode == SummationMode.NAIVE) return super.dotProduct(a, b);
+        double[] first = toArray(a.spliterator());
+        double[] second = toArray(b.spliterator());
+        if (first.length != second.length)
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        return summationMode.dotProduct(first, second, first.length);
+    }
+
     @Override
     @NotNull
     public Double difference(@NotNull Double a, @NotNull Double b) {
@@ -68,6 +146,19 @@ public class DoubleArithmetic extends AbstractArithmetic<Double> {
         return a * b;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote multiplies left to right as each step rounds
+     */
+    @Override
+    @NotNull
+    public Double product(@NotNull Spliterator<Double> spliterator) {
+        double[] product = {1};
+        spliterator.forEachRemaining(value -> product[0] *= value);
+        return product[0];
+    }
+
     @Override
     @NotNull
     public Double quotient(@NotNull Double a, @NotNull Double b) {
@@ -107,4 +198,28 @@ public class DoubleArithmetic extends AbstractArithmetic<Double> {
     }
 
     // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) &&
+            summationMode == ((DoubleArithmetic) o).summationMode;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    // endregion
+
+    // region private
+
+    private static double @NotNull [] toArray(@NotNull Spliterator<Double> spliterator) {
+        return StreamSupport.stream(spliterator, false)
+            .mapToDouble(Double::doubleValue).toArray();
+    }
+
+    // endregion
 }
@@ -5,6 +5,9 @@ import io.rala.math.arithmetic.AbstractArithmetic;
 import io.rala.math.exception.NotSupportedException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
 /**
  * class which handles {@link Float} arithmetic
  *
@@ -27,6 +30,48 @@ public class FloatArithmetic extends AbstractArithmetic<Float> {
 
     // endregion
 
+    // region attributes
+
+    private final SummationMode summationMode;
+
+    // endregion
+
+    // region constructors
+
+    /**
+     * creates a new instance using {@link SummationMode#NAIVE}
+     *
+     * @since 1.0.0
+     */
+    public FloatArithmetic() {
+        this(SummationMode.NAIVE);
+    }
+
+    /**
+     * @param summationMode mode used by {@link #sum(Spliterator)}
+     *                      and {@link #dotProduct(Iterable, Iterable)}
+     * @since 1.2.0
+     */
+    public FloatArithmetic(@NotNull SummationMode summationMode) {
+        this.summationMode = summationMode;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return mode used by {@link #sum(Spliterator)}
+     * and {@link #dotProduct(Iterable, Iterable)}
+     * @since 1.2.0
+     */
+    @NotNull
+    public SummationMode getSummationMode() {
+        return summationMode;
+    }
+
+    // endregion
+
     // region fromInt, fromDouble and signum
 
     @Override
@@ -56,6 +101,41 @@ public class FloatArithmetic extends AbstractArithmetic<Float> {
         return a + b;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link #getSummationMode()}
+     * - values are accumulated as {@code double}
+     */
+    @Override
+    @NotNull
+    public Float sum(@NotNull Spliterator<Float> spliterator) {
+        if (summationMode == SummationMode.NAIVE) {
+            float[] sum = {0};
+            spliterator.forEachRemaining(value -> sum[0] += value);
+            return sum[0];
+        }
+        double[] values = toArray(spliterator);
+        return (float) summationMode.sum(values, values.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote uses {@link #getSummationMode()}
+     * - values are accumulated as {@code double}
+     */
+    @Override
+    @NotNull
+    public Float dotProduct(@NotNull Iterable<Float> a, @NotNull Iterable<Float> b) {
+        if (summationMode == SummationMode.NAIVE) return super.dotProduct(a, b);
+        double[] first = toArray(a.spliterator());
+        double[] second = toArray(b.spliterator());
+        if (first.length != second.length)
+            throw new IllegalArgumentException(EXCEPTION_SIZES_UNEQUAL);
+        return (float) summationMode.dotProduct(first, second, first.length);
+    }
+
     @Override
     @NotNull
     public Float difference(@NotNull Float a, @NotNull Float b) {
@@ -68,6 +148,19 @@ public class FloatArithmetic extends AbstractArithmetic<Float> {
         return a * b;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote multiplies left to right as each step rounds
+     */
+    @Override
+    @NotNull
+    public Float product(@NotNull Spliterator<Float> spliterator) {
+        float[] product = {1};
+        spliterator.forEachRemaining(value -> product[0] *= value);
+        return product[0];
+    }
+
     @Override
     @NotNull
     public Float quotient(@NotNull Float a, @NotNull Float b) {
@@ -107,4 +200,28 @@ public class FloatArithmetic extends AbstractArithmetic<Float> {
     }
 
     // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) &&
+            summationMode == ((FloatArithmetic) o).summationMode;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    // endregion
+
+    // region private
+
+    private static double @NotNull [] toArray(@NotNull Spliterator<Float> spliterator) {
+        return StreamSupport.stream(spliterator, false)
+            .mapToDouble(Float::doubleValue).toArray();
+    }
+
+    // endregion
 }
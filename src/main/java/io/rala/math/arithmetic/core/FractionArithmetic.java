@@ -110,6 +110,17 @@ public class FractionArithmetic<T extends Number, R extends Number>
         return a.divide(b);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if the arithmetic of numerator
+     * and denominator is exact
+     */
+    @Override
+    public boolean isExact() {
+        return getArithmetic().getTArithmetic().isExact();
+    }
+
     // endregion
 
     // region power and root
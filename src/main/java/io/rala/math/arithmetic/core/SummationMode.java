@@ -0,0 +1,175 @@
+package io.rala.math.arithmetic.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * summation algorithms of {@link DoubleArithmetic} and {@link FloatArithmetic}
+ * <p>
+ * compensated and pairwise modes reduce the rounding error of long sums
+ * from {@code O(n*eps)} of {@link #NAIVE} to {@code O(eps)} respectively
+ * {@code O(log(n)*eps)} at nearly the same speed.
+ * If a compensated result is {@code NaN} because of an intermediate infinity
+ * the naive sum is returned instead
+ *
+ * @since 1.2.0
+ */
+public enum SummationMode {
+    /**
+     * accumulates left to right
+     *
+     * @since 1.2.0
+     */
+    NAIVE {
+        @Override
+        public double sum(double @NotNull [] values, int length) {
+            return naiveSum(values, 0, length);
+        }
+
+        @Override
+        public double dotProduct(double @NotNull [] a, double @NotNull [] b, int length) {
+            return naiveDotProduct(a, b, length);
+        }
+    },
+    /**
+     * Kahan summation: subtracts the lost low-order bits
+     * of the previous step from the next value
+     *
+     * @since 1.2.0
+     */
+    KAHAN {
+        @Override
+        public double sum(double @NotNull [] values, int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = 0; i < length; i++) {
+                double y = values[i] - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return Double.isNaN(sum) ? naiveSum(values, 0, length) : sum;
+        }
+
+        @Override
+        public double dotProduct(double @NotNull [] a, double @NotNull [] b, int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = 0; i < length; i++) {
+                double y = a[i] * b[i] - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return Double.isNaN(sum) ? naiveDotProduct(a, b, length) : sum;
+        }
+    },
+    /**
+     * Kahan-Babuska-Neumaier summation: like {@link #KAHAN}
+     * but also correct if a value is larger than the running sum
+     * <p>
+     * {@link #dotProduct(double[], double[], int)} is {@code Dot2}
+     * of Ogita, Rump and Oishi: the rounding error of each product
+     * is calculated exactly using {@link Math#fma(double, double, double)}
+     * so the result is as accurate as if calculated in twice the working precision
+     *
+     * @since 1.2.0
+     */
+    NEUMAIER {
+        @Override
+        public double sum(double @NotNull [] values, int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = 0; i < length; i++) {
+                double t = sum + values[i];
+                if (Math.abs(values[i]) <= Math.abs(sum))
+                    compensation += (sum - t) + values[i];
+                else compensation += (values[i] - t) + sum;
+                sum = t;
+            }
+            double result = sum + compensation;
+            return Double.isNaN(result) ? naiveSum(values, 0, length) : result;
+        }
+
+        @Override
+        public double dotProduct(double @NotNull [] a, double @NotNull [] b, int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = 0; i < length; i++) {
+                double product = a[i] * b[i];
+                double productError = Math.fma(a[i], b[i], -product);
+                double t = sum + product;
+                double z = t - sum;
+                double sumError = (sum - (t - z)) + (product - z);
+                compensation += productError + sumError;
+                sum = t;
+            }
+            double result = sum + compensation;
+            return Double.isNaN(result) ? naiveDotProduct(a, b, length) : result;
+        }
+    },
+    /**
+     * pairwise (cascade) summation: halves the values recursively
+     * and sums blocks of {@link #PAIRWISE_BLOCK_SIZE} naively
+     *
+     * @since 1.2.0
+     */
+    PAIRWISE {
+        @Override
+        public double sum(double @NotNull [] values, int length) {
+            return pairwiseSum(values, 0, length);
+        }
+
+        @Override
+        public double dotProduct(double @NotNull [] a, double @NotNull [] b, int length) {
+            double[] products = new double[length];
+            for (int i = 0; i < length; i++) products[i] = a[i] * b[i];
+            return pairwiseSum(products, 0, length);
+        }
+    };
+
+    /**
+     * max amount of values {@link #PAIRWISE} sums naively
+     *
+     * @since 1.2.0
+     */
+    public static final int PAIRWISE_BLOCK_SIZE = 128;
+
+    /**
+     * @param values values to sum
+     * @param length amount of values to use from start
+     * @return sum of values or {@code 0} if length is {@code 0}
+     * @since 1.2.0
+     */
+    public abstract double sum(double @NotNull [] values, int length);
+
+    /**
+     * @param a      first values
+     * @param b      second values
+     * @param length amount of values to use from start
+     * @return sum of {@code a[i]*b[i]} or {@code 0} if length is {@code 0}
+     * @since 1.2.0
+     */
+    public abstract double dotProduct(double @NotNull [] a, double @NotNull [] b, int length);
+
+    // region private
+
+    private static double naiveSum(double @NotNull [] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) sum += values[i];
+        return sum;
+    }
+
+    private static double naiveDotProduct(double @NotNull [] a, double @NotNull [] b, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static double pairwiseSum(double @NotNull [] values, int from, int to) {
+        if (to - from <= PAIRWISE_BLOCK_SIZE) return naiveSum(values, from, to);
+        int middle = (from + to) >>> 1;
+        return pairwiseSum(values, from, middle) + pairwiseSum(values, middle, to);
+    }
+
+    // endregion
+}
@@ -0,0 +1,241 @@
+package io.rala.math.statistics;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DenseDoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * accumulates mean, covariance and correlation matrix
+ * of observations in a single pass
+ * <p>
+ * the co-moments are updated like Welford - only the upper triangle
+ * is accumulated as the matrices are symmetric.
+ * Accumulators are mergeable via {@link #combine(CovarianceAccumulator)}
+ * which allows parallel streams
+ *
+ * @since 1.2.0
+ */
+public final class CovarianceAccumulator {
+    // region protected exception messages
+    protected static final String EXCEPTION_DIMENSION_LESS_1 =
+        "dimension has to be greater than 0";
+    protected static final String EXCEPTION_DIMENSIONS_UNEQUAL =
+        "dimensions have to be equal";
+    // endregion
+
+    // region attributes
+
+    private final int dimension;
+    private long count;
+    private final double[] mean;
+    private final double[] delta;
+    private final double[] coMoments;
+
+    // endregion
+
+    /**
+     * @param dimension amount of values of each observation
+     * @throws IllegalArgumentException if dimension is less than {@code 1}
+     * @since 1.2.0
+     */
+    public CovarianceAccumulator(int dimension) {
+        if (dimension <= 0) throw new IllegalArgumentException(EXCEPTION_DIMENSION_LESS_1);
+        this.dimension = dimension;
+        this.mean = new double[dimension];
+        this.delta = new double[dimension];
+        this.coMoments = new double[dimension * dimension];
+    }
+
+    // region accept and combine
+
+    /**
+     * @param observation observation to accumulate
+     * @throws IllegalArgumentException if length is not equal to dimension
+     * @since 1.2.0
+     */
+    public void accept(double @NotNull [] observation) {
+        if (observation.length != dimension)
+            throw new IllegalArgumentException(EXCEPTION_DIMENSIONS_UNEQUAL);
+        count++;
+        for (int i = 0; i < dimension; i++) {
+            delta[i] = observation[i] - mean[i];
+            mean[i] += delta[i] / count;
+        }
+        for (int i = 0; i < dimension; i++) {
+            int row = i * dimension;
+            for (int j = i; j < dimension; j++)
+                coMoments[row + j] += delta[i] * (observation[j] - mean[j]);
+        }
+    }
+
+    /**
+     * @param observation observation to accumulate
+     * @throws IllegalArgumentException if size is not equal to dimension
+     * @since 1.2.0
+     */
+    public void accept(@NotNull Vector<? extends Number> observation) {
+        accept(MomentAccumulator.toArray(observation));
+    }
+
+    /**
+     * merges other accumulator into this one
+     *
+     * @param other accumulator with same dimension
+     * @throws IllegalArgumentException if dimensions are unequal
+     * @since 1.2.0
+     */
+    public void combine(@NotNull CovarianceAccumulator other) {
+        if (dimension != other.dimension)
+            throw new IllegalArgumentException(EXCEPTION_DIMENSIONS_UNEQUAL);
+        if (other.count == 0) return;
+        long total = count + other.count;
+        double weight = (double) other.count / total;
+        double factor = (double) count * other.count / total;
+        for (int i = 0; i < dimension; i++)
+            delta[i] = other.mean[i] - mean[i];
+        for (int i = 0; i < dimension; i++) {
+            int row = i * dimension;
+            for (int j = i; j < dimension; j++)
+                coMoments[row + j] += other.coMoments[row + j] + delta[i] * delta[j] * factor;
+            mean[i] += delta[i] * weight;
+        }
+        count = total;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of values of each observation
+     * @since 1.2.0
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return amount of accumulated observations
+     * @since 1.2.0
+     */
+    public long getCount() {
+        return count;
+    }
+
+    // endregion
+
+    // region mean, covariance and correlation
+
+    /**
+     * @return mean of each dimension or {@link Double#NaN} if empty
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getMean() {
+        if (0 < count) return DenseDoubleVector.ofValues(mean);
+        double[] values = new double[dimension];
+        Arrays.fill(values, Double.NaN);
+        return DenseDoubleVector.ofValues(values);
+    }
+
+    /**
+     * @return symmetric sample covariance matrix
+     * or {@link Double#NaN} values if there are less than {@code 2} observations
+     * @see #getPopulationCovariance()
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getCovariance() {
+        return divideCoMoments(count - 1);
+    }
+
+    /**
+     * @return symmetric population covariance matrix
+     * or {@link Double#NaN} values if empty
+     * @see #getCovariance()
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getPopulationCovariance() {
+        return divideCoMoments(count);
+    }
+
+    /**
+     * @return symmetric pearson correlation matrix -
+     * values of constant dimensions are {@link Double#NaN}
+     * @since 1.2.0
+     */
+    @NotNull
+    public DoubleMatrix getCorrelation() {
+        double[] values = new double[dimension * dimension];
+        for (int i = 0; i < dimension; i++)
+            for (int j = i; j < dimension; j++) {
+                double correlation = i == j && 0 < coMoments[i * dimension + i] ? 1 :
+                    coMoments[i * dimension + j] / Math.sqrt(
+                        coMoments[i * dimension + i] * coMoments[j * dimension + j]
+                    );
+                values[i * dimension + j] = correlation;
+                values[j * dimension + i] = correlation;
+            }
+        return DoubleMatrix.ofValuesByRows(dimension, values);
+    }
+
+    // endregion
+
+    // region static
+
+    /**
+     * @param dimension amount of values of each observation
+     * @return new collector accumulating observations - supports parallel streams
+     * @throws IllegalArgumentException if dimension is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static Collector<double[], ?, CovarianceAccumulator> toCovarianceAccumulator(
+        int dimension
+    ) {
+        if (dimension <= 0) throw new IllegalArgumentException(EXCEPTION_DIMENSION_LESS_1);
+        return Collector.of(() -> new CovarianceAccumulator(dimension),
+            CovarianceAccumulator::accept,
+            (accumulator, other) -> {
+                accumulator.combine(other);
+                return accumulator;
+            },
+            Collector.Characteristics.IDENTITY_FINISH,
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getCount() + ": " + Arrays.toString(mean);
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private DoubleMatrix divideCoMoments(long divisor) {
+        double[] values = new double[dimension * dimension];
+        for (int i = 0; i < dimension; i++)
+            for (int j = i; j < dimension; j++) {
+                double covariance = 0 < divisor ?
+                    coMoments[i * dimension + j] / divisor : Double.NaN;
+                values[i * dimension + j] = covariance;
+                values[j * dimension + i] = covariance;
+            }
+        return DoubleMatrix.ofValuesByRows(dimension, values);
+    }
+
+    // endregion
+}
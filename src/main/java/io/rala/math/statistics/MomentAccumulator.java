@@ -0,0 +1,257 @@
+package io.rala.math.statistics;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DenseDoubleVector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * accumulates count, mean, variance, min and max
+ * of each dimension of observations in a single pass
+ * <p>
+ * mean and sum of squared deviations are updated like Welford -
+ * so there is no cancellation of {@code E[x^2]-E[x]^2}.
+ * Accumulators are mergeable via {@link #combine(MomentAccumulator)}
+ * (Chan et al.) which allows parallel streams
+ *
+ * @since 1.2.0
+ */
+public final class MomentAccumulator {
+    // region protected exception messages
+    protected static final String EXCEPTION_DIMENSION_LESS_1 =
+        "dimension has to be greater than 0";
+    protected static final String EXCEPTION_DIMENSIONS_UNEQUAL =
+        "dimensions have to be equal";
+    // endregion
+
+    // region attributes
+
+    private final int dimension;
+    private long count;
+    private final double[] mean;
+    private final double[] squaredDeviations;
+    private final double[] min;
+    private final double[] max;
+
+    // endregion
+
+    /**
+     * @param dimension amount of values of each observation
+     * @throws IllegalArgumentException if dimension is less than {@code 1}
+     * @since 1.2.0
+     */
+    public MomentAccumulator(int dimension) {
+        if (dimension <= 0) throw new IllegalArgumentException(EXCEPTION_DIMENSION_LESS_1);
+        this.dimension = dimension;
+        this.mean = new double[dimension];
+        this.squaredDeviations = new double[dimension];
+        this.min = new double[dimension];
+        this.max = new double[dimension];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+    }
+
+    // region accept and combine
+
+    /**
+     * @param observation observation to accumulate
+     * @throws IllegalArgumentException if length is not equal to dimension
+     * @since 1.2.0
+     */
+    public void accept(double @NotNull [] observation) {
+        if (observation.length != dimension)
+            throw new IllegalArgumentException(EXCEPTION_DIMENSIONS_UNEQUAL);
+        count++;
+        for (int i = 0; i < dimension; i++) {
+            double value = observation[i];
+            double delta = value - mean[i];
+            mean[i] += delta / count;
+            squaredDeviations[i] += delta * (value - mean[i]);
+            if (value < min[i]) min[i] = value;
+            if (max[i] < value) max[i] = value;
+        }
+    }
+
+    /**
+     * @param observation observation to accumulate
+     * @throws IllegalArgumentException if size is not equal to dimension
+     * @since 1.2.0
+     */
+    public void accept(@NotNull Vector<? extends Number> observation) {
+        accept(toArray(observation));
+    }
+
+    /**
+     * merges other accumulator into this one
+     *
+     * @param other accumulator with same dimension
+     * @throws IllegalArgumentException if dimensions are unequal
+     * @since 1.2.0
+     */
+    public void combine(@NotNull MomentAccumulator other) {
+        if (dimension != other.dimension)
+            throw new IllegalArgumentException(EXCEPTION_DIMENSIONS_UNEQUAL);
+        if (other.count == 0) return;
+        long total = count + other.count;
+        double weight = (double) other.count / total;
+        double factor = (double) count * other.count / total;
+        for (int i = 0; i < dimension; i++) {
+            double delta = other.mean[i] - mean[i];
+            mean[i] += delta * weight;
+            squaredDeviations[i] += other.squaredDeviations[i] + delta * delta * factor;
+            min[i] = Math.min(min[i], other.min[i]);
+            max[i] = Math.max(max[i], other.max[i]);
+        }
+        count = total;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return amount of values of each observation
+     * @since 1.2.0
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return amount of accumulated observations
+     * @since 1.2.0
+     */
+    public long getCount() {
+        return count;
+    }
+
+    // endregion
+
+    // region mean, variance, min and max
+
+    /**
+     * @return mean of each dimension or {@link Double#NaN} if empty
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getMean() {
+        if (count == 0) return filled(Double.NaN);
+        return DenseDoubleVector.ofValues(mean);
+    }
+
+    /**
+     * @return sample variance of each dimension
+     * or {@link Double#NaN} if there are less than {@code 2} observations
+     * @see #getPopulationVariance()
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getVariance() {
+        return divideSquaredDeviations(count - 1);
+    }
+
+    /**
+     * @return population variance of each dimension or {@link Double#NaN} if empty
+     * @see #getVariance()
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getPopulationVariance() {
+        return divideSquaredDeviations(count);
+    }
+
+    /**
+     * @return sample standard deviation of each dimension
+     * @see #getVariance()
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getStandardDeviation() {
+        DenseDoubleVector variance = getVariance();
+        for (int i = 0; i < dimension; i++)
+            variance.setValue(i, Math.sqrt(variance.getDouble(i)));
+        return variance;
+    }
+
+    /**
+     * @return min of each dimension or {@link Double#POSITIVE_INFINITY} if empty
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getMin() {
+        return DenseDoubleVector.ofValues(min);
+    }
+
+    /**
+     * @return max of each dimension or {@link Double#NEGATIVE_INFINITY} if empty
+     * @since 1.2.0
+     */
+    @NotNull
+    public DenseDoubleVector getMax() {
+        return DenseDoubleVector.ofValues(max);
+    }
+
+    // endregion
+
+    // region static
+
+    /**
+     * @param dimension amount of values of each observation
+     * @return new collector accumulating observations - supports parallel streams
+     * @throws IllegalArgumentException if dimension is less than {@code 1}
+     * @since 1.2.0
+     */
+    @NotNull
+    public static Collector<double[], ?, MomentAccumulator> toMomentAccumulator(int dimension) {
+        if (dimension <= 0) throw new IllegalArgumentException(EXCEPTION_DIMENSION_LESS_1);
+        return Collector.of(() -> new MomentAccumulator(dimension),
+            MomentAccumulator::accept,
+            (accumulator, other) -> {
+                accumulator.combine(other);
+                return accumulator;
+            },
+            Collector.Characteristics.IDENTITY_FINISH,
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getCount() + ": " + Arrays.toString(mean);
+    }
+
+    // endregion
+
+    // region private
+
+    @NotNull
+    private DenseDoubleVector divideSquaredDeviations(long divisor) {
+        if (divisor <= 0) return filled(Double.NaN);
+        double[] values = new double[dimension];
+        for (int i = 0; i < dimension; i++) values[i] = squaredDeviations[i] / divisor;
+        return DenseDoubleVector.ofValues(values);
+    }
+
+    @NotNull
+    private DenseDoubleVector filled(double value) {
+        double[] values = new double[dimension];
+        Arrays.fill(values, value);
+        return DenseDoubleVector.ofValues(values);
+    }
+
+    static double @NotNull [] toArray(@NotNull Vector<? extends Number> vector) {
+        double[] values = new double[vector.getSize()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = vector.getValue(i).doubleValue();
+        return values;
+    }
+
+    // endregion
+}
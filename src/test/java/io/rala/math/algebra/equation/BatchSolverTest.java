@@ -0,0 +1,246 @@
+package io.rala.math.algebra.equation;
+
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.equation.linear.solver.GaussSolver;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BatchSolverTest {
+    @Test
+    void constructorWithCapacity0() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new BatchSolver<>(GaussSolver<Double>::new, executor, 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submitAllWithDefaultExecutor() {
+        List<LinearEquationSystem<Double>> systems = IntStream.range(1, 100)
+            .mapToObj(BatchSolverTest::createSystem)
+            .collect(Collectors.toList());
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(GaussSolver<Double>::new)) {
+            List<CompletableFuture<Solution<LinearEquationSystem<Double>, Double>>> results =
+                solver.submitAll(systems, null);
+            for (int i = 0; i < systems.size(); i++)
+                assertThat(results.get(i).join())
+                    .isEqualTo(Solution.single(systems.get(i), List.of(i + 1d, 1d)));
+        }
+    }
+
+    @Test
+    void submitAllOfStreamWithSmallCapacity() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(GaussSolver<Double>::new, executor, 2)) {
+            List<CompletableFuture<Solution<LinearEquationSystem<Double>, Double>>> results =
+                solver.submitAll(IntStream.range(1, 50).mapToObj(BatchSolverTest::createSystem), null);
+            assertThat(results).hasSize(49)
+                .allSatisfy(result -> assertThat(result.join().getState())
+                    .isEqualTo(Solution.State.SINGLE));
+            assertThat(solver.getPending()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submitWithTimeoutInterruptsSolver() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(system -> new BlockingSolver(system, interrupted))) {
+            CompletableFuture<Solution<LinearEquationSystem<Double>, Double>> result =
+                solver.submit(createSystem(1), Duration.ofMillis(50));
+            assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(result::join)
+                .withCauseInstanceOf(TimeoutException.class);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void cancelInterruptsSolverAndReleasesCapacity() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(system -> {
+                     started.countDown();
+                     return new BlockingSolver(system, interrupted);
+                 }, executor, 1)) {
+            CompletableFuture<Solution<LinearEquationSystem<Double>, Double>> result =
+                solver.submit(createSystem(1));
+            assertThat(solver.getPending()).isOne();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            result.cancel(true);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            awaitIdle(executor);
+            assertThat(solver.getPending()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cancelKeepsCapacityUntilSolverReturns() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(system -> new IgnoringSolver(system, started, finish), executor, 1)) {
+            CompletableFuture<Solution<LinearEquationSystem<Double>, Double>> result =
+                solver.submit(createSystem(1));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            result.cancel(true);
+            assertThat(solver.getPending()).isOne();
+            finish.countDown();
+            awaitIdle(executor);
+            assertThat(solver.getPending()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submitWithTimeoutStartsTimeoutWhenSolving() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(GaussSolver<Double>::new, executor, 2)) {
+            executor.submit(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            LinearEquationSystem<Double> system = createSystem(1);
+            assertThat(solver.submit(system, Duration.ofMillis(100)).join())
+                .isEqualTo(Solution.single(system, List.of(1d, 1d)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submitWithNonPositiveTimeout() {
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(GaussSolver<Double>::new)) {
+            LinearEquationSystem<Double> system = createSystem(1);
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> solver.submit(system, Duration.ZERO));
+        }
+    }
+
+    @Test
+    void submitAfterClose() {
+        BatchSolver<LinearEquationSystem<Double>, Double> solver =
+            new BatchSolver<>(GaussSolver<Double>::new);
+        solver.close();
+        assertThat(solver.isClosed()).isTrue();
+        LinearEquationSystem<Double> system = createSystem(1);
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> solver.submit(system));
+    }
+
+    @Test
+    void submitWithFailingSolver() {
+        try (BatchSolver<LinearEquationSystem<Double>, Double> solver =
+                 new BatchSolver<>(system -> {
+                     throw new IllegalStateException("failed");
+                 })) {
+            CompletableFuture<Solution<LinearEquationSystem<Double>, Double>> result =
+                solver.submit(createSystem(1));
+            assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(result::join)
+                .withCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    // region private
+
+    /**
+     * @return system with solution {@code (i, 1)}
+     */
+    private static LinearEquationSystem<Double> createSystem(int i) {
+        return new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(2, 1, 1, 1, -1),
+            DoubleVector.ofValues(i + 1, i - 1)
+        );
+    }
+
+    /**
+     * waits until all previous tasks of a single thread executor are done
+     */
+    private static void awaitIdle(ExecutorService executor) throws InterruptedException {
+        try {
+            executor.submit(() -> {
+            }).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class BlockingSolver extends AbstractSolver<LinearEquationSystem<Double>, Double> {
+        private final CountDownLatch interrupted;
+
+        private BlockingSolver(LinearEquationSystem<Double> equationSystem, CountDownLatch interrupted) {
+            super(equationSystem);
+            this.interrupted = interrupted;
+        }
+
+        @Override
+        @NotNull
+        public Solution<LinearEquationSystem<Double>, Double> solve() {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Solution.unsolvable(getEquationSystem());
+        }
+    }
+
+    private static class IgnoringSolver extends AbstractSolver<LinearEquationSystem<Double>, Double> {
+        private final CountDownLatch started;
+        private final CountDownLatch finish;
+
+        private IgnoringSolver(
+            LinearEquationSystem<Double> equationSystem,
+            CountDownLatch started, CountDownLatch finish
+        ) {
+            super(equationSystem);
+            this.started = started;
+            this.finish = finish;
+        }
+
+        @Override
+        @NotNull
+        public Solution<LinearEquationSystem<Double>, Double> solve() {
+            started.countDown();
+            while (finish.getCount() > 0)
+                try {
+                    finish.await();
+                } catch (InterruptedException ignored) {
+                    // does not support cancellation
+                }
+            return Solution.unsolvable(getEquationSystem());
+        }
+    }
+
+    // endregion
+}
@@ -40,6 +40,26 @@ class SolutionTest {
 
     // endregion
 
+    // region metrics
+
+    @Test
+    void createdSolutionHasNoMetrics() {
+        assertThat(Solution.unsolvable(equationSystem).getMetrics()).isNull();
+    }
+
+    @Test
+    void withMetrics() {
+        SolverMetrics metrics = new SolverMetrics();
+        Solution<TestAbstractEquationSystem, Number> solution =
+            Solution.single(equationSystem, List.of(1));
+        Solution<TestAbstractEquationSystem, Number> withMetrics = solution.withMetrics(metrics);
+        assertThat(withMetrics.getMetrics()).isSameAs(metrics);
+        assertThat(withMetrics.getSolution()).isEqualTo(List.of(1));
+        assertThat(withMetrics).isEqualTo(solution).hasSameHashCodeAs(solution);
+    }
+
+    // endregion
+
     // region public static
 
     @Test
@@ -0,0 +1,120 @@
+package io.rala.math.algebra.equation;
+
+import io.rala.math.arithmetic.CountingArithmetic;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolverMetricsTest {
+    @Test
+    void createdMetricsAreEmpty() {
+        SolverMetrics metrics = new SolverMetrics();
+        assertThat(metrics.getRowSwaps()).isZero();
+        assertThat(metrics.getColSwaps()).isZero();
+        assertThat(metrics.getOperations()).isEmpty();
+        assertThat(metrics.getTotalOperations()).isZero();
+        assertThat(metrics.getPeakWorkingSetSize()).isZero();
+        assertThat(metrics.getFillIn()).isZero();
+        assertThat(metrics.getDurations()).isEmpty();
+        assertThat(metrics.getTotalDuration()).isZero();
+    }
+
+    // region record
+
+    @Test
+    void recordSwaps() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordRowSwap();
+        metrics.recordRowSwap();
+        metrics.recordColSwap();
+        assertThat(metrics.getRowSwaps()).isEqualTo(2);
+        assertThat(metrics.getColSwaps()).isOne();
+    }
+
+    @Test
+    void recordOperations() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordOperations(CountingArithmetic.Operation.SUM, 2);
+        metrics.recordOperations(CountingArithmetic.Operation.SUM, 3);
+        metrics.recordOperations(CountingArithmetic.Operation.PRODUCT, 1);
+        assertThat(metrics.getOperations(CountingArithmetic.Operation.SUM)).isEqualTo(5);
+        assertThat(metrics.getOperations(CountingArithmetic.Operation.QUOTIENT)).isZero();
+        assertThat(metrics.getTotalOperations()).isEqualTo(6);
+    }
+
+    @Test
+    void recordWorkingSetSizeKeepsPeak() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordWorkingSetSize(5);
+        metrics.recordWorkingSetSize(3);
+        assertThat(metrics.getPeakWorkingSetSize()).isEqualTo(5);
+    }
+
+    @Test
+    void recordFillInKeepsGreatestAndIgnoresNegative() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordFillIn(-2);
+        assertThat(metrics.getFillIn()).isZero();
+        metrics.recordFillIn(4);
+        metrics.recordFillIn(1);
+        assertThat(metrics.getFillIn()).isEqualTo(4);
+    }
+
+    @Test
+    void recordDurationSumsPerPhase() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordDuration(SolverMetrics.Phase.PREPARE, Duration.ofMillis(1));
+        metrics.recordDuration(SolverMetrics.Phase.PREPARE, Duration.ofMillis(2));
+        metrics.recordDuration(SolverMetrics.Phase.ELIMINATE, Duration.ofMillis(4));
+        assertThat(metrics.getDuration(SolverMetrics.Phase.PREPARE)).isEqualTo(Duration.ofMillis(3));
+        assertThat(metrics.getDuration(SolverMetrics.Phase.BACK_SUBSTITUTE)).isZero();
+        assertThat(metrics.getTotalDuration()).isEqualTo(Duration.ofMillis(7));
+    }
+
+    @Test
+    void merge() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordRowSwap();
+        metrics.recordWorkingSetSize(10);
+        SolverMetrics other = new SolverMetrics();
+        other.recordRowSwap();
+        other.recordColSwap();
+        other.recordOperations(CountingArithmetic.Operation.SUM, 2);
+        other.recordWorkingSetSize(4);
+        other.recordFillIn(3);
+        other.recordDuration(SolverMetrics.Phase.ELIMINATE, Duration.ofMillis(1));
+        metrics.merge(other);
+        assertThat(metrics.getRowSwaps()).isEqualTo(2);
+        assertThat(metrics.getColSwaps()).isOne();
+        assertThat(metrics.getOperations(CountingArithmetic.Operation.SUM)).isEqualTo(2);
+        assertThat(metrics.getPeakWorkingSetSize()).isEqualTo(10);
+        assertThat(metrics.getFillIn()).isEqualTo(3);
+        assertThat(metrics.getDuration(SolverMetrics.Phase.ELIMINATE)).isEqualTo(Duration.ofMillis(1));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void equalsOfMetrics() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.recordRowSwap();
+        SolverMetrics other = new SolverMetrics();
+        assertThat(metrics).isNotEqualTo(other);
+        other.recordRowSwap();
+        assertThat(metrics).isEqualTo(other).hasSameHashCodeAs(other);
+    }
+
+    @Test
+    void toStringOfMetrics() {
+        assertThat(new SolverMetrics()).hasToString(
+            "SolverMetrics{rowSwaps=0, colSwaps=0, operations={}, " +
+                "peakWorkingSetSize=0, fillIn=0, durations={}}"
+        );
+    }
+
+    // endregion
+}
@@ -0,0 +1,45 @@
+package io.rala.math.algebra.equation.linear;
+
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BandLinearEquationSystemTest {
+    @Test
+    void constructorWithNonMatchingSizes() {
+        BandMatrix<Double> matrix = new BandMatrix<>(DoubleArithmetic.getInstance(), 2, 1, 1);
+        DoubleVector vector = new DoubleVector(3);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new BandLinearEquationSystem<>(matrix, vector));
+    }
+
+    @Test
+    void toLinearEquationSystem() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2, 1, 2, 0, 3);
+        DoubleVector vector = DoubleVector.ofValues(4, 5);
+        assertThat(new BandLinearEquationSystem<>(BandMatrix.ofMatrix(matrix, 0, 1), vector)
+            .toLinearEquationSystem()
+        ).isEqualTo(new LinearEquationSystem<>(matrix, vector));
+    }
+
+    @Test
+    void transpose() {
+        BandMatrix<Double> matrix = BandMatrix.ofMatrix(DoubleMatrix.ofValuesByRows(2, 1, 2, 0, 3), 0, 1);
+        DoubleVector vector = DoubleVector.ofValues(4, 5);
+        assertThat(new BandLinearEquationSystem<>(matrix, vector).transpose())
+            .isEqualTo(new BandLinearEquationSystem<>(matrix.transpose(), vector.transpose()));
+    }
+
+    @Test
+    void equalsOfSystem() {
+        BandMatrix<Double> matrix = new BandMatrix<>(DoubleArithmetic.getInstance(), 2, 1, 1);
+        assertThat(new BandLinearEquationSystem<>(matrix, new DoubleVector(2)))
+            .isEqualTo(new BandLinearEquationSystem<>(matrix.copy(), new DoubleVector(2)))
+            .isNotEqualTo(new BandLinearEquationSystem<>(matrix, DoubleVector.ofValues(1, 2)));
+    }
+}
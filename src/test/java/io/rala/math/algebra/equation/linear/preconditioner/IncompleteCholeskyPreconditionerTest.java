@@ -0,0 +1,63 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class IncompleteCholeskyPreconditionerTest {
+    @Test
+    void constructorWithNonPositiveDefiniteMatrix() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2,
+            1, 2,
+            2, 1
+        );
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new IncompleteCholeskyPreconditioner<>(matrix));
+    }
+
+    @Test
+    void getFactorOfTridiagonalMatrixIsExact() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3,
+            4, 2, 0,
+            2, 5, 2,
+            0, 2, 5
+        );
+        IncompleteCholeskyPreconditioner<Double> preconditioner =
+            new IncompleteCholeskyPreconditioner<>(matrix);
+        DoubleMatrix factor = new DoubleMatrix(preconditioner.getFactor());
+        assertThatMatrix(factor.multiply(factor.transpose())).isEqualTo(matrix);
+    }
+
+    @Test
+    void getFactorKeepsSparsityPattern() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3,
+            4, 1, 1,
+            1, 4, 0,
+            1, 0, 4
+        );
+        IncompleteCholeskyPreconditioner<Double> preconditioner =
+            new IncompleteCholeskyPreconditioner<>(matrix);
+        assertThat(preconditioner.getFactor().getValue(2, 1)).isZero();
+    }
+
+    @Test
+    void applyOnTridiagonalMatrixSolvesSystem() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3,
+            4, 2, 0,
+            2, 5, 2,
+            0, 2, 5
+        );
+        IncompleteCholeskyPreconditioner<Double> preconditioner =
+            new IncompleteCholeskyPreconditioner<>(matrix);
+        Vector<Double> result = preconditioner.apply(DoubleVector.ofValues(6, 9, 7));
+        assertThat(result.getValue(0)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(1)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(2)).isCloseTo(1, offset(1e-12));
+    }
+}
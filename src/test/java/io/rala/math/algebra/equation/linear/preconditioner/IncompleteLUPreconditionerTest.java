@@ -0,0 +1,83 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class IncompleteLUPreconditionerTest {
+    @Test
+    void constructorWithZeroPivot() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2,
+            1, 1,
+            1, 1
+        );
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new IncompleteLUPreconditioner<>(matrix));
+    }
+
+    @Test
+    void getFactorOfDenseMatrixIsExact() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2,
+            4, 3,
+            6, 3
+        );
+        IncompleteLUPreconditioner<Double> preconditioner =
+            new IncompleteLUPreconditioner<>(matrix);
+        assertThat(preconditioner.getFactor()).isEqualTo(DoubleMatrix.ofValuesByRows(2,
+            4, 3,
+            1.5, -1.5
+        ));
+    }
+
+    @Test
+    void getFactorKeepsSparsityPattern() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3,
+            4, 1, 1,
+            1, 4, 0,
+            1, 0, 4
+        );
+        IncompleteLUPreconditioner<Double> preconditioner =
+            new IncompleteLUPreconditioner<>(matrix);
+        assertThat(preconditioner.getFactor().getValue(2, 1)).isZero();
+        assertThat(preconditioner.getFactor().getValue(1, 2)).isZero();
+    }
+
+    @Test
+    void applyOnDenseMatrixSolvesSystem() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3,
+            3, 1, 2,
+            1, 4, 1,
+            2, 1, 5
+        );
+        IncompleteLUPreconditioner<Double> preconditioner =
+            new IncompleteLUPreconditioner<>(matrix);
+        Vector<Double> result = preconditioner.apply(DoubleVector.ofValues(6, 6, 8));
+        assertThat(result.getValue(0)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(1)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(2)).isCloseTo(1, offset(1e-12));
+    }
+
+    @Test
+    void applyOnLargeTridiagonalMatrixSolvesSystem() {
+        int size = 100_000;
+        DoubleMatrix matrix = new DoubleMatrix(size);
+        DoubleVector vector = new DoubleVector(size);
+        for (int i = 0; i < size; i++) {
+            matrix.setValue(i, i, 4d);
+            if (0 < i) matrix.setValue(i, i - 1, -1d);
+            if (i + 1 < size) matrix.setValue(i, i + 1, -1d);
+            vector.setValue(i, 0 < i && i + 1 < size ? 2d : 3d);
+        }
+        IncompleteLUPreconditioner<Double> preconditioner =
+            new IncompleteLUPreconditioner<>(matrix);
+        Vector<Double> result = preconditioner.apply(vector);
+        assertThat(result.getValue(0)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(size / 2)).isCloseTo(1, offset(1e-12));
+        assertThat(result.getValue(size - 1)).isCloseTo(1, offset(1e-12));
+    }
+}
@@ -0,0 +1,58 @@
+package io.rala.math.algebra.equation.linear.preconditioner;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatVector;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class JacobiPreconditionerTest {
+    @Test
+    void constructorWithNonSquareMatrix() {
+        DoubleMatrix matrix = new DoubleMatrix(2, 3);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new JacobiPreconditioner<>(matrix));
+    }
+
+    @Test
+    void constructorWithZeroOnDiagonal() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2,
+            1, 2,
+            3, 0
+        );
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new JacobiPreconditioner<>(matrix));
+    }
+
+    @Test
+    void getInverseDiagonal() {
+        JacobiPreconditioner<Double> preconditioner =
+            new JacobiPreconditioner<>(DoubleMatrix.diagonal(2, 4));
+        assertThat(preconditioner.getSize()).isEqualTo(2);
+        assertThatVector(preconditioner.getInverseDiagonal())
+            .isEqualTo(DoubleVector.ofValues(0.5, 0.25));
+    }
+
+    @Test
+    void applyWithInvalidSize() {
+        JacobiPreconditioner<Double> preconditioner =
+            new JacobiPreconditioner<>(DoubleMatrix.diagonal(2, 4));
+        DoubleVector vector = new DoubleVector(3);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> preconditioner.apply(vector));
+    }
+
+    @Test
+    void apply() {
+        JacobiPreconditioner<Double> preconditioner =
+            new JacobiPreconditioner<>(DoubleMatrix.ofValuesByRows(2,
+                2, 1,
+                1, 4
+            ));
+        assertThatVector(preconditioner.apply(DoubleVector.ofValues(1, 2)))
+            .isEqualTo(DoubleVector.ofValues(0.5, 0.5));
+    }
+}
@@ -0,0 +1,70 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.BandLinearEquationSystem;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class BandLUSolverTest {
+    @Test
+    void solveRequiringPivoting() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofMatrix(DoubleMatrix.ofValuesByRows(3,
+                0, 1, 0,
+                1, 0, 1,
+                0, 1, 1
+            ), 1, 1),
+            DoubleVector.ofValues(2, 4, 5)
+        );
+        assertThat(new BandLUSolver<>(equationSystem).solve())
+            .isEqualTo(Solution.single(equationSystem, List.of(1d, 2d, 3d)));
+    }
+
+    @Test
+    void solveRandomBandSystemEqualsGauss() {
+        Random random = new Random(5);
+        int size = 30;
+        BandMatrix<Double> matrix = new BandMatrix<>(DoubleArithmetic.getInstance(), size, 2, 3);
+        DoubleVector vector = new DoubleVector(size);
+        for (int row = 0; row < size; row++) {
+            for (int col = Math.max(0, row - 2); col <= Math.min(size - 1, row + 3); col++)
+                matrix.setValue(row, col, random.nextDouble() * 2 - 1);
+            vector.setValue(row, random.nextDouble());
+        }
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(matrix, vector);
+        Solution<BandLinearEquationSystem<Double>, Double> solution = equationSystem.solveWithBandLU();
+        List<Double> expected = equationSystem.toLinearEquationSystem().solveWithGauss().getSolution();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        for (int i = 0; i < size; i++)
+            assertThat(solution.getSolution().get(i)).isCloseTo(expected.get(i), offset(1e-8));
+    }
+
+    @Test
+    void solveUnsolvableSystem() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofMatrix(DoubleMatrix.ofValuesByRows(2, 1, 1, 1, 1), 1, 1),
+            DoubleVector.ofValues(1, 2)
+        );
+        assertThat(new BandLUSolver<>(equationSystem).solve())
+            .isEqualTo(Solution.unsolvable(equationSystem));
+    }
+
+    @Test
+    void solveInfiniteSystem() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofMatrix(DoubleMatrix.ofValuesByRows(2, 1, 1, 1, 1), 1, 1),
+            DoubleVector.ofValues(1, 1)
+        );
+        assertThat(new BandLUSolver<>(equationSystem).solve())
+            .isEqualTo(Solution.infinite(equationSystem));
+    }
+}
@@ -0,0 +1,156 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.numeric.Fraction;
+import io.rala.math.algebra.numeric.typed.BigIntegerBigDecimalFraction;
+import io.rala.math.algebra.numeric.typed.LongDoubleFraction;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.AbstractResultArithmetic;
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.arithmetic.core.IntegerArithmetic;
+import io.rala.math.arithmetic.core.LongArithmetic;
+import io.rala.math.arithmetic.result.BigIntegerBigDecimalResultArithmetic;
+import io.rala.math.arithmetic.result.LongDoubleResultArithmetic;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BareissSolverTest {
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void constructorWithNonMatchingArithmetic() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 1, 1L, 2L)
+        );
+        AbstractResultArithmetic arithmetic = BigIntegerBigDecimalResultArithmetic.getInstance();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new BareissSolver<Long, Double>(equationSystem, arithmetic));
+    }
+
+    @Test
+    void solveLongSystemWithIntegralSolution() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 3,
+                1L, 2L, 3L, 2L,
+                1L, 1L, 1L, 2L,
+                3L, 3L, 1L, 0L
+            )
+        );
+        BareissSolver<Long, Double> solver =
+            new BareissSolver<>(equationSystem, LongDoubleResultArithmetic.getInstance());
+        assertThat(solver.solve()).isEqualTo(Solution.single(equationSystem, List.of(
+            new LongDoubleFraction(5L), new LongDoubleFraction(-6L), new LongDoubleFraction(3L)
+        )));
+        assertThat(solver.getRank()).isEqualTo(3);
+    }
+
+    @Test
+    void solveLongSystemWithRationalSolution() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 3,
+                1L, -1L, 2L, 0L,
+                -2L, 1L, -6L, 0L,
+                1L, 0L, -2L, 3L
+            )
+        );
+        assertThat(equationSystem.solveWithBareiss(LongDoubleResultArithmetic.getInstance()))
+            .isEqualTo(Solution.single(equationSystem, List.of(
+                new LongDoubleFraction(2L), new LongDoubleFraction(1L), new LongDoubleFraction(-1L, 2L)
+            )));
+    }
+
+    @Test
+    void solveIntegerSystemWithPivoting() {
+        LinearEquationSystem<Integer> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(IntegerArithmetic.getInstance(), 2,
+                0, 3, 1,
+                2, 1, 1
+            )
+        );
+        AbstractResultArithmetic<Integer, Double> arithmetic = AbstractResultArithmetic.of(
+            IntegerArithmetic.getInstance(), DoubleArithmetic.getInstance(), Integer::doubleValue
+        );
+        Solution<LinearEquationSystem<Integer>, Fraction<Integer, Double>> solution =
+            new BareissSolver<>(equationSystem, arithmetic).solve();
+        assertThat(solution.getSolution()).containsExactly(
+            new Fraction<>(arithmetic, 1, 3), new Fraction<>(arithmetic, 1, 3)
+        );
+    }
+
+    @Test
+    void solveBigIntegerSystemWithRowVector() {
+        Matrix<BigInteger> matrix = Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 2,
+            BigInteger.valueOf(3), BigInteger.valueOf(2),
+            BigInteger.valueOf(4), BigInteger.valueOf(5)
+        );
+        Vector<BigInteger> vector = Vector.ofValues(BigIntegerArithmetic.getInstance(),
+            BigInteger.ONE, BigInteger.ONE
+        ).transpose();
+        LinearEquationSystem<BigInteger> equationSystem = new LinearEquationSystem<>(matrix, vector);
+        assertThat(equationSystem.solveWithBareiss(BigIntegerBigDecimalResultArithmetic.getInstance()))
+            .isEqualTo(Solution.single(equationSystem, List.<Fraction<BigInteger, BigDecimal>>of(
+                new BigIntegerBigDecimalFraction(BigInteger.ONE, BigInteger.valueOf(7)),
+                new BigIntegerBigDecimalFraction(BigInteger.ONE, BigInteger.valueOf(7))
+            )));
+    }
+
+    @Test
+    void solveUnsolvableSystem() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 3,
+                1L, -3L, 4L,
+                2L, 1L, 1L,
+                4L, 5L, 9L
+            )
+        );
+        BareissSolver<Long, Double> solver =
+            new BareissSolver<>(equationSystem, LongDoubleResultArithmetic.getInstance());
+        assertThat(solver.solve()).isEqualTo(Solution.unsolvable(equationSystem));
+        assertThat(solver.getRank()).isEqualTo(2);
+    }
+
+    @Test
+    void solveInfiniteSystem() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 3,
+                1L, 1L, 2L, 9L,
+                0L, 1L, 3L, 1L,
+                0L, 2L, 6L, 2L
+            )
+        );
+        assertThat(equationSystem.solveWithBareiss(LongDoubleResultArithmetic.getInstance()))
+            .isEqualTo(Solution.infinite(equationSystem));
+    }
+
+    @Test
+    void solveSystemWithMoreRowsThanCols() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 3,
+                1L, 1L, 3L,
+                1L, -1L, 1L,
+                2L, 2L, 6L
+            )
+        );
+        assertThat(equationSystem.solveWithBareiss(LongDoubleResultArithmetic.getInstance()))
+            .isEqualTo(Solution.single(equationSystem, List.of(
+                new LongDoubleFraction(2L), new LongDoubleFraction(1L)
+            )));
+    }
+
+    @Test
+    void solveSystemWithLessRowsThanCols() {
+        LinearEquationSystem<Long> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(LongArithmetic.getInstance(), 1, 1L, 0L, 0L, 1L)
+        );
+        assertThat(equationSystem.solveWithBareiss(LongDoubleResultArithmetic.getInstance()))
+            .isEqualTo(Solution.infinite(equationSystem));
+    }
+}
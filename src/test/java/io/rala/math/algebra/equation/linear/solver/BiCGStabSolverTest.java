@@ -0,0 +1,108 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.AbstractIterativeLinearSolver;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.equation.linear.preconditioner.IncompleteLUPreconditioner;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class BiCGStabSolverTest {
+    private static final int SIZE = 20;
+
+    @Test
+    void solveWithZeroVector() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.identity(2), new DoubleVector(2)
+        );
+        BiCGStabSolver<Double> solver = new BiCGStabSolver<>(equationSystem);
+        assertThat(solver.solve()).isEqualTo(Solution.single(equationSystem, List.of(0d, 0d)));
+    }
+
+    @Test
+    void solveSmallSystem() {
+        LinearEquationSystem<Double> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(
+                DoubleMatrix.ofValuesByRows(2,
+                    3, 4, -1,
+                    2, 5, -3
+                )
+            );
+        Solution<LinearEquationSystem<Double>, Double> solution =
+            new BiCGStabSolver<>(equationSystem).solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(1, offset(1e-8));
+        assertThat(solution.getSolution().get(1)).isCloseTo(-1, offset(1e-8));
+    }
+
+    @Test
+    void solveWithoutPreconditioner() {
+        BiCGStabSolver<Double> solver = new BiCGStabSolver<>(createConvectionSystem());
+        assertSolution(solver.solve());
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.CONVERGED);
+    }
+
+    @Test
+    void solveWithIncompleteLUPreconditionerNeedsLessIterations() {
+        LinearEquationSystem<Double> equationSystem = createConvectionSystem();
+        BiCGStabSolver<Double> solver = new BiCGStabSolver<>(equationSystem);
+        solver.solve();
+        BiCGStabSolver<Double> preconditioned = new BiCGStabSolver<>(
+            equationSystem, new IncompleteLUPreconditioner<>(equationSystem.getMatrix())
+        );
+        assertSolution(preconditioned.solve());
+        assertThat(preconditioned.getIterations()).isLessThan(solver.getIterations());
+    }
+
+    @Test
+    void solveWithTooLessIterations() {
+        BiCGStabSolver<Double> solver = new BiCGStabSolver<>(createConvectionSystem());
+        solver.setMaxIterations(1);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.MAX_ITERATIONS);
+    }
+
+    @Test
+    void solveWithBreakdown() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(2, 0, 1, 1, 0), DoubleVector.ofValues(1, 0)
+        );
+        BiCGStabSolver<Double> solver = new BiCGStabSolver<>(equationSystem);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.BREAKDOWN);
+    }
+
+    // region assert and create
+
+    private static void assertSolution(Solution<LinearEquationSystem<Double>, Double> solution) {
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution()).hasSize(SIZE)
+            .allSatisfy(value -> assertThat(value).isCloseTo(1, offset(1e-6)));
+    }
+
+    /**
+     * @return non-symmetric convection diffusion system with solution {@code 1}
+     */
+    private static LinearEquationSystem<Double> createConvectionSystem() {
+        DoubleMatrix matrix = new DoubleMatrix(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            matrix.setValue(i, i, 4d);
+            if (0 < i) matrix.setValue(i, i - 1, -2.5);
+            if (i < SIZE - 1) matrix.setValue(i, i + 1, -0.5);
+        }
+        DoubleVector ones = new DoubleVector(SIZE);
+        ones.computeAll(entry -> 1d);
+        return new LinearEquationSystem<>(matrix, matrix.multiply(ones.toMatrix()).toVector());
+    }
+
+    // endregion
+}
@@ -0,0 +1,136 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.AbstractIterativeLinearSolver;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.equation.linear.preconditioner.IncompleteCholeskyPreconditioner;
+import io.rala.math.algebra.equation.linear.preconditioner.JacobiPreconditioner;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class ConjugateGradientSolverTest {
+    private static final int SIZE = 20;
+
+    @Test
+    void solveNonSquareSystem() {
+        LinearEquationSystem<Double> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(
+                DoubleMatrix.ofValuesByRows(1, 1, 2, 3)
+            );
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(equationSystem);
+        assertThatExceptionOfType(NotSupportedException.class).isThrownBy(solver::solve);
+    }
+
+    @Test
+    void solveWithZeroVector() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.identity(2), new DoubleVector(2)
+        );
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(equationSystem);
+        assertThat(solver.solve()).isEqualTo(Solution.single(equationSystem, List.of(0d, 0d)));
+        assertThat(solver.getIterations()).isZero();
+    }
+
+    @Test
+    void solveWithoutPreconditioner() {
+        LinearEquationSystem<Double> equationSystem = createScaledSystem();
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(equationSystem);
+        assertSolution(solver.solve());
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.CONVERGED);
+    }
+
+    @Test
+    void solveWithJacobiPreconditionerNeedsLessIterations() {
+        LinearEquationSystem<Double> equationSystem = createScaledSystem();
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(equationSystem);
+        solver.solve();
+        ConjugateGradientSolver<Double> preconditioned = new ConjugateGradientSolver<>(
+            equationSystem, new JacobiPreconditioner<>(equationSystem.getMatrix())
+        );
+        assertSolution(preconditioned.solve());
+        assertThat(preconditioned.getIterations()).isLessThan(solver.getIterations());
+    }
+
+    @Test
+    void solveWithIncompleteCholeskyPreconditionerOnTridiagonalSystem() {
+        LinearEquationSystem<Double> equationSystem = createScaledSystem();
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(
+            equationSystem, new IncompleteCholeskyPreconditioner<>(equationSystem.getMatrix())
+        );
+        assertSolution(solver.solve());
+        assertThat(solver.getIterations()).isOne();
+    }
+
+    @Test
+    void solveWithTooLessIterations() {
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(createScaledSystem());
+        solver.setMaxIterations(1);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.MAX_ITERATIONS);
+    }
+
+    @Test
+    void solveWithBreakdown() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(2, 0, 1, 1, 0), DoubleVector.ofValues(1, 0)
+        );
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(equationSystem);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getStatus())
+            .isEqualTo(AbstractIterativeLinearSolver.Status.BREAKDOWN);
+    }
+
+    @Test
+    void setMaxIterationsWithZero() {
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(createScaledSystem());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxIterations(0));
+    }
+
+    @Test
+    void setPreconditionerWithInvalidSize() {
+        ConjugateGradientSolver<Double> solver = new ConjugateGradientSolver<>(createScaledSystem());
+        JacobiPreconditioner<Double> preconditioner =
+            new JacobiPreconditioner<>(DoubleMatrix.identity(2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setPreconditioner(preconditioner));
+    }
+
+    // region assert and create
+
+    private static void assertSolution(Solution<LinearEquationSystem<Double>, Double> solution) {
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution()).hasSize(SIZE)
+            .allSatisfy(value -> assertThat(value).isCloseTo(1, offset(1e-6)));
+    }
+
+    /**
+     * @return badly scaled second difference system with solution {@code 1}
+     */
+    private static LinearEquationSystem<Double> createScaledSystem() {
+        DoubleMatrix matrix = new DoubleMatrix(SIZE);
+        double[] scale = new double[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            scale[i] = Math.pow(10, i % 4);
+        for (int i = 0; i < SIZE; i++) {
+            matrix.setValue(i, i, 2 * scale[i] * scale[i]);
+            if (0 < i) matrix.setValue(i, i - 1, -scale[i] * scale[i - 1]);
+            if (i < SIZE - 1) matrix.setValue(i, i + 1, -scale[i] * scale[i + 1]);
+        }
+        DoubleVector ones = new DoubleVector(SIZE);
+        ones.computeAll(entry -> 1d);
+        return new LinearEquationSystem<>(matrix, matrix.multiply(ones.toMatrix()).toVector());
+    }
+
+    // endregion
+}
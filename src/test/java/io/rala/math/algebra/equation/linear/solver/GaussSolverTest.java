@@ -1,8 +1,10 @@
 package io.rala.math.algebra.equation.linear.solver;
 
 import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
 import io.rala.math.algebra.equation.linear.LinearEquationSystem;
 import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.arithmetic.CountingArithmetic;
 import io.rala.math.testUtils.algebra.equation.TestGaussSolver;
 import io.rala.math.testUtils.arguments.LinearEquationArgumentsStreamFactory;
 import org.junit.jupiter.api.Test;
@@ -10,9 +12,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -457,12 +457,89 @@ class GaussSolverTest {
 
     // region argument streams
 
+    private static LinearEquationSystem<Double> createArrowheadSystem() {
+        return LinearEquationSystem.ofMatrixWithSolutionColumn(
+            DoubleMatrix.ofValuesByRows(3,
+                1, 1, 1, 3,
+                1, 2, 0, 3,
+                1, 0, 3, 4)
+        );
+    }
+
     private static Stream<Arguments> getDoubleLinearEquationSystems() {
         return LinearEquationArgumentsStreamFactory.doubleLinearEquationSystems();
     }
 
     // endregion
 
+    // region metrics
+
+    @Test
+    void solveWithoutMetrics() {
+        GaussSolver<Double> solver = new GaussSolver<>(createArrowheadSystem());
+        assertThat(solver.isMetricsEnabled()).isFalse();
+        assertThat(solver.solve().getMetrics()).isNull();
+        assertThat(solver.getMetrics()).isNull();
+    }
+
+    @Test
+    void solveWithMetrics() {
+        LinearEquationSystem<Double> equationSystem = createArrowheadSystem();
+        GaussSolver<Double> solver = new GaussSolver<>(equationSystem);
+        solver.setMetricsEnabled(true);
+        Solution<LinearEquationSystem<Double>, Double> solution = solver.solve();
+        assertThat(solution).isEqualTo(Solution.single(equationSystem, List.of(1d, 1d, 1d)));
+        SolverMetrics metrics = solution.getMetrics();
+        assertThat(metrics).isNotNull().isSameAs(solver.getMetrics());
+        assertThat(metrics.getRowSwaps()).isZero();
+        assertThat(metrics.getColSwaps()).isZero();
+        assertThat(metrics.getFillIn()).isOne();
+        assertThat(metrics.getPeakWorkingSetSize()).isGreaterThanOrEqualTo(10);
+        assertThat(metrics.getOperations(CountingArithmetic.Operation.PRODUCT)).isPositive();
+        assertThat(metrics.getOperations(CountingArithmetic.Operation.SUM)).isPositive();
+        assertThat(metrics.getDurations()).containsOnlyKeys(SolverMetrics.Phase.values());
+    }
+
+    @Test
+    void solveWithMetricsRecordsRowSwap() {
+        LinearEquationSystem<Double> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(
+                DoubleMatrix.ofValuesByRows(2,
+                    0, 1, 1,
+                    1, 0, 2)
+            );
+        GaussSolver<Double> solver = new GaussSolver<>(equationSystem);
+        solver.setMetricsEnabled(true);
+        Solution<LinearEquationSystem<Double>, Double> solution = solver.solve();
+        assertThat(solution.getSolution()).containsExactly(2d, 1d);
+        assertThat(Objects.requireNonNull(solution.getMetrics()).getRowSwaps()).isOne();
+    }
+
+    @Test
+    void solveWithMetricsListener() {
+        List<SolverMetrics> published = new ArrayList<>();
+        GaussSolver<Double> solver = new GaussSolver<>(createArrowheadSystem());
+        solver.setMetricsEnabled(true);
+        solver.setMetricsListener((s, metrics) -> {
+            assertThat(s).isSameAs(solver);
+            published.add(metrics);
+        });
+        Solution<LinearEquationSystem<Double>, Double> solution = solver.solve();
+        assertThat(published).containsExactly(solution.getMetrics());
+    }
+
+    @Test
+    void solveTwiceWithMetricsResetsMetrics() {
+        GaussSolver<Double> solver = new GaussSolver<>(createArrowheadSystem());
+        solver.setMetricsEnabled(true);
+        SolverMetrics first = solver.solve().getMetrics();
+        SolverMetrics second = solver.solve().getMetrics();
+        assertThat(second).isNotSameAs(first);
+        assertThat(Objects.requireNonNull(second).getOperations())
+            .isEqualTo(Objects.requireNonNull(first).getOperations());
+    }
+
+    // endregion
 
     // region ColPair
 
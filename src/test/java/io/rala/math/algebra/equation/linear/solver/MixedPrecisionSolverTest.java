@@ -0,0 +1,86 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.typed.BigDecimalMatrix;
+import io.rala.math.algebra.vector.typed.BigDecimalVector;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MixedPrecisionSolverTest {
+    private static final int SIZE = 6;
+    private static final MathContext CONTEXT = new MathContext(34);
+    private static final MathContext EXACT = new MathContext(60);
+
+    @Test
+    void solveReaches34Digits() {
+        MixedPrecisionSolver solver = new MixedPrecisionSolver(createSystem());
+        Solution<LinearEquationSystem<BigDecimal>, BigDecimal> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.isFallbackUsed()).isFalse();
+        assertThat(solver.getIterations()).isGreaterThan(1);
+        for (int i = 0; i < SIZE; i++)
+            assertThat(solution.getSolution().get(i).subtract(expected(i)).abs())
+                .isLessThan(new BigDecimal("1e-30"));
+    }
+
+    @Test
+    void solveWithOneIterationFallsBack() {
+        MixedPrecisionSolver solver = new MixedPrecisionSolver(createSystem());
+        solver.setMaxIterations(1);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.isFallbackUsed()).isTrue();
+    }
+
+    @Test
+    void solveSingularSystemFallsBack() {
+        LinearEquationSystem<BigDecimal> equationSystem = new LinearEquationSystem<>(
+            BigDecimalMatrix.ofValuesByRows(2,
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE
+            ),
+            BigDecimalVector.ofValues(BigDecimal.ONE, BigDecimal.TEN)
+        );
+        MixedPrecisionSolver solver = new MixedPrecisionSolver(equationSystem);
+        assertThat(solver.solve()).isEqualTo(Solution.unsolvable(equationSystem));
+        assertThat(solver.isFallbackUsed()).isTrue();
+    }
+
+    @Test
+    void setMaxIterationsWithZero() {
+        MixedPrecisionSolver solver = new MixedPrecisionSolver(createSystem());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxIterations(0));
+    }
+
+    // region private
+
+    /**
+     * Hilbert-like matrix {@code 1/(i+j+1)+I} and {@code x_i=1/(i+3)}
+     */
+    private static LinearEquationSystem<BigDecimal> createSystem() {
+        BigDecimalMatrix matrix = new BigDecimalMatrix(SIZE, CONTEXT);
+        BigDecimalVector vector = new BigDecimalVector(SIZE, CONTEXT);
+        for (int r = 0; r < SIZE; r++) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int c = 0; c < SIZE; c++) {
+                BigDecimal value = BigDecimal.ONE.divide(BigDecimal.valueOf(r + c + 1), CONTEXT);
+                if (r == c) value = value.add(BigDecimal.ONE);
+                matrix.setValue(r, c, value);
+                sum = sum.add(value.multiply(expected(c)), EXACT);
+            }
+            vector.setValue(r, sum.round(CONTEXT));
+        }
+        return new LinearEquationSystem<>(matrix, vector);
+    }
+
+    private static BigDecimal expected(int index) {
+        return BigDecimal.ONE.divide(BigDecimal.valueOf(index + 3), EXACT);
+    }
+
+    // endregion
+}
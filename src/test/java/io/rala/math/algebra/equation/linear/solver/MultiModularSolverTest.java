@@ -0,0 +1,89 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.algebra.matrix.MultiModularEngine;
+import io.rala.math.algebra.numeric.typed.BigIntegerBigDecimalFraction;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import io.rala.math.arithmetic.result.BigIntegerBigDecimalResultArithmetic;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiModularSolverTest {
+    @Test
+    void solveSystemWithRationalSolution() {
+        LinearEquationSystem<BigInteger> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 2,
+                BigInteger.TWO, BigInteger.ONE, BigInteger.ONE,
+                BigInteger.ONE, BigInteger.valueOf(3), BigInteger.TWO
+            )
+        );
+        assertThat(new MultiModularSolver(equationSystem).solve())
+            .isEqualTo(Solution.single(equationSystem, List.of(
+                new BigIntegerBigDecimalFraction(BigInteger.ONE, BigInteger.valueOf(5)),
+                new BigIntegerBigDecimalFraction(BigInteger.valueOf(3), BigInteger.valueOf(5))
+            )));
+    }
+
+    @Test
+    void solveSystemWithRowVector() {
+        LinearEquationSystem<BigInteger> equationSystem = new LinearEquationSystem<>(
+            Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 2,
+                BigInteger.ONE, BigInteger.ZERO,
+                BigInteger.ONE, BigInteger.TWO
+            ),
+            Vector.ofValues(BigIntegerArithmetic.getInstance(),
+                BigInteger.ONE, BigInteger.valueOf(4)
+            ).transpose()
+        );
+        assertThat(new MultiModularSolver(equationSystem).solve())
+            .isEqualTo(new BareissSolver<>(equationSystem,
+                BigIntegerBigDecimalResultArithmetic.getInstance()
+            ).solve());
+    }
+
+    @Test
+    void solveSingularSystemDelegatesToBareiss() {
+        LinearEquationSystem<BigInteger> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 2,
+                BigInteger.ONE, BigInteger.TWO, BigInteger.ONE,
+                BigInteger.TWO, BigInteger.valueOf(4), BigInteger.ONE
+            )
+        );
+        assertThat(new MultiModularSolver(equationSystem).solve())
+            .isEqualTo(Solution.unsolvable(equationSystem));
+    }
+
+    @Test
+    void solveNonSquareSystemDelegatesToBareiss() {
+        LinearEquationSystem<BigInteger> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 1,
+                BigInteger.ONE, BigInteger.TWO, BigInteger.ONE
+            )
+        );
+        assertThat(new MultiModularSolver(equationSystem).solve())
+            .isEqualTo(Solution.infinite(equationSystem));
+    }
+
+    @Test
+    void solveRandomSystemMatchesBareiss() {
+        Random random = new Random(11);
+        Matrix<BigInteger> matrix = new Matrix<>(BigIntegerArithmetic.getInstance(), 6, 7);
+        for (int r = 0; r < 6; r++)
+            for (int c = 0; c < 7; c++)
+                matrix.setValue(r, c, BigInteger.valueOf(random.nextLong()).pow(3));
+        LinearEquationSystem<BigInteger> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(matrix);
+        assertThat(new MultiModularSolver(equationSystem, new MultiModularEngine(true)).solve())
+            .isEqualTo(equationSystem.solveWithBareiss(
+                BigIntegerBigDecimalResultArithmetic.getInstance()
+            ));
+    }
+}
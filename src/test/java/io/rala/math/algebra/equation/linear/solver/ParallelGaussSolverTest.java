@@ -0,0 +1,120 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class ParallelGaussSolverTest {
+    private static final int SIZE = 40;
+
+    @Test
+    void constructorWithNegativeCutoff() {
+        LinearEquationSystem<Double> equationSystem = createSystem(new Random(1), 2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ParallelGaussSolver<>(equationSystem, ForkJoinPool.commonPool(), -1));
+    }
+
+    @Test
+    void solveBelowCutoffEqualsGauss() {
+        LinearEquationSystem<Double> equationSystem = createSystem(new Random(2), 5);
+        assertThat(new ParallelGaussSolver<>(equationSystem).solve())
+            .isEqualTo(new GaussSolver<>(equationSystem).solve());
+    }
+
+    @Test
+    void solveInParallel() {
+        Random random = new Random(3);
+        LinearEquationSystem<Double> equationSystem = createSystem(random, SIZE);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Solution<LinearEquationSystem<Double>, Double> solution =
+                new ParallelGaussSolver<>(equationSystem, pool, 0).solve();
+            Solution<LinearEquationSystem<Double>, Double> expected =
+                new GaussSolver<>(equationSystem).solve();
+            assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+            for (int i = 0; i < SIZE; i++)
+                assertThat(solution.getSolution().get(i))
+                    .isCloseTo(expected.getSolution().get(i), offset(1e-9));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void solveWithZeroPivotRequiresSwapping() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(3,
+                0, 1, 1,
+                1, 0, 1,
+                1, 1, 0
+            ),
+            DoubleVector.ofValues(2, 2, 2)
+        );
+        Solution<LinearEquationSystem<Double>, Double> solution =
+            new ParallelGaussSolver<>(equationSystem, ForkJoinPool.commonPool(), 0).solve();
+        assertThat(solution.getSolution())
+            .allSatisfy(value -> assertThat(value).isCloseTo(1d, offset(1e-12)));
+    }
+
+    @Test
+    void solveSingularSystemEqualsGauss() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(3,
+                1, 2, 3,
+                2, 4, 6,
+                1, 0, 1
+            ),
+            DoubleVector.ofValues(1, 2, 3)
+        );
+        assertThat(new ParallelGaussSolver<>(equationSystem, ForkJoinPool.commonPool(), 0).solve())
+            .isEqualTo(new GaussSolver<>(equationSystem).solve());
+    }
+
+    @Test
+    void solveSingularSystemKeepsMetricsOfElimination() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(3,
+                1, 2, 3,
+                2, 4, 6,
+                1, 0, 1
+            ),
+            DoubleVector.ofValues(1, 2, 3)
+        );
+        ParallelGaussSolver<Double> solver =
+            new ParallelGaussSolver<>(equationSystem, ForkJoinPool.commonPool(), 0);
+        solver.setMetricsEnabled(true);
+        Solution<LinearEquationSystem<Double>, Double> solution = solver.solve();
+        assertThat(solution.getEquationSystem()).isEqualTo(equationSystem);
+        assertThat(solution.getState()).isEqualTo(Solution.State.INFINITE);
+        assertThat(solution.getMetrics()).isNotNull();
+        // two pivot swaps before column 2 has no pivot
+        assertThat(solution.getMetrics().getRowSwaps()).isGreaterThanOrEqualTo(2);
+        assertThat(solution.getMetrics().getDuration(SolverMetrics.Phase.ELIMINATE))
+            .isPositive();
+    }
+
+    // region private
+
+    private static LinearEquationSystem<Double> createSystem(Random random, int size) {
+        DoubleMatrix matrix = new DoubleMatrix(size);
+        DoubleVector vector = new DoubleVector(size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++)
+                matrix.setValue(r, c, random.nextDouble() * 2 - 1);
+            vector.setValue(r, random.nextDouble());
+        }
+        return new LinearEquationSystem<>(matrix, vector);
+    }
+
+    // endregion
+}
@@ -0,0 +1,157 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.SolverMetrics;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class SparseLUSolverTest {
+    private static final int SIZE = 20;
+
+    @ParameterizedTest
+    @EnumSource(SparseLUSolver.Ordering.class)
+    void solveArrowSystem(SparseLUSolver.Ordering ordering) {
+        LinearEquationSystem<Double> equationSystem = createArrowSystem();
+        assertSolutionOfOnes(new SparseLUSolver<>(equationSystem, ordering).solve());
+    }
+
+    @Test
+    void solveArrowSystemWithNaturalOrderingFillsIn() {
+        SparseLUSolver<Double> solver =
+            new SparseLUSolver<>(createArrowSystem(), SparseLUSolver.Ordering.NATURAL);
+        solver.solve();
+        assertThat(solver.getNonZeros()).isEqualTo(3L * SIZE - 2);
+        assertThat(solver.getFillIn()).isEqualTo((long) (SIZE - 1) * (SIZE - 2));
+    }
+
+    @Test
+    void solveArrowSystemWithNaturalOrderingAndMetrics() {
+        SparseLUSolver<Double> solver =
+            new SparseLUSolver<>(createArrowSystem(), SparseLUSolver.Ordering.NATURAL);
+        solver.setMetricsEnabled(true);
+        SolverMetrics metrics = solver.solve().getMetrics();
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.getFillIn()).isEqualTo(solver.getFillIn());
+        assertThat(metrics.getPeakWorkingSetSize())
+            .isGreaterThanOrEqualTo(solver.getNonZeros() + solver.getFillIn());
+        assertThat(metrics.getTotalOperations()).isPositive();
+    }
+
+    @Test
+    void solveLargeTridiagonalSystemWithMetrics() {
+        int size = 20_000;
+        DoubleMatrix matrix = new DoubleMatrix(size);
+        DoubleVector vector = new DoubleVector(size);
+        for (int i = 0; i < size; i++) {
+            matrix.setValue(i, i, 4d);
+            if (0 < i) matrix.setValue(i, i - 1, -1d);
+            if (i + 1 < size) matrix.setValue(i, i + 1, -1d);
+            vector.setValue(i, 0 < i && i + 1 < size ? 2d : 3d);
+        }
+        SparseLUSolver<Double> solver = new SparseLUSolver<>(
+            new LinearEquationSystem<>(matrix, vector), SparseLUSolver.Ordering.NATURAL
+        );
+        solver.setMetricsEnabled(true);
+        Solution<LinearEquationSystem<Double>, Double> solution = solver.solve();
+        assertThat(solution.getSolution())
+            .allSatisfy(value -> assertThat(value).isCloseTo(1d, offset(1e-9)));
+        assertThat(solution.getMetrics()).isNotNull();
+        assertThat(solution.getMetrics().getFillIn()).isZero();
+    }
+
+    @Test
+    void solveArrowSystemWithMinimumDegreeHasNoFillIn() {
+        SparseLUSolver<Double> solver =
+            new SparseLUSolver<>(createArrowSystem(), SparseLUSolver.Ordering.MINIMUM_DEGREE);
+        solver.solve();
+        assertThat(solver.getFillIn()).isZero();
+        assertThat(solver.getPermutation()[0]).isNotZero();
+    }
+
+    @Test
+    void solveShuffledTridiagonalSystemWithReverseCuthillMcKeeHasNoFillIn() {
+        // tridiagonal system with rows and cols permuted by i -> 7*i mod SIZE
+        DoubleMatrix matrix = new DoubleMatrix(SIZE);
+        DoubleVector vector = new DoubleVector(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            int row = 7 * i % SIZE;
+            matrix.setValue(row, row, 4d);
+            double sum = 4;
+            if (0 < i) {
+                matrix.setValue(row, 7 * (i - 1) % SIZE, -1d);
+                sum--;
+            }
+            if (i + 1 < SIZE) {
+                matrix.setValue(row, 7 * (i + 1) % SIZE, -1d);
+                sum--;
+            }
+            vector.setValue(row, sum);
+        }
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(matrix, vector);
+        SparseLUSolver<Double> solver =
+            new SparseLUSolver<>(equationSystem, SparseLUSolver.Ordering.REVERSE_CUTHILL_MCKEE);
+        assertSolutionOfOnes(solver.solve());
+        assertThat(solver.getFillIn()).isZero();
+        SparseLUSolver<Double> natural =
+            new SparseLUSolver<>(equationSystem, SparseLUSolver.Ordering.NATURAL);
+        natural.solve();
+        assertThat(natural.getFillIn()).isPositive();
+    }
+
+    @Test
+    void solveWithZeroPivotUsesGauss() {
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(2, 0, 1, 1, 0),
+            DoubleVector.ofValues(2, 3)
+        );
+        assertThat(new SparseLUSolver<>(equationSystem, SparseLUSolver.Ordering.NATURAL).solve())
+            .isEqualTo(Solution.single(equationSystem, List.of(3d, 2d)));
+    }
+
+    @Test
+    void solveNonSquareSystemUsesGauss() {
+        LinearEquationSystem<Double> equationSystem = LinearEquationSystem.ofMatrixWithSolutionColumn(
+            DoubleMatrix.ofValuesByRows(1, 1, 2, 3)
+        );
+        assertThat(new SparseLUSolver<>(equationSystem).solve())
+            .isEqualTo(new GaussSolver<>(equationSystem).solve());
+        assertThat(new SparseLUSolver<>(equationSystem).getPermutation()).isEmpty();
+    }
+
+    // region private
+
+    /**
+     * diagonal matrix with a dense first row and col
+     */
+    private static LinearEquationSystem<Double> createArrowSystem() {
+        DoubleMatrix matrix = new DoubleMatrix(SIZE);
+        DoubleVector vector = new DoubleVector(SIZE);
+        matrix.setValue(0, 0, (double) SIZE);
+        vector.setValue(0, 2d * SIZE - 1);
+        for (int i = 1; i < SIZE; i++) {
+            matrix.setValue(0, i, 1d);
+            matrix.setValue(i, 0, 1d);
+            matrix.setValue(i, i, 2d);
+            vector.setValue(i, 3d);
+        }
+        return new LinearEquationSystem<>(matrix, vector);
+    }
+
+    private static void assertSolutionOfOnes(Solution<LinearEquationSystem<Double>, Double> solution) {
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution())
+            .hasSize(SIZE)
+            .allSatisfy(value -> assertThat(value).isCloseTo(1d, offset(1e-10)));
+    }
+
+    // endregion
+}
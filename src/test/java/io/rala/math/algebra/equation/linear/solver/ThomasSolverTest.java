@@ -0,0 +1,84 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.BandLinearEquationSystem;
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class ThomasSolverTest {
+    @Test
+    void solveNonTridiagonalSystem() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            new BandMatrix<>(DoubleArithmetic.getInstance(), 3, 2, 0), new DoubleVector(3)
+        );
+        ThomasSolver<Double> solver = new ThomasSolver<>(equationSystem);
+        assertThatExceptionOfType(NotSupportedException.class).isThrownBy(solver::solve);
+    }
+
+    @Test
+    void solveSize1() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofTridiagonal(DoubleArithmetic.getInstance(),
+                new Double[0], new Double[]{2d}, new Double[0]
+            ),
+            DoubleVector.ofValues(3)
+        );
+        assertThat(equationSystem.solveWithThomas())
+            .isEqualTo(Solution.single(equationSystem, List.of(1.5)));
+    }
+
+    @Test
+    void solveLargeSystem() {
+        int size = 100_000;
+        BandMatrix<Double> matrix = new BandMatrix<>(DoubleArithmetic.getInstance(), size, 1, 1);
+        Vector<Double> vector = new DoubleVector(size);
+        for (int i = 0; i < size; i++) {
+            matrix.setValue(i, i, 2d);
+            if (0 < i) matrix.setValue(i, i - 1, -1d);
+            if (i + 1 < size) matrix.setValue(i, i + 1, -1d);
+        }
+        // solution x_i = 1 results in b = (1, 0, ..., 0, 1)
+        vector.setValue(0, 1d);
+        vector.setValue(size - 1, 1d);
+        Solution<BandLinearEquationSystem<Double>, Double> solution =
+            new ThomasSolver<>(new BandLinearEquationSystem<>(matrix, vector)).solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution())
+            .allSatisfy(value -> assertThat(value).isCloseTo(1d, offset(1e-6)));
+    }
+
+    @Test
+    void solveWithZeroPivotUsesBandLU() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofTridiagonal(DoubleArithmetic.getInstance(),
+                new Double[]{1d, 1d}, new Double[]{0d, 0d, 1d}, new Double[]{1d, 1d}
+            ),
+            DoubleVector.ofValues(1, 2, 3)
+        );
+        assertThat(new ThomasSolver<>(equationSystem).solve())
+            .isEqualTo(equationSystem.solveWithBandLU());
+    }
+
+    @Test
+    void solveRowVectorSystem() {
+        BandLinearEquationSystem<Double> equationSystem = new BandLinearEquationSystem<>(
+            BandMatrix.ofTridiagonal(DoubleArithmetic.getInstance(),
+                new Double[]{0d}, new Double[]{1d, 1d}, new Double[]{1d}
+            ),
+            DoubleVector.ofValues(3, 5).transpose()
+        );
+        // x^T*A=b^T: (x0, x0+x1)=(3, 5)
+        assertThat(new ThomasSolver<>(equationSystem).solve())
+            .isEqualTo(Solution.single(equationSystem, List.of(3d, 2d)));
+    }
+}
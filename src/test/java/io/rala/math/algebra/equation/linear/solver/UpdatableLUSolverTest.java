@@ -0,0 +1,161 @@
+package io.rala.math.algebra.equation.linear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.linear.LinearEquationSystem;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UpdatableLUSolverTest {
+    @Test
+    void constructorWithNegativeMaxUpdates() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new UpdatableLUSolver(equationSystem, -1));
+    }
+
+    @Test
+    void solve() {
+        UpdatableLUSolver solver = new UpdatableLUSolver(createSystem());
+        assertSolution(solver.solve(), 1, 2, 3);
+        assertThat(solver.getDecompositions()).isOne();
+    }
+
+    @Test
+    void solveAfterSetValueWithoutDecomposingAgain() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        UpdatableLUSolver solver = new UpdatableLUSolver(equationSystem);
+        solver.solve();
+        assertThat(solver.setValue(0, 1, 1)).isEqualTo(2d);
+        // 4x + y + z = 9
+        assertThat(equationSystem.getMatrix().getValue(0, 1)).isEqualTo(1d);
+        solver.setSolutionValue(0, 9);
+        assertSolution(solver.solve(), 1, 2, 3);
+        assertThat(solver.getDecompositions()).isOne();
+    }
+
+    @Test
+    void solveAfterSetEquation() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        UpdatableLUSolver solver = new UpdatableLUSolver(equationSystem);
+        solver.solve();
+        // x + y + 5z = 18
+        solver.setEquation(2, 1, 1, 5);
+        solver.setSolutionValue(2, 18);
+        assertSolution(solver.solve(), 1, 2, 3);
+        assertThat(solver.getDecompositions()).isOne();
+    }
+
+    @Test
+    void setEquationWithInvalidSize() {
+        UpdatableLUSolver solver = new UpdatableLUSolver(createSystem());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setEquation(0, 1, 2));
+    }
+
+    @Test
+    void setValueOfNonSquareSystem() {
+        LinearEquationSystem<Double> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(
+                DoubleMatrix.ofValuesByRows(1, 1, 1, 2)
+            );
+        UpdatableLUSolver solver = new UpdatableLUSolver(equationSystem);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> solver.setValue(0, 0, 2));
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.INFINITE);
+    }
+
+    @Test
+    void solveRowSystemAfterSetValue() {
+        // equations are cols of matrix
+        LinearEquationSystem<Double> equationSystem = new LinearEquationSystem<>(
+            DoubleMatrix.ofValuesByRows(3,
+                4, 1, 0,
+                2, 5, 1,
+                1, 1, 6),
+            Vector.ofValues(new DoubleArithmetic(), 11d, 14d, 20d).transpose()
+        );
+        UpdatableLUSolver solver = new UpdatableLUSolver(equationSystem);
+        assertSolution(solver.solve(), 1, 2, 3);
+        // 4x + 3y + z = 13
+        solver.setValue(0, 1, 3);
+        solver.setSolutionValue(0, 13);
+        assertThat(equationSystem.getMatrix().getValue(1, 0)).isEqualTo(3d);
+        assertSolution(solver.solve(), 1, 2, 3);
+    }
+
+    @Test
+    void solveSingularSystemWithGauss() {
+        LinearEquationSystem<Double> equationSystem =
+            LinearEquationSystem.ofMatrixWithSolutionColumn(
+                DoubleMatrix.ofValuesByRows(2,
+                    1, 2, 3,
+                    2, 4, 6)
+            );
+        assertThat(new UpdatableLUSolver(equationSystem).solve())
+            .isEqualTo(Solution.infinite(equationSystem));
+    }
+
+    @Test
+    void decomposeAfterExternalChange() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        UpdatableLUSolver solver = new UpdatableLUSolver(equationSystem);
+        solver.solve();
+        equationSystem.getMatrix().setValue(0, 0, 5d);
+        equationSystem.getVector().setValue(0, 12d);
+        solver.decompose();
+        assertSolution(solver.solve(), 1, 2, 3);
+        assertThat(solver.getDecompositions()).isOne();
+    }
+
+    // region override
+
+    @Test
+    void equalsOfSolver() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        assertThat(new UpdatableLUSolver(equationSystem))
+            .isEqualTo(new UpdatableLUSolver(equationSystem))
+            .isNotEqualTo(new UpdatableLUSolver(equationSystem, 1));
+    }
+
+    @Test
+    void hashCodeOfSolver() {
+        LinearEquationSystem<Double> equationSystem = createSystem();
+        assertThat(new UpdatableLUSolver(equationSystem))
+            .hasSameHashCodeAs(new UpdatableLUSolver(equationSystem));
+    }
+
+    // endregion
+
+    // region private
+
+    /**
+     * @return system with solution {@code (1, 2, 3)}
+     */
+    private static LinearEquationSystem<Double> createSystem() {
+        return LinearEquationSystem.ofMatrixWithSolutionColumn(
+            DoubleMatrix.ofValuesByRows(3,
+                4, 2, 1, 11,
+                1, 5, 1, 14,
+                0, 1, 6, 20)
+        );
+    }
+
+    private static void assertSolution(
+        Solution<LinearEquationSystem<Double>, Double> solution, double... expected
+    ) {
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        List<Double> values = solution.getSolution();
+        assertThat(values).hasSize(expected.length);
+        for (int i = 0; i < expected.length; i++)
+            assertThat(values.get(i)).isCloseTo(expected[i], offset(1e-12));
+    }
+
+    // endregion
+}
@@ -0,0 +1,119 @@
+package io.rala.math.algebra.equation.nonlinear;
+
+import io.rala.math.algebra.equation.Solution;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NonlinearEquationSystemTest {
+    // x^2 + y^2 = 4, x = y
+    private static final UnaryOperator<double[]> FUNCTION = x -> new double[]{
+        x[0] * x[0] + x[1] * x[1] - 4, x[0] - x[1]
+    };
+    private static final Function<double[], double[][]> JACOBIAN = x -> new double[][]{
+        {2 * x[0], 2 * x[1]}, {1, -1}
+    };
+
+    // region constructors
+
+    @Test
+    void constructorWithoutJacobian() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(FUNCTION, 1, 2);
+        assertThat(system.getSize()).isEqualTo(2);
+        assertThat(system.getFunction()).isEqualTo(FUNCTION);
+        assertThat(system.getJacobian()).isNull();
+        assertThat(system.getInitial()).containsExactly(1, 2);
+    }
+
+    @Test
+    void constructorCopiesInitial() {
+        double[] initial = {1, 2};
+        NonlinearEquationSystem system = new NonlinearEquationSystem(FUNCTION, JACOBIAN, initial);
+        initial[0] = 0;
+        assertThat(system.getJacobian()).isEqualTo(JACOBIAN);
+        assertThat(system.getInitial()).containsExactly(1, 2);
+    }
+
+    @Test
+    void constructorWithEmptyInitial() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new NonlinearEquationSystem(FUNCTION));
+    }
+
+    // endregion
+
+    // region evaluate
+
+    @Test
+    void evaluate() {
+        assertThat(new NonlinearEquationSystem(FUNCTION, 1, 2).evaluate(new double[]{1, 2}))
+            .containsExactly(1, -1);
+    }
+
+    @Test
+    void evaluateWithWrongSize() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(FUNCTION, 1, 2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> system.evaluate(new double[]{1}));
+        NonlinearEquationSystem invalid = new NonlinearEquationSystem(x -> new double[1], 1, 2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> invalid.evaluate(new double[]{1, 2}));
+    }
+
+    @Test
+    void evaluateJacobian() {
+        assertThat(new NonlinearEquationSystem(FUNCTION, JACOBIAN, 1, 2)
+            .evaluateJacobian(new double[]{1, 2})
+        ).isDeepEqualTo(new double[][]{{2, 4}, {1, -1}});
+    }
+
+    @Test
+    void evaluateJacobianWithFiniteDifferences() {
+        double[][] jacobian = new NonlinearEquationSystem(FUNCTION, 1, 2)
+            .evaluateJacobian(new double[]{1, 2});
+        assertThat(jacobian[0][0]).isCloseTo(2, offset(1e-6));
+        assertThat(jacobian[0][1]).isCloseTo(4, offset(1e-6));
+        assertThat(jacobian[1][0]).isCloseTo(1, offset(1e-6));
+        assertThat(jacobian[1][1]).isCloseTo(-1, offset(1e-6));
+    }
+
+    // endregion
+
+    @Test
+    void solveWithNewtonRaphson() {
+        Solution<NonlinearEquationSystem, Double> solution =
+            new NonlinearEquationSystem(FUNCTION, JACOBIAN, 1, 2).solveWithNewtonRaphson();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(Math.sqrt(2), offset(1e-10));
+        assertThat(solution.getSolution().get(1)).isCloseTo(Math.sqrt(2), offset(1e-10));
+    }
+
+    // region override
+
+    @Test
+    void transposeReturnsSameInstance() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(FUNCTION, 1, 2);
+        assertThat(system.transpose()).isSameAs(system);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(FUNCTION, 1, 2);
+        assertThat(system)
+            .isEqualTo(new NonlinearEquationSystem(FUNCTION, 1, 2))
+            .hasSameHashCodeAs(new NonlinearEquationSystem(FUNCTION, 1, 2))
+            .isNotEqualTo(new NonlinearEquationSystem(FUNCTION, 2, 1))
+            .isNotEqualTo(new NonlinearEquationSystem(FUNCTION, JACOBIAN, 1, 2));
+    }
+
+    @Test
+    void toStringOfSystem() {
+        assertThat(new NonlinearEquationSystem(FUNCTION, 1, 2))
+            .hasToString("F(x)=0: x0=[1.0, 2.0]");
+    }
+
+    // endregion
+}
@@ -0,0 +1,114 @@
+package io.rala.math.algebra.equation.nonlinear;
+
+import io.rala.math.algebra.equation.Solution;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NonlinearEquationTest {
+    private static final DoubleUnaryOperator FUNCTION = x -> x * x - 2;
+    private static final DoubleUnaryOperator DERIVATIVE = x -> 2 * x;
+
+    // region constructors
+
+    @Test
+    void constructorWithInterval() {
+        NonlinearEquation equation = new NonlinearEquation(FUNCTION, 0, 2);
+        assertThat(equation.getFunction()).isEqualTo(FUNCTION);
+        assertThat(equation.getDerivative()).isNull();
+        assertThat(equation.getInitial()).isEqualTo(1);
+        assertThat(equation.getLower()).isZero();
+        assertThat(equation.getUpper()).isEqualTo(2);
+        assertThat(equation.isBounded()).isTrue();
+    }
+
+    @Test
+    void constructorWithInitial() {
+        NonlinearEquation equation = new NonlinearEquation(FUNCTION, DERIVATIVE, 3);
+        assertThat(equation.getDerivative()).isEqualTo(DERIVATIVE);
+        assertThat(equation.getInitial()).isEqualTo(3);
+        assertThat(equation.getLower()).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(equation.isBounded()).isFalse();
+    }
+
+    @Test
+    void constructorWithInvalidInterval() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new NonlinearEquation(FUNCTION, 2, 0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new NonlinearEquation(FUNCTION, null, 3, 0, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new NonlinearEquation(FUNCTION, null, Double.NaN));
+    }
+
+    // endregion
+
+    // region evaluate
+
+    @Test
+    void evaluate() {
+        assertThat(new NonlinearEquation(FUNCTION, 0, 2).evaluate(3)).isEqualTo(7);
+    }
+
+    @Test
+    void evaluateDerivative() {
+        assertThat(new NonlinearEquation(FUNCTION, DERIVATIVE, 3).evaluateDerivative(3))
+            .isEqualTo(6);
+    }
+
+    @Test
+    void evaluateDerivativeWithFiniteDifferences() {
+        assertThat(new NonlinearEquation(Math::exp, null, 1).evaluateDerivative(1))
+            .isCloseTo(Math.E, offset(1e-9));
+    }
+
+    // endregion
+
+    // region solve
+
+    @Test
+    void solveWithBrent() {
+        Solution<NonlinearEquation, Double> solution =
+            new NonlinearEquation(FUNCTION, 0, 2).solveWithBrent();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(Math.sqrt(2), offset(1e-12));
+    }
+
+    @Test
+    void solveWithNewton() {
+        Solution<NonlinearEquation, Double> solution =
+            new NonlinearEquation(FUNCTION, DERIVATIVE, 3).solveWithNewton();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(Math.sqrt(2), offset(1e-12));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void transposeReturnsSameInstance() {
+        NonlinearEquation equation = new NonlinearEquation(FUNCTION, 0, 2);
+        assertThat(equation.transpose()).isSameAs(equation);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        NonlinearEquation equation = new NonlinearEquation(FUNCTION, 0, 2);
+        assertThat(equation)
+            .isEqualTo(new NonlinearEquation(FUNCTION, 0, 2))
+            .hasSameHashCodeAs(new NonlinearEquation(FUNCTION, 0, 2))
+            .isNotEqualTo(new NonlinearEquation(FUNCTION, 0, 3))
+            .isNotEqualTo(new NonlinearEquation(FUNCTION, DERIVATIVE, 1, 0, 2));
+    }
+
+    @Test
+    void toStringOfEquation() {
+        assertThat(new NonlinearEquation(FUNCTION, 0, 2))
+            .hasToString("f(x)=0: x0=1.0 in [0.0, 2.0]");
+    }
+
+    // endregion
+}
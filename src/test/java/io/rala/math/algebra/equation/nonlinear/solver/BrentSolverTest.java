@@ -0,0 +1,71 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BrentSolverTest {
+    @Test
+    void solveCubic() {
+        BrentSolver solver = new BrentSolver(
+            new NonlinearEquation(x -> (x + 3) * (x - 1) * (x - 1), -4, 4d / 3)
+        );
+        Solution<NonlinearEquation, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(-3, offset(1e-12));
+        assertThat(solver.getIterations()).isLessThan(20);
+    }
+
+    @Test
+    void solveTranscendental() {
+        Solution<NonlinearEquation, Double> solution = new BrentSolver(
+            new NonlinearEquation(x -> Math.cos(x) - x, 0, 1)
+        ).solve();
+        assertThat(solution.getSolution().get(0)).isCloseTo(0.7390851332151607, offset(1e-12));
+    }
+
+    @Test
+    void solveWithRootAtBound() {
+        Solution<NonlinearEquation, Double> solution = new BrentSolver(
+            new NonlinearEquation(x -> x - 2, 0, 2)
+        ).solve();
+        assertThat(solution).isEqualTo(Solution.single(solution.getEquationSystem(),
+            Collections.singletonList(2d)
+        ));
+    }
+
+    @Test
+    void solveWithoutSignChange() {
+        NonlinearEquation equation = new NonlinearEquation(x -> x * x + 1, -1, 2);
+        assertThat(new BrentSolver(equation).solve())
+            .isEqualTo(Solution.unsolvable(equation));
+    }
+
+    @Test
+    void solveWithoutBounds() {
+        NonlinearEquation equation = new NonlinearEquation(x -> x, null, 1);
+        assertThat(new BrentSolver(equation).solve())
+            .isEqualTo(Solution.unsolvable(equation));
+    }
+
+    @Test
+    void solveExceedingMaxIterations() {
+        BrentSolver solver = new BrentSolver(new NonlinearEquation(x -> Math.cos(x) - x, 0, 1));
+        solver.setMaxIterations(2);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.UNSOLVABLE);
+        assertThat(solver.getIterations()).isEqualTo(2);
+    }
+
+    @Test
+    void setInvalidMaxIterationsAndTolerance() {
+        BrentSolver solver = new BrentSolver(new NonlinearEquation(x -> x, -1, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxIterations(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setTolerance(-1));
+    }
+}
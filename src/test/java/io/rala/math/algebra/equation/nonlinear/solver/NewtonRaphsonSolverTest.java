@@ -0,0 +1,113 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NewtonRaphsonSolverTest {
+    // x^2 + y^2 = 4, e^x + y = 1
+    private static final UnaryOperator<double[]> FUNCTION = x -> new double[]{
+        x[0] * x[0] + x[1] * x[1] - 4, Math.exp(x[0]) + x[1] - 1
+    };
+
+    @Test
+    void createdSolverHasDefaults() {
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(FUNCTION, 1, -1)
+        );
+        assertThat(solver.getMaxIterations()).isEqualTo(NewtonRaphsonSolver.DEFAULT_MAX_ITERATIONS);
+        assertThat(solver.getTolerance()).isEqualTo(NewtonRaphsonSolver.DEFAULT_TOLERANCE);
+        assertThat(solver.getMaxUpdates()).isEqualTo(64);
+        assertThat(solver.getIterations()).isZero();
+    }
+
+    @Test
+    void setInvalidMaxUpdates() {
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(FUNCTION, 1, -1)
+        );
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxUpdates(-1));
+    }
+
+    @Test
+    void solveReusesJacobian() {
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(FUNCTION, 1, -1)
+        );
+        Solution<NonlinearEquationSystem, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        double x = solution.getSolution().get(0);
+        double y = solution.getSolution().get(1);
+        assertThat(x * x + y * y).isCloseTo(4, offset(1e-10));
+        assertThat(Math.exp(x) + y).isCloseTo(1, offset(1e-10));
+        assertThat(solver.getJacobianEvaluations()).isOne();
+        assertThat(solver.getDecompositions()).isOne();
+        assertThat(solver.getIterations()).isGreaterThan(1);
+    }
+
+    @Test
+    void solveWithoutUpdatesDecomposesEachIteration() {
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(FUNCTION, 1, -1)
+        );
+        solver.setMaxUpdates(0);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getJacobianEvaluations()).isOne();
+        assertThat(solver.getDecompositions()).isGreaterThan(1);
+    }
+
+    @Test
+    void solveLargerSystem() {
+        // x_i^3 + x_i - (i+1) + 0.1*x_{i+1} = 0
+        int size = 30;
+        UnaryOperator<double[]> function = x -> {
+            double[] result = new double[size];
+            for (int i = 0; i < size; i++)
+                result[i] = x[i] * x[i] * x[i] + x[i] - (i + 1) +
+                    (i < size - 1 ? 0.1 * x[i + 1] : 0);
+            return result;
+        };
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(function, new double[size])
+        );
+        Solution<NonlinearEquationSystem, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        double[] x = solution.getSolution().stream().mapToDouble(Double::doubleValue).toArray();
+        for (double value : function.apply(x)) assertThat(value).isCloseTo(0, offset(1e-10));
+        assertThat(solver.getJacobianEvaluations()).isLessThan(solver.getIterations());
+    }
+
+    @Test
+    void solveWithInitialSolution() {
+        NewtonRaphsonSolver solver = new NewtonRaphsonSolver(
+            new NonlinearEquationSystem(x -> new double[]{x[0] - 1}, 1)
+        );
+        assertThat(solver.solve().getSolution()).containsExactly(1d);
+        assertThat(solver.getIterations()).isZero();
+        assertThat(solver.getJacobianEvaluations()).isZero();
+    }
+
+    @Test
+    void solveWithSingularJacobian() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(
+            x -> new double[]{x[0] + x[1] - 1, 2 * x[0] + 2 * x[1] - 3},
+            x -> new double[][]{{1, 1}, {2, 2}}, 0, 0
+        );
+        assertThat(new NewtonRaphsonSolver(system).solve())
+            .isEqualTo(Solution.unsolvable(system));
+    }
+
+    @Test
+    void solveWithoutRoot() {
+        NonlinearEquationSystem system = new NonlinearEquationSystem(
+            x -> new double[]{x[0] * x[0] + 1}, 2
+        );
+        assertThat(new NewtonRaphsonSolver(system).solve().getState())
+            .isEqualTo(Solution.State.UNSOLVABLE);
+    }
+}
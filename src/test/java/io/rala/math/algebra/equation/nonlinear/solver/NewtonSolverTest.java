@@ -0,0 +1,72 @@
+package io.rala.math.algebra.equation.nonlinear.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.nonlinear.NonlinearEquation;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class NewtonSolverTest {
+    @Test
+    void solveWithDerivative() {
+        NewtonSolver solver = new NewtonSolver(
+            new NonlinearEquation(x -> x * x - 2, x -> 2 * x, 1)
+        );
+        Solution<NonlinearEquation, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(Math.sqrt(2), offset(1e-14));
+        assertThat(solver.getIterations()).isLessThan(10);
+    }
+
+    @Test
+    void solveWithFiniteDifferences() {
+        Solution<NonlinearEquation, Double> solution = new NewtonSolver(
+            new NonlinearEquation(x -> Math.cos(x) - x, null, 1)
+        ).solve();
+        assertThat(solution.getSolution().get(0)).isCloseTo(0.7390851332151607, offset(1e-12));
+    }
+
+    @Test
+    void solveWithBracketAvoidsDivergence() {
+        // plain Newton diverges from x0=2 for atan
+        NewtonSolver solver = new NewtonSolver(
+            new NonlinearEquation(Math::atan, x -> 1 / (1 + x * x), 2, -10, 10)
+        );
+        Solution<NonlinearEquation, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(0, offset(1e-12));
+    }
+
+    @Test
+    void solveWithLineSearchAvoidsDivergence() {
+        Solution<NonlinearEquation, Double> solution = new NewtonSolver(
+            new NonlinearEquation(Math::atan, x -> 1 / (1 + x * x), 2)
+        ).solve();
+        assertThat(solution.getSolution().get(0)).isCloseTo(0, offset(1e-12));
+    }
+
+    @Test
+    void solveWithVanishingDerivative() {
+        NonlinearEquation equation = new NonlinearEquation(x -> x * x + 1, x -> 2 * x, 0);
+        assertThat(new NewtonSolver(equation).solve())
+            .isEqualTo(Solution.unsolvable(equation));
+    }
+
+    @Test
+    void solveWithoutRoot() {
+        NonlinearEquation equation = new NonlinearEquation(x -> x * x + 1, x -> 2 * x, 3);
+        assertThat(new NewtonSolver(equation).solve().getState())
+            .isEqualTo(Solution.State.UNSOLVABLE);
+    }
+
+    @Test
+    void solveExceedingMaxIterations() {
+        NewtonSolver solver = new NewtonSolver(
+            new NonlinearEquation(x -> x * x - 2, x -> 2 * x, 100)
+        );
+        solver.setMaxIterations(2);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.UNSOLVABLE);
+        assertThat(solver.getIterations()).isEqualTo(2);
+    }
+}
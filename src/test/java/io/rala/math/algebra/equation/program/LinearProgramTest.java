@@ -0,0 +1,160 @@
+package io.rala.math.algebra.equation.program;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LinearProgramTest {
+    private static final double[][] MATRIX = {{1, 0}, {0, 2}, {3, 2}};
+    private static final double[] VECTOR = {4, 12, 18};
+    private static final double[] OBJECTIVE = {3, 5};
+
+    // region constructors
+
+    @Test
+    void constructorWithArrays() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThat(program.getRows()).isEqualTo(3);
+        assertThat(program.getCols()).isEqualTo(2);
+        assertThat(program.getValue(2, 0)).isEqualTo(3);
+        assertThat(program.getRightHandSide(1)).isEqualTo(12);
+        assertThat(program.getRelation(0)).isEqualTo(LinearProgram.Relation.LESS_EQUAL);
+        assertThat(program.getCost(1)).isEqualTo(5);
+        assertThat(program.getLower(0)).isZero();
+        assertThat(program.getUpper(0)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(program.getGoal()).isEqualTo(LinearProgram.Goal.MINIMIZE);
+    }
+
+    @Test
+    void constructorWithMatrixAndVectors() {
+        LinearProgram program = new LinearProgram(
+            DoubleMatrix.ofValuesByRows(3, 1, 0, 0, 2, 3, 2),
+            DoubleVector.ofValues(VECTOR), DoubleVector.ofValues(OBJECTIVE)
+        );
+        assertThat(program).isEqualTo(new LinearProgram(MATRIX, VECTOR, OBJECTIVE));
+        assertThat(program.getMatrix())
+            .isEqualTo(DoubleMatrix.ofValuesByRows(3, 1, 0, 0, 2, 3, 2));
+        assertThat(program.getVector()).isEqualTo(DoubleVector.ofValues(VECTOR));
+        assertThat(program.getObjective()).isEqualTo(DoubleVector.ofValues(OBJECTIVE));
+    }
+
+    @Test
+    void constructorWithInvalidSizes() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new LinearProgram(MATRIX, new double[]{1}, OBJECTIVE));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new LinearProgram(MATRIX, VECTOR, new double[]{1}));
+    }
+
+    @Test
+    void constructorWithNonFiniteValue() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new LinearProgram(
+                MATRIX, new double[]{4, Double.NaN, 18}, OBJECTIVE
+            ));
+    }
+
+    // endregion
+
+    // region modify
+
+    @Test
+    void withRelation() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        LinearProgram modified = program.withRelation(1, LinearProgram.Relation.EQUAL);
+        assertThat(modified.getRelation(1)).isEqualTo(LinearProgram.Relation.EQUAL);
+        assertThat(program.getRelation(1)).isEqualTo(LinearProgram.Relation.LESS_EQUAL);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> program.withRelation(3, LinearProgram.Relation.EQUAL));
+    }
+
+    @Test
+    void withBounds() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE)
+            .withBounds(0, Double.NEGATIVE_INFINITY, 1);
+        assertThat(program.getLower(0)).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(program.getUpper(0)).isOne();
+    }
+
+    @Test
+    void withInvalidBounds() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> program.withBounds(0, 2, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> program.withBounds(0, Double.NaN, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> program.withBounds(2, 0, 1));
+    }
+
+    @Test
+    void withGoal() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThat(program.withGoal(LinearProgram.Goal.MAXIMIZE).getGoal())
+            .isEqualTo(LinearProgram.Goal.MAXIMIZE);
+    }
+
+    // endregion
+
+    // region evaluate
+
+    @Test
+    void evaluate() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThat(program.evaluate(new double[]{2, 6})).isEqualTo(36);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> program.evaluate(new double[]{1}));
+    }
+
+    @Test
+    void isFeasible() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThat(program.isFeasible(new double[]{2, 6}, 0)).isTrue();
+        assertThat(program.isFeasible(new double[]{4, 6}, 0)).isFalse();
+        assertThat(program.isFeasible(new double[]{-1, 0}, 0)).isFalse();
+        assertThat(program.withRelation(0, LinearProgram.Relation.GREATER_EQUAL)
+            .isFeasible(new double[]{2, 6}, 0)).isFalse();
+    }
+
+    // endregion
+
+    // region solve
+
+    @Test
+    void solveWithSimplex() {
+        Solution<LinearProgram, Double> solution = new LinearProgram(MATRIX, VECTOR, OBJECTIVE)
+            .withGoal(LinearProgram.Goal.MAXIMIZE).solveWithSimplex();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(2, offset(1e-9));
+        assertThat(solution.getSolution().get(1)).isCloseTo(6, offset(1e-9));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void equalsOfLinearProgram() {
+        LinearProgram program = new LinearProgram(MATRIX, VECTOR, OBJECTIVE);
+        assertThat(program)
+            .isEqualTo(new LinearProgram(MATRIX, VECTOR, OBJECTIVE))
+            .isNotEqualTo(program.withGoal(LinearProgram.Goal.MAXIMIZE));
+    }
+
+    @Test
+    void hashCodeOfLinearProgram() {
+        assertThat(new LinearProgram(MATRIX, VECTOR, OBJECTIVE).hashCode())
+            .isEqualTo(new LinearProgram(MATRIX, VECTOR, OBJECTIVE).hashCode());
+    }
+
+    @Test
+    void toStringOfLinearProgram() {
+        assertThat(new LinearProgram(MATRIX, VECTOR, OBJECTIVE))
+            .hasToString("MINIMIZE [3.0, 5.0]: 3 x 2 constraints");
+    }
+
+    // endregion
+}
@@ -0,0 +1,57 @@
+package io.rala.math.algebra.equation.program.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BasisTest {
+    @Test
+    void constructor() {
+        Basis basis = new Basis(new int[]{2, 0}, new boolean[]{true, true, true, false});
+        assertThat(basis.getRows()).isEqualTo(2);
+        assertThat(basis.getSize()).isEqualTo(4);
+        assertThat(basis.getBasicIndices()).containsExactly(2, 0);
+        assertThat(basis.isAtUpper(0)).isFalse();
+        assertThat(basis.isAtUpper(1)).isTrue();
+        assertThat(basis.isAtUpper(2)).isFalse();
+    }
+
+    @Test
+    void constructorWithInvalidIndices() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new Basis(new int[]{1, 1}, new boolean[3]));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new Basis(new int[]{0, 3}, new boolean[3]));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new Basis(new int[]{-1}, new boolean[3]));
+    }
+
+    @Test
+    void basicIndicesAreCopied() {
+        int[] indices = {0, 1};
+        Basis basis = new Basis(indices, new boolean[3]);
+        indices[0] = 2;
+        basis.getBasicIndices()[1] = 2;
+        assertThat(basis.getBasicIndices()).containsExactly(0, 1);
+    }
+
+    @Test
+    void equalsOfBasis() {
+        Basis basis = new Basis(new int[]{0, 1}, new boolean[3]);
+        assertThat(basis)
+            .isEqualTo(new Basis(new int[]{0, 1}, new boolean[3]))
+            .isNotEqualTo(new Basis(new int[]{1, 0}, new boolean[3]))
+            .isNotEqualTo(new Basis(new int[]{0, 1}, new boolean[]{false, false, true}));
+    }
+
+    @Test
+    void hashCodeOfBasis() {
+        assertThat(new Basis(new int[]{0, 1}, new boolean[3]).hashCode())
+            .isEqualTo(new Basis(new int[]{0, 1}, new boolean[3]).hashCode());
+    }
+
+    @Test
+    void toStringOfBasis() {
+        assertThat(new Basis(new int[]{2, 0}, new boolean[3])).hasToString("[2, 0]");
+    }
+}
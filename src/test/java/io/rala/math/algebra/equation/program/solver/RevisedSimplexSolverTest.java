@@ -0,0 +1,253 @@
+package io.rala.math.algebra.equation.program.solver;
+
+import io.rala.math.algebra.equation.Solution;
+import io.rala.math.algebra.equation.program.LinearProgram;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RevisedSimplexSolverTest {
+    // max 3x+5y: x<=4, 2y<=12, 3x+2y<=18
+    private static final LinearProgram PROGRAM = new LinearProgram(
+        new double[][]{{1, 0}, {0, 2}, {3, 2}},
+        new double[]{4, 12, 18}, new double[]{3, 5}
+    ).withGoal(LinearProgram.Goal.MAXIMIZE);
+
+    // region settings
+
+    @Test
+    void createdSolverHasDefaults() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        assertThat(solver.getMaxIterations())
+            .isEqualTo(RevisedSimplexSolver.DEFAULT_MAX_ITERATIONS);
+        assertThat(solver.getTolerance()).isEqualTo(RevisedSimplexSolver.DEFAULT_TOLERANCE);
+        assertThat(solver.getRefactorizationInterval())
+            .isEqualTo(RevisedSimplexSolver.DEFAULT_REFACTORIZATION_INTERVAL);
+        assertThat(solver.getInitialBasis()).isNull();
+        assertThat(solver.getStatus()).isNull();
+        assertThat(solver.getObjectiveValue()).isNaN();
+        assertThat(solver.getBasis()).isNull();
+    }
+
+    @Test
+    void setInvalidSettings() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxIterations(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setTolerance(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setRefactorizationInterval(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setInitialBasis(new Basis(new int[]{0}, new boolean[5])));
+    }
+
+    // endregion
+
+    // region solve
+
+    @Test
+    void solveMaximization() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        Solution<LinearProgram, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(2, offset(1e-9));
+        assertThat(solution.getSolution().get(1)).isCloseTo(6, offset(1e-9));
+        assertThat(solver.getStatus()).isEqualTo(RevisedSimplexSolver.Status.OPTIMAL);
+        assertThat(solver.getObjectiveValue()).isCloseTo(36, offset(1e-9));
+        assertThat(solver.getBasis()).isNotNull();
+        assertThat(solver.isWarmStarted()).isFalse();
+    }
+
+    @Test
+    void solveWithGreaterEqualAndEqualConstraints() {
+        // min 2x+3y: x+y>=4, x-y=1
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1, 1}, {1, -1}}, new double[]{4, 1}, new double[]{2, 3}
+        ).withRelation(0, LinearProgram.Relation.GREATER_EQUAL)
+            .withRelation(1, LinearProgram.Relation.EQUAL);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        Solution<LinearProgram, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(2.5, offset(1e-9));
+        assertThat(solution.getSolution().get(1)).isCloseTo(1.5, offset(1e-9));
+        assertThat(solver.getObjectiveValue()).isCloseTo(9.5, offset(1e-9));
+    }
+
+    @Test
+    void solveWithRedundantConstraint() {
+        // min x: x+y=2, 2x+2y=4
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1, 1}, {2, 2}}, new double[]{2, 4}, new double[]{1, 0}
+        ).withRelation(0, LinearProgram.Relation.EQUAL)
+            .withRelation(1, LinearProgram.Relation.EQUAL);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        Solution<LinearProgram, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(0, offset(1e-9));
+        assertThat(solution.getSolution().get(1)).isCloseTo(2, offset(1e-9));
+        assertThat(solver.getBasis()).isNotNull();
+    }
+
+    @Test
+    void solveInfeasible() {
+        // x<=1, x>=2
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1}, {1}}, new double[]{1, 2}, new double[]{1}
+        ).withRelation(1, LinearProgram.Relation.GREATER_EQUAL);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.UNSOLVABLE);
+        assertThat(solver.getStatus()).isEqualTo(RevisedSimplexSolver.Status.INFEASIBLE);
+        assertThat(solver.getObjectiveValue()).isNaN();
+        assertThat(solver.getBasis()).isNull();
+    }
+
+    @Test
+    void solveUnbounded() {
+        // max x: x-y<=1
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1, -1}}, new double[]{1}, new double[]{1, 0}
+        ).withGoal(LinearProgram.Goal.MAXIMIZE);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.UNSOLVABLE);
+        assertThat(solver.getStatus()).isEqualTo(RevisedSimplexSolver.Status.UNBOUNDED);
+    }
+
+    @Test
+    void solveWithBoundedVariables() {
+        // max x+y: x+y<=10, 0<=x<=2, 0<=y<=3
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1, 1}}, new double[]{10}, new double[]{1, 1}
+        ).withGoal(LinearProgram.Goal.MAXIMIZE).withBounds(0, 0, 2).withBounds(1, 0, 3);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        Solution<LinearProgram, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution()).containsExactly(2d, 3d);
+        assertThat(solver.getFactorizations()).isOne();
+        Basis basis = solver.getBasis();
+        assertThat(basis).isNotNull();
+        assertThat(basis.getBasicIndices()).containsExactly(2);
+        assertThat(basis.isAtUpper(0)).isTrue();
+        assertThat(basis.isAtUpper(1)).isTrue();
+    }
+
+    @Test
+    void solveWithFreeVariable() {
+        // min x: x>=-5, x free
+        LinearProgram program = new LinearProgram(
+            new double[][]{{1}}, new double[]{-5}, new double[]{1}
+        ).withRelation(0, LinearProgram.Relation.GREATER_EQUAL)
+            .withBounds(0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        Solution<LinearProgram, Double> solution = new RevisedSimplexSolver(program).solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(-5, offset(1e-9));
+    }
+
+    @Test
+    void solveDegenerateProgramOfBeale() {
+        LinearProgram program = new LinearProgram(
+            new double[][]{{0.25, -8, -1, 9}, {0.5, -12, -0.5, 3}, {0, 0, 1, 0}},
+            new double[]{0, 0, 1}, new double[]{-0.75, 20, -0.5, 6}
+        );
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getObjectiveValue()).isCloseTo(-1.25, offset(1e-9));
+    }
+
+    @Test
+    void solveTransportProblem() {
+        // supplies 20, 30 - demands 10, 25, 15
+        LinearProgram program = new LinearProgram(
+            new double[][]{
+                {1, 1, 1, 0, 0, 0}, {0, 0, 0, 1, 1, 1},
+                {1, 0, 0, 1, 0, 0}, {0, 1, 0, 0, 1, 0}, {0, 0, 1, 0, 0, 1}
+            },
+            new double[]{20, 30, 10, 25, 15}, new double[]{8, 6, 10, 9, 12, 13}
+        ).withRelation(2, LinearProgram.Relation.EQUAL)
+            .withRelation(3, LinearProgram.Relation.EQUAL)
+            .withRelation(4, LinearProgram.Relation.EQUAL);
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(program);
+        Solution<LinearProgram, Double> solution = solver.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getObjectiveValue()).isCloseTo(465, offset(1e-9));
+        double[] values = solution.getSolution().stream().mapToDouble(Double::doubleValue).toArray();
+        assertThat(program.isFeasible(values, 1e-9)).isTrue();
+    }
+
+    @Test
+    void solveWithMaxIterations() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        solver.setMaxIterations(1);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.UNSOLVABLE);
+        assertThat(solver.getStatus()).isEqualTo(RevisedSimplexSolver.Status.MAX_ITERATIONS);
+        assertThat(solver.getIterations()).isOne();
+    }
+
+    @Test
+    void solveWithRefactorizationEachPivot() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        solver.setRefactorizationInterval(1);
+        assertThat(solver.solve().getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solver.getObjectiveValue()).isCloseTo(36, offset(1e-9));
+        int factorizations = solver.getFactorizations();
+        RevisedSimplexSolver updating = new RevisedSimplexSolver(PROGRAM);
+        updating.solve();
+        assertThat(updating.getFactorizations()).isOne().isLessThan(factorizations);
+    }
+
+    @Test
+    void solveWithInitialBasis() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        solver.solve();
+        LinearProgram changed = new LinearProgram(
+            new double[][]{{1, 0}, {0, 2}, {3, 2}},
+            new double[]{4, 12, 19}, new double[]{3, 5}
+        ).withGoal(LinearProgram.Goal.MAXIMIZE);
+        RevisedSimplexSolver warm = new RevisedSimplexSolver(changed);
+        warm.setInitialBasis(solver.getBasis());
+        Solution<LinearProgram, Double> solution = warm.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(solution.getSolution().get(0)).isCloseTo(7d / 3, offset(1e-9));
+        assertThat(solution.getSolution().get(1)).isCloseTo(6, offset(1e-9));
+        assertThat(warm.isWarmStarted()).isTrue();
+        assertThat(warm.getIterations()).isZero().isLessThan(solver.getIterations());
+    }
+
+    @Test
+    void solveWithInfeasibleInitialBasis() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        solver.solve();
+        // basis of x=2, y=6 is not feasible anymore
+        LinearProgram changed = new LinearProgram(
+            new double[][]{{1, 0}, {0, 2}, {3, 2}},
+            new double[]{4, 12, 6}, new double[]{3, 5}
+        ).withGoal(LinearProgram.Goal.MAXIMIZE);
+        RevisedSimplexSolver warm = new RevisedSimplexSolver(changed);
+        warm.setInitialBasis(solver.getBasis());
+        Solution<LinearProgram, Double> solution = warm.solve();
+        assertThat(solution.getState()).isEqualTo(Solution.State.SINGLE);
+        assertThat(warm.isWarmStarted()).isFalse();
+        assertThat(warm.getObjectiveValue()).isCloseTo(15, offset(1e-9));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void equalsOfRevisedSimplexSolver() {
+        RevisedSimplexSolver solver = new RevisedSimplexSolver(PROGRAM);
+        RevisedSimplexSolver other = new RevisedSimplexSolver(PROGRAM);
+        assertThat(solver).isEqualTo(other);
+        other.setRefactorizationInterval(1);
+        assertThat(solver).isNotEqualTo(other);
+    }
+
+    @Test
+    void hashCodeOfRevisedSimplexSolver() {
+        assertThat(new RevisedSimplexSolver(PROGRAM).hashCode())
+            .isEqualTo(new RevisedSimplexSolver(PROGRAM).hashCode());
+    }
+
+    // endregion
+}
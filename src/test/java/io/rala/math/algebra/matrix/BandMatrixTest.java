@@ -0,0 +1,157 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.arithmetic.core.IntegerArithmetic;
+import org.junit.jupiter.api.Test;
+
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BandMatrixTest {
+    // region constructors
+
+    @Test
+    void constructorWithSize0() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new BandMatrix<>(IntegerArithmetic.getInstance(), 0, 1, 1));
+    }
+
+    @Test
+    void constructorWithNegativeBandwidth() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new BandMatrix<>(IntegerArithmetic.getInstance(), 2, -1, 1));
+    }
+
+    @Test
+    void constructorLimitsBandwidthToSize() {
+        BandMatrix<Integer> matrix = new BandMatrix<>(IntegerArithmetic.getInstance(), 2, 5, 3);
+        assertThat(matrix.getLower()).isOne();
+        assertThat(matrix.getUpper()).isOne();
+        assertThat(matrix.getWidth()).isEqualTo(3);
+    }
+
+    // endregion
+
+    // region value
+
+    @Test
+    void getValueOutsideOfBandIsZero() {
+        BandMatrix<Integer> matrix = new BandMatrix<>(IntegerArithmetic.getInstance(), 4, 1, 0);
+        assertThat(matrix.isInBand(0, 1)).isFalse();
+        assertThat(matrix.getValue(0, 1)).isZero();
+    }
+
+    @Test
+    void getValueWithInvalidRow() {
+        BandMatrix<Integer> matrix = new BandMatrix<>(IntegerArithmetic.getInstance(), 2, 1, 1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> matrix.getValue(2, 0));
+    }
+
+    @Test
+    void setValueInsideOfBand() {
+        BandMatrix<Integer> matrix = new BandMatrix<>(IntegerArithmetic.getInstance(), 3, 1, 1);
+        assertThat(matrix.setValue(2, 1, 5)).isZero();
+        assertThat(matrix.setValue(2, 1, 6)).isEqualTo(5);
+        assertThat(matrix.getValue(2, 1)).isEqualTo(6);
+    }
+
+    @Test
+    void setValueOutsideOfBand() {
+        BandMatrix<Integer> matrix = new BandMatrix<>(IntegerArithmetic.getInstance(), 3, 1, 1);
+        assertThat(matrix.setValue(2, 0, 0)).isZero();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> matrix.setValue(2, 0, 1));
+    }
+
+    // endregion
+
+    // region multiply, transpose and toMatrix
+
+    @Test
+    void multiplyEqualsFullMatrix() {
+        BandMatrix<Double> matrix = createMatrix();
+        DoubleVector vector = DoubleVector.ofValues(1, 2, 3, 4);
+        assertThat(matrix.multiply(vector)).isEqualTo(
+            matrix.toMatrix().multiply(vector.toMatrix()).toVector()
+        );
+    }
+
+    @Test
+    void multiplyWithWrongSize() {
+        BandMatrix<Double> matrix = createMatrix();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> matrix.multiply(new DoubleVector(3)));
+    }
+
+    @Test
+    void transposeEqualsFullMatrix() {
+        BandMatrix<Double> matrix = createMatrix();
+        BandMatrix<Double> transposed = matrix.transpose();
+        assertThat(transposed.getLower()).isEqualTo(matrix.getUpper());
+        assertThat(transposed.getUpper()).isEqualTo(matrix.getLower());
+        assertThat(transposed.toMatrix()).isEqualTo(matrix.toMatrix().transpose());
+    }
+
+    @Test
+    void toMatrixOfTridiagonal() {
+        BandMatrix<Double> matrix = BandMatrix.ofTridiagonal(DoubleArithmetic.getInstance(),
+            new Double[]{1d, 2d}, new Double[]{3d, 4d, 5d}, new Double[]{6d, 7d}
+        );
+        assertThat(matrix.toMatrix()).isEqualTo(DoubleMatrix.ofValuesByRows(3,
+            3, 6, 0,
+            1, 4, 7,
+            0, 2, 5
+        ));
+    }
+
+    @Test
+    void ofTridiagonalWithWrongSizes() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> BandMatrix.ofTridiagonal(DoubleArithmetic.getInstance(),
+                new Double[]{1d}, new Double[]{3d, 4d, 5d}, new Double[]{6d, 7d}
+            ));
+    }
+
+    @Test
+    void ofMatrixWithValueOutsideOfBand() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2, 1, 2, 3, 4);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> BandMatrix.ofMatrix(matrix, 0, 1));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void equalsOfMatrix() {
+        assertThat(createMatrix())
+            .isEqualTo(createMatrix())
+            .hasSameHashCodeAs(createMatrix())
+            .isNotEqualTo(createMatrix().transpose());
+    }
+
+    @Test
+    void copyOfMatrix() {
+        assertCopyable(createMatrix());
+    }
+
+    // endregion
+
+    // region private
+
+    private static BandMatrix<Double> createMatrix() {
+        return BandMatrix.ofMatrix(DoubleMatrix.ofValuesByRows(4,
+            4, 1, 0, 0,
+            2, 5, 1, 0,
+            3, 2, 6, 1,
+            0, 1, 2, 7
+        ), 2, 1);
+    }
+
+    // endregion
+}
@@ -0,0 +1,126 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoubleLinearOperatorTest {
+    private static final DoubleMatrix MATRIX = DoubleMatrix.ofValuesByRows(2,
+        1, 0, 2,
+        0, 3, 4
+    );
+
+    // region ofMatrix
+
+    @Test
+    void ofMatrixHasSizeOfMatrix() {
+        DoubleLinearOperator operator = DoubleLinearOperator.ofMatrix(MATRIX);
+        assertThat(operator.getRows()).isEqualTo(2);
+        assertThat(operator.getCols()).isEqualTo(3);
+        assertThat(operator.isSquare()).isFalse();
+    }
+
+    @Test
+    void ofMatrixStoresNonZeros() {
+        assertThat(DoubleLinearOperator.ofMatrix(MATRIX))
+            .hasToString("2 x 3: 4 non-zeros");
+    }
+
+    @Test
+    void ofMatrixMultiply() {
+        assertThat(DoubleLinearOperator.ofMatrix(MATRIX).multiply(new double[]{1, 2, 3}))
+            .containsExactly(7, 18);
+    }
+
+    @Test
+    void ofMatrixMultiplyTranspose() {
+        assertThat(DoubleLinearOperator.ofMatrix(MATRIX).multiplyTranspose(new double[]{1, 2}))
+            .containsExactly(1, 6, 10);
+    }
+
+    @Test
+    void ofMatrixMultiplyVector() {
+        assertThat(DoubleLinearOperator.ofMatrix(MATRIX).multiply(DoubleVector.ofValues(1, 2, 3)))
+            .isEqualTo(DoubleVector.ofValues(7, 18));
+    }
+
+    @Test
+    void ofLargeSparseMatrixMultiply() {
+        DoubleMatrix matrix = new DoubleMatrix(100_000, 20_000);
+        matrix.setValue(99_999, 0, 2d);
+        matrix.setValue(3, 19_999, 3d);
+        matrix.setValue(3, 1, 4d);
+        DoubleLinearOperator operator = DoubleLinearOperator.ofMatrix(matrix);
+        assertThat(operator).hasToString("100000 x 20000: 3 non-zeros");
+        double[] vector = new double[20_000];
+        vector[0] = 1;
+        vector[1] = 1;
+        vector[19_999] = 1;
+        double[] result = operator.multiply(vector);
+        assertThat(result[3]).isEqualTo(7);
+        assertThat(result[99_999]).isEqualTo(2);
+    }
+
+    @Test
+    void ofMatrixWithNonZeroDefaultValue() {
+        Matrix<Double> matrix = new Matrix<>(DoubleArithmetic.getInstance(), 2, 2, 1d);
+        matrix.setValue(0, 1, 0d);
+        DoubleLinearOperator operator = DoubleLinearOperator.ofMatrix(matrix);
+        assertThat(operator).hasToString("2 x 2: 3 non-zeros");
+        assertThat(operator.multiply(new double[]{1, 2})).containsExactly(1, 3);
+    }
+
+    @Test
+    void multiplyWithInvalidSize() {
+        DoubleLinearOperator operator = DoubleLinearOperator.ofMatrix(MATRIX);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> operator.multiply(new double[]{1, 2}));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> operator.multiplyTranspose(new double[]{1, 2, 3}));
+    }
+
+    // endregion
+
+    // region ofBandMatrix and ofCompressedRows
+
+    @Test
+    void ofBandMatrixEqualsOfMatrix() {
+        BandMatrix<Double> matrix = BandMatrix.ofTridiagonal(new DoubleArithmetic(),
+            new Double[]{1d, 2d}, new Double[]{4d, 5d, 6d}, new Double[]{7d, 0d}
+        );
+        assertThat(DoubleLinearOperator.ofBandMatrix(matrix))
+            .isEqualTo(DoubleLinearOperator.ofMatrix(matrix.toMatrix()))
+            .hasToString("3 x 3: 6 non-zeros");
+    }
+
+    @Test
+    void ofCompressedRowsEqualsOfMatrix() {
+        DoubleLinearOperator operator = DoubleLinearOperator.ofCompressedRows(2, 3,
+            new int[]{0, 2, 4}, new int[]{0, 2, 1, 2}, new double[]{1, 2, 3, 4}
+        );
+        assertThat(operator).isEqualTo(DoubleLinearOperator.ofMatrix(MATRIX))
+            .hasSameHashCodeAs(DoubleLinearOperator.ofMatrix(MATRIX));
+    }
+
+    @Test
+    void ofCompressedRowsWithInvalidStructure() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> DoubleLinearOperator.ofCompressedRows(2, 3,
+                new int[]{0, 2}, new int[]{0, 2}, new double[]{1, 2}
+            ));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> DoubleLinearOperator.ofCompressedRows(1, 1,
+                new int[]{0, 1}, new int[]{1}, new double[]{1}
+            ));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> DoubleLinearOperator.ofCompressedRows(2, 1,
+                new int[]{0, 1, 0}, new int[]{0}, new double[]{1}
+            ));
+    }
+
+    // endregion
+}
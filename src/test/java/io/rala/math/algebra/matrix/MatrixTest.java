@@ -1,6 +1,8 @@
 package io.rala.math.algebra.matrix;
 
 import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
 import io.rala.math.arithmetic.core.DoubleArithmetic;
 import io.rala.math.arithmetic.core.IntegerArithmetic;
 import io.rala.math.exception.NotSupportedException;
@@ -13,6 +15,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static io.rala.math.testUtils.algebra.TestVector.fillVectorWithTestValues;
 import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
@@ -21,6 +27,7 @@ import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 
 class MatrixTest {
     // region constructors
@@ -180,6 +187,24 @@ class MatrixTest {
             assertThat(col0.get(i)).isEqualTo(i * 2);
     }
 
+    @Test
+    void getNonZeroFieldsOfMatrixWithDefault0() {
+        Matrix<Integer> matrix = Matrix.ofValuesByRows(IntegerArithmetic.getInstance(), 2,
+            new Integer[]{0, 1, 2, 0}
+        );
+        assertThat(matrix.getNonZeroFields())
+            .extracting(Matrix.Field::getIndex, Matrix.Field::getValue)
+            .containsExactlyInAnyOrder(tuple(1L, 1), tuple(2L, 2));
+    }
+
+    @Test
+    void getNonZeroFieldsOfMatrixWithDefault1() {
+        TestMatrix matrix = new TestMatrix(2, 1d);
+        matrix.setValue(0, 0, 0d);
+        assertThat(matrix.getNonZeroFields())
+            .extracting(Matrix.Field::getIndex).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
     // endregion
 
     // region value
@@ -603,6 +628,35 @@ class MatrixTest {
         ));
     }
 
+    @Test
+    void multiplyOfMatrixWithSize2AndVector() {
+        TestMatrix matrix = TestMatrix.ofValuesByRows(2, 1d, 0d, 3d, 4d);
+        Vector<Number> result = matrix.multiply(TestVector.ofValues(1d, 2d));
+        assertThatVector(result).isEqualTo(TestVector.ofValues(1d, 11d));
+    }
+
+    @Test
+    void multiplyOfMatrixWithDefault1AndRowVector() {
+        TestMatrix matrix = new TestMatrix(2, 1d);
+        matrix.setValue(0, 0, 2d);
+        Vector<Number> vector = new TestVector(2, Vector.Type.ROW);
+        vector.setValue(0, 1d);
+        vector.setValue(1, 2d);
+        Vector<Number> expected = new TestVector(2, Vector.Type.ROW);
+        expected.setValue(0, 4d);
+        expected.setValue(1, 3d);
+        assertThatVector(matrix.multiply(vector)).isEqualTo(expected);
+    }
+
+    @Test
+    void multiplyOfMatrixWithRow2Col3AndVectorWithSize2() {
+        TestMatrix matrix = new TestMatrix(2, 3);
+        TestVector vector = new TestVector(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> matrix.multiply(vector))
+            .withMessage(ExceptionMessages.COLS_HAVE_TO_BE_EQUAL_ROWS);
+    }
+
     @Test
     void multiplyTolerantOfEmptyMatrixWithRow1Col2AndEmptyMatrixWithRow2Col3() {
         TestMatrix matrix1 = new TestMatrix(1, 2);
@@ -831,6 +885,108 @@ class MatrixTest {
 
     // endregion
 
+    // region reductions: sums, means, variances and norms
+
+    @Test
+    void colSumsAndRowSumsOfMatrixWithRow3Col2() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 1, 2, 3, 4, 5, 6);
+        Vector<Double> colSums = matrix.colSums();
+        assertThat(colSums.isRow()).isTrue();
+        assertThatVector(colSums)
+            .isEqualTo(DoubleVector.ofValues(9, 12).transpose());
+        assertThatVector(matrix.rowSums()).isEqualTo(DoubleVector.ofValues(3, 7, 11));
+    }
+
+    @Test
+    void colMeansAndRowMeansOfMatrixWithRow3Col2() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 1, 2, 3, 4, 5, 6);
+        assertThatVector(matrix.colMeans())
+            .isEqualTo(DoubleVector.ofValues(3, 4).transpose());
+        assertThatVector(matrix.rowMeans()).isEqualTo(DoubleVector.ofValues(1.5, 3.5, 5.5));
+    }
+
+    @Test
+    void colVariancesAndRowVariancesOfMatrixWithRow3Col2() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 1, 2, 3, 4, 5, 9);
+        assertThatVector(matrix.colVariances())
+            .isEqualTo(DoubleVector.ofValues(4, 13).transpose());
+        assertThatVector(matrix.rowVariances()).isEqualTo(DoubleVector.ofValues(0.5, 0.5, 8));
+    }
+
+    @Test
+    void colVariancesOfMatrixWithOneRow() {
+        DoubleMatrix matrix = new DoubleMatrix(1, 2);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(matrix::colVariances)
+            .withMessage(ExceptionMessages.MATRIX_AT_LEAST_TWO_ROWS);
+    }
+
+    @Test
+    void rowVariancesOfMatrixWithOneCol() {
+        DoubleMatrix matrix = new DoubleMatrix(2, 1);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(matrix::rowVariances)
+            .withMessage(ExceptionMessages.MATRIX_AT_LEAST_TWO_COLS);
+    }
+
+    @Test
+    void colNormsAndRowNormsOfMatrixWithRow2Col2() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2, 3, -1, -4, 0);
+        assertThatVector(matrix.colNorms(2))
+            .isEqualTo(DoubleVector.ofValues(5, 1).transpose());
+        assertThatVector(matrix.rowNorms(1)).isEqualTo(DoubleVector.ofValues(4, 4));
+    }
+
+    @Test
+    void colNormsWithInvalidDegree() {
+        DoubleMatrix matrix = new DoubleMatrix(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> matrix.colNorms(0))
+            .withMessage(ExceptionMessages.VECTOR_POSITIVE_P_NORM);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> matrix.rowNorms(-1))
+            .withMessage(ExceptionMessages.VECTOR_POSITIVE_P_NORM);
+    }
+
+    // endregion
+
+    // region gram and covariance
+
+    @Test
+    void gramOfMatrixWithRow3Col2() {
+        TestMatrix matrix = TestMatrix.ofValuesByRows(3, 1, 2, 3, 4, 5, 6);
+        assertThatMatrix(matrix.gram())
+            .isEqualTo(matrix.transpose().multiply(matrix));
+    }
+
+    @Test
+    void gramOfMatrixWithMultipleBlocks() {
+        int cols = 2 * Matrix.SYMMETRIC_BLOCK_SIZE + 3;
+        Matrix<Integer> matrix = new Matrix<>(IntegerArithmetic.getInstance(), 5, cols);
+        matrix.computeAll(field -> (int) (field.getIndex() % 7) - 3);
+        Matrix<Integer> gram = matrix.gram();
+        assertThatMatrix(gram).isEqualTo(matrix.transpose().multiply(matrix));
+        assertThatMatrix(gram).isEqualTo(gram.transpose());
+    }
+
+    @Test
+    void covarianceOfMatrixWithRow3Col3() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 1, 2, 5, 2, 4, 5, 3, 0, 5);
+        assertThatMatrix(matrix.covariance()).isEqualTo(
+            DoubleMatrix.ofValuesByRows(3, 1, -1, 0, -1, 4, 0, 0, 0, 0)
+        );
+    }
+
+    @Test
+    void covarianceOfMatrixWithOneRow() {
+        DoubleMatrix matrix = new DoubleMatrix(1, 2);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(matrix::covariance)
+            .withMessage(ExceptionMessages.MATRIX_AT_LEAST_TWO_ROWS);
+    }
+
+    // endregion
+
     // region toVector and toParam
 
     @Test
@@ -975,6 +1131,83 @@ class MatrixTest {
 
     // endregion
 
+    // region static: collector
+
+    @Test
+    void toMatrixByRowsWithInvalidCols() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> Matrix.toMatrixByRows(IntegerArithmetic.getInstance(), 0))
+            .withMessage(ExceptionMessages.ROWS_COLS_HAVE_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void toMatrixByRowsWithInvalidValueCount() {
+        Stream<Integer> stream = Stream.of(1, 2, 3);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stream.collect(Matrix.toMatrixByRows(IntegerArithmetic.getInstance(), 2)))
+            .withMessage(ExceptionMessages.MATRIX_COLS_NOT_CONGRUENT_ZERO);
+    }
+
+    @Test
+    void toMatrixByRowsWithCols2() {
+        Matrix<Integer> matrix = Stream.of(1, 0, 3, 4, 0, 6)
+            .collect(Matrix.toMatrixByRows(IntegerArithmetic.getInstance(), 2));
+        assertThatMatrix(matrix).isEqualTo(
+            Matrix.ofValuesByRows(IntegerArithmetic.getInstance(), 3, new Integer[]{1, 0, 3, 4, 0, 6})
+        );
+    }
+
+    @Test
+    void toMatrixByRowsOfParallelStream() {
+        Matrix<Integer> matrix = IntStream.range(0, 10_007 * 3).boxed().parallel()
+            .collect(Matrix.toMatrixByRows(IntegerArithmetic.getInstance(), 3));
+        assertThat(matrix.getRows()).isEqualTo(10_007);
+        for (long i = 0; i < matrix.size(); i++)
+            assertThat(matrix.getValue(i)).isEqualTo((int) i);
+    }
+
+    @Test
+    void toMatrixWithInvalidRows() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> Matrix.<int[], Integer>toMatrix(IntegerArithmetic.getInstance(),
+                0, 2, e -> e[0], e -> e[1], e -> e[2]
+            )).withMessage(ExceptionMessages.ROWS_COLS_HAVE_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void toMatrixOfTriplesSumsDuplicates() {
+        Matrix<Integer> matrix = Stream.of(
+            new int[]{0, 1, 2}, new int[]{1, 0, 3}, new int[]{0, 1, 4}, new int[]{1, 1, 0}
+        ).collect(Matrix.toMatrix(IntegerArithmetic.getInstance(),
+            2, 2, e -> e[0], e -> e[1], e -> e[2]
+        ));
+        assertThatMatrix(matrix).isEqualTo(
+            Matrix.ofValuesByRows(IntegerArithmetic.getInstance(), 2, new Integer[]{0, 6, 3, 0})
+        );
+    }
+
+    @Test
+    void toMatrixOfTriplesWithInvalidPosition() {
+        Stream<int[]> stream = Stream.<int[]>of(new int[]{2, 0, 1});
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> stream.collect(Matrix.toMatrix(IntegerArithmetic.getInstance(),
+                2, 2, e -> e[0], e -> e[1], e -> e[2]
+            )));
+    }
+
+    @Test
+    void toMatrixOfParallelTriples() {
+        Matrix<Integer> matrix = IntStream.range(0, 100_000).parallel()
+            .mapToObj(i -> new int[]{i % 7, i % 11, 1})
+            .collect(Matrix.toMatrix(IntegerArithmetic.getInstance(),
+                7, 11, e -> e[0], e -> e[1], e -> e[2]
+            ));
+        assertThat(matrix.stream().mapToInt(field -> field.getValue()).sum())
+            .isEqualTo(100_000);
+    }
+
+    // endregion
+
     // region map and copy
 
     @Test
@@ -1064,6 +1297,54 @@ class MatrixTest {
         assertThat(matrix.parallelStream().count()).isEqualTo(4);
     }
 
+    @Test
+    void spliteratorOfMatrixWithRow4Col3() {
+        TestMatrix matrix = new TestMatrix(4, 3);
+        Spliterator<Matrix<Number>.Field> spliterator = matrix.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+            .isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(12);
+        Spliterator<Matrix<Number>.Field> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(6);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(6);
+        Spliterator<Matrix<Number>.Field> row0 = prefix.trySplit();
+        assertThat(row0).isNotNull();
+        assertThat(row0.getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void spliteratorOfMatrixSplitsAtRows() {
+        TestMatrix matrix = new TestMatrix(3, 4);
+        Spliterator<Matrix<Number>.Field> spliterator = matrix.spliterator();
+        Spliterator<Matrix<Number>.Field> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(4);
+        List<Integer> rows = new ArrayList<>();
+        spliterator.forEachRemaining(field -> rows.add(field.getRow()));
+        assertThat(rows).containsExactly(1, 1, 1, 1, 2, 2, 2, 2);
+    }
+
+    @Test
+    void spliteratorOfMatrixAdvancesInOrder() {
+        TestMatrix matrix = new TestMatrix(2, 3);
+        matrix.setValue(1, 1, 5);
+        List<Number> values = new ArrayList<>();
+        Spliterator<Matrix<Number>.Field> spliterator = matrix.spliterator();
+        assertThat(spliterator.tryAdvance(field -> values.add(field.getValue()))).isTrue();
+        spliterator.forEachRemaining(field -> values.add(field.getValue()));
+        assertThat(spliterator.tryAdvance(field -> values.add(field.getValue()))).isFalse();
+        assertThat(values).containsExactly(0d, 0d, 0d, 0d, 5, 0d);
+    }
+
+    @Test
+    void parallelStreamOfLargeMatrixKeepsOrder() {
+        TestMatrix matrix = new TestMatrix(97, 31);
+        assertThat(matrix.parallelStream().mapToLong(Matrix.Field::getIndex).toArray())
+            .isEqualTo(LongStream.range(0, matrix.size()).toArray());
+    }
+
     @Test
     void equalsOfMatrixWithDifferentTypes() {
         Matrix<Double> doubleMatrix = new Matrix<>(DoubleArithmetic.getInstance(), 2);
@@ -0,0 +1,116 @@
+package io.rala.math.algebra.matrix;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MultiModularEngineTest {
+    @Test
+    void getPrimeReturnsDecreasingPrimes() {
+        assertThat(MultiModularEngine.getPrime(0)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(MultiModularEngine.getPrime(1)).isEqualTo(2147483629L);
+        assertThat(MultiModularEngine.getPrime(2)).isEqualTo(2147483587L);
+    }
+
+    @Test
+    void reconstructSymmetricResidue() {
+        List<Long> primes = List.of(5L, 7L);
+        assertThat(MultiModularEngine.reconstruct(primes, new long[][]{{3, 4}, {5, 4}}))
+            .containsExactly(BigInteger.valueOf(-2), BigInteger.valueOf(4));
+    }
+
+    @Test
+    void determinanteOfNonSquareMatrix() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new MultiModularEngine()
+                .determinante(new Matrix<>(BigIntegerArithmetic.getInstance(), 2, 3))
+            );
+    }
+
+    @Test
+    void determinanteOfSingularMatrix() {
+        Matrix<BigInteger> matrix = Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 3,
+            BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3),
+            BigInteger.TWO, BigInteger.valueOf(4), BigInteger.valueOf(6),
+            BigInteger.ONE, BigInteger.ZERO, BigInteger.ONE
+        );
+        assertThat(new MultiModularEngine().determinante(matrix)).isZero();
+    }
+
+    @Test
+    void determinanteOfMatrixWithZeroRow() {
+        Matrix<BigInteger> matrix = new Matrix<>(BigIntegerArithmetic.getInstance(), 2);
+        matrix.setValue(0, 0, BigInteger.ONE);
+        assertThat(new MultiModularEngine().determinante(matrix)).isZero();
+    }
+
+    @Test
+    void determinanteOfRandomMatricesMatchesLaplace() {
+        Random random = new Random(42);
+        for (int size = 1; size <= 5; size++) {
+            Matrix<BigInteger> matrix = randomMatrix(random, size, 1L << 40);
+            assertThat(new MultiModularEngine().determinante(matrix))
+                .isEqualTo(matrix.determinante());
+        }
+    }
+
+    @Test
+    void determinanteParallelMatchesSequential() {
+        Matrix<BigInteger> matrix = randomMatrix(new Random(7), 12, Long.MAX_VALUE);
+        assertThat(new MultiModularEngine(true).determinante(matrix))
+            .isEqualTo(new MultiModularEngine().determinante(matrix));
+    }
+
+    @Test
+    void solveScaledWithZeroDeterminante() {
+        Matrix<BigInteger> matrix = new Matrix<>(BigIntegerArithmetic.getInstance(), 2);
+        Vector<BigInteger> vector = new Vector<>(BigIntegerArithmetic.getInstance(), 2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MultiModularEngine().solveScaled(matrix, vector, BigInteger.ZERO));
+    }
+
+    @Test
+    void solveScaledOfRandomSystem() {
+        Random random = new Random(3);
+        Matrix<BigInteger> matrix = randomMatrix(random, 8, 1L << 50);
+        Vector<BigInteger> vector = new Vector<>(BigIntegerArithmetic.getInstance(), 8);
+        for (int i = 0; i < 8; i++)
+            vector.setValue(i, BigInteger.valueOf(random.nextLong()));
+        MultiModularEngine engine = new MultiModularEngine(true);
+        BigInteger determinante = engine.determinante(matrix);
+        List<BigInteger> scaled = engine.solveScaled(matrix, vector, determinante);
+        for (int r = 0; r < 8; r++) {
+            BigInteger sum = BigInteger.ZERO;
+            for (int c = 0; c < 8; c++)
+                sum = sum.add(matrix.getValue(r, c).multiply(scaled.get(c)));
+            assertThat(sum).isEqualTo(vector.getValue(r).multiply(determinante));
+        }
+    }
+
+    @Test
+    void equalsOfEngine() {
+        assertThat(new MultiModularEngine(true))
+            .isEqualTo(new MultiModularEngine(true))
+            .isNotEqualTo(new MultiModularEngine(false));
+    }
+
+    // region private
+
+    private static Matrix<BigInteger> randomMatrix(Random random, int size, long bound) {
+        Matrix<BigInteger> matrix = new Matrix<>(BigIntegerArithmetic.getInstance(), size);
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++)
+                matrix.setValue(r, c, BigInteger.valueOf(random.nextLong() % bound));
+        return matrix;
+    }
+
+    // endregion
+}
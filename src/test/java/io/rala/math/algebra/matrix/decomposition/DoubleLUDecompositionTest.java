@@ -0,0 +1,87 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
+
+class DoubleLUDecompositionTest {
+    private static final double[][] VALUES = {
+        {0, 2, 1},
+        {1, 1, 0},
+        {3, 0, 1}
+    };
+
+    @Test
+    void constructorWithNonSquareMatrix() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new DoubleLUDecomposition(new DoubleMatrix(2, 3)));
+    }
+
+    @Test
+    void constructorWithNonSquareValues() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new DoubleLUDecomposition(new double[][]{{1, 2}}));
+    }
+
+    @Test
+    void constructorCopiesValues() {
+        double[][] values = {{1, 2}, {3, 4}};
+        new DoubleLUDecomposition(values);
+        assertThat(values).isDeepEqualTo(new double[][]{{1, 2}, {3, 4}});
+    }
+
+    @Test
+    void constructorWithMatrixEqualsValues() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 0, 2, 1, 1, 1, 0, 3, 0, 1);
+        assertThat(new DoubleLUDecomposition(matrix).getFactor())
+            .isDeepEqualTo(new DoubleLUDecomposition(VALUES).getFactor());
+    }
+
+    @Test
+    void pivotOfDecomposition() {
+        assertThat(new DoubleLUDecomposition(VALUES).getPivot()).containsExactly(2, 0, 1);
+    }
+
+    @Test
+    void determinante() {
+        assertThat(new DoubleLUDecomposition(VALUES).determinante()).isCloseTo(-5, offset(1e-12));
+    }
+
+    @Test
+    void solve() {
+        // x = (1, 2, 3)
+        double[] x = new DoubleLUDecomposition(VALUES).solve(new double[]{7, 3, 6});
+        assertThat(x[0]).isCloseTo(1, offset(1e-12));
+        assertThat(x[1]).isCloseTo(2, offset(1e-12));
+        assertThat(x[2]).isCloseTo(3, offset(1e-12));
+    }
+
+    @Test
+    void solveTranspose() {
+        // A^T*x with x = (1, 2, 3)
+        double[] x = new DoubleLUDecomposition(VALUES).solveTranspose(new double[]{11, 4, 4});
+        assertThat(x[0]).isCloseTo(1, offset(1e-12));
+        assertThat(x[1]).isCloseTo(2, offset(1e-12));
+        assertThat(x[2]).isCloseTo(3, offset(1e-12));
+    }
+
+    @Test
+    void solveWithWrongSize() {
+        DoubleLUDecomposition decomposition = new DoubleLUDecomposition(VALUES);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> decomposition.solve(new double[2]));
+    }
+
+    @Test
+    void solveSingular() {
+        DoubleLUDecomposition decomposition = new DoubleLUDecomposition(new double[][]{{1, 2}, {2, 4}});
+        assertThat(decomposition.isSingular()).isTrue();
+        assertThat(decomposition.determinante()).isZero();
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> decomposition.solve(new double[2]));
+    }
+}
@@ -0,0 +1,38 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EigenPairTest {
+    @Test
+    void constructorCopiesEigenvector() {
+        double[] eigenvector = {1, 0};
+        EigenPair pair = new EigenPair(2, eigenvector, 0);
+        eigenvector[0] = 0;
+        assertThat(pair.getEigenvectorValues()).containsExactly(1, 0);
+    }
+
+    @Test
+    void getter() {
+        EigenPair pair = new EigenPair(2, new double[]{0, 1}, 0.5);
+        assertThat(pair.getEigenvalue()).isEqualTo(2);
+        assertThat(pair.getEigenvector()).isEqualTo(DoubleVector.ofValues(0, 1));
+        assertThat(pair.getResidual()).isEqualTo(0.5);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        EigenPair pair = new EigenPair(2, new double[]{0, 1}, 0);
+        assertThat(pair)
+            .isEqualTo(new EigenPair(2, new double[]{0, 1}, 0))
+            .hasSameHashCodeAs(new EigenPair(2, new double[]{0, 1}, 0))
+            .isNotEqualTo(new EigenPair(2, new double[]{1, 0}, 0));
+    }
+
+    @Test
+    void toStringOfPair() {
+        assertThat(new EigenPair(2, new double[]{0, 1}, 0)).hasToString("2.0: [0.0, 1.0]");
+    }
+}
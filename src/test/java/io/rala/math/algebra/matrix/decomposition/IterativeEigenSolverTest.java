@@ -0,0 +1,217 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.BandMatrix;
+import io.rala.math.algebra.matrix.DoubleLinearOperator;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IterativeEigenSolverTest {
+    private static final int SIZE = 100;
+
+    @Test
+    void createdSolverHasDefaults() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        assertThat(solver.getMaxIterations()).isEqualTo(IterativeEigenSolver.DEFAULT_MAX_ITERATIONS);
+        assertThat(solver.getTolerance()).isEqualTo(IterativeEigenSolver.DEFAULT_TOLERANCE);
+        assertThat(solver.getSeed()).isZero();
+        assertThat(solver.getIterations()).isZero();
+    }
+
+    @Test
+    void setInvalidMaxIterationsAndTolerance() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setMaxIterations(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setTolerance(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setTolerance(Double.NaN));
+    }
+
+    @Test
+    void nonSquareMatrix() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        DoubleMatrix matrix = new DoubleMatrix(2, 3);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> solver.powerIteration(matrix));
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> solver.lanczos(matrix, 1));
+    }
+
+    // region power and inverse iteration
+
+    @Test
+    void powerIteration() {
+        EigenPair pair = new IterativeEigenSolver().powerIteration(
+            DoubleMatrix.ofValuesByRows(2, 2, 1, 1, 2)
+        );
+        assertThat(pair.getEigenvalue()).isCloseTo(3, offset(1e-9));
+        assertThat(Math.abs(pair.getEigenvectorValues()[0]))
+            .isCloseTo(Math.sqrt(0.5), offset(1e-6));
+        assertThat(pair.getResidual()).isLessThanOrEqualTo(3e-10);
+    }
+
+    @Test
+    void powerIterationWithNegativeDominantEigenvalue() {
+        EigenPair pair = new IterativeEigenSolver().powerIteration(
+            DoubleMatrix.diagonal(1, -4, 2)
+        );
+        assertThat(pair.getEigenvalue()).isCloseTo(-4, offset(1e-9));
+    }
+
+    @Test
+    void powerIterationOfZeroMatrix() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        EigenPair pair = solver.powerIteration(new DoubleMatrix(3));
+        assertThat(pair.getEigenvalue()).isZero();
+        assertThat(solver.getIterations()).isOne();
+    }
+
+    @Test
+    void powerIterationStopsAtMaxIterations() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        solver.setMaxIterations(3);
+        EigenPair pair = solver.powerIteration(createLaplacian());
+        assertThat(solver.getIterations()).isEqualTo(3);
+        assertThat(pair.getResidual()).isPositive();
+    }
+
+    @Test
+    void inverseIteration() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        EigenPair pair = solver.inverseIteration(DoubleMatrix.diagonal(1, 5, 9), 4);
+        assertThat(pair.getEigenvalue()).isCloseTo(5, offset(1e-9));
+        assertThat(Math.abs(pair.getEigenvectorValues()[1])).isCloseTo(1, offset(1e-9));
+    }
+
+    @Test
+    void inverseIterationWithShiftEqualToEigenvalue() {
+        EigenPair pair = new IterativeEigenSolver()
+            .inverseIteration(DoubleMatrix.ofValuesByRows(2, 2, 1, 1, 2), 1);
+        assertThat(pair.getEigenvalue()).isCloseTo(1, offset(1e-9));
+    }
+
+    @Test
+    void inverseIterationOfLaplacianFindsSmallestEigenvalue() {
+        EigenPair pair = new IterativeEigenSolver().inverseIteration(createLaplacian(), 0);
+        assertThat(pair.getEigenvalue()).isCloseTo(laplacianEigenvalue(1), offset(1e-9));
+    }
+
+    @Test
+    void inverseIterationOfBandOperatorFindsInteriorEigenvalue() {
+        Double[] diagonal = new Double[SIZE];
+        Double[] offDiagonal = new Double[SIZE - 1];
+        Arrays.fill(diagonal, 2d);
+        Arrays.fill(offDiagonal, -1d);
+        DoubleLinearOperator operator = DoubleLinearOperator.ofBandMatrix(
+            BandMatrix.ofTridiagonal(new DoubleArithmetic(), offDiagonal, diagonal, offDiagonal)
+        );
+        double expected = IntStream.rangeClosed(1, SIZE)
+            .mapToDouble(IterativeEigenSolverTest::laplacianEigenvalue)
+            .boxed().min(Comparator.comparingDouble(value -> Math.abs(value - 1))).orElseThrow();
+        EigenPair pair = new IterativeEigenSolver().inverseIteration(operator, 1);
+        assertThat(pair.getEigenvalue()).isCloseTo(expected, offset(1e-9));
+    }
+
+    // endregion
+
+    // region lanczos
+
+    @Test
+    void lanczosLargestOfLaplacian() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        List<EigenPair> pairs = solver.lanczos(createLaplacian(), 3);
+        assertThat(pairs).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(pairs.get(i).getEigenvalue())
+                .isCloseTo(laplacianEigenvalue(SIZE - i), offset(1e-8));
+            assertThat(pairs.get(i).getResidual()).isLessThan(1e-8);
+        }
+        // the basis is restarted - so more multiplications than SIZE may be required
+        assertThat(solver.getIterations()).isLessThan(solver.getMaxIterations());
+    }
+
+    @Test
+    void lanczosSmallestOfBandMatrix() {
+        Double[] diagonal = new Double[SIZE];
+        Double[] offDiagonal = new Double[SIZE - 1];
+        Arrays.fill(diagonal, 2d);
+        Arrays.fill(offDiagonal, -1d);
+        DoubleLinearOperator operator = DoubleLinearOperator.ofBandMatrix(
+            BandMatrix.ofTridiagonal(new DoubleArithmetic(), offDiagonal, diagonal, offDiagonal)
+        );
+        List<EigenPair> pairs = new IterativeEigenSolver()
+            .lanczos(operator, 2, IterativeEigenSolver.Spectrum.SMALLEST);
+        assertThat(pairs.get(0).getEigenvalue()).isCloseTo(laplacianEigenvalue(1), offset(1e-8));
+        assertThat(pairs.get(1).getEigenvalue()).isCloseTo(laplacianEigenvalue(2), offset(1e-8));
+    }
+
+    @Test
+    void lanczosOrthogonalEigenvectors() {
+        List<EigenPair> pairs = new IterativeEigenSolver().lanczos(createLaplacian(), 2);
+        double[] first = pairs.get(0).getEigenvectorValues();
+        double[] second = pairs.get(1).getEigenvectorValues();
+        double dot = 0;
+        for (int i = 0; i < SIZE; i++) dot += first[i] * second[i];
+        assertThat(dot).isCloseTo(0, offset(1e-8));
+    }
+
+    @Test
+    void lanczosWithInvariantSubspace() {
+        // eigenvalues 3 (twice) and 1 (once)
+        DoubleMatrix matrix = DoubleMatrix.diagonal(3, 3, 1);
+        List<EigenPair> pairs = new IterativeEigenSolver()
+            .lanczos(DoubleLinearOperator.ofMatrix(matrix), 3, IterativeEigenSolver.Spectrum.LARGEST);
+        assertThat(pairs).extracting(EigenPair::getEigenvalue)
+            .satisfiesExactly(
+                value -> assertThat(value).isCloseTo(3, offset(1e-12)),
+                value -> assertThat(value).isCloseTo(3, offset(1e-12)),
+                value -> assertThat(value).isCloseTo(1, offset(1e-12))
+            );
+    }
+
+    @Test
+    void lanczosWithInvalidK() {
+        IterativeEigenSolver solver = new IterativeEigenSolver();
+        DoubleMatrix matrix = DoubleMatrix.identity(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.lanczos(matrix, 0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.lanczos(matrix, 3));
+    }
+
+    // endregion
+
+    @Test
+    void toStringOfSolver() {
+        assertThat(new IterativeEigenSolver())
+            .hasToString("IterativeEigenSolver{maxIterations=1000, tolerance=1.0E-10, seed=0}");
+    }
+
+    // region private
+
+    private static DoubleMatrix createLaplacian() {
+        DoubleMatrix matrix = new DoubleMatrix(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            matrix.setValue(i, i, 2d);
+            if (0 < i) matrix.setValue(i, i - 1, -1d);
+            if (i < SIZE - 1) matrix.setValue(i, i + 1, -1d);
+        }
+        return matrix;
+    }
+
+    private static double laplacianEigenvalue(int k) {
+        return 2 - 2 * Math.cos(k * Math.PI / (SIZE + 1));
+    }
+
+    // endregion
+}
@@ -0,0 +1,175 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.DoubleLinearOperator;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RandomizedSingularValueSolverTest {
+    @Test
+    void createdSolverHasDefaults() {
+        RandomizedSingularValueSolver solver = new RandomizedSingularValueSolver();
+        assertThat(solver.getOversampling())
+            .isEqualTo(RandomizedSingularValueSolver.DEFAULT_OVERSAMPLING);
+        assertThat(solver.getPowerIterations())
+            .isEqualTo(RandomizedSingularValueSolver.DEFAULT_POWER_ITERATIONS);
+        assertThat(solver.getSeed()).isZero();
+        assertThat(solver.isParallel()).isTrue();
+    }
+
+    @Test
+    void setInvalidOversamplingAndPowerIterations() {
+        RandomizedSingularValueSolver solver = new RandomizedSingularValueSolver();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setOversampling(-1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.setPowerIterations(-1));
+    }
+
+    @Test
+    void decomposeWithInvalidK() {
+        RandomizedSingularValueSolver solver = new RandomizedSingularValueSolver();
+        DoubleMatrix matrix = new DoubleMatrix(3, 2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.decompose(matrix, 0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> solver.decompose(matrix, 3));
+    }
+
+    @Test
+    void decomposeDiagonalMatrix() {
+        TruncatedSingularValueDecomposition decomposition = new RandomizedSingularValueSolver()
+            .decompose(DoubleMatrix.diagonal(1, -5, 3, 0.5), 2);
+        assertThat(decomposition.getRank()).isEqualTo(2);
+        assertThat(decomposition.getSingularValue(0)).isCloseTo(5, offset(1e-12));
+        assertThat(decomposition.getSingularValue(1)).isCloseTo(3, offset(1e-12));
+        assertThat(Math.abs(decomposition.getLeftSingularVector(0).getValue(1)))
+            .isCloseTo(1, offset(1e-12));
+        assertThat(Math.abs(decomposition.getRightSingularVector(1).getValue(2)))
+            .isCloseTo(1, offset(1e-12));
+    }
+
+    @Test
+    void decomposeLowRankMatrixMatchesFullDecomposition() {
+        double[][] values = createLowRank(200, 80, 6);
+        TruncatedSingularValueDecomposition decomposition = new RandomizedSingularValueSolver()
+            .decompose(DoubleLinearOperator.ofCompressedRows(200, 80,
+                rowPointers(200, 80), colIndices(200, 80), flatten(values)
+            ), 6);
+        double[] expected = new SingularValueDecomposition(values).getSingularValues();
+        for (int i = 0; i < 6; i++)
+            assertThat(decomposition.getSingularValue(i))
+                .isCloseTo(expected[i], offset(1e-9 * expected[0]));
+        // exact rank 6: U*S*V^T reconstructs A
+        DoubleMatrix reconstructed = new DoubleMatrix(decomposition.getU()
+            .multiply(decomposition.getS()).multiply(decomposition.getV().transpose())
+        );
+        reconstructed.forEach(field -> assertThat(field.getValue())
+            .isCloseTo(values[field.getRow()][field.getCol()], offset(1e-9))
+        );
+    }
+
+    @Test
+    void decomposeWideMatrixWithoutOversampling() {
+        double[][] values = createLowRank(30, 120, 3);
+        RandomizedSingularValueSolver solver = new RandomizedSingularValueSolver();
+        solver.setOversampling(0);
+        TruncatedSingularValueDecomposition decomposition =
+            solver.decompose(toMatrix(values), 3);
+        double[] expected = new SingularValueDecomposition(values).getSingularValues();
+        assertThat(decomposition.getCols()).isEqualTo(120);
+        for (int i = 0; i < 3; i++)
+            assertThat(decomposition.getSingularValue(i))
+                .isCloseTo(expected[i], offset(1e-9 * expected[0]));
+    }
+
+    @Test
+    void decomposeApproximatesDecayingSpectrum() {
+        double[][] values = createRandom(120, 60);
+        // scale cols to get a decaying spectrum
+        for (double[] row : values)
+            for (int c = 0; c < row.length; c++) row[c] *= Math.pow(0.7, c);
+        TruncatedSingularValueDecomposition decomposition = new RandomizedSingularValueSolver()
+            .decompose(toMatrix(values), 5);
+        double[] expected = new SingularValueDecomposition(values).getSingularValues();
+        for (int i = 0; i < 5; i++)
+            assertThat(decomposition.getSingularValue(i))
+                .isCloseTo(expected[i], offset(1e-3 * expected[0]));
+    }
+
+    @Test
+    void decomposeIsIndependentOfParallel() {
+        double[][] values = createRandom(40, 30);
+        RandomizedSingularValueSolver solver = new RandomizedSingularValueSolver();
+        TruncatedSingularValueDecomposition parallel = solver.decompose(toMatrix(values), 4);
+        solver.setParallel(false);
+        assertThat(solver.decompose(toMatrix(values), 4)).isEqualTo(parallel);
+    }
+
+    @Test
+    void decomposeOfZeroMatrix() {
+        TruncatedSingularValueDecomposition decomposition = new RandomizedSingularValueSolver()
+            .decompose(new DoubleMatrix(4, 3), 2);
+        assertThat(decomposition.getSingularValues()).isEqualTo(DoubleVector.ofValues(0, 0));
+    }
+
+    @Test
+    void toStringOfSolver() {
+        assertThat(new RandomizedSingularValueSolver()).hasToString(
+            "RandomizedSingularValueSolver{oversampling=10, powerIterations=2, seed=0, parallel=true}"
+        );
+    }
+
+    // region private
+
+    private static double[][] createLowRank(int rows, int cols, int rank) {
+        double[][] left = createRandom(rows, rank);
+        double[][] right = createRandom(rank, cols);
+        double[][] values = new double[rows][cols];
+        for (int r = 0; r < rows; r++)
+            for (int k = 0; k < rank; k++)
+                for (int c = 0; c < cols; c++)
+                    values[r][c] += left[r][k] * (rank - k) * right[k][c];
+        return values;
+    }
+
+    private static double[][] createRandom(int rows, int cols) {
+        Random random = new Random(rows * 31L + cols);
+        double[][] values = new double[rows][cols];
+        for (double[] row : values)
+            for (int c = 0; c < cols; c++) row[c] = random.nextGaussian();
+        return values;
+    }
+
+    private static DoubleMatrix toMatrix(double[][] values) {
+        DoubleMatrix matrix = new DoubleMatrix(values.length, values[0].length);
+        for (int r = 0; r < values.length; r++)
+            for (int c = 0; c < values[0].length; c++) matrix.setValue(r, c, values[r][c]);
+        return matrix;
+    }
+
+    private static int[] rowPointers(int rows, int cols) {
+        int[] pointers = new int[rows + 1];
+        for (int r = 0; r <= rows; r++) pointers[r] = r * cols;
+        return pointers;
+    }
+
+    private static int[] colIndices(int rows, int cols) {
+        int[] indices = new int[rows * cols];
+        for (int i = 0; i < indices.length; i++) indices[i] = i % cols;
+        return indices;
+    }
+
+    private static double[] flatten(double[][] values) {
+        double[] flat = new double[values.length * values[0].length];
+        for (int r = 0; r < values.length; r++)
+            System.arraycopy(values[r], 0, flat, r * values[0].length, values[0].length);
+        return flat;
+    }
+
+    // endregion
+}
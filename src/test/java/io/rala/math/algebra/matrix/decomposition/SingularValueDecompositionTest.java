@@ -0,0 +1,193 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingularValueDecompositionTest {
+    private static final double[][] VALUES = {
+        {3, 0},
+        {0, -4},
+        {0, 0}
+    };
+
+    @Test
+    void constructorWithEmptyValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SingularValueDecomposition(new double[0][]));
+    }
+
+    @Test
+    void constructorWithNonRectangularValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SingularValueDecomposition(new double[][]{{1, 2}, {3}}));
+    }
+
+    @Test
+    void constructorWithNonFiniteValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SingularValueDecomposition(new double[][]{{Double.POSITIVE_INFINITY}}));
+    }
+
+    @Test
+    void constructorCopiesValues() {
+        double[][] values = {{1, 2}, {3, 4}};
+        new SingularValueDecomposition(values);
+        assertThat(values).isDeepEqualTo(new double[][]{{1, 2}, {3, 4}});
+    }
+
+    @Test
+    void singularValuesOfScaledPermutation() {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(VALUES);
+        assertThat(decomposition.getRows()).isEqualTo(3);
+        assertThat(decomposition.getCols()).isEqualTo(2);
+        assertThat(decomposition.getSingularValues()).containsExactly(4, 3);
+        assertThat(decomposition.getU()).hasDimensions(3, 2);
+        assertThat(decomposition.getV()).hasDimensions(2, 2);
+        assertThat(decomposition.getSingularValueMatrix())
+            .isEqualTo(DoubleMatrix.diagonal(4, 3));
+    }
+
+    @Test
+    void decompositionOfRandomTallMatrixReconstructs() {
+        assertReconstructs(createRandom(30, 12));
+    }
+
+    @Test
+    void decompositionOfRandomWideMatrixReconstructs() {
+        assertReconstructs(createRandom(7, 25));
+    }
+
+    @Test
+    void decompositionOfMatrixEqualsValues() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(2, 1, 2, 3, 4, 5, 6);
+        assertThat(new SingularValueDecomposition(matrix).getSingularValues())
+            .containsExactly(new SingularValueDecomposition(
+                new double[][]{{1, 2, 3}, {4, 5, 6}}).getSingularValues()
+            );
+    }
+
+    // region norm, condition number and rank
+
+    @Test
+    void norm2AndConditionNumber() {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(VALUES);
+        assertThat(decomposition.norm2()).isEqualTo(4);
+        assertThat(decomposition.conditionNumber()).isEqualTo(4d / 3);
+    }
+
+    @Test
+    void conditionNumberOfRankDeficientMatrix() {
+        assertThat(new SingularValueDecomposition(new double[][]{{1, 2}, {2, 4}}).conditionNumber())
+            .isGreaterThan(1e15);
+    }
+
+    @Test
+    void rankOfRankDeficientMatrix() {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(
+            new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}
+        );
+        assertThat(decomposition.rank()).isEqualTo(2);
+        assertThat(decomposition.rank(20)).isZero();
+    }
+
+    @Test
+    void rankOfZeroMatrix() {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(new double[2][3]);
+        assertThat(decomposition.rank()).isZero();
+        assertThat(decomposition.conditionNumber()).isNaN();
+    }
+
+    @Test
+    void rankWithNegativeTolerance() {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(VALUES);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> decomposition.rank(-1));
+    }
+
+    // endregion
+
+    // region pseudoInverse
+
+    @Test
+    void pseudoInverseOfScaledPermutation() {
+        DoubleMatrix pseudoInverse = new SingularValueDecomposition(VALUES).pseudoInverse();
+        assertThat(pseudoInverse.getRows()).isEqualTo(2);
+        assertThat(pseudoInverse.getCols()).isEqualTo(3);
+        assertThat(pseudoInverse.getValue(0, 0)).isCloseTo(1d / 3, offset(1e-15));
+        assertThat(pseudoInverse.getValue(1, 1)).isCloseTo(-0.25, offset(1e-15));
+        assertThat(pseudoInverse.getValue(0, 2)).isCloseTo(0, offset(1e-15));
+    }
+
+    @Test
+    void pseudoInverseOfInvertibleMatrixIsInverse() {
+        DoubleMatrix pseudoInverse = new SingularValueDecomposition(
+            new double[][]{{4, 7}, {2, 6}}
+        ).pseudoInverse();
+        double[][] expected = {{0.6, -0.7}, {-0.2, 0.4}};
+        pseudoInverse.forEach(field -> assertThat(field.getValue())
+            .isCloseTo(expected[field.getRow()][field.getCol()], offset(1e-14))
+        );
+    }
+
+    @Test
+    void pseudoInverseOfRankDeficientMatrixSatisfiesPenroseCondition() {
+        double[][] values = {{1, 2}, {2, 4}, {3, 6}};
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 1, 2, 2, 4, 3, 6);
+        DoubleMatrix pseudoInverse = new SingularValueDecomposition(values).pseudoInverse();
+        // A*A^+*A = A
+        new DoubleMatrix(matrix.multiply(pseudoInverse).multiply(matrix))
+            .forEach(field -> assertThat(field.getValue())
+                .isCloseTo(values[field.getRow()][field.getCol()], offset(1e-12))
+            );
+        // A^+*A*A^+ = A^+
+        new DoubleMatrix(pseudoInverse.multiply(matrix).multiply(pseudoInverse))
+            .forEach(field -> assertThat(field.getValue())
+                .isCloseTo(pseudoInverse.getValue(field.getRow(), field.getCol()), offset(1e-12))
+            );
+    }
+
+    // endregion
+
+    // region private
+
+    private static void assertReconstructs(double[][] values) {
+        SingularValueDecomposition decomposition = new SingularValueDecomposition(values);
+        double[][] u = decomposition.getU();
+        double[] s = decomposition.getSingularValues();
+        double[][] v = decomposition.getV();
+        int size = Math.min(values.length, values[0].length);
+        assertThat(s).hasSize(size);
+        for (int i = 0; i < size - 1; i++) assertThat(s[i]).isGreaterThanOrEqualTo(s[i + 1]);
+        for (int r = 0; r < values.length; r++)
+            for (int c = 0; c < values[0].length; c++) {
+                double reconstructed = 0;
+                for (int k = 0; k < size; k++) reconstructed += u[r][k] * s[k] * v[c][k];
+                assertThat(reconstructed).isCloseTo(values[r][c], offset(1e-12));
+            }
+        assertOrthonormalCols(u, size);
+        assertOrthonormalCols(v, size);
+    }
+
+    private static void assertOrthonormalCols(double[][] matrix, int cols) {
+        for (int a = 0; a < cols; a++)
+            for (int b = 0; b < cols; b++) {
+                double dot = 0;
+                for (double[] row : matrix) dot += row[a] * row[b];
+                assertThat(dot).isCloseTo(a == b ? 1 : 0, offset(1e-12));
+            }
+    }
+
+    private static double[][] createRandom(int rows, int cols) {
+        Random random = new Random(rows * 31L + cols);
+        double[][] values = new double[rows][cols];
+        for (double[] row : values)
+            for (int c = 0; c < cols; c++) row[c] = random.nextDouble() * 2 - 1;
+        return values;
+    }
+
+    // endregion
+}
@@ -0,0 +1,140 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SymmetricEigenDecompositionTest {
+    private static final double[][] VALUES = {
+        {2, -1, 0},
+        {-1, 2, -1},
+        {0, -1, 2}
+    };
+
+    @Test
+    void constructorWithNonSquareMatrix() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new SymmetricEigenDecomposition(new DoubleMatrix(2, 3)));
+    }
+
+    @Test
+    void constructorWithNonSymmetricValues() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new SymmetricEigenDecomposition(new double[][]{{1, 2}, {3, 4}}));
+    }
+
+    @Test
+    void constructorWithNonFiniteValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SymmetricEigenDecomposition(new double[][]{{Double.NaN}}));
+    }
+
+    @Test
+    void constructorCopiesValues() {
+        double[][] values = {{1, 2}, {2, 1}};
+        new SymmetricEigenDecomposition(values);
+        assertThat(values).isDeepEqualTo(new double[][]{{1, 2}, {2, 1}});
+    }
+
+    @Test
+    void constructorWithMatrixEqualsValues() {
+        DoubleMatrix matrix = DoubleMatrix.ofValuesByRows(3, 2, -1, 0, -1, 2, -1, 0, -1, 2);
+        assertThat(new SymmetricEigenDecomposition(matrix).getEigenvalues())
+            .containsExactly(new SymmetricEigenDecomposition(VALUES).getEigenvalues());
+    }
+
+    @Test
+    void eigenvaluesOfLaplacian() {
+        double[] eigenvalues = new SymmetricEigenDecomposition(VALUES).getEigenvalues();
+        assertThat(eigenvalues[0]).isCloseTo(2 - Math.sqrt(2), offset(1e-12));
+        assertThat(eigenvalues[1]).isCloseTo(2, offset(1e-12));
+        assertThat(eigenvalues[2]).isCloseTo(2 + Math.sqrt(2), offset(1e-12));
+    }
+
+    @Test
+    void eigenvaluesOfDiagonal() {
+        SymmetricEigenDecomposition decomposition =
+            new SymmetricEigenDecomposition(DoubleMatrix.diagonal(3, -1, 2));
+        assertThat(decomposition.getEigenvalues()).containsExactly(-1, 2, 3);
+        assertThat(decomposition.getEigenvector(0))
+            .isEqualTo(DoubleVector.ofValues(0, 1, 0));
+    }
+
+    @Test
+    void eigenvectorOfLaplacian() {
+        DoubleVector vector = new SymmetricEigenDecomposition(VALUES).getEigenvector(1);
+        assertThat(Math.abs(vector.getValue(0))).isCloseTo(Math.sqrt(0.5), offset(1e-12));
+        assertThat(vector.getValue(1)).isCloseTo(0, offset(1e-12));
+        assertThat(vector.getValue(2)).isCloseTo(-vector.getValue(0), offset(1e-12));
+    }
+
+    @Test
+    void decompositionOfRandomMatrixReconstructs() {
+        int size = 40;
+        double[][] values = createRandomSymmetric(size);
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(values);
+        double[][] v = decomposition.getEigenvectors();
+        double[] d = decomposition.getEigenvalues();
+        for (int i = 0; i < size - 1; i++) assertThat(d[i]).isLessThanOrEqualTo(d[i + 1]);
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c < size; c++) {
+                double reconstructed = 0;
+                double orthogonal = 0;
+                for (int k = 0; k < size; k++) {
+                    reconstructed += v[r][k] * d[k] * v[c][k];
+                    orthogonal += v[k][r] * v[k][c];
+                }
+                assertThat(reconstructed).isCloseTo(values[r][c], offset(1e-10));
+                assertThat(orthogonal).isCloseTo(r == c ? 1 : 0, offset(1e-10));
+            }
+    }
+
+    @Test
+    void eigenvectorAndEigenvalueMatrixReconstruct() {
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(VALUES);
+        DoubleMatrix v = decomposition.getEigenvectorMatrix();
+        DoubleMatrix reconstructed = new DoubleMatrix(
+            v.multiply(decomposition.getEigenvalueMatrix()).multiply(v.transpose())
+        );
+        reconstructed.forEach(field -> assertThat(field.getValue())
+            .isCloseTo(VALUES[field.getRow()][field.getCol()], offset(1e-12))
+        );
+    }
+
+    @Test
+    void eigenPairs() {
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(VALUES);
+        assertThat(decomposition.getEigenPairs()).hasSize(3)
+            .extracting(EigenPair::getEigenvalue)
+            .containsExactly(decomposition.getEigenvalues()[0],
+                decomposition.getEigenvalues()[1], decomposition.getEigenvalues()[2]
+            );
+        assertThat(decomposition.getEigenPairs().get(2).getEigenvector())
+            .isEqualTo(decomposition.getEigenvector(2));
+    }
+
+    @Test
+    void emptyMatrix() {
+        assertThat(new SymmetricEigenDecomposition(new double[0][]).getEigenvalues()).isEmpty();
+    }
+
+    // region private
+
+    private static double[][] createRandomSymmetric(int size) {
+        Random random = new Random(1);
+        double[][] values = new double[size][size];
+        for (int r = 0; r < size; r++)
+            for (int c = 0; c <= r; c++) {
+                values[r][c] = random.nextDouble() * 2 - 1;
+                values[c][r] = values[r][c];
+            }
+        return values;
+    }
+
+    // endregion
+}
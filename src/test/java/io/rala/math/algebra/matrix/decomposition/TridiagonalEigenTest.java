@@ -0,0 +1,42 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class TridiagonalEigenTest {
+    @Test
+    void decomposeLaplacian() {
+        int size = 20;
+        double[] diagonal = new double[size];
+        double[] offDiagonal = new double[size];
+        double[][] vectors = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            diagonal[i] = 2;
+            offDiagonal[i] = -1;
+            vectors[i][i] = 1;
+        }
+        TridiagonalEigen.decompose(diagonal, offDiagonal, vectors);
+        for (int k = 0; k < size; k++)
+            assertThat(diagonal[k])
+                .isCloseTo(2 - 2 * Math.cos((k + 1) * Math.PI / (size + 1)), offset(1e-12));
+        // A*v = λ*v for each col
+        for (int k = 0; k < size; k++)
+            for (int i = 0; i < size; i++) {
+                double value = 2 * vectors[i][k];
+                if (0 < i) value -= vectors[i - 1][k];
+                if (i < size - 1) value -= vectors[i + 1][k];
+                assertThat(value).isCloseTo(diagonal[k] * vectors[i][k], offset(1e-12));
+            }
+    }
+
+    @Test
+    void decomposeDiagonalSortsAscending() {
+        double[] diagonal = {3, -1, 2};
+        double[][] vectors = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}};
+        TridiagonalEigen.decompose(diagonal, new double[3], vectors);
+        assertThat(diagonal).containsExactly(-1, 2, 3);
+        assertThat(vectors).isDeepEqualTo(new double[][]{{0, 0, 1}, {1, 0, 0}, {0, 1, 0}});
+    }
+}
@@ -0,0 +1,48 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TruncatedSingularValueDecompositionTest {
+    private static TruncatedSingularValueDecomposition create() {
+        return new TruncatedSingularValueDecomposition(3, 2, new double[]{4},
+            new double[][]{{0, 1, 0}}, new double[][]{{1, 0}}
+        );
+    }
+
+    @Test
+    void getter() {
+        TruncatedSingularValueDecomposition decomposition = create();
+        assertThat(decomposition.getRows()).isEqualTo(3);
+        assertThat(decomposition.getCols()).isEqualTo(2);
+        assertThat(decomposition.getRank()).isOne();
+        assertThat(decomposition.getSingularValue(0)).isEqualTo(4);
+        assertThat(decomposition.getSingularValues()).isEqualTo(DoubleVector.ofValues(4));
+        assertThat(decomposition.getLeftSingularVector(0)).isEqualTo(DoubleVector.ofValues(0, 1, 0));
+        assertThat(decomposition.getRightSingularVector(0)).isEqualTo(DoubleVector.ofValues(1, 0));
+    }
+
+    @Test
+    void matrices() {
+        TruncatedSingularValueDecomposition decomposition = create();
+        assertThat(decomposition.getU()).isEqualTo(DoubleMatrix.ofValuesByRows(3, 0, 1, 0));
+        assertThat(decomposition.getS()).isEqualTo(DoubleMatrix.diagonal(4));
+        assertThat(decomposition.getV()).isEqualTo(DoubleMatrix.ofValuesByRows(2, 1, 0));
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        assertThat(create()).isEqualTo(create()).hasSameHashCodeAs(create())
+            .isNotEqualTo(new TruncatedSingularValueDecomposition(3, 2, new double[]{3},
+                new double[][]{{0, 1, 0}}, new double[][]{{1, 0}}
+            ));
+    }
+
+    @Test
+    void toStringOfDecomposition() {
+        assertThat(create()).hasToString("3 x 2: [4.0]");
+    }
+}
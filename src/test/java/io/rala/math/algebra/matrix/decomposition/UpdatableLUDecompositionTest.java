@@ -0,0 +1,183 @@
+package io.rala.math.algebra.matrix.decomposition;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.exception.NotSupportedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UpdatableLUDecompositionTest {
+    private static final int SIZE = 30;
+
+    @Test
+    void constructorWithNonSquareMatrix() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new UpdatableLUDecomposition(new DoubleMatrix(2, 3)));
+    }
+
+    @Test
+    void constructorWithNegativeMaxUpdates() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new UpdatableLUDecomposition(new double[][]{{1}}, -1));
+    }
+
+    @Test
+    void constructorCopiesValues() {
+        double[][] values = {{1, 2}, {3, 4}};
+        new UpdatableLUDecomposition(values).setValue(0, 0, 5);
+        assertThat(values).isDeepEqualTo(new double[][]{{1, 2}, {3, 4}});
+    }
+
+    @Test
+    void createdDecompositionHasNoUpdates() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        assertThat(decomposition.getSize()).isEqualTo(SIZE);
+        assertThat(decomposition.getMaxUpdates()).isEqualTo(UpdatableLUDecomposition.DEFAULT_MAX_UPDATES);
+        assertThat(decomposition.getUpdates()).isZero();
+        assertThat(decomposition.getDecompositions()).isOne();
+        assertThat(decomposition.isSingular()).isFalse();
+    }
+
+    // region update
+
+    @Test
+    void setValueReturnsOldValue() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        double old = decomposition.getValue(1, 2);
+        assertThat(decomposition.setValue(1, 2, 7)).isEqualTo(old);
+        assertThat(decomposition.getValue(1, 2)).isEqualTo(7);
+    }
+
+    @Test
+    void setValueWithInvalidIndex() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> decomposition.setValue(SIZE, 0, 1))
+            .withMessage("row: " + SIZE);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> decomposition.setValue(0, -1, 1))
+            .withMessage("col: -1");
+    }
+
+    @Test
+    void setValueWithSameValueIsNoUpdate() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        decomposition.setValue(0, 0, decomposition.getValue(0, 0));
+        assertThat(decomposition.getUpdates()).isZero();
+    }
+
+    @Test
+    void solveAfterSetValues() {
+        double[][] values = createValues();
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(values);
+        Random random = new Random(1);
+        for (int i = 0; i < 10; i++) {
+            int row = random.nextInt(SIZE);
+            int col = random.nextInt(SIZE);
+            double value = random.nextDouble() * 4 - 2;
+            values[row][col] = row == col ? value + SIZE : value;
+            decomposition.setValue(row, col, values[row][col]);
+        }
+        assertThat(decomposition.getUpdates()).isEqualTo(10);
+        assertThat(decomposition.getDecompositions()).isOne();
+        assertSolveEquals(decomposition, values);
+    }
+
+    @Test
+    void solveAfterSetRow() {
+        double[][] values = createValues();
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(values);
+        for (int col = 0; col < SIZE; col++) values[3][col] = col == 3 ? 2 * SIZE : col % 3;
+        decomposition.setRow(3, values[3]);
+        assertThat(decomposition.getUpdates()).isOne();
+        assertThat(decomposition.getValue(3, 4)).isEqualTo(1);
+        assertSolveEquals(decomposition, values);
+    }
+
+    @Test
+    void setRowWithInvalidSize() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> decomposition.setRow(0, new double[]{1}));
+    }
+
+    @Test
+    void solveAfterRankOneUpdate() {
+        double[][] values = createValues();
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(values);
+        double[] u = new double[SIZE];
+        double[] v = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            u[i] = (i % 4) * 0.5;
+            v[i] = 1 - (i % 3) * 0.25;
+        }
+        decomposition.update(u, v);
+        for (int r = 0; r < SIZE; r++)
+            for (int c = 0; c < SIZE; c++)
+                values[r][c] += u[r] * v[c];
+        assertSolveEquals(decomposition, values);
+    }
+
+    @Test
+    void updateExceedingMaxUpdatesDecomposesAgain() {
+        double[][] values = createValues();
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(values, 2);
+        for (int i = 0; i < 3; i++) {
+            values[i][0] = i + 1;
+            decomposition.setValue(i, 0, i + 1);
+        }
+        assertThat(decomposition.getUpdates()).isZero();
+        assertThat(decomposition.getDecompositions()).isEqualTo(2);
+        assertSolveEquals(decomposition, values);
+    }
+
+    @Test
+    void updateToSingularAndBack() {
+        UpdatableLUDecomposition decomposition =
+            new UpdatableLUDecomposition(new double[][]{{1, 2}, {3, 4}});
+        decomposition.setValue(1, 1, 6);
+        assertThat(decomposition.isSingular()).isTrue();
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> decomposition.solve(new double[]{1, 1}));
+        decomposition.setValue(1, 1, 4);
+        assertThat(decomposition.isSingular()).isFalse();
+        double[] x = decomposition.solve(new double[]{5, 11});
+        assertThat(x[0]).isCloseTo(1, offset(1e-12));
+        assertThat(x[1]).isCloseTo(2, offset(1e-12));
+    }
+
+    // endregion
+
+    @Test
+    void solveWithInvalidSize() {
+        UpdatableLUDecomposition decomposition = new UpdatableLUDecomposition(createValues());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> decomposition.solve(new double[]{1}));
+    }
+
+    // region private
+
+    private static double[][] createValues() {
+        Random random = new Random(0);
+        double[][] values = new double[SIZE][SIZE];
+        for (int r = 0; r < SIZE; r++)
+            for (int c = 0; c < SIZE; c++)
+                values[r][c] = random.nextDouble() * 2 - 1 + (r == c ? SIZE : 0);
+        return values;
+    }
+
+    private static void assertSolveEquals(
+        UpdatableLUDecomposition decomposition, double[][] values
+    ) {
+        double[] b = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) b[i] = i - SIZE / 2d;
+        double[] expected = new DoubleLUDecomposition(values).solve(b);
+        double[] actual = decomposition.solve(b);
+        for (int i = 0; i < SIZE; i++)
+            assertThat(actual[i]).isCloseTo(expected[i], offset(1e-10));
+    }
+
+    // endregion
+}
@@ -0,0 +1,96 @@
+package io.rala.math.algebra.matrix.typed;
+
+import io.rala.math.algebra.matrix.Matrix;
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import io.rala.math.testUtils.assertion.ExceptionMessages;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BigIntegerMatrixTest {
+    // region constructors
+
+    @Test
+    void constructorWithSize0() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new BigIntegerMatrix(0))
+            .withMessage(ExceptionMessages.ROWS_COLS_HAVE_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void constructorWithRows1Cols2() {
+        assertThatMatrix(new BigIntegerMatrix(1, 2)).hasRows(1).hasCols(2);
+    }
+
+    @Test
+    void constructorWithMatrix() {
+        assertThatMatrix(new BigIntegerMatrix(new BigIntegerMatrix(1, 2)))
+            .hasRows(1).hasCols(2);
+    }
+
+    // endregion
+
+    // region static: identity, diagonal and of
+
+    @Test
+    void createIdentitySize2() {
+        assertThat(BigIntegerMatrix.identity(2)).isEqualTo(
+            Matrix.identity(BigIntegerArithmetic.getInstance(), 2)
+        );
+    }
+
+    @Test
+    void ofValuesByRows2() {
+        assertThatMatrix(BigIntegerMatrix.ofValuesByRows(2,
+            BigInteger.ONE, BigInteger.TWO, BigInteger.ZERO, BigInteger.ONE
+        )).hasRows(2).hasCols(2);
+    }
+
+    // endregion
+
+    // region determinante
+
+    @Test
+    void determinanteOfIdentitySize5() {
+        assertThat(BigIntegerMatrix.identity(5).determinante()).isOne();
+    }
+
+    @Test
+    void determinanteOfSize4MatchesLaplace() {
+        BigInteger[] values = {
+            BigInteger.valueOf(3), BigInteger.valueOf(-1), BigInteger.TWO, BigInteger.ZERO,
+            BigInteger.ONE, BigInteger.valueOf(5), BigInteger.ZERO, BigInteger.valueOf(-2),
+            BigInteger.valueOf(-4), BigInteger.ONE, BigInteger.valueOf(7), BigInteger.ONE,
+            BigInteger.TWO, BigInteger.ZERO, BigInteger.valueOf(-3), BigInteger.valueOf(6)
+        };
+        assertThat(BigIntegerMatrix.ofValuesByRows(4, values).determinante()).isEqualTo(
+            Matrix.ofValuesByRows(BigIntegerArithmetic.getInstance(), 4, values).determinante()
+        );
+    }
+
+    @Test
+    void determinanteOfSize4WithHugeValues() {
+        BigInteger huge = BigInteger.TEN.pow(40);
+        BigIntegerMatrix matrix = BigIntegerMatrix.diagonal(
+            huge, huge.negate(), BigInteger.TWO, BigInteger.valueOf(3)
+        );
+        assertThat(matrix.determinante())
+            .isEqualTo(huge.pow(2).multiply(BigInteger.valueOf(-6)));
+    }
+
+    // endregion
+
+    // region copy
+
+    @Test
+    void copyOfMatrixWithSize2() {
+        assertCopyable(new BigIntegerMatrix(2));
+    }
+
+    // endregion
+}
@@ -4,6 +4,7 @@ import io.rala.math.MathX;
 import io.rala.math.algebra.vector.typed.DoubleVector;
 import io.rala.math.arithmetic.core.DoubleArithmetic;
 import io.rala.math.arithmetic.core.IntegerArithmetic;
+import io.rala.math.arithmetic.core.SummationMode;
 import io.rala.math.exception.NotSupportedException;
 import io.rala.math.testUtils.algebra.TestMatrix;
 import io.rala.math.testUtils.algebra.TestVector;
@@ -15,6 +16,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static io.rala.math.testUtils.algebra.TestVector.fillVectorWithTestValues;
 import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
@@ -436,6 +440,16 @@ class VectorTest {
         ).isEqualTo(98d);
     }
 
+    @Test
+    void dotProductWithCompensatedSummation() {
+        Vector<Double> a = new Vector<>(new DoubleArithmetic(SummationMode.NEUMAIER), 3);
+        a.setValue(0, 1e100);
+        a.setValue(1, 1d);
+        a.setValue(2, -1e100);
+        Vector<Double> b = new Vector<>(a.getArithmetic(), 3, 1d);
+        assertThat(a.dotProduct(b)).isOne();
+    }
+
     @Test
     void dotProductEmptyColumnVectorNonEmptyColumnVector() {
         assertThat(new TestVector(3)
@@ -536,6 +550,101 @@ class VectorTest {
 
     // endregion
 
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    @Test
+    void axpyOfNonEmptyVectors() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.axpy(2d, TestVector.ofValues(1d, 0d, -9d));
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(3d, -4d, -9d));
+    }
+
+    @Test
+    void axpyWithItself() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.axpy(1d, vector);
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(2d, -8d, 18d));
+    }
+
+    @Test
+    void axpyWithDefaultValue() {
+        TestVector vector = new TestVector(2, 1d);
+        vector.axpy(2d, new TestVector(2, 3d));
+        assertThat(vector.getValue(0)).isEqualTo(7d);
+        assertThat(vector.getValue(1)).isEqualTo(7d);
+    }
+
+    @Test
+    void axpyOfVectorsWithDifferentTypes() {
+        TestVector vector = new TestVector(3);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.axpy(1d, new TestVector(3, Vector.Type.ROW)))
+            .withMessage(ExceptionMessages.VECTOR_TYPES_HAVE_TO_BE_EQUAL);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.axpy(1d, new TestVector(2)))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
+    @Test
+    void scaleNonEmptyVector() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.scale(-2d);
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(-2d, 8d, -18d));
+        vector.scale(0d);
+        assertThatVector(vector).isEqualTo(new TestVector(3));
+    }
+
+    @Test
+    void addScaledNonEmptyVectors() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.addScaled(2d, 1d, TestVector.ofValues(1d, 1d, 1d));
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(3d, -7d, 19d));
+    }
+
+    @Test
+    void addScaledWithItself() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.addScaled(2d, 1d, vector);
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(3d, -12d, 27d));
+    }
+
+    @Test
+    void linearCombinationOfNonEmptyVectors() {
+        TestVector vector = new TestVector(3);
+        vector.linearCombination(
+            2d, fillVectorWithTestValues(new TestVector(3)),
+            -1d, TestVector.ofValues(1d, 1d, 1d)
+        );
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(1d, -9d, 17d));
+    }
+
+    @Test
+    void linearCombinationWithItself() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        vector.linearCombination(1d, TestVector.ofValues(1d, 1d, 1d), 2d, vector);
+        assertThatVector(vector).isEqualTo(TestVector.ofValues(3d, -7d, 19d));
+    }
+
+    @Test
+    void dotProductWithAccumulator() {
+        assertThat(fillVectorWithTestValues(new TestVector(3))
+            .dotProduct(fillVectorWithTestValues(new TestVector(3)), 2d)
+        ).isEqualTo(100d);
+    }
+
+    @Test
+    void dotProductWithAccumulatorAndDefaultValue() {
+        assertThat(new TestVector(2, 1d).dotProduct(TestVector.ofValues(2d, 3d), 1d))
+            .isEqualTo(6d);
+    }
+
+    @Test
+    void dotProductWithAccumulatorOfDifferentSizes() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new TestVector(3).dotProduct(new TestVector(2), 0d))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
     // region transpose and invert
 
     @Test
@@ -614,9 +723,29 @@ class VectorTest {
         assertThat(new TestVector(3).pNorm(7)).isEqualTo(0d);
     }
 
+    @Test
+    void maxNormOfNegativeAndFractionalValues() {
+        assertThat(TestVector.ofValues(0.5d, -0.75d, 0.25d).maxNorm()).isEqualTo(0.75d);
+    }
+
+    @Test
+    void manhattanNormNonEmptyVector() {
+        assertThat(fillVectorWithTestValues(new TestVector(3)).manhattanNorm()).isEqualTo(14d);
+    }
+
+    @Test
+    void euclideanNormIsUpdatedAfterChange() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(3));
+        assertThat(vector.euclideanNorm()).isEqualTo(Math.sqrt(98));
+        vector.setValue(2, 0d);
+        assertThat(vector.euclideanNorm()).isEqualTo(Math.sqrt(17));
+        vector.axpy(1d, TestVector.ofValues(0d, 0d, 1d));
+        assertThat(vector.euclideanNorm()).isEqualTo(Math.sqrt(18));
+    }
+
     @Test
     void sevenNormNonEmptyVector() {
-        assertThat(fillVectorWithTestValues(new TestVector(3)).pNorm(7)).isEqualTo(MathX.root(4766586d, 7));
+        assertThat(fillVectorWithTestValues(new TestVector(3)).pNorm(7)).isEqualTo(MathX.root(4799354d, 7));
     }
 
     @Test
@@ -709,6 +838,35 @@ class VectorTest {
 
     // endregion
 
+    // region static: collector
+
+    @Test
+    void toVectorOfEmptyStream() {
+        Stream<Number> stream = Stream.empty();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stream.collect(Vector.toVector(new TestAbstractArithmetic())))
+            .withMessage(ExceptionMessages.SIZE_HAS_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void toVectorOfValues() {
+        Vector<Number> vector = Stream.<Number>of(1d, 0d, -4d)
+            .collect(Vector.toVector(new TestAbstractArithmetic()));
+        assertThatVector(vector)
+            .isEqualTo(TestVector.ofValues(new TestAbstractArithmetic(), 1d, 0d, -4d));
+    }
+
+    @Test
+    void toVectorOfParallelStream() {
+        Vector<Integer> vector = IntStream.range(0, 100_000).boxed().parallel()
+            .collect(Vector.toVector(IntegerArithmetic.getInstance()));
+        assertThat(vector.getSize()).isEqualTo(100_000);
+        for (int i = 0; i < vector.getSize(); i++)
+            assertThat(vector.getValue(i)).isEqualTo(i);
+    }
+
+    // endregion
+
     // region override
 
     @Test
@@ -744,6 +902,30 @@ class VectorTest {
         assertThat(vector.parallelStream().count()).isEqualTo(2);
     }
 
+    @Test
+    void spliteratorOfVectorWithSize5() {
+        TestVector vector = new TestVector(5);
+        Spliterator<Vector<Number>.Entry> spliterator = vector.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+            .isTrue();
+        Spliterator<Vector<Number>.Entry> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(2);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+        List<Integer> indices = new ArrayList<>();
+        assertThat(spliterator.tryAdvance(entry -> indices.add(entry.getIndex()))).isTrue();
+        spliterator.forEachRemaining(entry -> indices.add(entry.getIndex()));
+        assertThat(indices).containsExactly(2, 3, 4);
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
+    @Test
+    void parallelStreamOfLargeVectorKeepsOrder() {
+        TestVector vector = fillVectorWithTestValues(new TestVector(1000));
+        assertThat(vector.parallelStream().map(Vector.Entry::getValue).toArray())
+            .isEqualTo(vector.stream().map(Vector.Entry::getValue).toArray());
+    }
+
     @Test
     void equalsOfMatrixWithDifferentTypes() {
         Vector<Double> doubleVector = new Vector<>(DoubleArithmetic.getInstance(), 2);
@@ -651,7 +651,7 @@ class BigDecimalVectorTest {
     @Test
     void sevenNormNonEmptyVector() {
         assertThat(fillVectorWithTestValues(new BigDecimalVector(3)).pNorm(7))
-            .isEqualTo(MathX.root(BigDecimal.valueOf(4766586), 7));
+            .isEqualTo(MathX.root(BigDecimal.valueOf(4799354), 7));
     }
 
     @Test
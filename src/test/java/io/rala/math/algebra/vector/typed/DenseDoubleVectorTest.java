@@ -0,0 +1,349 @@
+package io.rala.math.algebra.vector.typed;
+
+import io.rala.math.MathX;
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import io.rala.math.testUtils.assertion.ExceptionMessages;
+import org.junit.jupiter.api.Test;
+
+import static io.rala.math.testUtils.algebra.TestVector.fillVectorWithTestValues;
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatVector;
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
+import static org.assertj.core.api.Assertions.*;
+
+class DenseDoubleVectorTest {
+    // region constructors
+
+    @Test
+    void constructorWithZeroSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DenseDoubleVector(0))
+            .withMessage(ExceptionMessages.SIZE_HAS_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void constructorWithPositiveSizeAndType() {
+        assertThatVector(new DenseDoubleVector(2, Vector.Type.ROW))
+            .hasSize(2).hasType(Vector.Type.ROW);
+    }
+
+    @Test
+    void constructorWithVector() {
+        DoubleVector vector = fillVectorWithTestValues(new DoubleVector(3));
+        DenseDoubleVector dense = new DenseDoubleVector(vector);
+        assertThat(dense.toArray()).containsExactly(1, -4, 9);
+        assertThatVector(new DoubleVector(dense)).isEqualTo(vector);
+    }
+
+    // endregion
+
+    // region value
+
+    @Test
+    void setValueByIndex0() {
+        DenseDoubleVector vector = new DenseDoubleVector(2);
+        assertThat(vector.setValue(0, 1d)).isZero();
+        assertThat(vector.setValue(0, 2d)).isOne();
+        assertThat(vector.getValue(0)).isEqualTo(2);
+        assertThat(vector.getDouble(0)).isEqualTo(2);
+    }
+
+    @Test
+    void removeValueByIndex0() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2);
+        assertThat(vector.removeValue(0)).isOne();
+        assertThat(vector.getValue(0)).isZero();
+    }
+
+    @Test
+    void getValueByInvalidIndex() {
+        DenseDoubleVector vector = new DenseDoubleVector(2);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> vector.getValue(2))
+            .withMessage("2 / 2");
+    }
+
+    @Test
+    void toArrayIsCopy() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2);
+        vector.toArray()[0] = 3;
+        assertThat(vector.getDouble(0)).isOne();
+    }
+
+    // endregion
+
+    // region add, subtract, multiply and dotProduct
+
+    @Test
+    void addDenseVector() {
+        assertThat(DenseDoubleVector.ofValues(1, 2, 3)
+            .add(DenseDoubleVector.ofValues(4, 5, 6)).toArray()
+        ).containsExactly(5, 7, 9);
+    }
+
+    @Test
+    void addSparseVector() {
+        DenseDoubleVector result = DenseDoubleVector.ofValues(1, 2, 3)
+            .add(DoubleVector.ofValues(0, 5, 0));
+        assertThat(result.toArray()).containsExactly(1, 7, 3);
+    }
+
+    @Test
+    void addVectorWithDifferentType() {
+        DenseDoubleVector vector = new DenseDoubleVector(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.add(vector.transpose()))
+            .withMessage(ExceptionMessages.VECTOR_TYPES_HAVE_TO_BE_EQUAL);
+    }
+
+    @Test
+    void subtractVector() {
+        assertThat(DenseDoubleVector.ofValues(1, 2, 3)
+            .subtract(DoubleVector.ofValues(4, 5, 6)).toArray()
+        ).containsExactly(-3, -3, -3);
+    }
+
+    @Test
+    void multiplyScalar() {
+        assertThatVector(DenseDoubleVector.ofValues(1, -4, 9).multiply(2d))
+            .isEqualTo(DoubleVector.ofValues(2, -8, 18));
+    }
+
+    @Test
+    void multiplyVector() {
+        assertThatMatrix(DenseDoubleVector.ofValues(1, 2).transpose()
+            .multiply(DenseDoubleVector.ofValues(3, 4))
+        ).isEqualTo(DoubleMatrix.ofValuesByRows(1, 11));
+    }
+
+    @Test
+    void dotProductOfDenseAndSparseVector() {
+        assertThat(DenseDoubleVector.ofValues(1, 2, 3)
+            .dotProduct(DenseDoubleVector.ofValues(4, 5, 6))
+        ).isEqualTo(32);
+        assertThat(DenseDoubleVector.ofValues(1, 2, 3)
+            .dotProduct(DoubleVector.ofValues(4, 5, 6))
+        ).isEqualTo(32);
+        assertThat(DoubleVector.ofValues(4, 5, 6)
+            .dotProduct(DenseDoubleVector.ofValues(1, 2, 3))
+        ).isEqualTo(32);
+    }
+
+    @Test
+    void dotProductWithDifferentSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DenseDoubleVector(2).dotProduct(new DenseDoubleVector(3)))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
+    // endregion
+
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    @Test
+    void axpyDenseAndSparseVector() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2, 3);
+        vector.axpy(2d, DenseDoubleVector.ofValues(1, 1, 1));
+        assertThat(vector.toArray()).containsExactly(3, 4, 5);
+        vector.axpy(-1d, SparseDoubleVector.ofValues(0, 4, 0));
+        assertThat(vector.toArray()).containsExactly(3, 0, 5);
+        vector.axpy(1d, DoubleVector.ofValues(1, 0, 0));
+        assertThat(vector.toArray()).containsExactly(4, 0, 5);
+    }
+
+    @Test
+    void scaleVector() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, -2);
+        vector.scale(3d);
+        assertThat(vector.toArray()).containsExactly(3, -6);
+    }
+
+    @Test
+    void addScaledVector() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2);
+        vector.addScaled(2d, 3d, DenseDoubleVector.ofValues(1, -1));
+        assertThat(vector.toArray()).containsExactly(5, 1);
+        vector.addScaled(1d, 1d, vector);
+        assertThat(vector.toArray()).containsExactly(10, 2);
+        vector.addScaled(0d, 1d, SparseDoubleVector.ofValues(0, 1));
+        assertThat(vector.toArray()).containsExactly(0, 1);
+    }
+
+    @Test
+    void linearCombinationOfVectors() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2);
+        vector.linearCombination(2d, vector, -1d, DenseDoubleVector.ofValues(1, 1));
+        assertThat(vector.toArray()).containsExactly(1, 3);
+        vector.linearCombination(1d, DoubleVector.ofValues(1, 0), 1d, vector);
+        assertThat(vector.toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    void linearCombinationWithDifferentSize() {
+        DenseDoubleVector vector = new DenseDoubleVector(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.linearCombination(
+                1d, vector, 1d, new DenseDoubleVector(3)
+            )).withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
+    @Test
+    void dotProductWithAccumulator() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(1, 2, 3);
+        assertThat(vector.dotProduct(DenseDoubleVector.ofValues(4, 5, 6), 1d)).isEqualTo(33);
+        assertThat(vector.dotProduct(SparseDoubleVector.ofValues(0, 5, 0), 1d)).isEqualTo(11);
+        assertThat(vector.dotProduct(DoubleVector.ofValues(0, 0, 1), 1d)).isEqualTo(4);
+    }
+
+    // endregion
+
+    // region norm cache
+
+    @Test
+    void euclideanNormIsUpdatedAfterChange() {
+        DenseDoubleVector vector = DenseDoubleVector.ofValues(3, 0, 4);
+        assertThat(vector.euclideanNorm()).isEqualTo(5);
+        vector.setValue(1, 12d);
+        assertThat(vector.euclideanNorm()).isEqualTo(13);
+        vector.scale(2d);
+        assertThat(vector.euclideanNorm()).isEqualTo(26);
+        vector.axpy(-2d, DenseDoubleVector.ofValues(3, 12, 4));
+        assertThat(vector.euclideanNorm()).isZero();
+    }
+
+    @Test
+    void euclideanNormWithInfiniteValues() {
+        assertThat(DenseDoubleVector.ofValues(
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY
+        ).euclideanNorm()).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void euclideanNormWithoutOverflow() {
+        assertThat(DenseDoubleVector.ofValues(3e200, 0, -4e200).euclideanNorm())
+            .isCloseTo(5e200, withinPercentage(1e-12));
+    }
+
+    // endregion
+
+    // region transpose and invert
+
+    @Test
+    void transposeVector() {
+        DenseDoubleVector transposed = DenseDoubleVector.ofValues(1, 2).transpose();
+        assertThatVector(transposed).hasType(Vector.Type.ROW);
+        assertThat(transposed.toArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    void invertVector() {
+        assertThat(DenseDoubleVector.ofValues(1, -4).invert().toArray())
+            .containsExactly(-1, 4);
+    }
+
+    // endregion
+
+    // region norm and normalize
+
+    @Test
+    void maxNorm() {
+        assertThat(DenseDoubleVector.ofValues(1, -4, 9).maxNorm()).isEqualTo(9);
+        assertThat(DenseDoubleVector.ofValues(1, -9, 4).maxNorm()).isEqualTo(9);
+    }
+
+    @Test
+    void euclideanNorm() {
+        assertThat(DenseDoubleVector.ofValues(1, -4, 9).euclideanNorm())
+            .isEqualTo(Math.sqrt(98));
+    }
+
+    @Test
+    void sevenNorm() {
+        assertThat(DenseDoubleVector.ofValues(1, -4, 9).pNorm(7))
+            .isCloseTo(MathX.root(1 + 16384 + 4782969d, 7), offset(1e-14));
+    }
+
+    @Test
+    void negativePNorm() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DenseDoubleVector(3).pNorm(-1))
+            .withMessage(ExceptionMessages.VECTOR_POSITIVE_P_NORM);
+    }
+
+    @Test
+    void normalizeVector() {
+        assertThat(DenseDoubleVector.ofValues(3, 4).normalize().toArray())
+            .containsExactly(0.6, 0.8);
+    }
+
+    @Test
+    void normalizeZeroVector() {
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new DenseDoubleVector(3).normalize())
+            .withMessage(ExceptionMessages.VECTOR_ZERO_VECTOR_CAN_NOT_NORMALIZED);
+    }
+
+    @Test
+    void angleBetweenOrthogonalVectors() {
+        assertThat(DenseDoubleVector.ofValues(0, 1, 0)
+            .angle(DenseDoubleVector.ofValues(0, 0, 1))
+        ).isEqualTo(Math.PI / 2);
+    }
+
+    // endregion
+
+    // region matrix
+
+    @Test
+    void toMatrix() {
+        assertThatMatrix(DenseDoubleVector.ofValues(1, 2).toMatrix())
+            .isEqualTo(DoubleMatrix.ofValuesByRows(2, 1, 2));
+    }
+
+    @Test
+    void ofMatrixVector() {
+        assertThat(new DenseDoubleVector(DoubleMatrix.ofValuesByRows(2, 1, 2).toVector())
+            .toArray()
+        ).containsExactly(1, 2);
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void copyOfVector() {
+        assertCopyable(DenseDoubleVector.ofValues(1, 2));
+    }
+
+    @Test
+    void equalsOfDenseAndSparseVector() {
+        assertThatVector(DenseDoubleVector.ofValues(1, 0, 3))
+            .isEqualTo(DoubleVector.ofValues(1, 0, 3))
+            .isNotEqualTo(DoubleVector.ofValues(1, 0, 2));
+        assertThatVector(DoubleVector.ofValues(1, 0, 3))
+            .isEqualTo(DenseDoubleVector.ofValues(1, 0, 3));
+    }
+
+    @Test
+    void hashCodeOfDenseAndSparseVector() {
+        assertThat(DenseDoubleVector.ofValues(1, 0, 3))
+            .hasSameHashCodeAs(DoubleVector.ofValues(1, 0, 3));
+    }
+
+    @Test
+    void toStringOfVector() {
+        assertThatVector(DenseDoubleVector.ofValues(1, 0, 3))
+            .hasToString("3: [0=1.0, 2=3.0]");
+    }
+
+    @Test
+    void serializable() {
+        assertSerializable(DenseDoubleVector.ofValues(1, 2), DenseDoubleVector.class);
+    }
+
+    // endregion
+}
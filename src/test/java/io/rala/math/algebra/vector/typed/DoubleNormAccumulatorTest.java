@@ -0,0 +1,136 @@
+package io.rala.math.algebra.vector.typed;
+
+import io.rala.math.testUtils.assertion.ExceptionMessages;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleNormAccumulatorTest {
+    @Test
+    void constructorWithInvalidDegree() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DoubleNormAccumulator(0))
+            .withMessage(ExceptionMessages.VECTOR_POSITIVE_P_NORM);
+    }
+
+    @Test
+    void emptyAccumulator() {
+        DoubleNormAccumulator accumulator = new DoubleNormAccumulator(2);
+        assertThat(accumulator.getP()).isEqualTo(2);
+        assertThat(accumulator.manhattanNorm()).isZero();
+        assertThat(accumulator.pNorm()).isZero();
+        assertThat(accumulator.maxNorm()).isZero();
+    }
+
+    @Test
+    void acceptValues() {
+        DoubleNormAccumulator accumulator = new DoubleNormAccumulator(2);
+        for (double value : new double[]{3, 0, -4}) accumulator.accept(value);
+        assertThat(accumulator.manhattanNorm()).isEqualTo(7);
+        assertThat(accumulator.pNorm()).isEqualTo(5);
+        assertThat(accumulator.maxNorm()).isEqualTo(4);
+    }
+
+    @Test
+    void pNormOfOddDegree() {
+        assertThat(DoubleNormAccumulator.accumulate(new double[]{1, -2, 2}, 3, 3).pNorm())
+            .isCloseTo(Math.cbrt(17), offset(1e-15));
+        assertThat(DoubleNormAccumulator.accumulate(new double[]{1, -2, 2}, 3, 1).pNorm())
+            .isEqualTo(5);
+    }
+
+    @Test
+    void euclideanNormWithoutOverflow() {
+        double[] values = {3e200, -4e200};
+        assertThat(DoubleNormAccumulator.accumulate(values, 2, 2).pNorm())
+            .isCloseTo(5e200, withinPercentage(1e-12));
+    }
+
+    @Test
+    void euclideanNormWithoutUnderflow() {
+        double[] values = {3e-200, 4e-200};
+        assertThat(DoubleNormAccumulator.accumulate(values, 2, 2).pNorm())
+            .isCloseTo(5e-200, withinPercentage(1e-12));
+    }
+
+    @Test
+    void normsWithSpecialValues() {
+        DoubleNormAccumulator infinite = DoubleNormAccumulator.accumulate(
+            new double[]{1, Double.NEGATIVE_INFINITY}, 2, 2
+        );
+        assertThat(infinite.pNorm()).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(infinite.maxNorm()).isEqualTo(Double.POSITIVE_INFINITY);
+        DoubleNormAccumulator nan = DoubleNormAccumulator.accumulate(
+            new double[]{Double.NaN, 1}, 2, 2
+        );
+        assertThat(nan.pNorm()).isNaN();
+        assertThat(nan.maxNorm()).isNaN();
+    }
+
+    @Test
+    void normsWithSeveralInfiniteValues() {
+        DoubleNormAccumulator infinite = DoubleNormAccumulator.accumulate(
+            new double[]{Double.POSITIVE_INFINITY, 1, Double.NEGATIVE_INFINITY}, 3, 3
+        );
+        assertThat(infinite.pNorm()).isEqualTo(Double.POSITIVE_INFINITY);
+        infinite.accept(Double.NaN);
+        assertThat(infinite.pNorm()).isNaN();
+    }
+
+    @Test
+    void combineAccumulatorsWithInfiniteValues() {
+        DoubleNormAccumulator first = DoubleNormAccumulator.accumulate(
+            new double[]{Double.POSITIVE_INFINITY}, 1, 2
+        );
+        first.combine(DoubleNormAccumulator.accumulate(
+            new double[]{Double.NEGATIVE_INFINITY, 2}, 2, 2
+        ));
+        assertThat(first.pNorm()).isEqualTo(Double.POSITIVE_INFINITY);
+        first.combine(DoubleNormAccumulator.accumulate(new double[]{Double.NaN}, 1, 2));
+        assertThat(first.pNorm()).isNaN();
+    }
+
+    @Test
+    void combineAccumulators() {
+        DoubleNormAccumulator first = DoubleNormAccumulator.accumulate(new double[]{1, 2}, 2, 2);
+        DoubleNormAccumulator second = DoubleNormAccumulator.accumulate(new double[]{-2, 4}, 2, 2);
+        first.combine(second);
+        assertThat(first.manhattanNorm()).isEqualTo(9);
+        assertThat(first.pNorm()).isCloseTo(5, offset(1e-15));
+        assertThat(first.maxNorm()).isEqualTo(4);
+        first.combine(new DoubleNormAccumulator(2));
+        assertThat(first.pNorm()).isCloseTo(5, offset(1e-15));
+    }
+
+    @Test
+    void combineAccumulatorsWithDifferentDegree() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DoubleNormAccumulator(2).combine(new DoubleNormAccumulator(3)))
+            .withMessage("degrees have to be equal");
+    }
+
+    @Test
+    void accumulateInParallel() {
+        double[] values = new double[DoubleNormAccumulator.PARALLEL_THRESHOLD * 2];
+        Arrays.fill(values, 0.5);
+        DoubleNormAccumulator accumulator = DoubleNormAccumulator.accumulate(values, values.length, 2);
+        assertThat(accumulator.manhattanNorm()).isEqualTo(values.length / 2d);
+        assertThat(accumulator.pNorm()).isCloseTo(Math.sqrt(values.length / 4d), offset(1e-9));
+        assertThat(accumulator.maxNorm()).isEqualTo(0.5);
+    }
+
+    @Test
+    void accumulateCollection() {
+        DoubleNormAccumulator accumulator = DoubleNormAccumulator.accumulate(List.of(3d, -4d), 2);
+        assertThat(accumulator.pNorm()).isEqualTo(5);
+    }
+
+    @Test
+    void toStringOfAccumulator() {
+        assertThat(DoubleNormAccumulator.accumulate(new double[]{3, -4}, 2, 2))
+            .hasToString("2: 5.0");
+    }
+}
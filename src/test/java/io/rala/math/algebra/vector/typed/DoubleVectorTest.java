@@ -15,8 +15,7 @@ import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatri
 import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatVector;
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.*;
 
 class DoubleVectorTest {
     // region constructors
@@ -611,7 +610,7 @@ class DoubleVectorTest {
     @Test
     void sevenNormNonEmptyVector() {
         assertThat(fillVectorWithTestValues(new DoubleVector(3)).pNorm(7))
-            .isEqualTo(MathX.root(4766586d, 7));
+            .isCloseTo(MathX.root(4799354d, 7), offset(1e-14));
     }
 
     @Test
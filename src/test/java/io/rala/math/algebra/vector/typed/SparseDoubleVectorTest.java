@@ -0,0 +1,333 @@
+package io.rala.math.algebra.vector.typed;
+
+import io.rala.math.algebra.vector.Vector;
+import io.rala.math.exception.NotSupportedException;
+import io.rala.math.testUtils.assertion.ExceptionMessages;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatVector;
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertCopyable;
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
+import static org.assertj.core.api.Assertions.*;
+
+class SparseDoubleVectorTest {
+    // region constructors
+
+    @Test
+    void constructorWithZeroSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SparseDoubleVector(0))
+            .withMessage(ExceptionMessages.SIZE_HAS_TO_BE_GREATER_ZERO);
+    }
+
+    @Test
+    void constructorWithPositiveSizeAndType() {
+        SparseDoubleVector vector = new SparseDoubleVector(2, Vector.Type.ROW);
+        assertThatVector(vector).hasSize(2).hasType(Vector.Type.ROW);
+        assertThat(vector.getNonZeros()).isZero();
+    }
+
+    @Test
+    void constructorWithVector() {
+        SparseDoubleVector vector = new SparseDoubleVector(DoubleVector.ofValues(0, 2, 0, 4));
+        assertThat(vector.getIndices()).containsExactly(1, 3);
+        assertThat(vector.getValues()).containsExactly(2, 4);
+        assertThatVector(new SparseDoubleVector(vector)).isEqualTo(vector);
+    }
+
+    // endregion
+
+    // region value
+
+    @Test
+    void setValueKeepsIndicesSorted() {
+        SparseDoubleVector vector = new SparseDoubleVector(10);
+        assertThat(vector.setValue(7, 1d)).isZero();
+        assertThat(vector.setValue(2, 2d)).isZero();
+        assertThat(vector.setValue(5, 3d)).isZero();
+        assertThat(vector.setValue(5, 4d)).isEqualTo(3);
+        assertThat(vector.getIndices()).containsExactly(2, 5, 7);
+        assertThat(vector.getValues()).containsExactly(2, 4, 1);
+        assertThat(vector.getValue(5)).isEqualTo(4);
+        assertThat(vector.getDouble(6)).isZero();
+    }
+
+    @Test
+    void setValueZeroRemovesValue() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(1, 2, 3);
+        assertThat(vector.setValue(1, 0d)).isEqualTo(2);
+        assertThat(vector.removeValue(0)).isOne();
+        assertThat(vector.removeValue(0)).isZero();
+        assertThat(vector.getIndices()).containsExactly(2);
+    }
+
+    @Test
+    void getValueByInvalidIndex() {
+        SparseDoubleVector vector = new SparseDoubleVector(2);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> vector.getValue(2))
+            .withMessage("2 / 2");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> vector.setValue(-1, 1d))
+            .withMessage("-1 / 2");
+    }
+
+    // endregion
+
+    // region add, subtract, multiply and dotProduct
+
+    @Test
+    void addSparseVector() {
+        SparseDoubleVector result = SparseDoubleVector.ofValues(1, 0, 3, 0)
+            .add(SparseDoubleVector.ofValues(0, 2, -3, 0));
+        assertThat(result.getIndices()).containsExactly(0, 1);
+        assertThat(result.getValues()).containsExactly(1, 2);
+    }
+
+    @Test
+    void addOtherVector() {
+        assertThatVector(SparseDoubleVector.ofValues(1, 0, 3)
+            .add(DenseDoubleVector.ofValues(1, 1, 1))
+        ).isEqualTo(DoubleVector.ofValues(2, 1, 4));
+    }
+
+    @Test
+    void addVectorWithDifferentType() {
+        SparseDoubleVector vector = new SparseDoubleVector(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.add(vector.transpose()))
+            .withMessage(ExceptionMessages.VECTOR_TYPES_HAVE_TO_BE_EQUAL);
+    }
+
+    @Test
+    void subtractSparseVector() {
+        assertThatVector(SparseDoubleVector.ofValues(1, 0, 3, 0)
+            .subtract(SparseDoubleVector.ofValues(0, 2, 3, 4))
+        ).isEqualTo(DoubleVector.ofValues(1, -2, 0, -4));
+    }
+
+    @Test
+    void addAndSubtractWithGalloping() {
+        Random random = new Random(1);
+        int size = 10000;
+        SparseDoubleVector dense = new SparseDoubleVector(size);
+        SparseDoubleVector sparse = new SparseDoubleVector(size);
+        for (int i = 0; i < size; i += 2) dense.setValue(i, random.nextDouble() + 1);
+        for (int i = 0; i < 20; i++) sparse.setValue(random.nextInt(size), random.nextDouble() + 1);
+        Vector<Double> expectedSum = new DoubleVector(dense).add(new DoubleVector(sparse));
+        assertThatVector(dense.add(sparse)).isEqualTo(expectedSum);
+        assertThatVector(sparse.add(dense)).isEqualTo(expectedSum);
+        assertThatVector(sparse.subtract(dense))
+            .isEqualTo(new DoubleVector(sparse).subtract(new DoubleVector(dense)));
+    }
+
+    @Test
+    void multiplyScalar() {
+        assertThatVector(SparseDoubleVector.ofValues(1, 0, -3).multiply(2d))
+            .isEqualTo(DoubleVector.ofValues(2, 0, -6));
+        assertThat(SparseDoubleVector.ofValues(1, 0, -3).multiply(0d).getNonZeros()).isZero();
+    }
+
+    @Test
+    void dotProductOfSparseVectors() {
+        assertThat(SparseDoubleVector.ofValues(1, 0, 3, 0, 5)
+            .dotProduct(SparseDoubleVector.ofValues(0, 2, 4, 0, 1))
+        ).isEqualTo(17);
+    }
+
+    @Test
+    void dotProductWithGalloping() {
+        Random random = new Random(2);
+        int size = 100000;
+        double[] values = new double[size];
+        SparseDoubleVector dense = new SparseDoubleVector(size);
+        for (int i = 0; i < size; i += 3) {
+            values[i] = random.nextDouble();
+            dense.setValue(i, values[i]);
+        }
+        int[] indices = {3, 10, 999, 5001, 99999};
+        SparseDoubleVector sparse = SparseDoubleVector.ofEntries(
+            size, indices, new double[]{1, 2, 3, 4, 5}
+        );
+        double expected = 0;
+        for (int i = 0; i < indices.length; i++) expected += (i + 1) * values[indices[i]];
+        assertThat(sparse.dotProduct(dense)).isCloseTo(expected, offset(1e-12));
+        assertThat(dense.dotProduct(sparse)).isCloseTo(expected, offset(1e-12));
+        assertThat(DenseDoubleVector.ofValues(values).dotProduct(sparse))
+            .isCloseTo(expected, offset(1e-12));
+    }
+
+    @Test
+    void dotProductWithOtherVector() {
+        assertThat(SparseDoubleVector.ofValues(1, 0, 3)
+            .dotProduct(DoubleVector.ofValues(4, 5, 6))
+        ).isEqualTo(22);
+    }
+
+    @Test
+    void dotProductWithDifferentSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new SparseDoubleVector(2).dotProduct(new SparseDoubleVector(3)))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
+    // endregion
+
+    // region in-place: axpy, scale, addScaled, linearCombination and dotProduct
+
+    @Test
+    void axpyVector() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(1, 0, 3, 0);
+        vector.axpy(2d, SparseDoubleVector.ofValues(0, 1, -1.5, 0));
+        assertThat(vector.getIndices()).containsExactly(0, 1);
+        assertThat(vector.getValues()).containsExactly(1, 2);
+        vector.axpy(1d, DenseDoubleVector.ofValues(0, 0, 0, 4));
+        assertThat(vector.getIndices()).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    void scaleVector() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(1, 0, 3);
+        vector.scale(2d);
+        assertThat(vector.getValues()).containsExactly(2, 6);
+        vector.scale(0d);
+        assertThat(vector.getNonZeros()).isZero();
+    }
+
+    @Test
+    void addScaledAndLinearCombination() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(1, 0, 3);
+        vector.addScaled(2d, 1d, SparseDoubleVector.ofValues(0, 1, 0));
+        assertThatVector(vector).isEqualTo(DoubleVector.ofValues(2, 1, 6));
+        vector.linearCombination(1d, vector, -1d, SparseDoubleVector.ofValues(2, 0, 0));
+        assertThat(vector.getIndices()).containsExactly(1, 2);
+    }
+
+    @Test
+    void dotProductWithAccumulator() {
+        assertThat(SparseDoubleVector.ofValues(1, 0, 3)
+            .dotProduct(DenseDoubleVector.ofValues(4, 5, 6), 1d)
+        ).isEqualTo(23);
+    }
+
+    // endregion
+
+    // region norm cache
+
+    @Test
+    void euclideanNormIsUpdatedAfterChange() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(3, 0, 4);
+        assertThat(vector.euclideanNorm()).isEqualTo(5);
+        vector.setValue(1, 12d);
+        assertThat(vector.euclideanNorm()).isEqualTo(13);
+        vector.scale(2d);
+        assertThat(vector.euclideanNorm()).isEqualTo(26);
+        vector.axpy(-2d, SparseDoubleVector.ofValues(3, 12, 4));
+        assertThat(vector.euclideanNorm()).isZero();
+    }
+
+    @Test
+    void euclideanNormWithoutOverflow() {
+        assertThat(SparseDoubleVector.ofValues(3e200, 0, -4e200).euclideanNorm())
+            .isCloseTo(5e200, withinPercentage(1e-12));
+    }
+
+    // endregion
+
+    // region transpose, invert and norm
+
+    @Test
+    void transposeVector() {
+        SparseDoubleVector transposed = SparseDoubleVector.ofValues(0, 2).transpose();
+        assertThatVector(transposed).hasType(Vector.Type.ROW);
+        assertThat(transposed.getIndices()).containsExactly(1);
+    }
+
+    @Test
+    void invertVector() {
+        assertThat(SparseDoubleVector.ofValues(1, 0, -4).invert().getValues())
+            .containsExactly(-1, 4);
+    }
+
+    @Test
+    void norms() {
+        SparseDoubleVector vector = SparseDoubleVector.ofValues(1, 0, -9, 4);
+        assertThat(vector.maxNorm()).isEqualTo(9);
+        assertThat(vector.euclideanNorm()).isEqualTo(Math.sqrt(98));
+        assertThat(vector.pNorm(1)).isEqualTo(14);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> vector.pNorm(0))
+            .withMessage(ExceptionMessages.VECTOR_POSITIVE_P_NORM);
+    }
+
+    @Test
+    void normalizeVector() {
+        assertThat(SparseDoubleVector.ofValues(3, 0, 4).normalize().getValues())
+            .containsExactly(0.6, 0.8);
+        assertThatExceptionOfType(NotSupportedException.class)
+            .isThrownBy(() -> new SparseDoubleVector(3).normalize())
+            .withMessage(ExceptionMessages.VECTOR_ZERO_VECTOR_CAN_NOT_NORMALIZED);
+    }
+
+    // endregion
+
+    // region static
+
+    @Test
+    void ofEntries() {
+        SparseDoubleVector vector = SparseDoubleVector.ofEntries(
+            5, new int[]{1, 3, 4}, new double[]{2, 0, 5}
+        );
+        assertThat(vector.getIndices()).containsExactly(1, 4);
+        assertThatVector(vector).isEqualTo(DoubleVector.ofValues(0, 2, 0, 0, 5));
+    }
+
+    @Test
+    void ofEntriesWithInvalidIndices() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> SparseDoubleVector.ofEntries(5, new int[]{3, 1}, new double[]{1, 2}));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> SparseDoubleVector.ofEntries(5, new int[]{5}, new double[]{1}));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> SparseDoubleVector.ofEntries(5, new int[]{1}, new double[0]));
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void copyOfVector() {
+        assertCopyable(SparseDoubleVector.ofValues(1, 0, 2));
+    }
+
+    @Test
+    void equalsOfSparseAndOtherVector() {
+        assertThatVector(SparseDoubleVector.ofValues(1, 0, 3))
+            .isEqualTo(DoubleVector.ofValues(1, 0, 3))
+            .isEqualTo(DenseDoubleVector.ofValues(1, 0, 3))
+            .isNotEqualTo(DoubleVector.ofValues(1, 0, 2));
+    }
+
+    @Test
+    void hashCodeOfSparseAndOtherVector() {
+        assertThat(SparseDoubleVector.ofValues(1, 0, 3))
+            .hasSameHashCodeAs(DoubleVector.ofValues(1, 0, 3))
+            .hasSameHashCodeAs(DenseDoubleVector.ofValues(1, 0, 3));
+    }
+
+    @Test
+    void toStringOfVector() {
+        assertThatVector(SparseDoubleVector.ofValues(1, 0, 3))
+            .hasToString("3: [0=1.0, 2=3.0]");
+    }
+
+    @Test
+    void serializable() {
+        assertSerializable(SparseDoubleVector.ofValues(1, 0, 2), SparseDoubleVector.class);
+    }
+
+    // endregion
+}
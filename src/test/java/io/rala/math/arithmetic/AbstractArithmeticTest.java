@@ -2,14 +2,20 @@ package io.rala.math.arithmetic;
 
 import io.rala.math.arithmetic.core.IntegerArithmetic;
 import io.rala.math.testUtils.arithmetic.TestAbstractArithmetic;
+import io.rala.math.testUtils.assertion.ExceptionMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class AbstractArithmeticTest {
     private AbstractArithmetic<Number> arithmetic;
@@ -121,6 +127,45 @@ class AbstractArithmeticTest {
             .isEqualTo(IntStream.rangeClosed(1, 9).sum());
     }
 
+    @Test
+    void sumOfSpliteratorWithUnknownSize() {
+        Spliterator<Number> spliterator = Stream.<Number>iterate(1, i -> i.intValue() + 1)
+            .limit(100).spliterator();
+        assertThat(arithmetic.sum(spliterator)).isEqualTo(5050d);
+    }
+
+    @Test
+    void sumOfSizedList() {
+        List<Number> values = IntStream.rangeClosed(1, AbstractArithmetic.TREE_REDUCTION_THRESHOLD)
+            .boxed().collect(Collectors.toList());
+        assertThat(arithmetic.sum(values)).isEqualTo(2080d);
+    }
+
+    @Test
+    void sumOfLargeList() {
+        List<Number> values = IntStream.range(0, 4 * AbstractArithmetic.PARALLEL_REDUCTION_THRESHOLD)
+            .boxed().collect(Collectors.toList());
+        assertThat(arithmetic.sum(values)).isEqualTo(536854528d);
+    }
+
+    @Test
+    void dotProductOf123And456() {
+        assertThat(arithmetic.dotProduct(List.of(1, 2, 3), List.of(4, 5, 6)))
+            .isEqualTo(32d);
+    }
+
+    @Test
+    void dotProductOfEmpty() {
+        assertThat(arithmetic.dotProduct(List.of(), List.of())).isEqualTo(0d);
+    }
+
+    @Test
+    void dotProductOfUnequalSizes() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> arithmetic.dotProduct(List.of(1, 2), List.of(1)))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
     @Test
     void difference12() {
         assertThat(arithmetic.difference(1, 2)).isEqualTo(-1d);
@@ -136,12 +181,23 @@ class AbstractArithmeticTest {
         assertThat(arithmetic.product(1, 2, 3)).isEqualTo(6d);
     }
 
+    @Test
+    void productOfLargeList() {
+        List<Number> values = Collections.nCopies(4 * AbstractArithmetic.PARALLEL_REDUCTION_THRESHOLD, 1);
+        assertThat(arithmetic.product(values)).isEqualTo(1d);
+    }
+
     @Test
     void productFrom1To9() {
         assertThat(arithmetic.product(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9)).intValue())
             .isEqualTo(IntStream.rangeClosed(1, 9).reduce(1, (left, right) -> left * right));
     }
 
+    @Test
+    void isExact() {
+        assertThat(arithmetic.isExact()).isFalse();
+    }
+
     @Test
     void quotient12() {
         assertThat(arithmetic.quotient(1, 2)).isEqualTo(0.5);
@@ -0,0 +1,148 @@
+package io.rala.math.arithmetic;
+
+import io.rala.math.arithmetic.core.BigIntegerArithmetic;
+import io.rala.math.arithmetic.core.DoubleArithmetic;
+import io.rala.math.arithmetic.core.IntegerArithmetic;
+import io.rala.math.arithmetic.core.SummationMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingArithmeticTest {
+    private CountingArithmetic<Double> arithmetic;
+
+    @BeforeEach
+    void setUp() {
+        arithmetic = new CountingArithmetic<>(new DoubleArithmetic());
+    }
+
+    @Test
+    void getArithmetic() {
+        assertThat(arithmetic.getArithmetic()).isEqualTo(new DoubleArithmetic());
+    }
+
+    // region count
+
+    @Test
+    void countsAreInitiallyZero() {
+        assertThat(arithmetic.getCounts())
+            .hasSize(CountingArithmetic.Operation.values().length)
+            .allSatisfy((operation, count) -> assertThat(count).isZero());
+    }
+
+    @Test
+    void sumCountsAndDelegates() {
+        assertThat(arithmetic.sum(1d, 2d)).isEqualTo(3d);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.SUM)).isOne();
+    }
+
+    @Test
+    void sumOfThreeCountsTwoSums() {
+        assertThat(arithmetic.sum(1d, 2d, 3d)).isEqualTo(6d);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.SUM)).isEqualTo(2);
+    }
+
+    @Test
+    void sumOfIterableCountsSumsBetweenValues() {
+        assertThat(arithmetic.sum(List.of(1d, 2d, 3d))).isEqualTo(6d);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.SUM)).isEqualTo(2);
+    }
+
+    @Test
+    void sumOfIterableUsesSummationMode() {
+        CountingArithmetic<Double> kahan =
+            new CountingArithmetic<>(new DoubleArithmetic(SummationMode.KAHAN));
+        List<Double> values = Collections.nCopies(10, 0.1);
+        assertThat(kahan.sum(values)).isEqualTo(1d);
+        assertThat(kahan.getCount(CountingArithmetic.Operation.SUM)).isEqualTo(9);
+    }
+
+    @Test
+    void dotProductCountsProductsAndSums() {
+        assertThat(arithmetic.dotProduct(List.of(1d, 2d, 3d), List.of(4d, 5d, 6d)))
+            .isEqualTo(32d);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.PRODUCT)).isEqualTo(3);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.SUM)).isEqualTo(2);
+    }
+
+    @Test
+    void isExactUsesDelegate() {
+        assertThat(arithmetic.isExact()).isFalse();
+        assertThat(new CountingArithmetic<>(new BigIntegerArithmetic()).isExact()).isTrue();
+    }
+
+    @Test
+    void basicOperationsCountPerType() {
+        arithmetic.difference(3d, 2d);
+        arithmetic.product(3d, 2d);
+        arithmetic.product(3d, 2d);
+        arithmetic.quotient(3d, 2d);
+        arithmetic.negate(3d);
+        arithmetic.compare(3d, 2d);
+        arithmetic.power(3d, 2);
+        arithmetic.root2(4d);
+        arithmetic.modulo(3d, 2d);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.DIFFERENCE)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.PRODUCT)).isEqualTo(2);
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.QUOTIENT)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.NEGATE)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.COMPARE)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.POWER)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.ROOT)).isOne();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.OTHER)).isOne();
+    }
+
+    @Test
+    void isZeroUsesDelegate() {
+        CountingArithmetic<Integer> integerArithmetic =
+            new CountingArithmetic<>(new IntegerArithmetic());
+        assertThat(integerArithmetic.isZero(0)).isTrue();
+        assertThat(integerArithmetic.isZero(1)).isFalse();
+        assertThat(integerArithmetic.getCount(CountingArithmetic.Operation.COMPARE))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void fromIntDoesNotCount() {
+        assertThat(arithmetic.fromInt(1)).isEqualTo(1d);
+        assertThat(arithmetic.zero()).isZero();
+        assertThat(arithmetic.getCounts())
+            .allSatisfy((operation, count) -> assertThat(count).isZero());
+    }
+
+    @Test
+    void resetCounts() {
+        arithmetic.sum(1d, 2d);
+        arithmetic.resetCounts();
+        assertThat(arithmetic.getCount(CountingArithmetic.Operation.SUM)).isZero();
+    }
+
+    // endregion
+
+    // region override
+
+    @Test
+    void equalsOfArithmetic() {
+        assertThat(arithmetic)
+            .isEqualTo(new CountingArithmetic<>(new DoubleArithmetic()))
+            .isNotEqualTo(new DoubleArithmetic());
+    }
+
+    @Test
+    void hashCodeOfArithmetic() {
+        assertThat(arithmetic)
+            .hasSameHashCodeAs(new CountingArithmetic<>(new DoubleArithmetic()));
+    }
+
+    @Test
+    void serializable() {
+        assertSerializable(arithmetic, CountingArithmetic.class);
+    }
+
+    // endregion
+}
@@ -0,0 +1,41 @@
+package io.rala.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeReductionTest {
+    @Test
+    void reduceEmpty() {
+        assertThat(TreeReduction.reduce(Collections.<String>emptyList().spliterator(), "", String::concat))
+            .isEmpty();
+    }
+
+    @Test
+    void reduceKeepsOrder() {
+        List<String> values = IntStream.range(0, 10)
+            .mapToObj(String::valueOf).collect(Collectors.toList());
+        assertThat(TreeReduction.reduce(values.spliterator(), "", String::concat))
+            .isEqualTo("0123456789");
+    }
+
+    @Test
+    void reduceInParallelKeepsOrder() {
+        List<String> values = IntStream.range(0, 4 * AbstractArithmetic.PARALLEL_REDUCTION_THRESHOLD)
+            .mapToObj(i -> String.valueOf(i % 10)).collect(Collectors.toList());
+        assertThat(TreeReduction.reduce(values.spliterator(), "", String::concat))
+            .isEqualTo(String.join("", values));
+    }
+
+    @Test
+    void reduceIsBalanced() {
+        List<Integer> depths = Collections.nCopies(1024, 0);
+        assertThat(TreeReduction.reduce(depths.spliterator(), 0, (a, b) -> Math.max(a, b) + 1))
+            .isEqualTo(10);
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,6 +131,23 @@ class BigDecimalArithmeticTest {
         )).isEqualTo(BigDecimal.valueOf(6));
     }
 
+    @Test
+    void productOfListFoldsLeftWithPrecision() {
+        BigDecimalArithmetic rounding = new BigDecimalArithmetic(new MathContext(5));
+        List<BigDecimal> values = IntStream.rangeClosed(1, 100)
+            .mapToObj(i -> BigDecimal.ONE.add(BigDecimal.valueOf(i, 3)))
+            .collect(Collectors.toList());
+        BigDecimal expected = BigDecimal.ONE;
+        for (BigDecimal value : values) expected = rounding.product(expected, value);
+        assertThat(rounding.product(values)).isEqualTo(expected);
+    }
+
+    @Test
+    void isExact() {
+        assertThat(arithmetic.isExact()).isFalse();
+        assertThat(new BigDecimalArithmetic(MathContext.UNLIMITED).isExact()).isTrue();
+    }
+
     @Test
     void quotient12() {
         assertThat(arithmetic.quotient(BigDecimal.ONE, BigDecimal.valueOf(2)))
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -119,6 +122,27 @@ class BigIntegerArithmeticTest {
             .isEqualTo(BigInteger.valueOf(6));
     }
 
+    @Test
+    void productOfFactorialAsTree() {
+        List<BigInteger> values = LongStream.rangeClosed(1, 2000)
+            .mapToObj(BigInteger::valueOf).collect(Collectors.toList());
+        BigInteger expected = BigInteger.ONE;
+        for (BigInteger value : values) expected = expected.multiply(value);
+        assertThat(arithmetic.product(values)).isEqualTo(expected);
+    }
+
+    @Test
+    void sumOfParallelReducedList() {
+        List<BigInteger> values = LongStream.range(0, 100_000)
+            .mapToObj(BigInteger::valueOf).collect(Collectors.toList());
+        assertThat(arithmetic.sum(values)).isEqualTo(BigInteger.valueOf(4_999_950_000L));
+    }
+
+    @Test
+    void isExact() {
+        assertThat(arithmetic.isExact()).isTrue();
+    }
+
     @Test
     void quotient12() {
         assertThat(arithmetic.quotient(BigInteger.ONE, BigInteger.TWO)).isEqualTo(BigInteger.ZERO);
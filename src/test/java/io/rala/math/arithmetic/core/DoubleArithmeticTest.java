@@ -5,9 +5,14 @@ import io.rala.math.testUtils.assertion.ExceptionMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.offset;
 
 class DoubleArithmeticTest {
     private DoubleArithmetic arithmetic;
@@ -17,6 +22,13 @@ class DoubleArithmeticTest {
         arithmetic = new DoubleArithmetic();
     }
 
+    @Test
+    void getSummationMode() {
+        assertThat(arithmetic.getSummationMode()).isEqualTo(SummationMode.NAIVE);
+        assertThat(new DoubleArithmetic(SummationMode.PAIRWISE).getSummationMode())
+            .isEqualTo(SummationMode.PAIRWISE);
+    }
+
     @Test
     void getInstance() {
         assertThat(DoubleArithmetic.getInstance()).isEqualTo(arithmetic);
@@ -103,6 +115,42 @@ class DoubleArithmeticTest {
         assertThat(arithmetic.sum(1d, 2d, 3d)).isEqualTo(6);
     }
 
+    @Test
+    void sumOfCancellingValuesWithModes() {
+        List<Double> values = List.of(1d, 1e100, 1d, -1e100);
+        assertThat(arithmetic.sum(values)).isZero();
+        assertThat(new DoubleArithmetic(SummationMode.KAHAN).sum(values)).isZero();
+        assertThat(new DoubleArithmetic(SummationMode.NEUMAIER).sum(values)).isEqualTo(2);
+        assertThat(new DoubleArithmetic(SummationMode.PAIRWISE).sum(values)).isZero();
+    }
+
+    @Test
+    void sumOfTenthsWithModes() {
+        List<Double> values = Collections.nCopies(1_000_000, 0.1);
+        assertThat(arithmetic.sum(values)).isNotEqualTo(100_000);
+        for (SummationMode mode : SummationMode.values())
+            if (mode != SummationMode.NAIVE)
+                assertThat(new DoubleArithmetic(mode).sum(values))
+                    .isCloseTo(100_000, offset(1e-9));
+    }
+
+    @Test
+    void dotProductWithModes() {
+        List<Double> a = List.of(1e100, 1d, -1e100);
+        List<Double> b = List.of(1d, 1d, 1d);
+        assertThat(arithmetic.dotProduct(a, b)).isZero();
+        assertThat(new DoubleArithmetic(SummationMode.NEUMAIER).dotProduct(a, b)).isOne();
+        assertThat(new DoubleArithmetic(SummationMode.PAIRWISE).dotProduct(a, b)).isZero();
+    }
+
+    @Test
+    void dotProductWithModeOfUnequalSizes() {
+        DoubleArithmetic neumaier = new DoubleArithmetic(SummationMode.NEUMAIER);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> neumaier.dotProduct(List.of(1d), List.of()))
+            .withMessage(ExceptionMessages.SIZES_HAVE_TO_BE_EQUAL);
+    }
+
     @Test
     void difference12() {
         assertThat(arithmetic.difference(1d, 2d)).isEqualTo(-1);
@@ -118,6 +166,17 @@ class DoubleArithmeticTest {
         assertThat(arithmetic.product(1d, 2d, 3d)).isEqualTo(6);
     }
 
+    @Test
+    void productOfListFoldsLeft() {
+        List<Double> values = new ArrayList<>();
+        double expected = 1;
+        for (int i = 1; i <= 100; i++) {
+            values.add(1 + i / 1000d);
+            expected *= 1 + i / 1000d;
+        }
+        assertThat(arithmetic.product(values)).isEqualTo(expected);
+    }
+
     @Test
     void quotient12() {
         assertThat(arithmetic.quotient(1d, 2d)).isEqualTo(0.5);
@@ -169,6 +228,14 @@ class DoubleArithmeticTest {
         assertThat(new DoubleArithmetic()).isEqualTo(new DoubleArithmetic());
     }
 
+    @Test
+    void equalsOfArithmeticWithSummationMode() {
+        assertThat(new DoubleArithmetic(SummationMode.NAIVE)).isEqualTo(arithmetic);
+        assertThat(new DoubleArithmetic(SummationMode.KAHAN))
+            .isEqualTo(new DoubleArithmetic(SummationMode.KAHAN))
+            .isNotEqualTo(arithmetic);
+    }
+
     @Test
     void hashCodeOfArithmetic() {
         assertThat(new DoubleArithmetic().hashCode()).isEqualTo(1072694209);
@@ -5,6 +5,10 @@ import io.rala.math.testUtils.assertion.ExceptionMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static io.rala.math.testUtils.assertion.UtilsAssertions.assertSerializable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -17,6 +21,13 @@ class FloatArithmeticTest {
         arithmetic = new FloatArithmetic();
     }
 
+    @Test
+    void getSummationMode() {
+        assertThat(arithmetic.getSummationMode()).isEqualTo(SummationMode.NAIVE);
+        assertThat(new FloatArithmetic(SummationMode.PAIRWISE).getSummationMode())
+            .isEqualTo(SummationMode.PAIRWISE);
+    }
+
     @Test
     void getInstance() {
         assertThat(FloatArithmetic.getInstance()).isEqualTo(arithmetic);
@@ -103,6 +114,23 @@ class FloatArithmeticTest {
         assertThat(arithmetic.sum(1f, 2f, 3f)).isEqualTo(6);
     }
 
+    @Test
+    void sumOfTenthsWithModes() {
+        List<Float> values = Collections.nCopies(100_000, 0.1f);
+        assertThat(arithmetic.sum(values)).isNotEqualTo(10_000f);
+        for (SummationMode mode : SummationMode.values())
+            if (mode != SummationMode.NAIVE)
+                assertThat(new FloatArithmetic(mode).sum(values)).isEqualTo(10_000f);
+    }
+
+    @Test
+    void dotProductWithModes() {
+        List<Float> a = List.of(1e30f, 1f, -1e30f);
+        List<Float> b = List.of(1f, 1f, 1f);
+        assertThat(arithmetic.dotProduct(a, b)).isZero();
+        assertThat(new FloatArithmetic(SummationMode.NEUMAIER).dotProduct(a, b)).isOne();
+    }
+
     @Test
     void difference12() {
         assertThat(arithmetic.difference(1f, 2f)).isEqualTo(-1);
@@ -118,6 +146,17 @@ class FloatArithmeticTest {
         assertThat(arithmetic.product(1f, 2f, 3f)).isEqualTo(6);
     }
 
+    @Test
+    void productOfListFoldsLeft() {
+        List<Float> values = new ArrayList<>();
+        float expected = 1;
+        for (int i = 1; i <= 100; i++) {
+            values.add(1 + i / 1000f);
+            expected *= 1 + i / 1000f;
+        }
+        assertThat(arithmetic.product(values)).isEqualTo(expected);
+    }
+
     @Test
     void quotient12() {
         assertThat(arithmetic.quotient(1f, 2f)).isEqualTo(0.5f);
@@ -169,6 +208,14 @@ class FloatArithmeticTest {
         assertThat(new FloatArithmetic()).isEqualTo(new FloatArithmetic());
     }
 
+    @Test
+    void equalsOfArithmeticWithSummationMode() {
+        assertThat(new FloatArithmetic(SummationMode.NAIVE)).isEqualTo(arithmetic);
+        assertThat(new FloatArithmetic(SummationMode.KAHAN))
+            .isEqualTo(new FloatArithmetic(SummationMode.KAHAN))
+            .isNotEqualTo(arithmetic);
+    }
+
     @Test
     void hashCodeOfArithmetic() {
         assertThat(new FloatArithmetic().hashCode()).isEqualTo(1065354177);
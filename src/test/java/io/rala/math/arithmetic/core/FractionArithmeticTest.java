@@ -147,6 +147,11 @@ class FractionArithmeticTest {
         ).isEqualTo(new TestFraction(6d, 1d));
     }
 
+    @Test
+    void isExact() {
+        assertThat(arithmetic.isExact()).isFalse();
+    }
+
     @Test
     void quotient12() {
         assertThatFraction(arithmetic.quotient(new TestFraction(1d), new TestFraction(2d)))
@@ -0,0 +1,79 @@
+package io.rala.math.arithmetic.core;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class SummationModeTest {
+    // region sum
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void sumOfEmpty(SummationMode mode) {
+        assertThat(mode.sum(new double[]{1, 2}, 0)).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void sumOfPrefix(SummationMode mode) {
+        assertThat(mode.sum(new double[]{1, 2, 3, 4}, 3)).isEqualTo(6);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SummationMode.class, names = {"KAHAN", "NEUMAIER", "PAIRWISE"})
+    void sumOfManyTenths(SummationMode mode) {
+        double[] values = new double[10_000_000];
+        Arrays.fill(values, 0.1);
+        assertThat(mode.sum(values, values.length)).isCloseTo(1_000_000, offset(1e-8));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void sumWithInfinity(SummationMode mode) {
+        double[] values = {1, Double.POSITIVE_INFINITY, 1};
+        assertThat(mode.sum(values, values.length)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void sumWithNaN(SummationMode mode) {
+        double[] values = {1, Double.NaN, 1};
+        assertThat(mode.sum(values, values.length)).isNaN();
+    }
+
+    // endregion
+
+    // region dotProduct
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void dotProductOf123And456(SummationMode mode) {
+        assertThat(mode.dotProduct(new double[]{1, 2, 3}, new double[]{4, 5, 6}, 3))
+            .isEqualTo(32);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummationMode.class)
+    void dotProductWithInfinity(SummationMode mode) {
+        double[] a = {1, Double.MAX_VALUE, 1};
+        double[] b = {1, 2, 1};
+        assertThat(mode.dotProduct(a, b, a.length)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SummationMode.class, names = "NEUMAIER")
+    void dotProductWithProductRoundingError(SummationMode mode) {
+        double x = 1 + Math.ulp(1d);
+        // x*x = 1 + 2ulp + ulp^2 - only the compensated dot product keeps ulp^2
+        double[] a = {x, -1, -2 * Math.ulp(1d)};
+        double[] b = {x, 1, 1};
+        assertThat(mode.dotProduct(a, b, a.length))
+            .isEqualTo(Math.ulp(1d) * Math.ulp(1d));
+    }
+
+    // endregion
+}
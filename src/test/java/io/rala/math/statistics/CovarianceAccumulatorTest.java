@@ -0,0 +1,110 @@
+package io.rala.math.statistics;
+
+import io.rala.math.algebra.matrix.typed.DoubleMatrix;
+import io.rala.math.algebra.vector.typed.DenseDoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static io.rala.math.testUtils.assertion.AlgebraAssertions.assertThatMatrix;
+import static org.assertj.core.api.Assertions.*;
+
+class CovarianceAccumulatorTest {
+    @Test
+    void constructorWithInvalidDimension() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new CovarianceAccumulator(0))
+            .withMessage("dimension has to be greater than 0");
+    }
+
+    @Test
+    void emptyAccumulator() {
+        CovarianceAccumulator accumulator = new CovarianceAccumulator(2);
+        assertThat(accumulator.getDimension()).isEqualTo(2);
+        assertThat(accumulator.getCount()).isZero();
+        assertThat(accumulator.getMean().getDouble(0)).isNaN();
+        assertThat(accumulator.getPopulationCovariance().getValue(0, 1)).isNaN();
+    }
+
+    @Test
+    void acceptObservations() {
+        CovarianceAccumulator accumulator = new CovarianceAccumulator(3);
+        accumulator.accept(new double[]{1, 2, 5});
+        accumulator.accept(new double[]{2, 4, 5});
+        accumulator.accept(DenseDoubleVector.ofValues(3, 0, 5));
+        assertThat(accumulator.getMean().toArray()).containsExactly(2, 2, 5);
+        assertThatMatrix(accumulator.getCovariance()).isEqualTo(
+            DoubleMatrix.ofValuesByRows(3, 1, -1, 0, -1, 4, 0, 0, 0, 0)
+        );
+        assertThatMatrix(accumulator.getPopulationCovariance()).isEqualTo(
+            DoubleMatrix.ofValuesByRows(3, 2d / 3, -2d / 3, 0, -2d / 3, 8d / 3, 0, 0, 0, 0)
+        );
+    }
+
+    @Test
+    void correlation() {
+        CovarianceAccumulator accumulator = new CovarianceAccumulator(3);
+        for (int i = 0; i < 10; i++)
+            accumulator.accept(new double[]{i, -2 * i + 1, 7});
+        DoubleMatrix correlation = accumulator.getCorrelation();
+        assertThat(correlation.getValue(0, 0)).isOne();
+        assertThat(correlation.getValue(0, 1)).isCloseTo(-1, offset(1e-15));
+        assertThat(correlation.getValue(1, 0)).isCloseTo(-1, offset(1e-15));
+        assertThat(correlation.getValue(1, 1)).isOne();
+        assertThat(correlation.getValue(2, 2)).isNaN();
+        assertThat(correlation.getValue(0, 2)).isNaN();
+    }
+
+    @Test
+    void acceptWithInvalidDimension() {
+        CovarianceAccumulator accumulator = new CovarianceAccumulator(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accumulator.accept(DenseDoubleVector.ofValues(1, 2, 3)))
+            .withMessage("dimensions have to be equal");
+    }
+
+    @Test
+    void combineEqualsSequential() {
+        CovarianceAccumulator sequential = new CovarianceAccumulator(2);
+        CovarianceAccumulator first = new CovarianceAccumulator(2);
+        CovarianceAccumulator second = new CovarianceAccumulator(2);
+        for (int i = 0; i < 100; i++) {
+            double[] observation = {i * 0.5, Math.sin(i)};
+            sequential.accept(observation);
+            (i < 70 ? first : second).accept(observation);
+        }
+        first.combine(second);
+        assertThat(first.getCount()).isEqualTo(100);
+        DoubleMatrix expected = sequential.getCovariance();
+        DoubleMatrix actual = first.getCovariance();
+        for (int r = 0; r < 2; r++)
+            for (int c = 0; c < 2; c++)
+                assertThat(actual.getValue(r, c)).isCloseTo(expected.getValue(r, c), offset(1e-10));
+    }
+
+    @Test
+    void combineWithInvalidDimension() {
+        CovarianceAccumulator accumulator = new CovarianceAccumulator(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accumulator.combine(new CovarianceAccumulator(3)))
+            .withMessage("dimensions have to be equal");
+    }
+
+    @Test
+    void collectParallelStream() {
+        CovarianceAccumulator accumulator = IntStream.range(0, 100_000).parallel()
+            .mapToObj(i -> new double[]{i, 2d * i})
+            .collect(CovarianceAccumulator.toCovarianceAccumulator(2));
+        double variance = 100_000d * 100_001 / 12;
+        DoubleMatrix covariance = accumulator.getCovariance();
+        assertThat(covariance.getValue(0, 0)).isCloseTo(variance, withinPercentage(1e-9));
+        assertThat(covariance.getValue(0, 1)).isCloseTo(2 * variance, withinPercentage(1e-9));
+        assertThat(covariance.getValue(1, 1)).isCloseTo(4 * variance, withinPercentage(1e-9));
+    }
+
+    @Test
+    void toStringOfAccumulator() {
+        assertThat(new CovarianceAccumulator(1))
+            .hasToString("0: [0.0]");
+    }
+}
@@ -0,0 +1,128 @@
+package io.rala.math.statistics;
+
+import io.rala.math.algebra.vector.typed.DenseDoubleVector;
+import io.rala.math.algebra.vector.typed.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MomentAccumulatorTest {
+    @Test
+    void constructorWithInvalidDimension() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MomentAccumulator(0))
+            .withMessage("dimension has to be greater than 0");
+    }
+
+    @Test
+    void emptyAccumulator() {
+        MomentAccumulator accumulator = new MomentAccumulator(2);
+        assertThat(accumulator.getDimension()).isEqualTo(2);
+        assertThat(accumulator.getCount()).isZero();
+        assertThat(accumulator.getMean().getDouble(0)).isNaN();
+        assertThat(accumulator.getPopulationVariance().getDouble(1)).isNaN();
+        assertThat(accumulator.getMin().getDouble(0)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(accumulator.getMax().getDouble(0)).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void acceptObservations() {
+        MomentAccumulator accumulator = new MomentAccumulator(2);
+        accumulator.accept(new double[]{2, -1});
+        accumulator.accept(new double[]{4, -1});
+        accumulator.accept(DenseDoubleVector.ofValues(6, -1));
+        assertThat(accumulator.getCount()).isEqualTo(3);
+        assertThat(accumulator.getMean().toArray()).containsExactly(4, -1);
+        assertThat(accumulator.getVariance().toArray()).containsExactly(4, 0);
+        assertThat(accumulator.getPopulationVariance().getDouble(0)).isCloseTo(8d / 3, offset(1e-15));
+        assertThat(accumulator.getStandardDeviation().toArray()).containsExactly(2, 0);
+        assertThat(accumulator.getMin().toArray()).containsExactly(2, -1);
+        assertThat(accumulator.getMax().toArray()).containsExactly(6, -1);
+    }
+
+    @Test
+    void acceptSparseVector() {
+        MomentAccumulator accumulator = new MomentAccumulator(3);
+        DoubleVector vector = new DoubleVector(3);
+        vector.setValue(1, 5d);
+        accumulator.accept(vector);
+        assertThat(accumulator.getMean().toArray()).containsExactly(0, 5, 0);
+    }
+
+    @Test
+    void acceptWithInvalidDimension() {
+        MomentAccumulator accumulator = new MomentAccumulator(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accumulator.accept(new double[]{1}))
+            .withMessage("dimensions have to be equal");
+    }
+
+    @Test
+    void varianceWithoutCancellation() {
+        MomentAccumulator accumulator = new MomentAccumulator(1);
+        for (double value : new double[]{1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16})
+            accumulator.accept(new double[]{value});
+        assertThat(accumulator.getVariance().getDouble(0)).isEqualTo(30);
+    }
+
+    @Test
+    void combineEqualsSequential() {
+        MomentAccumulator sequential = new MomentAccumulator(2);
+        MomentAccumulator first = new MomentAccumulator(2);
+        MomentAccumulator second = new MomentAccumulator(2);
+        for (int i = 0; i < 100; i++) {
+            double[] observation = {i * 0.5, Math.sin(i)};
+            sequential.accept(observation);
+            (i < 30 ? first : second).accept(observation);
+        }
+        first.combine(second);
+        first.combine(new MomentAccumulator(2));
+        assertThat(first.getCount()).isEqualTo(100);
+        assertThat(first.getMean().getDouble(1))
+            .isCloseTo(sequential.getMean().getDouble(1), offset(1e-14));
+        assertThat(first.getVariance().getDouble(0))
+            .isCloseTo(sequential.getVariance().getDouble(0), offset(1e-10));
+        assertThat(first.getMin().toArray()).containsExactly(sequential.getMin().toArray());
+        assertThat(first.getMax().toArray()).containsExactly(sequential.getMax().toArray());
+    }
+
+    @Test
+    void combineIntoEmpty() {
+        MomentAccumulator empty = new MomentAccumulator(1);
+        MomentAccumulator other = new MomentAccumulator(1);
+        other.accept(new double[]{3});
+        other.accept(new double[]{5});
+        empty.combine(other);
+        assertThat(empty.getMean().toArray()).containsExactly(4);
+        assertThat(empty.getVariance().toArray()).containsExactly(2);
+    }
+
+    @Test
+    void combineWithInvalidDimension() {
+        MomentAccumulator accumulator = new MomentAccumulator(2);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accumulator.combine(new MomentAccumulator(1)))
+            .withMessage("dimensions have to be equal");
+    }
+
+    @Test
+    void collectParallelStream() {
+        MomentAccumulator accumulator = IntStream.range(0, 100_000).parallel()
+            .mapToObj(i -> new double[]{i, 1})
+            .collect(MomentAccumulator.toMomentAccumulator(2));
+        assertThat(accumulator.getCount()).isEqualTo(100_000);
+        assertThat(accumulator.getMean().toArray()).containsExactly(49_999.5, 1);
+        assertThat(accumulator.getVariance().getDouble(0))
+            .isCloseTo(100_000d * 100_001 / 12, withinPercentage(1e-9));
+    }
+
+    @Test
+    void toStringOfAccumulator() {
+        MomentAccumulator accumulator = new MomentAccumulator(1);
+        accumulator.accept(new double[]{2});
+        assertThat(accumulator)
+            .hasToString("1: [2.0]");
+    }
+}
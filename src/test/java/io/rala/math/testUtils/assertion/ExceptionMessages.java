@@ -25,6 +25,10 @@ public class ExceptionMessages {
     public static final String FRACTION_DENOMINATOR_HAS_TO_BE_NON_ZERO =
         "denominator has to be non-zero";
 
+    public static final String MATRIX_AT_LEAST_TWO_COLS =
+        "matrix has to have at least two cols";
+    public static final String MATRIX_AT_LEAST_TWO_ROWS =
+        "matrix has to have at least two rows";
     public static final String MATRIX_COLS_EQUAL_OTHER_ROWS =
         "any cols have to be equal to the other matrix rows";
     public static final String MATRIX_COLS_NOT_CONGRUENT_ZERO =